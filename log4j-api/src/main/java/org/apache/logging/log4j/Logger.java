@@ -116,6 +116,165 @@ public interface Logger {
      */
     void debug(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#DEBUG DEBUG} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -173,6 +332,153 @@ public interface Logger {
      */
     void debug(String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#DEBUG DEBUG} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -257,14 +563,168 @@ public interface Logger {
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
-     *
-     * TODO Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
-     *        array creation expense on every call. (RG) I assume you meant error, not info. It isn't possible to be
-     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
-     *        1, 2 or 3 parameters.
      */
     void error(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#ERROR ERROR} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -319,14 +779,156 @@ public interface Logger {
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
-     *
-     * TODO Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
-     *        array creation expense on every call. (RG) I assume you meant error, not info. It isn't possible to be
-     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
-     *        1, 2 or 3 parameters.
      */
     void error(String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#ERROR ERROR} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -359,57 +961,211 @@ public interface Logger {
      * @param marker the marker data specific to this log statement
      * @param msg the message string to be logged
      */
-    void fatal(Marker marker, Message msg);
+    void fatal(Marker marker, Message msg);
+
+    /**
+     * Logs a message with the specific Marker at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    void fatal(Marker marker, Message msg, Throwable t);
+
+    /**
+     * Logs a message object with the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message object to log.
+     */
+    void fatal(Marker marker, Object message);
+
+    /**
+     * Logs a message at the {@link Level#FATAL FATAL} level including the stack trace of the {@link Throwable}
+     * <code>t</code> passed as parameter.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message object to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    void fatal(Marker marker, Object message, Throwable t);
+
+    /**
+     * Logs a message object with the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message object to log.
+     */
+    void fatal(Marker marker, String message);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    void fatal(Marker marker, String message, Object... params);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4);
 
     /**
-     * Logs a message with the specific Marker at the {@link Level#FATAL FATAL} level.
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void fatal(Marker marker, Message msg, Throwable t);
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
 
     /**
-     * Logs a message object with the {@link Level#FATAL FATAL} level.
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
      *
      * @param marker The marker data specific to this log statement.
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void fatal(Marker marker, Object message);
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6);
 
     /**
-     * Logs a message at the {@link Level#FATAL FATAL} level including the stack trace of the {@link Throwable}
-     * <code>t</code> passed as parameter.
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
      *
      * @param marker The marker data specific to this log statement.
-     * @param message the message object to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void fatal(Marker marker, Object message, Throwable t);
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7);
 
     /**
-     * Logs a message object with the {@link Level#FATAL FATAL} level.
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
      *
      * @param marker The marker data specific to this log statement.
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void fatal(Marker marker, String message);
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8);
 
     /**
      * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
      *
      * @param marker The marker data specific to this log statement.
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
      * @see #getMessageFactory()
-     *
-     * TODO Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
-     *        array creation expense on every call.(RG) I assume you meant fatal, not info. It isn't possible to be
-     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
-     *        1, 2 or 3 parameters.
+     * @since 2.2
      */
-    void fatal(Marker marker, String message, Object... params);
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8, Object p9);
 
     /**
      * Logs a message at the {@link Level#FATAL FATAL} level including the stack trace of the {@link Throwable}
@@ -465,14 +1221,156 @@ public interface Logger {
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
-     *
-     * TODO Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
-     *        array creation expense on every call.(RG) I assume you meant fatal, not info. It isn't possible to be
-     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
-     *        1, 2 or 3 parameters.
      */
     void fatal(String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#FATAL FATAL} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -553,13 +1451,168 @@ public interface Logger {
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
-     *
-     * TODO Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
-     *        array creation expense on every call. (RG) It isn't possible to be misinterpreted as the previous method
-     *        is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
      */
     void info(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#INFO INFO} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -614,13 +1667,156 @@ public interface Logger {
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
-     *
-     * TODO Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
-     *        array creation expense on every call. (RG) It isn't possible to be misinterpreted as the previous method
-     *        is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
      */
     void info(String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#INFO INFO} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -806,6 +2002,176 @@ public interface Logger {
      */
     void log(Level level, Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4,
+            Object p5);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4,
+            Object p5, Object p6);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4,
+            Object p5, Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4,
+            Object p5, Object p6, Object p7, Object p8);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4,
+            Object p5, Object p6, Object p7, Object p8, Object p9);
+
     /**
      * Logs a message at the given level including the stack trace of the {@link Throwable} <code>t</code> passed as
      * parameter.
@@ -870,6 +2236,164 @@ public interface Logger {
      */
     void log(Level level, String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7, Object p8);
+
+    /**
+     * Logs a message with parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7, Object p8, Object p9);
+
     /**
      * Logs a message at the given level including the stack trace of the {@link Throwable} <code>t</code> passed as
      * parameter.
@@ -928,55 +2452,214 @@ public interface Logger {
      * Logs a message with the specific Marker at the {@link Level#TRACE TRACE} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
+     * @param msg the message string to be logged
+     */
+    void trace(Marker marker, Message msg);
+
+    /**
+     * Logs a message with the specific Marker at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    void trace(Marker marker, Message msg, Throwable t);
+
+    /**
+     * Logs a message object with the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    void trace(Marker marker, Object message);
+
+    /**
+     * Logs a message at the {@link Level#TRACE TRACE} level including the stack trace of the {@link Throwable}
+     * <code>t</code> passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     * @param t the exception to log, including its stack trace.
+     * @see #debug(String)
+     */
+    void trace(Marker marker, Object message, Throwable t);
+
+    /**
+     * Logs a message object with the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message string to log.
+     */
+    void trace(Marker marker, String message);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    void trace(Marker marker, String message, Object... params);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void trace(Marker marker, Message msg);
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4);
 
     /**
-     * Logs a message with the specific Marker at the {@link Level#TRACE TRACE} level.
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void trace(Marker marker, Message msg, Throwable t);
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
 
     /**
-     * Logs a message object with the {@link Level#TRACE TRACE} level.
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void trace(Marker marker, Object message);
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6);
 
     /**
-     * Logs a message at the {@link Level#TRACE TRACE} level including the stack trace of the {@link Throwable}
-     * <code>t</code> passed as parameter.
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
-     * @param t the exception to log, including its stack trace.
-     * @see #debug(String)
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void trace(Marker marker, Object message, Throwable t);
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7);
 
     /**
-     * Logs a message object with the {@link Level#TRACE TRACE} level.
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message string to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
      */
-    void trace(Marker marker, String message);
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8);
 
     /**
      * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
      *
      * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
      * @see #getMessageFactory()
+     * @since 2.2
      */
-    void trace(Marker marker, String message, Object... params);
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8, Object p9);
 
     /**
      * Logs a message at the {@link Level#TRACE TRACE} level including the stack trace of the {@link Throwable}
@@ -1037,6 +2720,153 @@ public interface Logger {
      */
     void trace(String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#TRACE TRACE} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1097,14 +2927,168 @@ public interface Logger {
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
-     *
-     * TODO Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
-     *        array creation expense on every call. (RG) I assume you meant warn, not info. It isn't possible to be
-     *        misinterpreted as the previous method is for that signature.Methods should be added to avoid varargs for
-     *        1, 2 or 3 parameters.
      */
     void warn(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5,
+            Object p6, Object p7, Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#WARN WARN} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1159,14 +3143,156 @@ public interface Logger {
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
-     *
-     * TODO Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
-     *        array creation expense on every call. (RG) I assume you meant warn, not info. It isn't possible to be
-     *        misinterpreted as the previous method is for that signature.Methods should be added to avoid varargs for
-     *        1, 2 or 3 parameters.
      */
     void warn(String message, Object... params);
 
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8);
+
+    /**
+     * Logs a message with parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     * @since 2.2
+     */
+    void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+            Object p8, Object p9);
+
     /**
      * Logs a message at the {@link Level#WARN WARN} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -40,6 +40,16 @@ public final class MarkerManager {
         MARKERS.clear();
     }
 
+    /**
+     * Tests existence of the given marker.
+     * @param key the marker name
+     * @return true if the marker exists.
+     * @since 2.2
+     */
+    public static boolean exists(final String key) {
+        return MARKERS.containsKey(key);
+    }
+
     /**
      * Retrieve a Marker or create a Marker that has no parent.
      * @param name The name of the Marker.
@@ -30,6 +30,7 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.logging.log4j.spi.DefaultThreadContextMap;
 import org.apache.logging.log4j.spi.DefaultThreadContextStack;
 import org.apache.logging.log4j.spi.Provider;
+import org.apache.logging.log4j.spi.SortedArrayThreadContextMap;
 import org.apache.logging.log4j.spi.ThreadContextMap;
 import org.apache.logging.log4j.spi.ThreadContextStack;
 import org.apache.logging.log4j.status.StatusLogger;
@@ -243,7 +244,9 @@ public final class ThreadContext  {
             }
         }
         if (contextMap == null) {
-            contextMap = new DefaultThreadContextMap(useMap);
+            contextMap = managerProps.getBooleanProperty(SortedArrayThreadContextMap.GARBAGE_FREE_MAP)
+                    ? new SortedArrayThreadContextMap(useMap)
+                    : new DefaultThreadContextMap(useMap);
         }
     }
 
@@ -32,7 +32,7 @@ import org.apache.logging.log4j.util.Strings;
  * logged, because it is undefined whether the logged message string will contain the old values or the modified
  * values.
  */
-public class MapMessage implements MultiformatMessage {
+public class MapMessage implements MultiformatMessage, StringBuilderFormattable {
     /**
      * When set as the format specifier causes the Map to be formatted as XML.
      */
@@ -217,6 +217,15 @@ public class MapMessage implements MultiformatMessage {
         return asString();
     }
 
+    /**
+     * Appends the message in its default format to the specified buffer.
+     * @param buffer the StringBuilder to write into
+     */
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        appendMap(buffer);
+    }
+
     /**
      *
      * @param formats An array of Strings that provide extra information about how to format the message.
@@ -24,7 +24,7 @@ import java.io.Serializable;
 /**
  * Handles messages that contain an Object.
  */
-public class ObjectMessage implements Message {
+public class ObjectMessage implements Message, StringBuilderFormattable {
 
     private static final long serialVersionUID = -5903272448334166185L;
 
@@ -52,6 +52,22 @@ public class ObjectMessage implements Message {
         return objectString;
     }
 
+    /**
+     * Appends the formatted object message to the specified buffer. If the message was formatted before, the cached
+     * String is appended so that the output stays the same if the object changed in the meantime.
+     * @param buffer the StringBuilder to write into
+     */
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        if (objectString != null) {
+            buffer.append(objectString);
+        } else if (obj instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) obj).formatTo(buffer);
+        } else {
+            buffer.append(obj);
+        }
+    }
+
     /**
      * Returns the object formatted using its toString method.
      * @return the String representation of the object.
@@ -32,7 +32,7 @@ import java.util.Set;
  * licensed under the LGPL. It has been relicensed here with his permission providing that this attribution remain.
  * </p>
  */
-public class ParameterizedMessage implements Message {
+public class ParameterizedMessage implements Message, StringBuilderFormattable {
 
     /**
      * Prefix for recursion.
@@ -174,6 +174,20 @@ public class ParameterizedMessage implements Message {
         return formattedMessage;
     }
 
+    /**
+     * Appends the formatted message to the specified buffer, without creating the intermediate String if the message
+     * was not formatted before.
+     * @param buffer the StringBuilder to write into
+     */
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        if (formattedMessage != null) {
+            buffer.append(formattedMessage);
+        } else {
+            formatMessage(buffer, messagePattern, stringArgs);
+        }
+    }
+
     /**
      * Returns the message pattern.
      * @return the message pattern.
@@ -255,6 +269,39 @@ public class ParameterizedMessage implements Message {
         }
 
         final StringBuilder result = new StringBuilder();
+        formatMessage(result, messagePattern, arguments);
+        return result.toString();
+    }
+
+    /**
+     * Replace placeholders in the given messagePattern with arguments and append the result to the specified buffer.
+     *
+     * @param buffer the buffer to append to
+     * @param messagePattern the message pattern containing placeholders.
+     * @param arguments      the arguments to be used to replace placeholders.
+     */
+    public static void formatMessage(final StringBuilder buffer, final String messagePattern,
+            final Object[] arguments) {
+        if (messagePattern == null || arguments == null || arguments.length == 0) {
+            buffer.append(messagePattern);
+            return;
+        }
+        formatMessage(buffer, messagePattern, arguments, arguments.length, false);
+    }
+
+    /**
+     * Replace placeholders in the given messagePattern with the first {@code argCount} arguments and append the result
+     * to the specified buffer.
+     *
+     * @param buffer the buffer to append to
+     * @param messagePattern the message pattern containing placeholders.
+     * @param arguments the arguments to be used to replace placeholders.
+     * @param argCount the number of arguments to use.
+     * @param deep whether the arguments should be appended with {@link #deepToString(Object)} semantics.
+     */
+    static void formatMessage(final StringBuilder buffer, final String messagePattern, final Object[] arguments,
+            final int argCount, final boolean deep) {
+
         int escapeCounter = 0;
         int currentArgument = 0;
         for (int i = 0; i < messagePattern.length(); i++) {
@@ -267,20 +314,24 @@ public class ParameterizedMessage implements Message {
                     // write escaped escape chars
                     final int escapedEscapes = escapeCounter / 2;
                     for (int j = 0; j < escapedEscapes; j++) {
-                        result.append(ESCAPE_CHAR);
+                        buffer.append(ESCAPE_CHAR);
                     }
 
                     if (escapeCounter % 2 == 1) {
                         // i.e. escaped
                         // write escaped escape chars
-                        result.append(DELIM_START);
-                        result.append(DELIM_STOP);
+                        buffer.append(DELIM_START);
+                        buffer.append(DELIM_STOP);
                     } else {
                         // unescaped
-                        if (currentArgument < arguments.length) {
-                            result.append(arguments[currentArgument]);
+                        if (currentArgument < argCount) {
+                            if (deep) {
+                                appendDeepToString(arguments[currentArgument], buffer);
+                            } else {
+                                buffer.append(arguments[currentArgument]);
+                            }
                         } else {
-                            result.append(DELIM_START).append(DELIM_STOP);
+                            buffer.append(DELIM_START).append(DELIM_STOP);
                         }
                         currentArgument++;
                     }
@@ -292,14 +343,13 @@ public class ParameterizedMessage implements Message {
                 // write unescaped escape chars
                 if (escapeCounter > 0) {
                     for (int j = 0; j < escapeCounter; j++) {
-                        result.append(ESCAPE_CHAR);
+                        buffer.append(ESCAPE_CHAR);
                     }
                     escapeCounter = 0;
                 }
-                result.append(curChar);
+                buffer.append(curChar);
             }
         }
-        return result.toString();
     }
 
     /**
@@ -369,6 +419,23 @@ public class ParameterizedMessage implements Message {
         return str.toString();
     }
 
+    /**
+     * Appends the same text as {@link #deepToString(Object)} to the specified buffer. Only container types and dates
+     * need intermediate objects, all other arguments are appended directly.
+     *
+     * @param o the Object to append
+     * @param str the StringBuilder that o will be appended to
+     */
+    static void appendDeepToString(final Object o, final StringBuilder str) {
+        if (o == null || o instanceof String) {
+            str.append((String) o);
+        } else if (o.getClass().isArray() || o instanceof Map || o instanceof Collection || o instanceof Date) {
+            recursiveDeepToString(o, str, new HashSet<String>());
+        } else {
+            appendToString(o, str);
+        }
+    }
+
     /**
      * This method performs a deep toString of the given Object.
      * Primitive arrays are converted using their respective Arrays.toString methods while
@@ -494,22 +561,26 @@ public class ParameterizedMessage implements Message {
             // I'll leave it like this for the moment... this could probably be optimized using ThreadLocal...
             str.append(format.format(date));
         } else {
-            // it's just some other Object, we can only use toString().
-            try {
-                str.append(o.toString());
-            } catch (final Throwable t) {
-                str.append(ERROR_PREFIX);
-                str.append(identityToString(o));
-                str.append(ERROR_SEPARATOR);
-                final String msg = t.getMessage();
-                final String className = t.getClass().getName();
-                str.append(className);
-                if (!className.equals(msg)) {
-                    str.append(ERROR_MSG_SEPARATOR);
-                    str.append(msg);
-                }
-                str.append(ERROR_SUFFIX);
+            appendToString(o, str);
+        }
+    }
+
+    private static void appendToString(final Object o, final StringBuilder str) {
+        // it's just some other Object, we can only use toString().
+        try {
+            str.append(o.toString());
+        } catch (final Throwable t) {
+            str.append(ERROR_PREFIX);
+            str.append(identityToString(o));
+            str.append(ERROR_SEPARATOR);
+            final String msg = t.getMessage();
+            final String className = t.getClass().getName();
+            str.append(className);
+            if (!className.equals(msg)) {
+                str.append(ERROR_MSG_SEPARATOR);
+                str.append(msg);
             }
+            str.append(ERROR_SUFFIX);
         }
     }
 
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.message;
+
+/**
+ * A Message that may be mutated and handed out again after the logging call that created it has returned.
+ * <p>
+ * The content of a reusable message is only valid for the duration of the synchronous log call. Components that hold
+ * on to a message after the call, for example to process it in another thread, must keep the {@link #memento()}
+ * instead.
+ * </p>
+ *
+ * @see ReusableMessageFactory
+ * @since 2.2
+ */
+public interface ReusableMessage extends Message, StringBuilderFormattable {
+
+    /**
+     * Returns an immutable copy of this message that remains valid after this message is reused.
+     *
+     * @return an immutable snapshot of this message
+     */
+    Message memento();
+}
@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.message;
+
+/**
+ * Enables use of <code>{}</code> parameter markers in message strings without creating a new message for each call.
+ * <p>
+ * Each thread is handed the same {@link ReusableParameterizedMessage} for every call to
+ * {@link #newMessage(String, Object...)}, so the message is only valid until the logging call returns and must be
+ * {@linkplain #release(Message) released} afterwards. If a message is requested while the thread's message is still
+ * in use, for example because a parameter's {@code toString()} method logs, a new instance is returned. Log4j copies
+ * the message with {@link ReusableMessage#memento()} before handing an event to another thread.
+ * </p>
+ * <p>
+ * Use this factory only with appenders and filters that do not keep references to logged messages.
+ * </p>
+ * <p>
+ * This class is immutable.
+ * </p>
+ *
+ * @since 2.2
+ */
+public final class ReusableMessageFactory extends AbstractMessageFactory {
+
+    /**
+     * Instance of ReusableMessageFactory.
+     */
+    public static final ReusableMessageFactory INSTANCE = new ReusableMessageFactory();
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<ReusableParameterizedMessage> threadLocalParameterized =
+            new ThreadLocal<ReusableParameterizedMessage>();
+
+    private static ReusableParameterizedMessage getParameterized() {
+        ReusableParameterizedMessage result = threadLocalParameterized.get();
+        if (result == null) {
+            result = new ReusableParameterizedMessage();
+            threadLocalParameterized.set(result);
+        }
+        return result.isReserved() ? new ReusableParameterizedMessage().reserve() : result.reserve();
+    }
+
+    /**
+     * Makes the specified message available for reuse by the current thread if it was created by this factory; does
+     * nothing otherwise.
+     *
+     * @param message the message that is no longer used
+     */
+    public static void release(final Message message) {
+        if (message instanceof ReusableParameterizedMessage) {
+            ((ReusableParameterizedMessage) message).release();
+        }
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters.
+     *
+     * @param message The message pattern.
+     * @param params The message parameters.
+     * @return The Message.
+     *
+     * @see MessageFactory#newMessage(String, Object...)
+     */
+    @Override
+    public Message newMessage(final String message, final Object... params) {
+        return getParameterized().set(message, params);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        return result.set(message, params, 1);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        return result.set(message, params, 2);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        return result.set(message, params, 3);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        return result.set(message, params, 4);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        return result.set(message, params, 5);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        return result.set(message, params, 6);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        return result.set(message, params, 7);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        return result.set(message, params, 8);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @param p8 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        params[8] = p8;
+        return result.set(message, params, 9);
+    }
+
+    /**
+     * Returns the current thread's {@link ReusableParameterizedMessage}, populated with the specified pattern and
+     * parameters, without creating a parameter array.
+     *
+     * @param message The message pattern.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @param p8 A message parameter.
+     * @param p9 A message parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8,
+            final Object p9) {
+        final ReusableParameterizedMessage result = getParameterized();
+        final Object[] params = result.getParameterBuffer();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        params[8] = p8;
+        params[9] = p9;
+        return result.set(message, params, 10);
+    }
+}
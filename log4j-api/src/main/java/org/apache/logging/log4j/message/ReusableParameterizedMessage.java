@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.message;
+
+import java.util.Arrays;
+
+/**
+ * Mutable counterpart of {@link ParameterizedMessage} handed out by {@link ReusableMessageFactory}.
+ * <p>
+ * The message keeps a reference to the parameter array it was created with and only converts the parameters to text
+ * when it is formatted, appending them directly to the destination buffer. Instances are not thread-safe and their
+ * content is only valid until the log call that created them returns. When serialized, the {@link #memento()} is
+ * written instead.
+ * </p>
+ *
+ * @since 2.2
+ */
+public final class ReusableParameterizedMessage implements ReusableMessage {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The largest number of parameters that fixed-arity logger methods pass without creating an array.
+     */
+    static final int MAX_PARAMETER_BUFFER_SIZE = 10;
+
+    private final transient Object[] parameterBuffer = new Object[MAX_PARAMETER_BUFFER_SIZE];
+    private transient String messagePattern;
+    private transient Object[] params;
+    private transient int paramCount;
+    private transient int argCount;
+    private transient Throwable throwable;
+    private transient boolean reserved;
+
+    /**
+     * Creates an empty message. Use {@link ReusableMessageFactory} to obtain populated instances.
+     */
+    public ReusableParameterizedMessage() {
+    }
+
+    ReusableParameterizedMessage set(final String messagePattern, final Object[] arguments) {
+        return set(messagePattern, arguments, arguments == null ? 0 : arguments.length);
+    }
+
+    /**
+     * Returns the array to fill with parameters before calling {@link #set(String, Object[], int)}, so that
+     * fixed-arity callers do not need to create one.
+     */
+    Object[] getParameterBuffer() {
+        return parameterBuffer;
+    }
+
+    ReusableParameterizedMessage set(final String messagePattern, final Object[] arguments, final int count) {
+        this.messagePattern = messagePattern;
+        this.params = arguments;
+        this.paramCount = count;
+        this.throwable = null;
+        int args = count;
+        if (args > 0 && arguments[args - 1] instanceof Throwable
+                && ParameterizedMessage.countArgumentPlaceholders(messagePattern) < args) {
+            throwable = (Throwable) arguments[args - 1];
+            args--;
+        }
+        this.argCount = args;
+        return this;
+    }
+
+    ReusableParameterizedMessage reserve() {
+        reserved = true;
+        return this;
+    }
+
+    boolean isReserved() {
+        return reserved;
+    }
+
+    /**
+     * Clears the references to the logged objects and makes this instance available for the next log call.
+     */
+    void release() {
+        reserved = false;
+        if (params == parameterBuffer) {
+            Arrays.fill(parameterBuffer, 0, paramCount, null);
+        }
+        params = null;
+        paramCount = 0;
+        argCount = 0;
+        throwable = null;
+    }
+
+    @Override
+    public Message memento() {
+        return new ParameterizedMessage(messagePattern, getParameters(), throwable);
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        final StringBuilder sb = new StringBuilder(messagePattern == null ? 16 : messagePattern.length() * 2);
+        formatTo(sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        if (messagePattern == null || argCount == 0) {
+            buffer.append(messagePattern);
+        } else if (argCount > 1 && throwable == null
+                && ParameterizedMessage.countArgumentPlaceholders(messagePattern) == 1) {
+            // same special case as ParameterizedMessage: a single placeholder shows all arguments
+            ParameterizedMessage.formatMessage(buffer, messagePattern, new Object[] {getParameters()}, 1, true);
+        } else {
+            ParameterizedMessage.formatMessage(buffer, messagePattern, params, argCount, true);
+        }
+    }
+
+    @Override
+    public String getFormat() {
+        return messagePattern;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        if (params == null || argCount == params.length) {
+            return params;
+        }
+        return Arrays.copyOf(params, argCount);
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    private Object writeReplace() {
+        return memento();
+    }
+
+    @Override
+    public String toString() {
+        return "ReusableParameterizedMessage[messagePattern=" + messagePattern + ", params=" +
+            Arrays.toString(getParameters()) + ", throwable=" + throwable + ']';
+    }
+}
@@ -19,7 +19,7 @@ package org.apache.logging.log4j.message;
 /**
  * The simplest possible implementation of Message. It just returns the String given as the constructor argument.
  */
-public class SimpleMessage implements Message {
+public class SimpleMessage implements Message, StringBuilderFormattable {
     private static final long serialVersionUID = -8398002534962715992L;
 
     private final String message;
@@ -48,6 +48,15 @@ public class SimpleMessage implements Message {
         return message;
     }
 
+    /**
+     * Appends the message to the specified buffer.
+     * @param buffer the StringBuilder to write into
+     */
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        buffer.append(message);
+    }
+
     /**
      * Returns the message.
      * @return the message.
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.message;
+
+/**
+ * Messages that use this interface can write their formatted text into a caller-supplied {@code StringBuilder}, so
+ * that layouts do not need to materialize the formatted message as a String first.
+ * <p>
+ * The text appended by {@link #formatTo(StringBuilder)} must be the same as the value returned by
+ * {@link Message#getFormattedMessage()}.
+ * </p>
+ *
+ * @since 2.2
+ */
+public interface StringBuilderFormattable {
+
+    /**
+     * Writes a text representation of this object into the specified {@code StringBuilder}, ideally without
+     * allocating temporary objects.
+     *
+     * @param buffer the StringBuilder to write into
+     */
+    void formatTo(StringBuilder buffer);
+}
@@ -252,11 +252,25 @@ public class StructuredDataMessage extends MapMessage {
      */
     public final String asString(final Format format, final StructuredDataId structuredDataId) {
         final StringBuilder sb = new StringBuilder();
+        asString(format, structuredDataId, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Formats the structured data as described in RFC 5424 into the specified buffer.
+     *
+     * @param format           "full" will include the type and message. null will return only the STRUCTURED-DATA as
+     *                         described in RFC 5424
+     * @param structuredDataId The SD-ID as described in RFC 5424. If null the value in the StructuredData
+     *                         will be used.
+     * @param sb               The StringBuilder to append the formatted data to.
+     */
+    public final void asString(final Format format, final StructuredDataId structuredDataId, final StringBuilder sb) {
         final boolean full = Format.FULL.equals(format);
         if (full) {
             final String myType = getType();
             if (myType == null) {
-                return sb.toString();
+                return;
             }
             sb.append(getType()).append(' ');
         }
@@ -267,7 +281,7 @@ public class StructuredDataMessage extends MapMessage {
             sdId = structuredDataId;
         }
         if (sdId == null || sdId.getName() == null) {
-            return sb.toString();
+            return;
         }
         sb.append('[');
         sb.append(sdId);
@@ -280,7 +294,6 @@ public class StructuredDataMessage extends MapMessage {
                 sb.append(' ').append(msg);
             }
         }
-        return sb.toString();
     }
 
     /**
@@ -292,6 +305,15 @@ public class StructuredDataMessage extends MapMessage {
         return asString(Format.FULL, null);
     }
 
+    /**
+     * Appends the message in the "FULL" format to the specified buffer.
+     * @param buffer the StringBuilder to write into
+     */
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        asString(Format.FULL, null, buffer);
+    }
+
     /**
      * Formats the message according the the specified format.
      * @param formats An array of Strings that provide extra information about how to format the message.
@@ -24,6 +24,7 @@ import org.apache.logging.log4j.MarkerManager;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFactory;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
 import org.apache.logging.log4j.message.StringFormattedMessage;
 import org.apache.logging.log4j.status.StatusLogger;
 
@@ -202,6 +203,64 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.DEBUG, marker, message, params);
     }
 
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8,
+            final Object p9) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void debug(final Marker marker, final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.DEBUG, marker, message, t);
@@ -237,6 +296,62 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.DEBUG, null, message, params);
     }
 
+    @Override
+    public void debug(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void debug(final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.DEBUG, null, message, t);
@@ -314,6 +429,64 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.ERROR, marker, message, params);
     }
 
+    @Override
+    public void error(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8,
+            final Object p9) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void error(final Marker marker, final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.ERROR, marker, message, t);
@@ -349,6 +522,62 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.ERROR, null, message, params);
     }
 
+    @Override
+    public void error(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void error(final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.ERROR, null, message, t);
@@ -416,6 +645,64 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.FATAL, marker, message, params);
     }
 
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8,
+            final Object p9) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void fatal(final Marker marker, final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.FATAL, marker, message, t);
@@ -451,6 +738,62 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.FATAL, null, message, params);
     }
 
+    @Override
+    public void fatal(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void fatal(final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.FATAL, null, message, t);
@@ -496,6 +839,64 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.INFO, marker, message, params);
     }
 
+    @Override
+    public void info(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8,
+            final Object p9) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void info(final Marker marker, final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.INFO, marker, message, t);
@@ -532,88 +933,211 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
     }
 
     @Override
-    public void info(final String message, final Throwable t) {
-        logIfEnabled(FQCN, Level.INFO, null, message, t);
+    public void info(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0);
     }
 
     @Override
-    public boolean isDebugEnabled() {
-        return isEnabled(Level.DEBUG, null, null);
+    public void info(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1);
     }
 
     @Override
-    public boolean isDebugEnabled(final Marker marker) {
-        return isEnabled(Level.DEBUG, marker, (Object) null, null);
+    public void info(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2);
     }
 
     @Override
-    public boolean isEnabled(final Level level) {
-        return isEnabled(level, null, (Object) null, null);
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2, p3);
     }
 
     @Override
-    public boolean isEnabled(final Level level, final Marker marker) {
-        return isEnabled(level, marker, (Object) null, null);
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2, p3, p4);
     }
 
     @Override
-    public boolean isErrorEnabled() {
-        return isEnabled(Level.ERROR, null, (Object) null, null);
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2, p3, p4, p5);
     }
 
     @Override
-    public boolean isErrorEnabled(final Marker marker) {
-        return isEnabled(Level.ERROR, marker, (Object) null, null);
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2, p3, p4, p5, p6);
     }
 
     @Override
-    public boolean isFatalEnabled() {
-        return isEnabled(Level.FATAL, null, (Object) null, null);
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
     }
 
     @Override
-    public boolean isFatalEnabled(final Marker marker) {
-        return isEnabled(Level.FATAL, marker, (Object) null, null);
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
     }
 
     @Override
-    public boolean isInfoEnabled() {
-        return isEnabled(Level.INFO, null, (Object) null, null);
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
     }
 
     @Override
-    public boolean isInfoEnabled(final Marker marker) {
-        return isEnabled(Level.INFO, marker, (Object) null, null);
+    public void info(final String message, final Throwable t) {
+        logIfEnabled(FQCN, Level.INFO, null, message, t);
     }
 
     @Override
-    public boolean isTraceEnabled() {
-        return isEnabled(Level.TRACE, null, (Object) null, null);
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG, null, null);
     }
 
     @Override
-    public boolean isTraceEnabled(final Marker marker) {
-        return isEnabled(Level.TRACE, marker, (Object) null, null);
+    public boolean isDebugEnabled(final Marker marker) {
+        return isEnabled(Level.DEBUG, marker, (Object) null, null);
     }
 
     @Override
-    public boolean isWarnEnabled() {
-        return isEnabled(Level.WARN, null, (Object) null, null);
+    public boolean isEnabled(final Level level) {
+        return isEnabled(level, null, (Object) null, null);
     }
 
     @Override
-    public boolean isWarnEnabled(final Marker marker) {
-        return isEnabled(Level.WARN, marker, (Object) null, null);
+    public boolean isEnabled(final Level level, final Marker marker) {
+        return isEnabled(level, marker, (Object) null, null);
     }
 
+    /**
+     * Determines if logging is enabled. This implementation passes the parameters to
+     * {@link #isEnabled(Level, Marker, String, Object...)}; subclasses override the fixed-arity variants to avoid
+     * creating the parameter array.
+     */
     @Override
-    public void log(final Level level, final Marker marker, final Message msg) {
-        logIfEnabled(FQCN, level, marker, msg, (Throwable) null);
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0) {
+        return isEnabled(level, marker, message, new Object[] {p0});
     }
 
     @Override
-    public void log(final Level level, final Marker marker, final Message msg, final Throwable t) {
-        logIfEnabled(FQCN, level, marker, msg, t);
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1});
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2});
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2, p3});
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7, final Object p8) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7, final Object p8, final Object p9) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return isEnabled(Level.ERROR, null, (Object) null, null);
+    }
+
+    @Override
+    public boolean isErrorEnabled(final Marker marker) {
+        return isEnabled(Level.ERROR, marker, (Object) null, null);
+    }
+
+    @Override
+    public boolean isFatalEnabled() {
+        return isEnabled(Level.FATAL, null, (Object) null, null);
+    }
+
+    @Override
+    public boolean isFatalEnabled(final Marker marker) {
+        return isEnabled(Level.FATAL, marker, (Object) null, null);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return isEnabled(Level.INFO, null, (Object) null, null);
+    }
+
+    @Override
+    public boolean isInfoEnabled(final Marker marker) {
+        return isEnabled(Level.INFO, marker, (Object) null, null);
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return isEnabled(Level.TRACE, null, (Object) null, null);
+    }
+
+    @Override
+    public boolean isTraceEnabled(final Marker marker) {
+        return isEnabled(Level.TRACE, marker, (Object) null, null);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return isEnabled(Level.WARN, null, (Object) null, null);
+    }
+
+    @Override
+    public boolean isWarnEnabled(final Marker marker) {
+        return isEnabled(Level.WARN, marker, (Object) null, null);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final Message msg) {
+        logIfEnabled(FQCN, level, marker, msg, (Throwable) null);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final Message msg, final Throwable t) {
+        logIfEnabled(FQCN, level, marker, msg, t);
     }
 
     @Override
@@ -638,6 +1162,66 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, level, marker, message, params);
     }
 
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, level, marker, message, p0);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2, final Object p3) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2, final Object p3, final Object p4) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2, final Object p3, final Object p4, final Object p5) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7,
+            final Object p8) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7,
+            final Object p8, final Object p9) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void log(final Level level, final Marker marker, final String message, final Throwable t) {
         logIfEnabled(FQCN, level, marker, message, t);
@@ -673,6 +1257,64 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, level, null, message, params);
     }
 
+    @Override
+    public void log(final Level level, final String message, final Object p0) {
+        logIfEnabled(FQCN, level, null, message, p0);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, level, null, message, p0, p1);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8,
+            final Object p9) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void log(final Level level, final String message, final Throwable t) {
         logIfEnabled(FQCN, level, null, message, t);
@@ -709,6 +1351,90 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         }
     }
 
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0) {
+        if (isEnabled(level, marker, message, p0)) {
+            logMessage(fqcn, level, marker, message, p0);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1) {
+        if (isEnabled(level, marker, message, p0, p1)) {
+            logMessage(fqcn, level, marker, message, p0, p1);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(level, marker, message, p0, p1, p2)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(level, marker, message, p0, p1, p2, p3)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(level, marker, message, p0, p1, p2, p3, p4)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+                    final Object p6) {
+        if (isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5, p6)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+                    final Object p6, final Object p7) {
+        if (isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+                    final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+                    final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
     @Override
     public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
             final Throwable t) {
@@ -735,7 +1461,135 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
     protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
             final Object... params) {
         final Message msg = messageFactory.newMessage(message, params);
-        logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0)
+                : messageFactory.newMessage(message, p0);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1)
+                : messageFactory.newMessage(message, p0, p1);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1, p2)
+                : messageFactory.newMessage(message, p0, p1, p2);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1, p2, p3)
+                : messageFactory.newMessage(message, p0, p1, p2, p3);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1, p2, p3, p4)
+                : messageFactory.newMessage(message, p0, p1, p2, p3, p4);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1, p2, p3, p4, p5)
+                : messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+                    final Object p6) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1, p2, p3, p4, p5, p6)
+                : messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+                    final Object p6, final Object p7) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7)
+                : messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+                    final Object p6, final Object p7, final Object p8) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8)
+                : messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+                    final Object p6, final Object p7, final Object p8, final Object p9) {
+        final Message msg = messageFactory instanceof ReusableMessageFactory
+                ? ((ReusableMessageFactory) messageFactory).newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9)
+                : messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        try {
+            logMessage(fqcn, level, marker, msg, msg.getThrowable());
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
     }
 
     @Override
@@ -814,6 +1668,64 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.TRACE, marker, message, params);
     }
 
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8,
+            final Object p9) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void trace(final Marker marker, final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.TRACE, marker, message, t);
@@ -849,6 +1761,62 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.TRACE, null, message, params);
     }
 
+    @Override
+    public void trace(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void trace(final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.TRACE, null, message, t);
@@ -889,6 +1857,64 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.WARN, marker, message, params);
     }
 
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2,
+            final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8,
+            final Object p9) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void warn(final Marker marker, final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.WARN, marker, message, t);
@@ -924,6 +1950,62 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.WARN, null, message, params);
     }
 
+    @Override
+    public void warn(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2, final Object p3,
+            final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public void warn(final String message, final Throwable t) {
         logIfEnabled(FQCN, Level.WARN, null, message, t);
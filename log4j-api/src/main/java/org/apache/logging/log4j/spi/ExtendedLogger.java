@@ -81,6 +81,177 @@ public interface ExtendedLogger extends Logger {
      */
     boolean isEnabled(Level level, Marker marker, String message, Object... params);
 
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3,
+            Object p4);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3,
+            Object p4, Object p5);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3,
+            Object p4, Object p5, Object p6);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3,
+            Object p4, Object p5, Object p6, Object p7);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @param p8 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3,
+            Object p4, Object p5, Object p6, Object p7, Object p8);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @param p8 A message parameter.
+     * @param p9 A message parameter.
+     * @return True if logging is enabled, false otherwise.
+     * @since 2.2
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3,
+            Object p4, Object p5, Object p6, Object p7, Object p8, Object p9);
+
     /**
      * Logs a message if the specified level is active.
      * 
@@ -140,6 +311,188 @@ public interface ExtendedLogger extends Logger {
      */
     void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2,
+            Object p3);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2,
+            Object p3, Object p4);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2,
+            Object p3, Object p4, Object p5);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2,
+            Object p3, Object p4, Object p5, Object p6);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2,
+            Object p3, Object p4, Object p5, Object p6, Object p7);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @param p8 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2,
+            Object p3, Object p4, Object p5, Object p6, Object p7, Object p8);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 A message parameter.
+     * @param p1 A message parameter.
+     * @param p2 A message parameter.
+     * @param p3 A message parameter.
+     * @param p4 A message parameter.
+     * @param p5 A message parameter.
+     * @param p6 A message parameter.
+     * @param p7 A message parameter.
+     * @param p8 A message parameter.
+     * @param p9 A message parameter.
+     * @since 2.2
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2,
+            Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9);
+
     /**
      * Always logs a message at the specified level. It is the responsibility of the caller to ensure the specified
      * level is enabled.
@@ -99,6 +99,193 @@ public class ExtendedLoggerWrapper extends AbstractLogger {
     public boolean isEnabled(final Level level, final Marker marker, final String message, final Object... params) {
         return logger.isEnabled(level, marker, message, params);
     }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0) {
+        return logger.isEnabled(level, marker, message, p0);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1) {
+        return logger.isEnabled(level, marker, message, p0, p1);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @param p2 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @param p2 A parameter.
+     * @param p3 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2, p3);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @param p2 A parameter.
+     * @param p3 A parameter.
+     * @param p4 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @param p2 A parameter.
+     * @param p3 A parameter.
+     * @param p4 A parameter.
+     * @param p5 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @param p2 A parameter.
+     * @param p3 A parameter.
+     * @param p4 A parameter.
+     * @param p5 A parameter.
+     * @param p6 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @param p2 A parameter.
+     * @param p3 A parameter.
+     * @param p4 A parameter.
+     * @param p5 A parameter.
+     * @param p6 A parameter.
+     * @param p7 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @param p2 A parameter.
+     * @param p3 A parameter.
+     * @param p4 A parameter.
+     * @param p5 A parameter.
+     * @param p6 A parameter.
+     * @param p7 A parameter.
+     * @param p8 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7, final Object p8) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 A parameter.
+     * @param p1 A parameter.
+     * @param p2 A parameter.
+     * @param p3 A parameter.
+     * @param p4 A parameter.
+     * @param p5 A parameter.
+     * @param p6 A parameter.
+     * @param p7 A parameter.
+     * @param p8 A parameter.
+     * @param p9 A parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7, final Object p8, final Object p9) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
     
     /**
      * Detect if the event would be logged.
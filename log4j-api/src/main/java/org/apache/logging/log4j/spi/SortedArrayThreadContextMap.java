@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.spi;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * A ThreadContext Map that is updated in place. Each thread keeps its keys in a sorted array, so {@code put} and
+ * {@code remove} do not copy the map as {@link DefaultThreadContextMap} does. An immutable snapshot is only created
+ * when {@link #getImmutableMapOrNull()} is called, typically because a log event is being created, and is reused
+ * until the map is modified again.
+ * <p>
+ * Selected by setting the system property {@value #GARBAGE_FREE_MAP} to {@code "true"}.
+ * </p>
+ *
+ * @since 2.2
+ */
+public class SortedArrayThreadContextMap implements ThreadContextMap {
+
+    /**
+     * Property name ({@value}) for selecting this implementation (value "true") in
+     * {@link org.apache.logging.log4j.ThreadContext}.
+     */
+    public static final String GARBAGE_FREE_MAP = "log4j2.garbagefree.threadContextMap";
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final boolean useMap;
+    private final ThreadLocal<State> localState;
+
+    public SortedArrayThreadContextMap(final boolean useMap) {
+        this.useMap = useMap;
+        this.localState = createThreadLocalState(useMap);
+    }
+
+    // (This method is package protected for JUnit tests.)
+    static ThreadLocal<State> createThreadLocalState(final boolean isMapEnabled) {
+        final PropertiesUtil managerProps = PropertiesUtil.getProperties();
+        final boolean inheritable = managerProps.getBooleanProperty(DefaultThreadContextMap.INHERITABLE_MAP);
+        if (inheritable) {
+            return new InheritableThreadLocal<State>() {
+                @Override
+                protected State childValue(final State parentValue) {
+                    return parentValue != null && isMapEnabled ? new State(parentValue) : null;
+                }
+            };
+        }
+        return new ThreadLocal<State>();
+    }
+
+    @Override
+    public void put(final String key, final String value) {
+        if (!useMap) {
+            return;
+        }
+        State state = localState.get();
+        if (state == null) {
+            state = new State();
+            localState.set(state);
+        }
+        state.put(key, value);
+    }
+
+    @Override
+    public String get(final String key) {
+        final State state = localState.get();
+        return state == null ? null : state.get(key);
+    }
+
+    @Override
+    public void remove(final String key) {
+        final State state = localState.get();
+        if (state != null) {
+            state.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        final State state = localState.get();
+        if (state != null) {
+            state.clear();
+        }
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        final State state = localState.get();
+        return state != null && state.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Map<String, String> getCopy() {
+        final State state = localState.get();
+        final Map<String, String> copy = new HashMap<String, String>();
+        if (state != null) {
+            for (int i = 0; i < state.size; i++) {
+                copy.put(state.keys[i], state.values[i]);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current thread's context Map. The snapshot is cached, so events created
+     * while the context Map is unchanged share one instance.
+     *
+     * @return an immutable snapshot of the context Map, or {@code null} if it is empty.
+     */
+    @Override
+    public Map<String, String> getImmutableMapOrNull() {
+        final State state = localState.get();
+        return state == null || state.size == 0 ? null : state.snapshot();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final State state = localState.get();
+        return state == null || state.size == 0;
+    }
+
+    @Override
+    public String toString() {
+        final Map<String, String> map = getImmutableMapOrNull();
+        return map == null ? "{}" : map.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        final Map<String, String> map = getImmutableMapOrNull();
+        result = prime * result + ((map == null) ? 0 : map.hashCode());
+        result = prime * result + (this.useMap ? 1231 : 1237);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (obj instanceof SortedArrayThreadContextMap) {
+            final SortedArrayThreadContextMap other = (SortedArrayThreadContextMap) obj;
+            if (this.useMap != other.useMap) {
+                return false;
+            }
+        }
+        if (!(obj instanceof ThreadContextMap)) {
+            return false;
+        }
+        final ThreadContextMap other = (ThreadContextMap) obj;
+        final Map<String, String> map = getImmutableMapOrNull();
+        final Map<String, String> otherMap = other.getImmutableMapOrNull();
+        if (map == null) {
+            if (otherMap != null) {
+                return false;
+            }
+        } else if (!map.equals(otherMap)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Searches the first {@code size} keys for the specified key, like {@link Arrays#binarySearch(Object[], int, int,
+     * Object)}, except that a {@code null} key is accepted and sorts before all others, so that null keys are
+     * supported as in {@link DefaultThreadContextMap}.
+     *
+     * @return the index of the key, or {@code -(insertion point) - 1} if it is not present
+     */
+    static int binarySearch(final String[] keys, final int size, final String key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final String midKey = keys[mid];
+            final int cmp = midKey == null ? (key == null ? 0 : -1) : (key == null ? 1 : midKey.compareTo(key));
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * The mutable context of one thread: keys in ascending order, a {@code null} key first, with their values at the
+     * same index.
+     */
+    static final class State {
+        private String[] keys;
+        private String[] values;
+        private int size;
+        private Snapshot snapshot;
+
+        State() {
+            keys = new String[INITIAL_CAPACITY];
+            values = new String[INITIAL_CAPACITY];
+        }
+
+        State(final State other) {
+            keys = other.keys.clone();
+            values = other.values.clone();
+            size = other.size;
+            snapshot = other.snapshot;
+        }
+
+        int indexOf(final String key) {
+            return binarySearch(keys, size, key);
+        }
+
+        String get(final String key) {
+            final int index = indexOf(key);
+            return index < 0 ? null : values[index];
+        }
+
+        void put(final String key, final String value) {
+            int index = indexOf(key);
+            if (index >= 0) {
+                if (value == null ? values[index] == null : value.equals(values[index])) {
+                    return;
+                }
+                values[index] = value;
+            } else {
+                index = -(index + 1);
+                if (size == keys.length) {
+                    keys = Arrays.copyOf(keys, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                System.arraycopy(keys, index, keys, index + 1, size - index);
+                System.arraycopy(values, index, values, index + 1, size - index);
+                keys[index] = key;
+                values[index] = value;
+                size++;
+            }
+            snapshot = null;
+        }
+
+        void remove(final String key) {
+            final int index = indexOf(key);
+            if (index < 0) {
+                return;
+            }
+            final int moved = size - index - 1;
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+            size--;
+            keys[size] = null;
+            values[size] = null;
+            snapshot = null;
+        }
+
+        void clear() {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+            snapshot = null;
+        }
+
+        Snapshot snapshot() {
+            if (snapshot == null) {
+                snapshot = new Snapshot(Arrays.copyOf(keys, size), Arrays.copyOf(values, size));
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * An immutable Map over sorted key and value arrays, safe to hand to other threads.
+     */
+    static final class Snapshot extends AbstractMap<String, String> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String[] keys;
+        private final String[] values;
+
+        Snapshot(final String[] keys, final String[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private int indexOf(final Object key) {
+            return key == null || key instanceof String ? binarySearch(keys, keys.length, (String) key) : -1;
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public String get(final Object key) {
+            final int index = indexOf(key);
+            return index < 0 ? null : values[index];
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < keys.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (index >= keys.length) {
+                                throw new NoSuchElementException();
+                            }
+                            final Entry<String, String> entry =
+                                    new SimpleImmutableEntry<String, String>(keys[index], values[index]);
+                            index++;
+                            return entry;
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+            };
+        }
+    }
+}
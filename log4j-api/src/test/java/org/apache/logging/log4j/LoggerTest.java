@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Locale;
 
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
 import org.apache.logging.log4j.message.StringFormatterMessageFactory;
 import org.apache.logging.log4j.message.StructuredDataMessage;
 import org.apache.logging.log4j.util.Strings;
@@ -90,6 +91,24 @@ public class LoggerTest {
         assertTrue("Incorrect substitution", results.get(0).startsWith(" DEBUG Hello, World"));
     }
 
+    @Test
+    public void debugWithTenParams() {
+        logger.debug("{}{}{}{}{}{}{}{}{}{}", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertEquals(1, results.size());
+        assertEquals(" DEBUG 0123456789", results.get(0));
+    }
+
+    @Test
+    public void infoWithParamsAndThrowableUsingReusableMessages() {
+        final TestLogger reusableLogger = new TestLogger("Reusable", ReusableMessageFactory.INSTANCE);
+        reusableLogger.info("{} and {}", "a", "b");
+        reusableLogger.info("Hello, {}", "World", new RuntimeException("Test Exception"));
+        final List<String> entries = reusableLogger.getEntries();
+        assertEquals(2, entries.size());
+        assertEquals(" INFO a and b", entries.get(0));
+        assertThat(entries.get(1), startsWith(" INFO Hello, World java.lang.RuntimeException: Test Exception"));
+    }
+
     @Test
     public void debugWithParmsAndThrowable() {
         logger.debug("Hello, {}", "World", new RuntimeException("Test Exception"));
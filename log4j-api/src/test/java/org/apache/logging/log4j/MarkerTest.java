@@ -37,6 +37,13 @@ public class MarkerTest {
         assertNull(expected.getParents());
     }
 
+    @Test
+    public void testExists() {
+        assertFalse(MarkerManager.exists("EXISTS"));
+        MarkerManager.getMarker("EXISTS");
+        assertTrue(MarkerManager.exists("EXISTS"));
+    }
+
     @Test
     public void testGetMarkerWithParents() {
         final Marker expected = MarkerManager.getMarker("A");
@@ -88,4 +88,14 @@ public class MapMessageTest {
         final String expected2 = "{key1=\"value1\", key2=\"value2\", key3=\"value3\"}";
         assertEquals(expected2, result2);
     }
+
+    @Test
+    public void testFormatTo() {
+        final MapMessage msg = new MapMessage();
+        msg.put("message", "Test message {}");
+        msg.put("project", "Log4j");
+        final StringBuilder sb = new StringBuilder();
+        msg.formatTo(sb);
+        assertEquals(msg.getFormattedMessage(), sb.toString());
+    }
 }
@@ -44,6 +44,24 @@ public class ObjectMessageTest {
         assertEquals(testMsg, result);
     }
 
+    @Test
+    public void testFormatTo() {
+        final StringBuilder sb = new StringBuilder();
+        new ObjectMessage(new BigDecimal("123.45")).formatTo(sb);
+        assertEquals("123.45", sb.toString());
+    }
+
+    @Test
+    public void testFormatToUsesCachedStringAfterGetFormattedMessageIsCalled() { // LOG4J2-763
+        final Mutable param = new Mutable().set("abc");
+        final ObjectMessage msg = new ObjectMessage(param);
+        msg.getFormattedMessage();
+        param.set("XYZ");
+        final StringBuilder sb = new StringBuilder();
+        msg.formatTo(sb);
+        assertEquals("abc", sb.toString());
+    }
+
     @Test
     public void testUnsafeWithMutableParams() { // LOG4J2-763
         final Mutable param = new Mutable().set("abc");
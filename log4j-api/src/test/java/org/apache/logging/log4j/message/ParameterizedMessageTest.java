@@ -48,4 +48,30 @@ public class ParameterizedMessageTest {
         final String actual = msg.getFormattedMessage();
         assertEquals("Should use initial param value", "Test message abc", actual);
     }
+
+    @Test
+    public void testFormatTo() {
+        final ParameterizedMessage msg = new ParameterizedMessage("Test \\{} message {} and {}", "abc", 12);
+        final StringBuilder sb = new StringBuilder("prefix:");
+        msg.formatTo(sb);
+        assertEquals("prefix:" + msg.getFormattedMessage(), sb.toString());
+        assertEquals("prefix:Test {} message abc and 12", sb.toString());
+    }
+
+    @Test
+    public void testFormatToWithoutArgs() {
+        final StringBuilder sb = new StringBuilder();
+        new ParameterizedMessage("Test message {}", null).formatTo(sb);
+        assertEquals("Test message {}", sb.toString());
+    }
+
+    @Test
+    public void testFormatToSafeWithMutableParams() { // LOG4J2-763
+        final Mutable param = new Mutable().set("abc");
+        final ParameterizedMessage msg = new ParameterizedMessage("Test message {}", param);
+        param.set("XYZ");
+        final StringBuilder sb = new StringBuilder();
+        msg.formatTo(sb);
+        assertEquals("Should use initial param value", "Test message abc", sb.toString());
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the ReusableMessageFactory.
+ */
+public class ReusableMessageFactoryTest {
+
+    private Message message;
+
+    @After
+    public void releaseMessage() {
+        ReusableMessageFactory.release(message);
+    }
+
+    @Test
+    public void testSameInstanceIsReusedAfterRelease() {
+        message = ReusableMessageFactory.INSTANCE.newMessage("x={} y={}", 1, 2);
+        assertEquals("x=1 y=2", message.getFormattedMessage());
+        ReusableMessageFactory.release(message);
+
+        final Message second = ReusableMessageFactory.INSTANCE.newMessage("a={}", "b");
+        assertSame(message, second);
+        assertEquals("a=b", second.getFormattedMessage());
+    }
+
+    @Test
+    public void testNestedCallGetsNewInstance() {
+        message = ReusableMessageFactory.INSTANCE.newMessage("outer {}", "a");
+        final Message nested = ReusableMessageFactory.INSTANCE.newMessage("nested {}", "b");
+        assertNotSame(message, nested);
+        assertEquals("nested b", nested.getFormattedMessage());
+        assertEquals("outer a", message.getFormattedMessage());
+        ReusableMessageFactory.release(nested);
+    }
+
+    @Test
+    public void testReleaseClearsParameters() {
+        message = ReusableMessageFactory.INSTANCE.newMessage("value {}", new Object());
+        ReusableMessageFactory.release(message);
+        assertNull(message.getParameters());
+        assertNull(message.getThrowable());
+    }
+
+    @Test
+    public void testFormatsLikeParameterizedMessage() {
+        final Throwable t = new RuntimeException("test");
+        final Object[][] argumentLists = {
+                null,
+                {},
+                {"abc"},
+                {"abc", null, 12},
+                {"abc", t},
+                {t},
+                {new int[] {1, 2}, new Object[] {"x", new Object[] {"y"}}},
+        };
+        final String[] patterns = {"none", "one {}", "two {} {}", "three {}, {}, {}", "escaped \\{} {}", "{}{}{}{}"};
+        for (final String pattern : patterns) {
+            for (final Object[] args : argumentLists) {
+                final ParameterizedMessage expected = new ParameterizedMessage(pattern, args);
+                message = ReusableMessageFactory.INSTANCE.newMessage(pattern, args);
+                final String description = pattern + " with " + (args == null ? null : args.length) + " args";
+                assertEquals(description, expected.getFormattedMessage(), message.getFormattedMessage());
+                assertSame(description, expected.getThrowable(), message.getThrowable());
+                final StringBuilder sb = new StringBuilder("prefix:");
+                ((StringBuilderFormattable) message).formatTo(sb);
+                assertEquals(description, "prefix:" + expected.getFormattedMessage(), sb.toString());
+                ReusableMessageFactory.release(message);
+            }
+        }
+    }
+
+    @Test
+    public void testFixedArityParametersAreClearedOnRelease() {
+        message = ReusableMessageFactory.INSTANCE.newMessage("{} and {}", "a", "b");
+        assertEquals("a and b", message.getFormattedMessage());
+        assertArrayEquals(new Object[] {"a", "b"}, message.getParameters());
+        final Object[] buffer = ((ReusableParameterizedMessage) message).getParameterBuffer();
+        ReusableMessageFactory.release(message);
+        assertNull(buffer[0]);
+        assertNull(buffer[1]);
+    }
+
+    @Test
+    public void testMementoIsImmutableCopy() {
+        final Mutable param = new Mutable().set("abc");
+        message = ReusableMessageFactory.INSTANCE.newMessage("Test message {}", param);
+        final Message memento = ((ReusableMessage) message).memento();
+        param.set("XYZ");
+        ReusableMessageFactory.release(message);
+
+        assertTrue(memento instanceof ParameterizedMessage);
+        assertEquals("Test message abc", memento.getFormattedMessage());
+    }
+
+    @Test
+    public void testSerializationWritesMemento() throws Exception {
+        message = ReusableMessageFactory.INSTANCE.newMessage("x={}", "abc");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(message);
+        out.close();
+        final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        final Message result = (Message) in.readObject();
+        assertTrue(result instanceof ParameterizedMessage);
+        assertEquals("x=abc", result.getFormattedMessage());
+    }
+}
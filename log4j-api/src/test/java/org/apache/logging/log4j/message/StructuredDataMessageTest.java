@@ -62,4 +62,15 @@ public class StructuredDataMessageTest {
         final String expected2 = "Alert [MsgId@1 memo=\"Added later\" message=\"Test message {}\" project=\"Log4j\"] Test message {}";
         assertEquals(expected2, result2);
     }
+
+    @Test
+    public void testFormatTo() {
+        final String testMsg = "Test message {}";
+        final StructuredDataMessage msg = new StructuredDataMessage("MsgId@12345", testMsg, "Alert");
+        msg.put("message", testMsg);
+        msg.put("project", "Log4j");
+        final StringBuilder sb = new StringBuilder();
+        msg.formatTo(sb);
+        assertEquals(msg.getFormattedMessage(), sb.toString());
+    }
 }
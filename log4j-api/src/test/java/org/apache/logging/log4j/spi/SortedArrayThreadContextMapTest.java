@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.spi;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@code SortedArrayThreadContextMap} class.
+ */
+public class SortedArrayThreadContextMapTest {
+
+    @Test
+    public void testDoesNothingIfConstructedWithUseMapIsFalse() {
+        final SortedArrayThreadContextMap map = new SortedArrayThreadContextMap(false);
+        map.put("key", "value");
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey("key"));
+        assertNull(map.get("key"));
+    }
+
+    @Test
+    public void testPutGrowsAndKeepsKeysSorted() {
+        final SortedArrayThreadContextMap map = new SortedArrayThreadContextMap(true);
+        for (int i = 19; i >= 0; i--) {
+            map.put("key" + (char) ('a' + i), "value" + i);
+        }
+        map.put("keyc", "replaced");
+        final Map<String, String> snapshot = map.getImmutableMapOrNull();
+        assertEquals(20, snapshot.size());
+        assertEquals("replaced", map.get("keyc"));
+        assertEquals("value19", snapshot.get("keyt"));
+        final Iterator<String> keys = snapshot.keySet().iterator();
+        assertEquals("keya", keys.next());
+        assertEquals("keyb", keys.next());
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        final SortedArrayThreadContextMap map = createMap();
+        map.remove("key");
+        map.remove("missing");
+        assertFalse(map.containsKey("key"));
+        assertEquals("value2", map.get("key2"));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.getImmutableMapOrNull());
+        assertEquals("{}", map.toString());
+    }
+
+    @Test
+    public void testNullKeyBehavesLikeDefaultMap() {
+        final SortedArrayThreadContextMap map = createMap();
+        final DefaultThreadContextMap other = new DefaultThreadContextMap(true);
+        other.put("key2", "value2");
+        other.put("key", "value");
+        map.put(null, "nullValue");
+        other.put(null, "nullValue");
+        assertTrue(map.containsKey(null));
+        assertEquals("nullValue", map.get(null));
+        assertEquals("value", map.get("key"));
+        assertEquals(other.getImmutableMapOrNull(), map.getImmutableMapOrNull());
+        assertEquals("nullValue", map.getImmutableMapOrNull().get(null));
+        assertEquals(other.getCopy(), map.getCopy());
+
+        map.remove(null);
+        assertFalse(map.containsKey(null));
+        assertNull(map.get(null));
+        assertFalse(map.getImmutableMapOrNull().containsKey(null));
+        assertEquals("value2", map.get("key2"));
+    }
+
+    @Test
+    public void testSnapshotIsReusedUntilModified() {
+        final SortedArrayThreadContextMap map = createMap();
+        final Map<String, String> snapshot = map.getImmutableMapOrNull();
+        assertSame(snapshot, map.getImmutableMapOrNull());
+        map.put("key", "value");
+        assertSame("Putting an unchanged value created a new snapshot", snapshot, map.getImmutableMapOrNull());
+
+        map.put("key3", "value3");
+        final Map<String, String> modified = map.getImmutableMapOrNull();
+        assertNotSame(snapshot, modified);
+        assertEquals(3, modified.size());
+        assertEquals(2, snapshot.size());
+        assertFalse(snapshot.containsKey("key3"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotIsImmutable() {
+        createMap().getImmutableMapOrNull().put("key", "value");
+    }
+
+    @Test
+    public void testSnapshotEqualsDefaultMap() {
+        final DefaultThreadContextMap other = new DefaultThreadContextMap(true);
+        other.put("key", "value");
+        other.put("key2", "value2");
+        final SortedArrayThreadContextMap map = createMap();
+        assertEquals(other.getImmutableMapOrNull(), map.getImmutableMapOrNull());
+        assertEquals(other.getImmutableMapOrNull().hashCode(), map.getImmutableMapOrNull().hashCode());
+        assertEquals(map, other);
+        assertEquals("{key=value, key2=value2}", map.toString());
+    }
+
+    @Test
+    public void testGetCopyIsIndependent() {
+        final SortedArrayThreadContextMap map = createMap();
+        final Map<String, String> copy = map.getCopy();
+        copy.put("key3", "value3");
+        assertFalse(map.containsKey("key3"));
+        map.clear();
+        assertEquals(3, copy.size());
+    }
+
+    @Test
+    public void testThreadLocalInheritableIfConfigured() throws Exception {
+        System.setProperty(DefaultThreadContextMap.INHERITABLE_MAP, "true");
+        try {
+            final SortedArrayThreadContextMap map = createMap();
+            final StringBuilder sb = new StringBuilder();
+            final Thread child = new Thread() {
+                @Override
+                public void run() {
+                    map.put("key", "child");
+                    sb.append(map.get("key2"));
+                }
+            };
+            child.start();
+            child.join();
+            assertEquals("value2", sb.toString());
+            assertEquals("value", map.get("key"));
+        } finally {
+            System.clearProperty(DefaultThreadContextMap.INHERITABLE_MAP);
+        }
+    }
+
+    private SortedArrayThreadContextMap createMap() {
+        final SortedArrayThreadContextMap map = new SortedArrayThreadContextMap(true);
+        assertTrue(map.isEmpty());
+        map.put("key2", "value2");
+        map.put("key", "value");
+        assertEquals("value", map.get("key"));
+        assertEquals("value2", map.get("key2"));
+        return map;
+    }
+}
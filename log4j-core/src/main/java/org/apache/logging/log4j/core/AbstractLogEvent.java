@@ -23,6 +23,7 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.ThreadContext.ContextStack;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.impl.ThrowableProxy;
 import org.apache.logging.log4j.message.Message;
 
@@ -117,4 +118,12 @@ public abstract class AbstractLogEvent implements LogEvent {
         // do nothing
     }
 
+
+    /**
+     * Returns an immutable {@link Log4jLogEvent} copy of this event.
+     */
+    @Override
+    public LogEvent toImmutable() {
+        return Log4jLogEvent.createMemento(this);
+    }
 }
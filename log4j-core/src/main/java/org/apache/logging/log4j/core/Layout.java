@@ -19,6 +19,8 @@ package org.apache.logging.log4j.core;
 import java.io.Serializable;
 import java.util.Map;
 
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+
 /**
  * Lays out a {@linkplain LogEvent} in different formats.
  *
@@ -74,7 +76,15 @@ public interface Layout<T extends Serializable> {
      */
     byte[] toByteArray(LogEvent event);
 
-    // TODO: it would be nice to provide ByteBuffers alongside the byte[]s
+    /**
+     * Encodes the event to some binary representation and writes the result to the specified destination, ideally
+     * without creating temporary objects on the way.
+     *
+     * @param event The Logging Event.
+     * @param destination holds the ByteBuffer to write into.
+     * @since 2.2
+     */
+    void encode(LogEvent event, ByteBufferDestination destination);
 
     /**
      * Formats the event as an Object that can be serialized.
@@ -170,4 +170,14 @@ public interface LogEvent extends Serializable {
      */
     void setIncludeLocation(boolean locationRequired);
 
+    /**
+     * Returns an immutable version of this log event, which may be a copy or this instance. Implementations that reuse
+     * their instances or messages return a copy, so callers that keep the event after the logging call returns, or
+     * pass it to another thread, must use the returned event.
+     *
+     * @return an immutable version of this log event
+     * @since 2.2
+     */
+    LogEvent toImmutable();
+
 }
@@ -108,7 +108,6 @@ public class Logger extends AbstractLogger {
     @Override
     public void logMessage(final String fqcn, final Level level, final Marker marker, final Message message, final Throwable t) {
         final Message msg = message == null ? new SimpleMessage(Strings.EMPTY) : message;
-        config.config.getConfigurationMonitor().checkConfiguration();
         config.loggerConfig.log(getName(), fqcn, marker, level, msg, t);
     }
 
@@ -127,6 +126,68 @@ public class Logger extends AbstractLogger {
         return config.filter(level, marker, message, params);
     }
 
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0) {
+        return config.filter(level, marker, message, p0);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1) {
+        return config.filter(level, marker, message, p0, p1);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2) {
+        return config.filter(level, marker, message, p0, p1, p2);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3) {
+        return config.filter(level, marker, message, p0, p1, p2, p3);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4) {
+        return config.filter(level, marker, message, p0, p1, p2, p3, p4);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        return config.filter(level, marker, message, p0, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        return config.filter(level, marker, message, p0, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7) {
+        return config.filter(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7, final Object p8) {
+        return config.filter(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6,
+            final Object p7, final Object p8, final Object p9) {
+        return config.filter(level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
     @Override
     public boolean isEnabled(final Level level, final Marker marker, final Object message, final Throwable t) {
         return config.filter(level, marker, message, t);
@@ -247,6 +308,12 @@ public class Logger extends AbstractLogger {
 
     /**
      * The binding between a Logger and its configuration.
+     * <p>
+     * Everything a Logger needs to decide whether an event is enabled is precomputed here: the level and the
+     * configuration's filter. The LoggerConfig's dispatch to its appenders and those of its additive parents is
+     * precomputed as well. Since {@link LoggerContext#updateLoggers()} replaces the whole PrivateConfig, deciding
+     * the common case takes one volatile read and one int comparison.
+     * </p>
      */
     // TODO: Should not be Serializable per EJ item 74 (2nd Ed)?
     protected class PrivateConfig implements Serializable {
@@ -257,6 +324,7 @@ public class Logger extends AbstractLogger {
         private final Level level;
         private final int intLevel;
         private final Logger logger;
+        private final Filter configFilter;
 
         public PrivateConfig(final Configuration config, final Logger logger) {
             this.config = config;
@@ -264,6 +332,8 @@ public class Logger extends AbstractLogger {
             this.level = this.loggerConfig.getLevel();
             this.intLevel = this.level.intLevel();
             this.logger = logger;
+            this.configFilter = config.getFilter();
+            this.loggerConfig.updateDispatch();
         }
 
         public PrivateConfig(final PrivateConfig pc, final Level level) {
@@ -272,6 +342,7 @@ public class Logger extends AbstractLogger {
             this.level = level;
             this.intLevel = this.level.intLevel();
             this.logger = pc.logger;
+            this.configFilter = pc.configFilter;
         }
 
         public PrivateConfig(final PrivateConfig pc, final LoggerConfig lc) {
@@ -280,17 +351,17 @@ public class Logger extends AbstractLogger {
             this.level = lc.getLevel();
             this.intLevel = this.level.intLevel();
             this.logger = pc.logger;
+            this.configFilter = pc.config.getFilter();
+            this.loggerConfig.updateDispatch();
         }
 
         // LOG4J2-151: changed visibility to public
         public void logEvent(final LogEvent event) {
-            config.getConfigurationMonitor().checkConfiguration();
             loggerConfig.log(event);
         }
 
         boolean filter(final Level level, final Marker marker, final String msg) {
-            config.getConfigurationMonitor().checkConfiguration();
-            final Filter filter = config.getFilter();
+            final Filter filter = configFilter;
             if (filter != null) {
                 final Filter.Result r = filter.filter(logger, level, marker, msg);
                 if (r != Filter.Result.NEUTRAL) {
@@ -301,8 +372,7 @@ public class Logger extends AbstractLogger {
         }
 
         boolean filter(final Level level, final Marker marker, final String msg, final Throwable t) {
-            config.getConfigurationMonitor().checkConfiguration();
-            final Filter filter = config.getFilter();
+            final Filter filter = configFilter;
             if (filter != null) {
                 final Filter.Result r = filter.filter(logger, level, marker, msg, t);
                 if (r != Filter.Result.NEUTRAL) {
@@ -313,8 +383,7 @@ public class Logger extends AbstractLogger {
         }
 
         boolean filter(final Level level, final Marker marker, final String msg, final Object... p1) {
-            config.getConfigurationMonitor().checkConfiguration();
-            final Filter filter = config.getFilter();
+            final Filter filter = configFilter;
             if (filter != null) {
                 final Filter.Result r = filter.filter(logger, level, marker, msg, p1);
                 if (r != Filter.Result.NEUTRAL) {
@@ -324,9 +393,129 @@ public class Logger extends AbstractLogger {
             return level != null && intLevel >= level.intLevel();
         }
 
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1,
+                final Object p2) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1,
+                final Object p2, final Object p3) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1,
+                final Object p2, final Object p3, final Object p4) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1,
+                final Object p2, final Object p3, final Object p4, final Object p5) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1,
+                final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5, p6);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1,
+                final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5, p6, p7);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1,
+                final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7,
+                final Object p8) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1,
+                final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7,
+                final Object p8, final Object p9) {
+            final Filter filter = configFilter;
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2, p3, p4, p5, p6, p7, p8,
+                        p9);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+            return level != null && intLevel >= level.intLevel();
+        }
+
         boolean filter(final Level level, final Marker marker, final Object msg, final Throwable t) {
-            config.getConfigurationMonitor().checkConfiguration();
-            final Filter filter = config.getFilter();
+            final Filter filter = configFilter;
             if (filter != null) {
                 final Filter.Result r = filter.filter(logger, level, marker, msg, t);
                 if (r != Filter.Result.NEUTRAL) {
@@ -337,8 +526,7 @@ public class Logger extends AbstractLogger {
         }
 
         boolean filter(final Level level, final Marker marker, final Message msg, final Throwable t) {
-            config.getConfigurationMonitor().checkConfiguration();
-            final Filter filter = config.getFilter();
+            final Filter filter = configFilter;
             if (filter != null) {
                 final Filter.Result r = filter.filter(logger, level, marker, msg, t);
                 if (r != Filter.Result.NEUTRAL) {
@@ -328,6 +328,8 @@ public class LoggerContext extends AbstractLifeCycle implements org.apache.loggi
      */
     public void addFilter(final Filter filter) {
         config.addFilter(filter);
+        // Loggers keep the configuration's filter
+        updateLoggers();
     }
 
     /**
@@ -336,6 +338,7 @@ public class LoggerContext extends AbstractLifeCycle implements org.apache.loggi
      */
     public void removeFilter(final Filter filter) {
         config.removeFilter(filter);
+        updateLoggers();
     }
 
     /**
@@ -435,7 +438,9 @@ public class LoggerContext extends AbstractLifeCycle implements org.apache.loggi
     }
 
     /**
-     * Cause all Logger to be updated against the specified Configuration.
+     * Cause all Logger to be updated against the specified Configuration. Each Logger precomputes its level, the
+     * Configuration's filter and the dispatch to its appenders, so changes to a Configuration that is in use only
+     * take effect once this method is called.
      * @param config The Configuration.
      */
     public void updateLoggers(final Configuration config) {
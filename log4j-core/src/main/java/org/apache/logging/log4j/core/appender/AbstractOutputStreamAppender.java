@@ -24,6 +24,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.util.Constants;
 
 /**
  * Appends log events as bytes to a byte output stream. The stream encoding is defined in the layout.
@@ -105,12 +106,10 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
     public void append(final LogEvent event) {
         readLock.lock();
         try {
-            final byte[] bytes = getLayout().toByteArray(event);
-            if (bytes.length > 0) {
-                manager.write(bytes);
-                if (this.immediateFlush || event.isEndOfBatch()) {
-                    manager.flush();
-                }
+            if (Constants.ENABLE_DIRECT_ENCODERS) {
+                directEncodeEvent(event);
+            } else {
+                writeByteArrayToManager(event);
             }
         } catch (final AppenderLoggingException ex) {
             error("Unable to write to stream " + manager.getName() + " for appender " + getName());
@@ -119,4 +118,32 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
             readLock.unlock();
         }
     }
+
+    /**
+     * Lets the layout encode the event straight into the manager's ByteBuffer, avoiding the intermediate byte array.
+     *
+     * @param event the LogEvent to encode
+     */
+    protected void directEncodeEvent(final LogEvent event) {
+        getLayout().encode(event, manager);
+        manager.drainEncodedEvent();
+        if (this.immediateFlush || event.isEndOfBatch()) {
+            manager.flush();
+        }
+    }
+
+    /**
+     * Formats the event to a byte array with the layout and writes the result to the manager.
+     *
+     * @param event the LogEvent to write
+     */
+    protected void writeByteArrayToManager(final LogEvent event) {
+        final byte[] bytes = getLayout().toByteArray(event);
+        if (bytes.length > 0) {
+            manager.write(bytes);
+            if (this.immediateFlush || event.isEndOfBatch()) {
+                manager.flush();
+            }
+        }
+    }
 }
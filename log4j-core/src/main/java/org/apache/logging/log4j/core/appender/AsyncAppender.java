@@ -20,14 +20,19 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.LogEvent;
-import org.apache.logging.log4j.core.async.RingBufferLogEvent;
+import org.apache.logging.log4j.core.async.ArrayBlockingQueueFactory;
+import org.apache.logging.log4j.core.async.AsyncQueueFullCounters;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicyFactory;
+import org.apache.logging.log4j.core.async.BlockingQueueFactory;
+import org.apache.logging.log4j.core.async.EventRoute;
 import org.apache.logging.log4j.core.config.AppenderControl;
 import org.apache.logging.log4j.core.config.AppenderRef;
 import org.apache.logging.log4j.core.config.Configuration;
@@ -60,24 +65,29 @@ public final class AsyncAppender extends AbstractAppender {
     private final AppenderRef[] appenderRefs;
     private final String errorRef;
     private final boolean includeLocation;
+    private final boolean serializeEvents;
     private AppenderControl errorAppender;
     private AsyncThread thread;
+    private final AsyncQueueFullPolicy queueFullPolicy;
+    private final AsyncQueueFullCounters queueFullCounters = new AsyncQueueFullCounters();
     private static final AtomicLong threadSequence = new AtomicLong(1);
-    private static ThreadLocal<Boolean> isAppenderThread = new ThreadLocal<Boolean>();
 
 
     private AsyncAppender(final String name, final Filter filter, final AppenderRef[] appenderRefs,
                            final String errorRef, final int queueSize, final boolean blocking,
                            final boolean ignoreExceptions, final Configuration config,
-                           final boolean includeLocation) {
+                           final boolean includeLocation, final boolean serializeEvents,
+                           final BlockingQueueFactory queueFactory) {
         super(name, filter, null, ignoreExceptions);
-        this.queue = new ArrayBlockingQueue<Serializable>(queueSize);
+        this.queue = queueFactory.create(queueSize);
         this.queueSize = queueSize;
         this.blocking = blocking;
         this.config = config;
         this.appenderRefs = appenderRefs;
         this.errorRef = errorRef;
         this.includeLocation = includeLocation;
+        this.serializeEvents = serializeEvents;
+        this.queueFullPolicy = AsyncQueueFullPolicyFactory.create();
     }
 
     @Override
@@ -134,33 +144,18 @@ public final class AsyncAppender extends AbstractAppender {
         if (!isStarted()) {
             throw new IllegalStateException("AsyncAppender " + getName() + " is not active");
         }
+        logEvent = logEvent.toImmutable(); // the event may be reused once this method returns
         if (!(logEvent instanceof Log4jLogEvent)) {
-            if (!(logEvent instanceof RingBufferLogEvent)) {
-                return; // only know how to Serialize Log4jLogEvents and RingBufferLogEvents
-            }
-            logEvent = ((RingBufferLogEvent) logEvent).createMemento();
+            return; // only know how to Serialize Log4jLogEvents
         }
         logEvent.getMessage().getFormattedMessage(); // LOG4J2-763: ask message to freeze parameters
         final Log4jLogEvent coreEvent = (Log4jLogEvent) logEvent;
         boolean appendSuccessful = false;
+        final Serializable entry = createQueueEntry(coreEvent);
         if (blocking) {
-            if (isAppenderThread.get() == Boolean.TRUE && queue.remainingCapacity() == 0) {
-                // LOG4J2-485: avoid deadlock that would result from trying
-                // to add to a full queue from appender thread
-                coreEvent.setEndOfBatch(false); // queue is definitely not empty!
-                appendSuccessful = thread.callAppenders(coreEvent);
-            } else {
-                try {
-                    // wait for free slots in the queue
-                    queue.put(Log4jLogEvent.serialize(coreEvent, includeLocation));
-                    appendSuccessful = true;
-                } catch (final InterruptedException e) {
-                    LOGGER.warn("Interrupted while waiting for a free slot in the AsyncAppender LogEvent-queue {}",
-                            getName());
-                }
-            }
+            appendSuccessful = queue.offer(entry) || handleQueueFull(coreEvent, entry);
         } else {
-            appendSuccessful = queue.offer(Log4jLogEvent.serialize(coreEvent, includeLocation));
+            appendSuccessful = queue.offer(entry);
             if (!appendSuccessful) {
                 error("Appender " + getName() + " is unable to write primary appenders. queue is full");
             }
@@ -170,6 +165,79 @@ public final class AsyncAppender extends AbstractAppender {
         }
     }
 
+    /**
+     * Takes the snapshot of the event that is handed to the background thread: either a serialization proxy or, if
+     * {@code serializeEvents} is {@code false}, a plain copy that the background thread can use as is.
+     */
+    private Serializable createQueueEntry(final Log4jLogEvent coreEvent) {
+        return serializeEvents ? Log4jLogEvent.serialize(coreEvent, includeLocation)
+                : Log4jLogEvent.createMemento(coreEvent, includeLocation);
+    }
+
+    private static boolean isQueuedEvent(final Serializable entry) {
+        return entry instanceof Log4jLogEvent || Log4jLogEvent.canDeserialize(entry);
+    }
+
+    private static Log4jLogEvent toLogEvent(final Serializable entry) {
+        return entry instanceof Log4jLogEvent ? (Log4jLogEvent) entry : Log4jLogEvent.deserialize(entry);
+    }
+
+    /**
+     * Lets the queue-full policy decide what to do with an event that did not fit in the queue.
+     *
+     * @return {@code true} if the event was enqueued, appended or deliberately discarded
+     */
+    private boolean handleQueueFull(final Log4jLogEvent coreEvent, final Serializable entry) {
+        switch (queueFullPolicy.getRoute(thread.getId(), coreEvent.getLevel())) {
+        case ENQUEUE:
+            try {
+                final long timeoutMillis = queueFullPolicy.getEnqueueTimeoutMillis();
+                if (timeoutMillis < 0) {
+                    // wait for free slots in the queue
+                    queue.put(entry);
+                } else if (!queue.offer(entry, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    queueFullCounters.incrementDiscarded();
+                }
+                return true;
+            } catch (final InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for a free slot in the AsyncAppender LogEvent-queue {}",
+                        getName());
+                return false;
+            }
+        case SYNCHRONOUS:
+            // LOG4J2-485: avoid deadlock that would result from trying
+            // to add to a full queue from appender thread
+            queueFullCounters.incrementSynchronous();
+            coreEvent.setEndOfBatch(false); // queue is definitely not empty!
+            return thread.callAppenders(coreEvent);
+        default:
+            queueFullCounters.incrementDiscarded();
+            return true;
+        }
+    }
+
+    /**
+     * Create an AsyncAppender that hands serialized events to its background thread through an
+     * {@code ArrayBlockingQueue}.
+     * @param appenderRefs The Appenders to reference.
+     * @param errorRef An optional Appender to write to if the queue is full or other errors occur.
+     * @param blocking True if the Appender should wait when the queue is full. The default is true.
+     * @param size The size of the event queue. The default is 128.
+     * @param name The name of the Appender.
+     * @param includeLocation whether to include location information. The default is false.
+     * @param filter The Filter or null.
+     * @param config The Configuration.
+     * @param ignoreExceptions If {@code "true"} (default) exceptions encountered when appending events are logged;
+     *                         otherwise they are propagated to the caller.
+     * @return The AsyncAppender.
+     */
+    public static AsyncAppender createAppender(final AppenderRef[] appenderRefs, final String errorRef,
+            final boolean blocking, final int size, final String name, final boolean includeLocation,
+            final Filter filter, final Configuration config, final boolean ignoreExceptions) {
+        return createAppender(appenderRefs, errorRef, blocking, size, name, includeLocation, filter, config,
+                ignoreExceptions, true, ArrayBlockingQueueFactory.createFactory());
+    }
+
     /**
      * Create an AsyncAppender.
      * @param appenderRefs The Appenders to reference.
@@ -182,6 +250,10 @@ public final class AsyncAppender extends AbstractAppender {
      * @param config The Configuration.
      * @param ignoreExceptions If {@code "true"} (default) exceptions encountered when appending events are logged;
      *                         otherwise they are propagated to the caller.
+     * @param serializeEvents If {@code true} (default) events are handed to the background thread as serialization
+     *                        proxies; otherwise as plain immutable copies, which is cheaper.
+     * @param queueFactory Creates the queue between the caller threads and the background thread. The default is an
+     *                     {@link ArrayBlockingQueueFactory}.
      * @return The AsyncAppender.
      */
     @PluginFactory
@@ -193,7 +265,9 @@ public final class AsyncAppender extends AbstractAppender {
             @PluginAttribute(value = "includeLocation", defaultBoolean = false) final boolean includeLocation,
             @PluginElement("Filter") final Filter filter,
             @PluginConfiguration final Configuration config,
-            @PluginAttribute(value = "ignoreExceptions", defaultBoolean = true) final boolean ignoreExceptions) {
+            @PluginAttribute(value = "ignoreExceptions", defaultBoolean = true) final boolean ignoreExceptions,
+            @PluginAttribute(value = "serializeEvents", defaultBoolean = true) final boolean serializeEvents,
+            @PluginElement(BlockingQueueFactory.ELEMENT_TYPE) final BlockingQueueFactory queueFactory) {
         if (name == null) {
             LOGGER.error("No name provided for AsyncAppender");
             return null;
@@ -202,8 +276,9 @@ public final class AsyncAppender extends AbstractAppender {
             LOGGER.error("No appender references provided to AsyncAppender {}", name);
         }
 
-        return new AsyncAppender(name, filter, appenderRefs, errorRef,
-                size, blocking, ignoreExceptions, config, includeLocation);
+        return new AsyncAppender(name, filter, appenderRefs, errorRef, size, blocking, ignoreExceptions, config,
+                includeLocation, serializeEvents,
+                queueFactory == null ? ArrayBlockingQueueFactory.createFactory() : queueFactory);
     }
 
     /**
@@ -224,7 +299,6 @@ public final class AsyncAppender extends AbstractAppender {
 
         @Override
         public void run() {
-            isAppenderThread.set(Boolean.TRUE); // LOG4J2-485
             while (!shutdown) {
                 Serializable s;
                 try {
@@ -236,7 +310,7 @@ public final class AsyncAppender extends AbstractAppender {
                 } catch (final InterruptedException ex) {
                     break; // LOG4J2-830
                 }
-                final Log4jLogEvent event = Log4jLogEvent.deserialize(s);
+                final Log4jLogEvent event = toLogEvent(s);
                 event.setEndOfBatch(queue.isEmpty());
                 final boolean success = callAppenders(event);
                 if (!success && errorAppender != null) {
@@ -255,8 +329,8 @@ public final class AsyncAppender extends AbstractAppender {
             while (!queue.isEmpty()) {
                 try {
                     final Serializable s = queue.take();
-                    if (Log4jLogEvent.canDeserialize(s)) {
-                        final Log4jLogEvent event = Log4jLogEvent.deserialize(s);
+                    if (isQueuedEvent(s)) {
+                        final Log4jLogEvent event = toLogEvent(s);
                         event.setEndOfBatch(queue.isEmpty());
                         callAppenders(event);
                         count++;
@@ -336,6 +410,16 @@ public final class AsyncAppender extends AbstractAppender {
         return blocking;
     }
 
+    /**
+     * Returns {@code true} if events are handed to the background thread as serialization proxies, or {@code false}
+     * if they are handed over as immutable copies.
+     * @return whether events are serialized before they are queued
+     * @since 2.2
+     */
+    public boolean isSerializeEvents() {
+        return serializeEvents;
+    }
+
     /**
      * Returns the name of the appender that any errors are logged to or {@code null}.
      * @return the name of the appender that any errors are logged to or {@code null}
@@ -351,4 +435,23 @@ public final class AsyncAppender extends AbstractAppender {
     public int getQueueRemainingCapacity() {
         return queue.remainingCapacity();
     }
+
+    /**
+     * Returns the number of events that were discarded because the queue was full, as decided by the
+     * {@code AsyncQueueFullPolicy}. Events dropped in non-blocking mode are not included.
+     * @return the number of discarded events
+     * @since 2.2
+     */
+    public long getDiscardedCount() {
+        return queueFullCounters.getDiscardedCount();
+    }
+
+    /**
+     * Returns the number of events that were passed to the appenders in the caller thread because the queue was full.
+     * @return the number of events that bypassed the queue
+     * @since 2.2
+     */
+    public long getSynchronousCount() {
+        return queueFullCounters.getSynchronousCount();
+    }
 }
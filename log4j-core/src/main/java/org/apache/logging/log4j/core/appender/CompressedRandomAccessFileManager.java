@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+
+import org.apache.logging.log4j.core.Layout;
+
+/**
+ * A RandomAccessFileManager that compresses the file as it is written. Each time the buffer is drained its content is
+ * written as one complete gzip member, so the file is always a valid gzip file and needs no compression when it is
+ * rolled over or archived.
+ * <p>
+ * Every drain of the buffer starts a new member, so the compression ratio depends on how full the buffer is when it
+ * is drained. The appenders therefore ignore {@code immediateFlush} for compressed files and only drain the buffer
+ * when it is full, at the end of a batch of asynchronously logged events, and when the file is closed.
+ * </p>
+ *
+ * @since 2.2
+ */
+public class CompressedRandomAccessFileManager extends RandomAccessFileManager {
+
+    private final GzipBlockEncoder encoder;
+
+    protected CompressedRandomAccessFileManager(final RandomAccessFile file, final String fileName,
+            final OutputStream os, final boolean immediateFlush, final int bufferSize, final String advertiseURI,
+            final Layout<? extends Serializable> layout, final int compressionLevel) {
+        super(file, fileName, os, immediateFlush, bufferSize, advertiseURI, layout);
+        this.encoder = new GzipBlockEncoder(compressionLevel);
+    }
+
+    @Override
+    protected void writeToFile(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length > 0) {
+            final int compressedLength = encoder.encode(bytes, offset, length);
+            super.writeToFile(encoder.getOutput(), 0, compressedLength);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        encoder.end();
+    }
+}
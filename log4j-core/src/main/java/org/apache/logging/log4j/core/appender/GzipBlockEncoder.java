@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses blocks of bytes into complete, independently decodable gzip members (RFC 1952). A file made of such
+ * members is a valid gzip file that gunzip and zcat decompress as a whole, and a file whose writer died still
+ * decompresses up to its last complete member.
+ * <p>
+ * Instances reuse their {@code Deflater} and output buffer and are not thread-safe; managers call them while holding
+ * their own lock.
+ * </p>
+ *
+ * @since 2.2
+ */
+public final class GzipBlockEncoder {
+
+    private static final int HEADER_SIZE = 10;
+    private static final int TRAILER_SIZE = 8;
+    private static final byte[] HEADER = {
+        0x1f, (byte) 0x8b, // magic
+        Deflater.DEFLATED, // compression method
+        0, // flags
+        0, 0, 0, 0, // modification time
+        0, // extra flags
+        (byte) 0xff // operating system: unknown
+    };
+
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private byte[] out;
+
+    /**
+     * Constructs an encoder.
+     *
+     * @param compressionLevel the compression level, 0 (none) through 9 (best), or -1 for the default level.
+     */
+    public GzipBlockEncoder(final int compressionLevel) {
+        this.deflater = new Deflater(compressionLevel, true);
+        this.out = new byte[1024];
+    }
+
+    /**
+     * Compresses the given bytes into one gzip member.
+     *
+     * @param bytes the data to compress.
+     * @param offset the offset of the data.
+     * @param length the length of the data.
+     * @return the number of bytes of the member, which starts at index 0 of {@link #getOutput()}.
+     */
+    public int encode(final byte[] bytes, final int offset, final int length) {
+        deflater.reset();
+        deflater.setInput(bytes, offset, length);
+        deflater.finish();
+        crc.reset();
+        crc.update(bytes, offset, length);
+
+        System.arraycopy(HEADER, 0, out, 0, HEADER_SIZE);
+        int pos = HEADER_SIZE;
+        while (!deflater.finished()) {
+            if (pos == out.length) {
+                grow(out.length);
+            }
+            pos += deflater.deflate(out, pos, out.length - pos);
+        }
+        if (out.length - pos < TRAILER_SIZE) {
+            grow(TRAILER_SIZE);
+        }
+        pos = writeIntLE((int) crc.getValue(), pos);
+        return writeIntLE(length, pos);
+    }
+
+    /**
+     * Returns the buffer holding the member produced by the last call to {@link #encode(byte[], int, int)}.
+     *
+     * @return the output buffer.
+     */
+    public byte[] getOutput() {
+        return out;
+    }
+
+    /**
+     * Releases the native resources of the deflater. The encoder may not be used afterwards.
+     */
+    public void end() {
+        deflater.end();
+    }
+
+    private void grow(final int minIncrement) {
+        final byte[] bigger = new byte[out.length + Math.max(minIncrement, out.length)];
+        System.arraycopy(out, 0, bigger, 0, out.length);
+        out = bigger;
+    }
+
+    private int writeIntLE(final int value, final int pos) {
+        out[pos] = (byte) value;
+        out[pos + 1] = (byte) (value >> 8);
+        out[pos + 2] = (byte) (value >> 16);
+        out[pos + 3] = (byte) (value >> 24);
+        return pos + 4;
+    }
+}
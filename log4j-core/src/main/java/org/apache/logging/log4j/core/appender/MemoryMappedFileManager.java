@@ -22,6 +22,7 @@ import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
@@ -130,6 +131,33 @@ public class MemoryMappedFileManager extends OutputStreamManager {
         }
     }
 
+    /**
+     * Returns the mapped region, so that layouts encode events into the file memory directly.
+     *
+     * @return the mapped buffer
+     */
+    @Override
+    public synchronized ByteBuffer getByteBuffer() {
+        return mappedBuffer;
+    }
+
+    /**
+     * Maps the next region of the file.
+     *
+     * @param buf the buffer to drain
+     * @return the newly mapped buffer
+     */
+    @Override
+    public synchronized ByteBuffer drain(final ByteBuffer buf) {
+        remap();
+        return mappedBuffer;
+    }
+
+    @Override
+    protected synchronized void drainEncodedEvent() {
+        // encoded bytes are already in the mapped region
+    }
+
     @Override
     public synchronized void flush() {
         mappedBuffer.force();
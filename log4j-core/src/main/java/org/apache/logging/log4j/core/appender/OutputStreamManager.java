@@ -18,17 +18,26 @@ package org.apache.logging.log4j.core.appender;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.util.Constants;
 
 /**
  * Manages an OutputStream so that it can be shared by multiple Appenders and will
  * allow appenders to reconfigure without requiring a new stream.
+ * <p>
+ * The manager is also a {@link ByteBufferDestination}: layouts can encode events directly into its
+ * {@code ByteBuffer}. By default this buffer is a staging area whose content is passed on to
+ * {@link #write(byte[], int, int)} once an event has been encoded, so that subclasses see every byte.
+ * </p>
  */
-public class OutputStreamManager extends AbstractManager {
+public class OutputStreamManager extends AbstractManager implements ByteBufferDestination {
 
     private volatile OutputStream os;
     protected final Layout<?> layout;
+    private ByteBuffer byteBuffer;
 
     protected OutputStreamManager(final OutputStream os, final String streamName, final Layout<?> layout) {
         super(streamName);
@@ -136,6 +145,59 @@ public class OutputStreamManager extends AbstractManager {
         write(bytes, 0, bytes.length);
     }
 
+    /**
+     * Returns the buffer that layouts encode events into. The buffer is created on first use.
+     *
+     * @return the encoding buffer
+     */
+    @Override
+    public synchronized ByteBuffer getByteBuffer() {
+        if (byteBuffer == null) {
+            byteBuffer = ByteBuffer.allocate(Constants.ENCODER_BYTE_BUFFER_SIZE);
+        }
+        return byteBuffer;
+    }
+
+    /**
+     * Writes the content of the specified buffer through {@link #write(byte[], int, int)} and returns the emptied
+     * buffer.
+     *
+     * @param buf the buffer to drain
+     * @return the same buffer, cleared
+     */
+    @Override
+    public synchronized ByteBuffer drain(final ByteBuffer buf) {
+        flushBuffer(buf);
+        return buf;
+    }
+
+    /**
+     * Called by the appender after a layout has encoded an event into this manager's buffer. Writes the encoded
+     * bytes through {@link #write(byte[], int, int)}. Subclasses whose encoding buffer is their actual I/O buffer
+     * override this method.
+     */
+    protected synchronized void drainEncodedEvent() {
+        if (byteBuffer != null) {
+            flushBuffer(byteBuffer);
+        }
+    }
+
+    /**
+     * Writes the content of the specified buffer through {@link #write(byte[], int, int)} and clears the buffer.
+     *
+     * @param buf the buffer whose content to write
+     */
+    protected synchronized void flushBuffer(final ByteBuffer buf) {
+        buf.flip();
+        try {
+            if (buf.hasRemaining()) {
+                write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+            }
+        } finally {
+            buf.clear();
+        }
+    }
+
     protected synchronized void close() {
         final OutputStream stream = os; // access volatile field only once per method
         if (stream == System.out || stream == System.err) {
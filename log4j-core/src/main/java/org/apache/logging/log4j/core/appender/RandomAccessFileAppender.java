@@ -117,6 +117,8 @@ public final class RandomAccessFileAppender extends AbstractOutputStreamAppender
      * @param immediateFlush "true" if the contents should be flushed on every
      *            write, "false" otherwise. The default is "true".
      * @param bufferSizeStr The buffer size, defaults to {@value RandomAccessFileManager#DEFAULT_BUFFER_SIZE}.
+     * @param compress "true" if the file should be written as gzip members, in which case immediateFlush is
+     *            ignored. The default is "false".
      * @param ignore If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise
      *               they are propagated to the caller.
      * @param layout The layout to use to format the event. If no layout is
@@ -136,6 +138,7 @@ public final class RandomAccessFileAppender extends AbstractOutputStreamAppender
             @PluginAttribute("name") final String name,
             @PluginAttribute("immediateFlush") final String immediateFlush,
             @PluginAttribute("bufferSize") final String bufferSizeStr,
+            @PluginAttribute("compress") final String compress,
             @PluginAttribute("ignoreExceptions") final String ignore,
             @PluginElement("Layout") Layout<? extends Serializable> layout,
             @PluginElement("Filter") final Filter filter,
@@ -144,7 +147,8 @@ public final class RandomAccessFileAppender extends AbstractOutputStreamAppender
             @PluginConfiguration final Configuration config) {
 
         final boolean isAppend = Booleans.parseBoolean(append, true);
-        final boolean isFlush = Booleans.parseBoolean(immediateFlush, true);
+        final boolean isCompress = Boolean.parseBoolean(compress);
+        final boolean isFlush = Booleans.parseBoolean(immediateFlush, true) && !isCompress;
         final boolean ignoreExceptions = Booleans.parseBoolean(ignore, true);
         final boolean isAdvertise = Boolean.parseBoolean(advertise);
         final int bufferSize = Integers.parseInt(bufferSizeStr, RandomAccessFileManager.DEFAULT_BUFFER_SIZE);
@@ -159,11 +163,14 @@ public final class RandomAccessFileAppender extends AbstractOutputStreamAppender
                     + name);
             return null;
         }
+        if (isCompress && Boolean.parseBoolean(immediateFlush)) {
+            LOGGER.warn("immediateFlush is ignored by compressed RandomAccessFileAppender " + name);
+        }
         if (layout == null) {
             layout = PatternLayout.createDefaultLayout();
         }
         final RandomAccessFileManager manager = RandomAccessFileManager.getFileManager(
-                fileName, isAppend, isFlush, bufferSize, advertiseURI, layout
+                fileName, isAppend, isFlush, bufferSize, isCompress, advertiseURI, layout
         );
         if (manager == null) {
             return null;
@@ -25,12 +25,17 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
+import java.util.zip.Deflater;
+
 import org.apache.logging.log4j.core.Layout;
 
 /**
  * Extends OutputStreamManager but instead of using a buffered output stream,
  * this class uses a {@code ByteBuffer} and a {@code RandomAccessFile} to do the
  * I/O.
+ * <p>
+ * Files that are written compressed are managed by a {@link CompressedRandomAccessFileManager}.
+ * </p>
  */
 public class RandomAccessFileManager extends OutputStreamManager {
     static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
@@ -71,8 +76,30 @@ public class RandomAccessFileManager extends OutputStreamManager {
     public static RandomAccessFileManager getFileManager(final String fileName, final boolean append,
             final boolean isFlush, final int bufferSize, final String advertiseURI,
             final Layout<? extends Serializable> layout) {
+        return getFileManager(fileName, append, isFlush, bufferSize, false, advertiseURI, layout);
+    }
+
+    /**
+     * Returns the RandomAccessFileManager.
+     *
+     * @param fileName The name of the file to manage.
+     * @param append true if the file should be appended to, false if it should
+     *            be overwritten.
+     * @param isFlush true if the contents should be flushed to disk on every
+     *            write. Ignored if the file is compressed.
+     * @param bufferSize The buffer size.
+     * @param compress true if the file should be written as gzip members by a
+     *            {@link CompressedRandomAccessFileManager}.
+     * @param advertiseURI the URI to use when advertising the file
+     * @param layout The layout.
+     * @return A RandomAccessFileManager for the File.
+     * @since 2.2
+     */
+    public static RandomAccessFileManager getFileManager(final String fileName, final boolean append,
+            final boolean isFlush, final int bufferSize, final boolean compress, final String advertiseURI,
+            final Layout<? extends Serializable> layout) {
         return (RandomAccessFileManager) getManager(fileName, new FactoryData(append,
-                isFlush, bufferSize, advertiseURI, layout), FACTORY);
+                isFlush, bufferSize, compress, advertiseURI, layout), FACTORY);
     }
 
     public Boolean isEndOfBatch() {
@@ -103,11 +130,41 @@ public class RandomAccessFileManager extends OutputStreamManager {
         }
     }
 
+    /**
+     * Returns the buffer that is written to the file, so that layouts encode events into it directly.
+     *
+     * @return the file buffer
+     */
+    @Override
+    public ByteBuffer getByteBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Writes the buffer content to the file.
+     *
+     * @param buf the buffer to drain
+     * @return the emptied file buffer
+     */
+    @Override
+    public synchronized ByteBuffer drain(final ByteBuffer buf) {
+        flush();
+        return buffer;
+    }
+
+    @Override
+    protected synchronized void drainEncodedEvent() {
+        // encoded bytes are already in the file buffer
+        if (isImmediateFlush || isEndOfBatch.get() == Boolean.TRUE) {
+            flush();
+        }
+    }
+
     @Override
     public synchronized void flush() {
         buffer.flip();
         try {
-            randomAccessFile.write(buffer.array(), 0, buffer.limit());
+            writeToFile(buffer.array(), 0, buffer.limit());
         } catch (final IOException ex) {
             final String msg = "Error writing to RandomAccessFile " + getName();
             throw new AppenderLoggingException(msg, ex);
@@ -115,6 +172,20 @@ public class RandomAccessFileManager extends OutputStreamManager {
         buffer.clear();
     }
 
+    /**
+     * Writes bytes drained from the buffer to the file. Subclasses may transform the bytes, for example to compress
+     * them.
+     *
+     * @param bytes the bytes to write
+     * @param offset the offset of the bytes
+     * @param length the number of bytes to write
+     * @throws IOException if the file cannot be written
+     * @since 2.2
+     */
+    protected void writeToFile(final byte[] bytes, final int offset, final int length) throws IOException {
+        randomAccessFile.write(bytes, offset, length);
+    }
+
     @Override
     public synchronized void close() {
         flush();
@@ -177,6 +248,7 @@ public class RandomAccessFileManager extends OutputStreamManager {
         private final boolean append;
         private final boolean immediateFlush;
         private final int bufferSize;
+        private final boolean compress;
         private final String advertiseURI;
         private final Layout<? extends Serializable> layout;
 
@@ -187,10 +259,12 @@ public class RandomAccessFileManager extends OutputStreamManager {
          * @param bufferSize TODO
          */
         public FactoryData(final boolean append, final boolean immediateFlush,
-                final int bufferSize, final String advertiseURI, final Layout<? extends Serializable> layout) {
+                final int bufferSize, final boolean compress, final String advertiseURI,
+                final Layout<? extends Serializable> layout) {
             this.append = append;
             this.immediateFlush = immediateFlush;
             this.bufferSize = bufferSize;
+            this.compress = compress;
             this.advertiseURI = advertiseURI;
             this.layout = layout;
         }
@@ -229,6 +303,12 @@ public class RandomAccessFileManager extends OutputStreamManager {
                 } else {
                     raf.setLength(0);
                 }
+                if (data.compress) {
+                    // a member per event would not compress, so the buffer is only drained when full or at the
+                    // end of a batch
+                    return new CompressedRandomAccessFileManager(raf, name, os, false,
+                            data.bufferSize, data.advertiseURI, data.layout, Deflater.DEFAULT_COMPRESSION);
+                }
                 return new RandomAccessFileManager(raf, name, os, data.immediateFlush,
                         data.bufferSize, data.advertiseURI, data.layout);
             } catch (final Exception ex) {
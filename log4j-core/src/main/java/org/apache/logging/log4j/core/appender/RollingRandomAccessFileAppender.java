@@ -137,6 +137,8 @@ public final class RollingRandomAccessFileAppender extends AbstractOutputStreamA
      * @param immediateFlush When true, events are immediately flushed. Defaults
      *            to "true".
      * @param bufferSizeStr The buffer size, defaults to {@value RollingRandomAccessFileManager#DEFAULT_BUFFER_SIZE}.
+     * @param compress If true, the active file is written as gzip members, immediateFlush is ignored and
+     *            rolling over to a ".gz" file pattern only renames the file. Defaults to "false".
      * @param policy The triggering policy. (required).
      * @param strategy The rollover strategy. Defaults to
      *            DefaultRolloverStrategy.
@@ -159,6 +161,7 @@ public final class RollingRandomAccessFileAppender extends AbstractOutputStreamA
             @PluginAttribute("name") final String name,
             @PluginAttribute("immediateFlush") final String immediateFlush,
             @PluginAttribute("bufferSize") final String bufferSizeStr,
+            @PluginAttribute("compress") final String compress,
             @PluginElement("Policy") final TriggeringPolicy policy,
             @PluginElement("Strategy") RolloverStrategy strategy,
             @PluginElement("Layout") Layout<? extends Serializable> layout,
@@ -170,7 +173,8 @@ public final class RollingRandomAccessFileAppender extends AbstractOutputStreamA
 
         final boolean isAppend = Booleans.parseBoolean(append, true);
         final boolean ignoreExceptions = Booleans.parseBoolean(ignore, true);
-        final boolean isFlush = Booleans.parseBoolean(immediateFlush, true);
+        final boolean isCompress = Boolean.parseBoolean(compress);
+        final boolean isFlush = Booleans.parseBoolean(immediateFlush, true) && !isCompress;
         final boolean isAdvertise = Boolean.parseBoolean(advertise);
         final int bufferSize = Integers.parseInt(bufferSizeStr, RollingRandomAccessFileManager.DEFAULT_BUFFER_SIZE);
 
@@ -194,6 +198,15 @@ public final class RollingRandomAccessFileAppender extends AbstractOutputStreamA
             return null;
         }
 
+        if (isCompress && Boolean.parseBoolean(immediateFlush)) {
+            LOGGER.warn("immediateFlush is ignored by compressed RollingRandomAccessFileAppender " + name);
+        }
+
+        if (isCompress && !filePattern.endsWith(".gz")) {
+            LOGGER.warn("RollingRandomAccessFileAppender " + name
+                    + " writes its file compressed, but the file pattern does not end with .gz");
+        }
+
         if (strategy == null) {
             strategy = DefaultRolloverStrategy.createStrategy(null, null, null,
                     String.valueOf(Deflater.DEFAULT_COMPRESSION), config);
@@ -204,7 +217,8 @@ public final class RollingRandomAccessFileAppender extends AbstractOutputStreamA
         }
 
         final RollingRandomAccessFileManager manager = RollingRandomAccessFileManager.getRollingRandomAccessFileManager(
-                fileName, filePattern, isAppend, isFlush, bufferSize, policy, strategy, advertiseURI, layout);
+                fileName, filePattern, isAppend, isFlush, bufferSize, isCompress, policy, strategy, advertiseURI,
+                layout);
         if (manager == null) {
             return null;
         }
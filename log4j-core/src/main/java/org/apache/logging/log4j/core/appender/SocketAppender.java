@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAliases;
@@ -33,6 +34,7 @@ import org.apache.logging.log4j.core.layout.SerializedLayout;
 import org.apache.logging.log4j.core.net.AbstractSocketManager;
 import org.apache.logging.log4j.core.net.Advertiser;
 import org.apache.logging.log4j.core.net.DatagramSocketManager;
+import org.apache.logging.log4j.core.net.NonBlockingTcpSocketManager;
 import org.apache.logging.log4j.core.net.Protocol;
 import org.apache.logging.log4j.core.net.SslSocketManager;
 import org.apache.logging.log4j.core.net.TcpSocketManager;
@@ -74,7 +76,17 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
     }
 
     /**
-     * 
+     * Socket managers may block waiting for a reconnect while writing, which must not happen while the manager's
+     * buffer is locked for encoding. Each event is therefore written as one byte array.
+     */
+    @Override
+    protected void directEncodeEvent(final LogEvent event) {
+        writeByteArrayToManager(event);
+    }
+
+    /**
+     * Creates a SocketAppender that writes to the network in the logging thread.
+     *
      * @param host
      *        The name of the host to connect to.
      * @param portNum
@@ -106,6 +118,57 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
      *        The Configuration
      * @return A SocketAppender.
      */
+    public static SocketAppender createAppender(final String host, final String portNum, final String protocolStr,
+            final SslConfiguration sslConfig, final int connectTimeoutMillis, final String delayMillis,
+            final String immediateFail, final String name, final String immediateFlush, final String ignore,
+            final Layout<? extends Serializable> layout, final Filter filter, final String advertise,
+            final Configuration config) {
+        return createAppender(host, portNum, protocolStr, sslConfig, connectTimeoutMillis, delayMillis, immediateFail,
+                false, NonBlockingTcpSocketManager.DEFAULT_BUFFER_SIZE, null, name, immediateFlush, ignore, layout,
+                filter, advertise, config);
+    }
+
+    /**
+     * Creates a SocketAppender that optionally sends TCP events from a background thread.
+     *
+     * @param host
+     *        The name of the host to connect to.
+     * @param portNum
+     *        The port to connect to on the target host.
+     * @param protocolStr
+     *        The Protocol to use.
+     * @param sslConfig
+     *        The SSL configuration file for TCP/SSL, ignored for UPD.
+     * @param connectTimeoutMillis
+     *        the connect timeout in milliseconds.
+     * @param delayMillis
+     *        The interval in which failed writes should be retried.
+     * @param immediateFail
+     *        True if the write should fail if no socket is immediately available.
+     * @param nonBlocking
+     *        "true" if TCP events should be buffered and sent by a background thread.
+     * @param bufferSize
+     *        The size in bytes of the buffer of a non-blocking TCP connection.
+     * @param dropPolicy
+     *        "Newest" (default) or "Oldest": the events dropped when the buffer of a non-blocking TCP connection is
+     *        full.
+     * @param name
+     *        The name of the Appender.
+     * @param immediateFlush
+     *        "true" if data should be flushed on each write.
+     * @param ignore
+     *        If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise they are
+     *        propagated to the caller.
+     * @param layout
+     *        The layout to use (defaults to SerializedLayout).
+     * @param filter
+     *        The Filter or null.
+     * @param advertise
+     *        "true" if the appender configuration should be advertised, "false" otherwise.
+     * @param config
+     *        The Configuration
+     * @return A SocketAppender.
+     */
     @PluginFactory
     public static SocketAppender createAppender(
             // @formatter:off
@@ -117,6 +180,10 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
             @PluginAliases("reconnectionDelay") // deprecated
             @PluginAttribute("reconnectionDelayMillis") final String delayMillis,
             @PluginAttribute("immediateFail") final String immediateFail,
+            @PluginAttribute(value = "nonBlocking", defaultBoolean = false) final boolean nonBlocking,
+            @PluginAttribute(value = "bufferSize", defaultInt = NonBlockingTcpSocketManager.DEFAULT_BUFFER_SIZE)
+            final int bufferSize,
+            @PluginAttribute("dropPolicy") final String dropPolicy,
             @PluginAttribute("name") final String name,
             @PluginAttribute("immediateFlush") final String immediateFlush,
             @PluginAttribute("ignoreExceptions") final String ignore,
@@ -145,8 +212,18 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
             isFlush = true;
         }
 
-        final AbstractSocketManager manager = createSocketManager(name, protocol, host, port, connectTimeoutMillis,
-                sslConfig, reconnectDelayMillis, fail, layout);
+        final AbstractSocketManager manager;
+        if (nonBlocking && protocol == Protocol.TCP && sslConfig == null) {
+            manager = NonBlockingTcpSocketManager.getSocketManager(host, port, connectTimeoutMillis,
+                    reconnectDelayMillis, bufferSize, EnglishEnums.valueOf(NonBlockingTcpSocketManager.DropPolicy.class,
+                            dropPolicy, NonBlockingTcpSocketManager.DropPolicy.NEWEST), layout);
+        } else {
+            if (nonBlocking) {
+                LOGGER.warn("Appender {} ignoring nonBlocking, which is only supported for TCP without SSL", name);
+            }
+            manager = createSocketManager(name, protocol, host, port, connectTimeoutMillis, sslConfig,
+                    reconnectDelayMillis, fail, layout);
+        }
 
         return new SocketAppender(name, layout, filter, manager, ignoreExceptions, isFlush,
                 isAdvertise ? config.getAdvertiser() : null);
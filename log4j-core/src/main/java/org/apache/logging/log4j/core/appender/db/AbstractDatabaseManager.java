@@ -19,19 +19,57 @@ package org.apache.logging.log4j.core.appender.db;
 
 import java.io.Flushable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AbstractManager;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
+import org.apache.logging.log4j.core.async.AsyncQueueFullCounters;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicyFactory;
+import org.apache.logging.log4j.core.async.DaemonThreadFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 
 /**
  * Manager that allows database appenders to have their configuration reloaded without losing events.
+ * <p>
+ * With a queue size greater than 0 the manager is asynchronous: {@link #write(LogEvent)} only puts an immutable copy
+ * of the event in a bounded queue, and a dedicated writer thread takes events from the queue and writes them in
+ * batches of up to {@code bufferSize} events per transaction. A batch is written when it is full, when the queue is
+ * empty and the flush interval has passed since its first event was taken, or when the manager shuts down. A batch
+ * that fails to be written is retried after the reconnect interval until it succeeds or the manager shuts down. What
+ * happens to events when the queue is full is decided by the {@link AsyncQueueFullPolicy}. Events written while the
+ * manager shuts down are written directly as long as the database connection is open, and are counted as discarded
+ * afterwards.
+ * </p>
  */
 public abstract class AbstractDatabaseManager extends AbstractManager implements Flushable {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+    /** How often a thread waiting for space in a full queue checks whether the manager was closed. */
+    private static final long CLOSED_CHECK_MILLIS = 100;
+
+    /** Wakes up the writer thread when the manager shuts down. */
+    private static final LogEvent STOP_EVENT = new Log4jLogEvent();
+
     private final ArrayList<LogEvent> buffer;
     private final int bufferSize;
+    private final BlockingQueue<LogEvent> queue;
+    private final long flushIntervalNanos;
+    private final long reconnectIntervalMillis;
+    private final AsyncQueueFullPolicy queueFullPolicy;
+    private final AsyncQueueFullCounters queueFullCounters = new AsyncQueueFullCounters();
 
-    private boolean running = false;
+    private volatile boolean running = false;
+    private volatile boolean stopRequested;
+    // set before the queue is drained for the last time, so that late writers do not leave events in it
+    private volatile boolean closed;
+    private volatile Thread writerThread;
 
     /**
      * Instantiates the base manager.
@@ -41,9 +79,31 @@ public abstract class AbstractDatabaseManager extends AbstractManager implements
      * @param bufferSize The size of the log event buffer.
      */
     protected AbstractDatabaseManager(final String name, final int bufferSize) {
+        this(name, bufferSize, 0, 0, 0);
+    }
+
+    /**
+     * Instantiates the base manager.
+     *
+     * @param name The manager name, which should include any configuration details that one might want to be able to
+     *             reconfigure at runtime, such as database name, username, (hashed) password, etc.
+     * @param bufferSize The size of the log event buffer; in asynchronous mode the maximum number of events written
+     *                   in one transaction.
+     * @param queueSize If greater than 0, the capacity of the queue in front of the writer thread, which makes the
+     *                  manager asynchronous.
+     * @param flushIntervalMillis In asynchronous mode, how long an incomplete batch may wait for more events.
+     * @param reconnectIntervalMillis In asynchronous mode, how long to wait before retrying a batch that failed.
+     * @since 2.2
+     */
+    protected AbstractDatabaseManager(final String name, final int bufferSize, final int queueSize,
+            final long flushIntervalMillis, final long reconnectIntervalMillis) {
         super(name);
         this.bufferSize = bufferSize;
         this.buffer = new ArrayList<LogEvent>(bufferSize + 1);
+        this.queue = queueSize > 0 ? new ArrayBlockingQueue<LogEvent>(queueSize) : null;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushIntervalMillis));
+        this.reconnectIntervalMillis = Math.max(0, reconnectIntervalMillis);
+        this.queueFullPolicy = queueSize > 0 ? AsyncQueueFullPolicyFactory.create() : null;
     }
 
     /**
@@ -62,7 +122,11 @@ public abstract class AbstractDatabaseManager extends AbstractManager implements
         if (!this.isRunning()) {
             try {
                 this.startupInternal();
+                this.closed = false;
                 this.running = true;
+                if (this.queue != null) {
+                    this.startWriterThread();
+                }
             } catch (final Exception e) {
                 LOGGER.error("Could not perform database startup operations using logging manager [{}].",
                         this.getName(), e);
@@ -83,7 +147,22 @@ public abstract class AbstractDatabaseManager extends AbstractManager implements
      * is replaced. If it has not already been called, it calls {@link #shutdownInternal()} and catches any exceptions
      * it might throw.
      */
-    public final synchronized void shutdown() {
+    public final void shutdown() {
+        this.closed = true;
+        this.stopWriterThread();
+        this.shutdownInternalSafely();
+    }
+
+    private synchronized void shutdownInternalSafely() {
+        if (this.queue != null) {
+            // events enqueued while the writer thread was stopping
+            LogEvent event;
+            while ((event = this.queue.poll()) != null) {
+                if (event != STOP_EVENT) {
+                    this.buffer.add(event);
+                }
+            }
+        }
         this.flush();
         if (this.isRunning()) {
             try {
@@ -130,34 +209,145 @@ public abstract class AbstractDatabaseManager extends AbstractManager implements
      */
     protected abstract void commitAndClose();
 
+    /**
+     * Indicates whether events are written to the database by a background thread.
+     *
+     * @return {@code true} if the manager is asynchronous.
+     * @since 2.2
+     */
+    public final boolean isAsynchronous() {
+        return this.queue != null;
+    }
+
+    /**
+     * Returns the counters of events that did not go through the queue because it was full.
+     *
+     * @return the queue-full counters, all zero unless the manager is asynchronous.
+     * @since 2.2
+     */
+    public final AsyncQueueFullCounters getQueueFullCounters() {
+        return this.queueFullCounters;
+    }
+
     /**
      * This method is called automatically when the buffer size reaches its maximum or at the beginning of a call to
-     * {@link #shutdown()}. It can also be called manually to flush events to the database.
+     * {@link #shutdown()}. It can also be called manually to flush events to the database. In asynchronous mode the
+     * writer thread flushes its batches itself, and this method only writes events that are buffered synchronously.
      */
     @Override
     public final synchronized void flush() {
         if (this.isRunning() && this.buffer.size() > 0) {
-            this.connectAndStart();
             try {
-                for (final LogEvent event : this.buffer) {
-                    this.writeInternal(event);
-                }
+                this.writeBatch(this.buffer);
             } finally {
-                this.commitAndClose();
                 // not sure if this should be done when writing the events failed
                 this.buffer.clear();
             }
         }
     }
 
+    private synchronized void writeBatch(final List<LogEvent> events) {
+        this.connectAndStart();
+        try {
+            for (final LogEvent event : events) {
+                this.writeInternal(event);
+            }
+        } finally {
+            this.commitAndClose();
+        }
+    }
+
     /**
      * This method manages buffering and writing of events.
      *
      * @param event The event to write to the database.
      */
-    public final synchronized void write(final LogEvent event) {
+    public final void write(final LogEvent event) {
+        if (this.queue == null || !this.isRunning() && !this.closed) {
+            this.writeSynchronously(event);
+            return;
+        }
+        final LogEvent copy = event.toImmutable();
+        if (this.closed) {
+            this.writeLate(copy);
+        } else if (this.queue.offer(copy)) {
+            this.checkEnqueuedBeforeClose(copy);
+        } else {
+            this.handleQueueFull(copy);
+        }
+    }
+
+    /**
+     * Makes sure that an event put in the queue is not lost because the manager was closed in the meantime: either
+     * {@link #shutdown()} drained it from the queue, or it is taken back and written here.
+     */
+    private void checkEnqueuedBeforeClose(final LogEvent event) {
+        if (this.closed && this.queue.remove(event)) {
+            this.writeLate(event);
+        }
+    }
+
+    /**
+     * Writes an event that arrived after {@link #shutdown()} started, as long as the database connection is still
+     * open; otherwise the event is counted as discarded.
+     */
+    private synchronized void writeLate(final LogEvent event) {
+        if (this.isRunning()) {
+            this.writeBatch(Collections.singletonList(event));
+        } else {
+            this.queueFullCounters.incrementDiscarded();
+            LOGGER.warn("Database manager [{}] was shut down; dropping a log event.", this.getName());
+        }
+    }
+
+    private void handleQueueFull(final LogEvent event) {
+        final Thread writer = this.writerThread;
+        switch (this.queueFullPolicy.getRoute(writer == null ? -1 : writer.getId(), event.getLevel())) {
+        case ENQUEUE:
+            try {
+                this.enqueue(event, this.queueFullPolicy.getEnqueueTimeoutMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.queueFullCounters.incrementDiscarded();
+            }
+            break;
+        case SYNCHRONOUS:
+            this.queueFullCounters.incrementSynchronous();
+            this.writeBatch(Collections.singletonList(event));
+            break;
+        default:
+            this.queueFullCounters.incrementDiscarded();
+            break;
+        }
+    }
+
+    /**
+     * Waits for space in the queue, at most the specified time unless it is negative. Checks regularly whether the
+     * manager was closed, since the writer thread does not take events from the queue any more after that.
+     */
+    private void enqueue(final LogEvent event, final long timeoutMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long waitMillis = timeoutMillis < 0 ? CLOSED_CHECK_MILLIS : Math.min(CLOSED_CHECK_MILLIS, timeoutMillis);
+        while (!this.queue.offer(event, waitMillis, TimeUnit.MILLISECONDS)) {
+            if (this.closed) {
+                this.writeLate(event);
+                return;
+            }
+            if (timeoutMillis >= 0) {
+                final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    this.queueFullCounters.incrementDiscarded();
+                    return;
+                }
+                waitMillis = Math.min(CLOSED_CHECK_MILLIS, remainingMillis);
+            }
+        }
+        this.checkEnqueuedBeforeClose(event);
+    }
+
+    private synchronized void writeSynchronously(final LogEvent event) {
         if (this.bufferSize > 0) {
-            this.buffer.add(event);
+            this.buffer.add(event.toImmutable());
             if (this.buffer.size() >= this.bufferSize || event.isEndOfBatch()) {
                 this.flush();
             }
@@ -171,6 +361,102 @@ public abstract class AbstractDatabaseManager extends AbstractManager implements
         }
     }
 
+    private void startWriterThread() {
+        this.stopRequested = false;
+        this.writerThread = new DaemonThreadFactory("DatabaseWriter-").newThread(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        runWriter();
+                    }
+                });
+        this.writerThread.start();
+    }
+
+    private void stopWriterThread() {
+        final Thread writer = this.writerThread;
+        if (writer == null) {
+            return;
+        }
+        this.stopRequested = true;
+        // wake up the writer if it waits for events; if the queue is full it is busy and will see the flag
+        this.queue.offer(STOP_EVENT);
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            LOGGER.warn("Database writer thread of manager [{}] did not stop within {} ms.", this.getName(),
+                    SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        this.writerThread = null;
+    }
+
+    /**
+     * The loop of the writer thread in asynchronous mode.
+     */
+    private void runWriter() {
+        final int batchSize = Math.max(1, this.bufferSize);
+        final List<LogEvent> batch = new ArrayList<LogEvent>(batchSize);
+        long deadline = 0;
+        while (!this.stopRequested || !this.queue.isEmpty() || !batch.isEmpty()) {
+            LogEvent event;
+            while (batch.size() < batchSize && (event = this.queue.poll()) != null) {
+                if (event != STOP_EVENT) {
+                    if (batch.isEmpty()) {
+                        deadline = System.nanoTime() + this.flushIntervalNanos;
+                    }
+                    batch.add(event);
+                }
+            }
+            if (!batch.isEmpty() && (batch.size() >= batchSize || this.stopRequested
+                    || deadline - System.nanoTime() <= 0)) {
+                this.writeWithRetry(batch);
+                continue;
+            }
+            if (this.stopRequested) {
+                continue;
+            }
+            try {
+                event = batch.isEmpty() ? this.queue.take()
+                        : this.queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException e) {
+                continue;
+            }
+            if (event != null && event != STOP_EVENT) {
+                if (batch.isEmpty()) {
+                    deadline = System.nanoTime() + this.flushIntervalNanos;
+                }
+                batch.add(event);
+            }
+        }
+    }
+
+    private void writeWithRetry(final List<LogEvent> batch) {
+        while (true) {
+            try {
+                this.writeBatch(batch);
+                batch.clear();
+                return;
+            } catch (final RuntimeException e) {
+                if (this.stopRequested) {
+                    LOGGER.error("Unable to write {} events to database [{}] while shutting down; dropping them.",
+                            batch.size(), this.getName(), e);
+                    batch.clear();
+                    return;
+                }
+                LOGGER.error("Unable to write {} events to database [{}]; retrying in {} ms.", batch.size(),
+                        this.getName(), this.reconnectIntervalMillis, e);
+            }
+            try {
+                Thread.sleep(this.reconnectIntervalMillis);
+            } catch (final InterruptedException e) {
+                // check stopRequested
+            }
+        }
+    }
+
     @Override
     public final void releaseSub() {
         this.shutdown();
@@ -205,6 +491,9 @@ public abstract class AbstractDatabaseManager extends AbstractManager implements
      */
     protected abstract static class AbstractFactoryData {
         private final int bufferSize;
+        private final int queueSize;
+        private final long flushIntervalMillis;
+        private final long reconnectIntervalMillis;
 
         /**
          * Constructs the base factory data.
@@ -212,7 +501,24 @@ public abstract class AbstractDatabaseManager extends AbstractManager implements
          * @param bufferSize The size of the buffer.
          */
         protected AbstractFactoryData(final int bufferSize) {
+            this(bufferSize, 0, 0, 0);
+        }
+
+        /**
+         * Constructs the base factory data.
+         *
+         * @param bufferSize The size of the buffer.
+         * @param queueSize The size of the queue; greater than 0 for an asynchronous manager.
+         * @param flushIntervalMillis How long an incomplete asynchronous batch may wait for more events.
+         * @param reconnectIntervalMillis How long to wait before retrying an asynchronous batch that failed.
+         * @since 2.2
+         */
+        protected AbstractFactoryData(final int bufferSize, final int queueSize, final long flushIntervalMillis,
+                final long reconnectIntervalMillis) {
             this.bufferSize = bufferSize;
+            this.queueSize = queueSize;
+            this.flushIntervalMillis = flushIntervalMillis;
+            this.reconnectIntervalMillis = reconnectIntervalMillis;
         }
 
         /**
@@ -223,5 +529,35 @@ public abstract class AbstractDatabaseManager extends AbstractManager implements
         public int getBufferSize() {
             return bufferSize;
         }
+
+        /**
+         * Gets the queue size.
+         *
+         * @return the queue size, 0 for a synchronous manager.
+         * @since 2.2
+         */
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        /**
+         * Gets the flush interval.
+         *
+         * @return the flush interval in milliseconds.
+         * @since 2.2
+         */
+        public long getFlushIntervalMillis() {
+            return flushIntervalMillis;
+        }
+
+        /**
+         * Gets the reconnect interval.
+         *
+         * @return the reconnect interval in milliseconds.
+         * @since 2.2
+         */
+        public long getReconnectIntervalMillis() {
+            return reconnectIntervalMillis;
+        }
     }
 }
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.core.util.Booleans;
 @Plugin(name = "JDBC", category = "Core", elementType = "appender", printObject = true)
 public final class JdbcAppender extends AbstractDatabaseAppender<JdbcDatabaseManager> {
     private static final long serialVersionUID = 1L;
+    private static final long DEFAULT_RECONNECT_INTERVAL_MILLIS = 5000;
 
     private final String description;
 
@@ -51,6 +52,28 @@ public final class JdbcAppender extends AbstractDatabaseAppender<JdbcDatabaseMan
         return this.description;
     }
 
+    /**
+     * Factory method for creating a JDBC appender that writes events in the logging thread.
+     *
+     * @param name The name of the appender.
+     * @param ignore If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise
+     *               they are propagated to the caller.
+     * @param filter The filter, if any, to use.
+     * @param connectionSource The connections source from which database connections should be retrieved.
+     * @param bufferSize If an integer greater than 0, this causes the appender to buffer log events and flush whenever
+     *                   the buffer reaches this size.
+     * @param tableName The name of the database table to insert log events into.
+     * @param columnConfigs Information about the columns that log event data should be inserted into and how to insert
+     *                      that data.
+     * @return a new JDBC appender.
+     */
+    public static JdbcAppender createAppender(final String name, final String ignore, final Filter filter,
+            final ConnectionSource connectionSource, final String bufferSize, final String tableName,
+            final ColumnConfig[] columnConfigs) {
+        return createAppender(name, ignore, filter, connectionSource, bufferSize, tableName, columnConfigs, 0, 0,
+                DEFAULT_RECONNECT_INTERVAL_MILLIS);
+    }
+
     /**
      * Factory method for creating a JDBC appender within the plugin manager.
      *
@@ -64,6 +87,12 @@ public final class JdbcAppender extends AbstractDatabaseAppender<JdbcDatabaseMan
      * @param tableName The name of the database table to insert log events into.
      * @param columnConfigs Information about the columns that log event data should be inserted into and how to insert
      *                      that data.
+     * @param queueSize If greater than 0, events are written by a background thread, which takes them from a queue of
+     *                  this size and inserts them in JDBC batches of up to {@code bufferSize} events.
+     * @param flushIntervalMillis With a queue, how long an incomplete batch may wait for more events before it is
+     *                            written. The default, 0, writes a batch as soon as the queue is empty.
+     * @param reconnectIntervalMillis With a queue, how long to wait before retrying a batch that could not be
+     *                                written. The default is 5000.
      * @return a new JDBC appender.
      */
     @PluginFactory
@@ -74,13 +103,19 @@ public final class JdbcAppender extends AbstractDatabaseAppender<JdbcDatabaseMan
             @PluginElement("ConnectionSource") final ConnectionSource connectionSource,
             @PluginAttribute("bufferSize") final String bufferSize,
             @PluginAttribute("tableName") final String tableName,
-            @PluginElement("ColumnConfigs") final ColumnConfig[] columnConfigs) {
+            @PluginElement("ColumnConfigs") final ColumnConfig[] columnConfigs,
+            @PluginAttribute(value = "queueSize", defaultInt = 0) final int queueSize,
+            @PluginAttribute(value = "flushIntervalMillis", defaultLong = 0) final long flushIntervalMillis,
+            @PluginAttribute(value = "reconnectIntervalMillis", defaultLong = DEFAULT_RECONNECT_INTERVAL_MILLIS)
+            final long reconnectIntervalMillis) {
 
         final int bufferSizeInt = AbstractAppender.parseInt(bufferSize, 0);
         final boolean ignoreExceptions = Booleans.parseBoolean(ignore, true);
 
         final StringBuilder managerName = new StringBuilder("jdbcManager{ description=").append(name)
-                .append(", bufferSize=").append(bufferSizeInt).append(", connectionSource=")
+                .append(", bufferSize=").append(bufferSizeInt).append(", queueSize=").append(queueSize)
+                .append(", flushIntervalMillis=").append(flushIntervalMillis).append(", reconnectIntervalMillis=")
+                .append(reconnectIntervalMillis).append(", connectionSource=")
                 .append(connectionSource.toString()).append(", tableName=").append(tableName).append(", columns=[ ");
 
         int i = 0;
@@ -94,7 +129,8 @@ public final class JdbcAppender extends AbstractDatabaseAppender<JdbcDatabaseMan
         managerName.append(" ] }");
 
         final JdbcDatabaseManager manager = JdbcDatabaseManager.getJDBCDatabaseManager(
-                managerName.toString(), bufferSizeInt, connectionSource, tableName, columnConfigs
+                managerName.toString(), bufferSizeInt, queueSize, flushIntervalMillis, reconnectIntervalMillis,
+                connectionSource, tableName, columnConfigs
         );
         if (manager == null) {
             return null;
@@ -47,9 +47,11 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
     private PreparedStatement statement;
     private boolean isBatchSupported;
 
-    private JdbcDatabaseManager(final String name, final int bufferSize, final ConnectionSource connectionSource,
-                                final String sqlStatement, final List<Column> columns) {
-        super(name, bufferSize);
+    private JdbcDatabaseManager(final String name, final FactoryData data, final String sqlStatement,
+                                final List<Column> columns) {
+        super(name, data.getBufferSize(), data.getQueueSize(), data.getFlushIntervalMillis(),
+                data.getReconnectIntervalMillis());
+        final ConnectionSource connectionSource = data.connectionSource;
         this.connectionSource = connectionSource;
         this.sqlStatement = sqlStatement;
         this.columns = columns;
@@ -174,9 +176,32 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
                                                              final String tableName,
                                                              final ColumnConfig[] columnConfigs) {
 
-        return AbstractDatabaseManager.getManager(
-                name, new FactoryData(bufferSize, connectionSource, tableName, columnConfigs), getFactory()
-        );
+        return getJDBCDatabaseManager(name, bufferSize, 0, 0, 0, connectionSource, tableName, columnConfigs);
+    }
+
+    /**
+     * Creates a JDBC manager for use within the {@link JdbcAppender}, or returns a suitable one if it already exists.
+     *
+     * @param name The name of the manager, which should include connection details and hashed passwords where possible.
+     * @param bufferSize The size of the log event buffer, which is also the size of the JDBC batches.
+     * @param queueSize If greater than 0, the manager writes events asynchronously through a queue of this size.
+     * @param flushIntervalMillis How long an incomplete asynchronous batch may wait for more events.
+     * @param reconnectIntervalMillis How long to wait before retrying an asynchronous batch that failed.
+     * @param connectionSource The source for connections to the database.
+     * @param tableName The name of the database table to insert log events into.
+     * @param columnConfigs Configuration information about the log table columns.
+     * @return a new or existing JDBC manager as applicable.
+     * @since 2.2
+     */
+    public static JdbcDatabaseManager getJDBCDatabaseManager(final String name, final int bufferSize,
+                                                             final int queueSize, final long flushIntervalMillis,
+                                                             final long reconnectIntervalMillis,
+                                                             final ConnectionSource connectionSource,
+                                                             final String tableName,
+                                                             final ColumnConfig[] columnConfigs) {
+
+        return AbstractDatabaseManager.getManager(name, new FactoryData(bufferSize, queueSize, flushIntervalMillis,
+                reconnectIntervalMillis, connectionSource, tableName, columnConfigs), getFactory());
     }
 
     private static JdbcDatabaseManagerFactory getFactory() {
@@ -191,9 +216,10 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
         private final ConnectionSource connectionSource;
         private final String tableName;
 
-        protected FactoryData(final int bufferSize, final ConnectionSource connectionSource, final String tableName,
-                              final ColumnConfig[] columnConfigs) {
-            super(bufferSize);
+        protected FactoryData(final int bufferSize, final int queueSize, final long flushIntervalMillis,
+                              final long reconnectIntervalMillis, final ConnectionSource connectionSource,
+                              final String tableName, final ColumnConfig[] columnConfigs) {
+            super(bufferSize, queueSize, flushIntervalMillis, reconnectIntervalMillis);
             this.connectionSource = connectionSource;
             this.tableName = tableName;
             this.columnConfigs = columnConfigs;
@@ -231,7 +257,7 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
             final String sqlStatement = "INSERT INTO " + data.tableName + " (" + columnPart + ") VALUES (" +
                     valuePart + ')';
 
-            return new JdbcDatabaseManager(name, data.getBufferSize(), data.connectionSource, sqlStatement, columns);
+            return new JdbcDatabaseManager(name, data, sqlStatement, columns);
         }
     }
 
@@ -28,6 +28,7 @@ import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.AbstractLogEvent;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.message.Message;
 
 /**
@@ -250,6 +251,16 @@ public abstract class AbstractLogEventWrapperEntity implements LogEvent {
         this.getWrappedEvent().setEndOfBatch(endOfBatch);
     }
 
+    /**
+     * Returns an immutable {@link Log4jLogEvent} copy of this event.
+     *
+     * @return an immutable copy of this event.
+     */
+    @Override
+    public LogEvent toImmutable() {
+        return Log4jLogEvent.createMemento(this);
+    }
+
     /**
      * A no-op log event class to prevent {@code NullPointerException}s. O/RMs tend to create instances of entities in
      * order to "play around" with them.
@@ -25,6 +25,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.appender.rolling.action.Action;
 import org.apache.logging.log4j.core.appender.rolling.action.FileRenameAction;
 import org.apache.logging.log4j.core.appender.rolling.action.GzCompressAction;
+import org.apache.logging.log4j.core.appender.rolling.action.ParallelGzCompressAction;
 import org.apache.logging.log4j.core.appender.rolling.action.ZipCompressAction;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
@@ -88,13 +89,29 @@ public class DefaultRolloverStrategy implements RolloverStrategy {
     private static final int MIN_WINDOW_SIZE = 1;
     private static final int DEFAULT_WINDOW_SIZE = 7;
 
+    /**
+     * Create the DefaultRolloverStrategy, compressing GZ files on one thread.
+     * @param max The maximum number of files to keep.
+     * @param min The minimum number of files to keep.
+     * @param fileIndex If set to "max" (the default), files with a higher index will be newer than files with a
+     * smaller index. If set to "min", file renaming and the counter will follow the Fixed Window strategy.
+     * @param compressionLevelStr The compression level, 0 (less) through 9 (more); applies to GZ and ZIP files.
+     * @param config The Configuration.
+     * @return A DefaultRolloverStrategy.
+     */
+    public static DefaultRolloverStrategy createStrategy(final String max, final String min, final String fileIndex,
+            final String compressionLevelStr, final Configuration config) {
+        return createStrategy(max, min, fileIndex, compressionLevelStr, null, config);
+    }
+
     /**
      * Create the DefaultRolloverStrategy.
      * @param max The maximum number of files to keep.
      * @param min The minimum number of files to keep.
      * @param fileIndex If set to "max" (the default), files with a higher index will be newer than files with a
      * smaller index. If set to "min", file renaming and the counter will follow the Fixed Window strategy.
-     * @param compressionLevelStr The compression level, 0 (less) through 9 (more); applies only to ZIP files.
+     * @param compressionLevelStr The compression level, 0 (less) through 9 (more); applies to GZ and ZIP files.
+     * @param compressionThreadsStr The number of threads compressing a GZ file; applies only to GZ files.
      * @param config The Configuration.
      * @return A DefaultRolloverStrategy.
      */
@@ -104,6 +121,7 @@ public class DefaultRolloverStrategy implements RolloverStrategy {
             @PluginAttribute("min") final String min,
             @PluginAttribute("fileIndex") final String fileIndex,
             @PluginAttribute("compressionLevel") final String compressionLevelStr,
+            @PluginAttribute("compressionThreads") final String compressionThreadsStr,
             @PluginConfiguration final Configuration config) {
         final boolean useMax = fileIndex == null ? true : fileIndex.equalsIgnoreCase("max");
         int minIndex = MIN_WINDOW_SIZE;
@@ -122,8 +140,20 @@ public class DefaultRolloverStrategy implements RolloverStrategy {
                 LOGGER.error("Maximum window size must be greater than the minimum windows size. Set to " + maxIndex);
             }
         }
-        final int compressionLevel = Integers.parseInt(compressionLevelStr, Deflater.DEFAULT_COMPRESSION);
-        return new DefaultRolloverStrategy(minIndex, maxIndex, useMax, compressionLevel, config.getStrSubstitutor());
+        int compressionLevel = Integers.parseInt(compressionLevelStr, Deflater.DEFAULT_COMPRESSION);
+        if (compressionLevel != Deflater.DEFAULT_COMPRESSION
+                && (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)) {
+            LOGGER.error("Compression level must be between " + Deflater.NO_COMPRESSION + " and "
+                    + Deflater.BEST_COMPRESSION + " but was " + compressionLevel + ". Using the default level");
+            compressionLevel = Deflater.DEFAULT_COMPRESSION;
+        }
+        int compressionThreads = Integers.parseInt(compressionThreadsStr, 1);
+        if (compressionThreads < 1) {
+            LOGGER.error("Compression threads must be at least 1. Set to 1");
+            compressionThreads = 1;
+        }
+        return new DefaultRolloverStrategy(minIndex, maxIndex, useMax, compressionLevel, compressionThreads,
+                config.getStrSubstitutor());
     }
 
     /**
@@ -138,6 +168,7 @@ public class DefaultRolloverStrategy implements RolloverStrategy {
     private final boolean useMax;
     private final StrSubstitutor subst;
     private final int compressionLevel;
+    private final int compressionThreads;
 
     /**
      * Constructs a new instance.
@@ -145,10 +176,23 @@ public class DefaultRolloverStrategy implements RolloverStrategy {
      * @param maxIndex The maximum index.
      */
     protected DefaultRolloverStrategy(final int minIndex, final int maxIndex, final boolean useMax, final int compressionLevel, final StrSubstitutor subst) {
+        this(minIndex, maxIndex, useMax, compressionLevel, 1, subst);
+    }
+
+    /**
+     * Constructs a new instance.
+     * @param minIndex The minimum index.
+     * @param maxIndex The maximum index.
+     * @param compressionThreads The number of threads compressing a GZ file.
+     * @since 2.2
+     */
+    protected DefaultRolloverStrategy(final int minIndex, final int maxIndex, final boolean useMax,
+            final int compressionLevel, final int compressionThreads, final StrSubstitutor subst) {
         this.minIndex = minIndex;
         this.maxIndex = maxIndex;
         this.useMax = useMax;
         this.compressionLevel = compressionLevel;
+        this.compressionThreads = compressionThreads;
         this.subst = subst;
     }
 
@@ -156,6 +200,15 @@ public class DefaultRolloverStrategy implements RolloverStrategy {
         return this.compressionLevel;
     }
 
+    /**
+     * Returns the number of threads compressing a GZ file.
+     * @return The number of compression threads.
+     * @since 2.2
+     */
+    public int getCompressionThreads() {
+        return this.compressionThreads;
+    }
+
     public int getMaxIndex() {
         return this.maxIndex;
     }
@@ -416,9 +469,18 @@ public class DefaultRolloverStrategy implements RolloverStrategy {
         final String compressedName = renameTo;
         Action compressAction = null;
 
-        if (renameTo.endsWith(EXT_GZIP)) {
+        if (renameTo.endsWith(EXT_GZIP) && manager.isCompressing()) {
+            LOGGER.trace("DefaultRolloverStrategy: {} is already compressed, renaming it to {}", currentFileName,
+                    renameTo);
+        } else if (renameTo.endsWith(EXT_GZIP)) {
             renameTo = renameTo.substring(0, renameTo.length() - EXT_GZIP.length());
-            compressAction = new GzCompressAction(new File(renameTo), new File(compressedName), true);
+            if (compressionThreads > 1) {
+                compressAction = new ParallelGzCompressAction(new File(renameTo), new File(compressedName), true,
+                        compressionLevel, compressionThreads);
+            } else {
+                compressAction = new GzCompressAction(new File(renameTo), new File(compressedName), true,
+                        compressionLevel);
+            }
         } else if (renameTo.endsWith(EXT_ZIP)) {
             renameTo = renameTo.substring(0, renameTo.length() - EXT_ZIP.length());
             compressAction = new ZipCompressAction(new File(renameTo), new File(compressedName), true,
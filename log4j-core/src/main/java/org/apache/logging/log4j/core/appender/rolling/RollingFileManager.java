@@ -23,7 +23,14 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.LogEvent;
@@ -39,6 +46,19 @@ public class RollingFileManager extends FileManager {
 
     private static RollingFileManagerFactory factory = new RollingFileManagerFactory();
 
+    /**
+     * Runs the asynchronous part of rollovers, typically compression, for all managers. The pool is bounded by the
+     * number of processors. Like the thread that used to be started for each action, its threads are not daemon
+     * threads, so the JVM does not exit in the middle of an action; they exit after being idle for a second. Each
+     * manager has at most one action queued or running.
+     */
+    private static final ExecutorService ASYNC_ACTION_EXECUTOR = createAsyncActionExecutor();
+
+    /**
+     * How long releasing a manager waits for its asynchronous action to complete.
+     */
+    private static final long ASYNC_ACTION_TIMEOUT_MILLIS = 60 * 1000;
+
     private long size;
     private long initialTime;
     private final PatternProcessor patternProcessor;
@@ -143,6 +163,16 @@ public class RollingFileManager extends FileManager {
         return this.triggeringPolicy;
     }
 
+    /**
+     * Returns true if this manager compresses the active file as it writes it. Such a file only needs to be renamed
+     * when it is rolled over.
+     * @return true if the active file is written compressed.
+     * @since 2.2
+     */
+    public boolean isCompressing() {
+        return false;
+    }
+
     /**
      * Returns the rollover strategy
      * @return The RolloverStrategy
@@ -162,7 +192,7 @@ public class RollingFileManager extends FileManager {
         }
 
         boolean success = false;
-        Thread thread = null;
+        boolean submitted = false;
 
         try {
             final RolloverDescription descriptor = strategy.rollover(this);
@@ -180,20 +210,60 @@ public class RollingFileManager extends FileManager {
 
                 if (success && descriptor.getAsynchronous() != null) {
                     LOGGER.debug("RollingFileManager executing async {}", descriptor.getAsynchronous());
-                    thread = new Thread(new AsyncAction(descriptor.getAsynchronous(), this));
-                    thread.start();
+                    try {
+                        ASYNC_ACTION_EXECUTOR.execute(new AsyncAction(descriptor.getAsynchronous(), this));
+                        submitted = true;
+                    } catch (final RejectedExecutionException ex) {
+                        LOGGER.error("Unable to schedule async {}", descriptor.getAsynchronous(), ex);
+                    }
                 }
                 return true;
             }
             return false;
         } finally {
-            if (thread == null || !thread.isAlive()) {
+            if (!submitted) {
                 semaphore.release();
             }
         }
 
     }
 
+    /**
+     * Waits for the asynchronous action of the last rollover, so that an archive is not left incomplete when the
+     * manager is released as the LoggerContext stops, for example in the shutdown hook.
+     */
+    @Override
+    public void releaseSub() {
+        try {
+            if (semaphore.tryAcquire(ASYNC_ACTION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                semaphore.release();
+            } else {
+                LOGGER.warn("RollingFileManager ({}) gave up waiting for the asynchronous rollover action after {} ms",
+                        getFileName(), ASYNC_ACTION_TIMEOUT_MILLIS);
+            }
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        super.releaseSub();
+    }
+
+    private static ExecutorService createAsyncActionExecutor() {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        final Thread thread = new Thread(runnable,
+                                "RollingFileManager-AsyncAction-" + threadNumber.getAndIncrement());
+                        thread.setDaemon(false);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Performs actions asynchronously.
      */
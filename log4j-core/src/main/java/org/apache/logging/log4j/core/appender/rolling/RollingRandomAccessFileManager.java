@@ -22,15 +22,23 @@ import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
 
 import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
+import org.apache.logging.log4j.core.appender.GzipBlockEncoder;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
 
 /**
  * Extends RollingFileManager but instead of using a buffered output stream,
  * this class uses a {@code ByteBuffer} and a {@code RandomAccessFile} to do the
  * I/O.
+ * <p>
+ * If {@code compress} is set the file is written compressed, one gzip member each time the buffer is drained, and
+ * rolling it over to a {@code .gz} file pattern is a plain rename. The file size seen by the triggering policy is
+ * still the number of uncompressed bytes written, and {@code immediateFlush} is ignored so that members are not
+ * written for each event.
+ * </p>
  */
 public class RollingRandomAccessFileManager extends RollingFileManager {
     /**
@@ -44,17 +52,33 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
     private RandomAccessFile randomAccessFile;
     private final ByteBuffer buffer;
     private final ThreadLocal<Boolean> isEndOfBatch = new ThreadLocal<Boolean>();
+    private final GzipBlockEncoder encoder;
 
     public RollingRandomAccessFileManager(final RandomAccessFile raf, final String fileName,
             final String pattern, final OutputStream os, final boolean append,
             final boolean immediateFlush, final int bufferSize, final long size, final long time,
             final TriggeringPolicy policy, final RolloverStrategy strategy,
             final String advertiseURI, final Layout<? extends Serializable> layout) {
+        this(raf, fileName, pattern, os, append, immediateFlush, bufferSize, false, size, time, policy, strategy,
+                advertiseURI, layout);
+    }
+
+    /**
+     * Creates a manager that writes the file compressed as gzip members if {@code compress} is true, in which case
+     * {@code immediateFlush} is ignored.
+     * @since 2.2
+     */
+    public RollingRandomAccessFileManager(final RandomAccessFile raf, final String fileName,
+            final String pattern, final OutputStream os, final boolean append,
+            final boolean immediateFlush, final int bufferSize, final boolean compress, final long size,
+            final long time, final TriggeringPolicy policy, final RolloverStrategy strategy,
+            final String advertiseURI, final Layout<? extends Serializable> layout) {
         super(fileName, pattern, os, append, size, time, policy, strategy, advertiseURI, layout, bufferSize);
-        this.isImmediateFlush = immediateFlush;
+        this.isImmediateFlush = immediateFlush && !compress;
         this.randomAccessFile = raf;
         isEndOfBatch.set(Boolean.FALSE);
         this.buffer = ByteBuffer.allocate(bufferSize);
+        this.encoder = compress ? new GzipBlockEncoder(compressionLevel(strategy)) : null;
         writeHeader();
     }
 
@@ -71,18 +95,45 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
         }
         try {
             // write to the file, not to the buffer: the buffer may not be empty
-            randomAccessFile.write(header, 0, header.length);
+            writeToFile(header, 0, header.length);
         } catch (final IOException ioe) {
             LOGGER.error("Unable to write header", ioe);
         }
     }
 
+    private static int compressionLevel(final RolloverStrategy strategy) {
+        return strategy instanceof DefaultRolloverStrategy ? ((DefaultRolloverStrategy) strategy)
+                .getCompressionLevel() : Deflater.DEFAULT_COMPRESSION;
+    }
+
+    private void writeToFile(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (encoder == null) {
+            randomAccessFile.write(bytes, offset, length);
+        } else if (length > 0) {
+            final int compressedLength = encoder.encode(bytes, offset, length);
+            randomAccessFile.write(encoder.getOutput(), 0, compressedLength);
+        }
+    }
+
     public static RollingRandomAccessFileManager getRollingRandomAccessFileManager(final String fileName,
             final String filePattern, final boolean isAppend, final boolean immediateFlush, final int bufferSize, 
             final TriggeringPolicy policy, final RolloverStrategy strategy, final String advertiseURI, 
             final Layout<? extends Serializable> layout) {
-        return (RollingRandomAccessFileManager) getManager(fileName, new FactoryData(filePattern, isAppend, 
-                immediateFlush, bufferSize, policy, strategy, advertiseURI, layout), FACTORY);
+        return getRollingRandomAccessFileManager(fileName, filePattern, isAppend, immediateFlush, bufferSize, false,
+                policy, strategy, advertiseURI, layout);
+    }
+
+    /**
+     * Returns a manager that writes the file compressed as gzip members if {@code compress} is true, in which case
+     * {@code immediateFlush} is ignored.
+     * @since 2.2
+     */
+    public static RollingRandomAccessFileManager getRollingRandomAccessFileManager(final String fileName,
+            final String filePattern, final boolean isAppend, final boolean immediateFlush, final int bufferSize,
+            final boolean compress, final TriggeringPolicy policy, final RolloverStrategy strategy,
+            final String advertiseURI, final Layout<? extends Serializable> layout) {
+        return (RollingRandomAccessFileManager) getManager(fileName, new FactoryData(filePattern, isAppend,
+                immediateFlush, bufferSize, compress, policy, strategy, advertiseURI, layout), FACTORY);
     }
 
     public Boolean isEndOfBatch() {
@@ -126,7 +177,7 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
     public synchronized void flush() {
         buffer.flip();
         try {
-            randomAccessFile.write(buffer.array(), 0, buffer.limit());
+            writeToFile(buffer.array(), 0, buffer.limit());
         } catch (final IOException ex) {
             final String msg = "Error writing to RandomAccessFile " + getName();
             throw new AppenderLoggingException(msg, ex);
@@ -145,6 +196,19 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
         }
     }
     
+    @Override
+    public void releaseSub() {
+        super.releaseSub();
+        if (encoder != null) {
+            encoder.end();
+        }
+    }
+
+    @Override
+    public boolean isCompressing() {
+        return encoder != null;
+    }
+
     /**
      * Returns the buffer capacity.
      * @return the buffer size
@@ -192,8 +256,8 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
                     raf.setLength(0);
                 }
                 return new RollingRandomAccessFileManager(raf, name, data.pattern, new DummyOutputStream(), data.append,
-                        data.immediateFlush, data.bufferSize, size, time, data.policy, data.strategy, data.advertiseURI,
-                        data.layout);
+                        data.immediateFlush, data.bufferSize, data.compress, size, time, data.policy, data.strategy,
+                        data.advertiseURI, data.layout);
             } catch (final IOException ex) {
                 LOGGER.error("Cannot access RandomAccessFile {}) " + ex);
                 if (raf != null) {
@@ -227,6 +291,7 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
         private final boolean append;
         private final boolean immediateFlush;
         private final int bufferSize;
+        private final boolean compress;
         private final TriggeringPolicy policy;
         private final RolloverStrategy strategy;
         private final String advertiseURI;
@@ -239,18 +304,21 @@ public class RollingRandomAccessFileManager extends RollingFileManager {
          * @param append The append flag.
          * @param immediateFlush
          * @param bufferSize
+         * @param compress
          * @param policy
          * @param strategy
          * @param advertiseURI
          * @param layout
          */
         public FactoryData(final String pattern, final boolean append, final boolean immediateFlush,
-                final int bufferSize, final TriggeringPolicy policy, final RolloverStrategy strategy,
-                final String advertiseURI, final Layout<? extends Serializable> layout) {
+                final int bufferSize, final boolean compress, final TriggeringPolicy policy,
+                final RolloverStrategy strategy, final String advertiseURI,
+                final Layout<? extends Serializable> layout) {
             this.pattern = pattern;
             this.append = append;
             this.immediateFlush = immediateFlush;
             this.bufferSize = bufferSize;
+            this.compress = compress;
             this.policy = policy;
             this.strategy = strategy;
             this.advertiseURI = advertiseURI;
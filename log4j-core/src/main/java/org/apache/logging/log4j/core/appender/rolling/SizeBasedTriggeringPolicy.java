@@ -30,7 +30,8 @@ import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.status.StatusLogger;
 
 /**
- *
+ * Triggers a rollover when the file reaches a size. The size is the number of bytes written by the appender, before
+ * any compression of the active file.
  */
 @Plugin(name = "SizeBasedTriggeringPolicy", category = "Core", printObject = true)
 public class SizeBasedTriggeringPolicy implements TriggeringPolicy {
@@ -16,11 +16,12 @@
  */
 package org.apache.logging.log4j.core.appender.rolling.action;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 
 /**
@@ -28,7 +29,11 @@ import java.util.zip.GZIPOutputStream;
  */
 public final class GzCompressAction extends AbstractAction {
 
-    private static final int BUF_SIZE = 8102;
+    /**
+     * Size of the read buffer and of the deflater's output buffer. Rolled over files are typically large, so a
+     * bigger buffer saves many small reads and writes.
+     */
+    static final int BUF_SIZE = 64 * 1024;
 
     /**
      * Source file.
@@ -45,6 +50,11 @@ public final class GzCompressAction extends AbstractAction {
      */
     private final boolean deleteSource;
 
+    /**
+     * The compression level, 0-9 or {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    private final int compressionLevel;
+
     /**
      * Create new instance of GzCompressAction.
      *
@@ -54,6 +64,21 @@ public final class GzCompressAction extends AbstractAction {
      *                     does not cause an exception to be thrown or affect return value.
      */
     public GzCompressAction(final File source, final File destination, final boolean deleteSource) {
+        this(source, destination, deleteSource, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Create new instance of GzCompressAction.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel the compression level, 0 (none) through 9 (best), or -1 for the default level.
+     * @since 2.2
+     */
+    public GzCompressAction(final File source, final File destination, final boolean deleteSource,
+            final int compressionLevel) {
         if (source == null) {
             throw new NullPointerException("source");
         }
@@ -65,6 +90,7 @@ public final class GzCompressAction extends AbstractAction {
         this.source = source;
         this.destination = destination;
         this.deleteSource = deleteSource;
+        this.compressionLevel = compressionLevel;
     }
 
     /**
@@ -75,7 +101,7 @@ public final class GzCompressAction extends AbstractAction {
      */
     @Override
     public boolean execute() throws IOException {
-        return execute(source, destination, deleteSource);
+        return execute(source, destination, deleteSource, compressionLevel);
     }
 
     /**
@@ -90,21 +116,42 @@ public final class GzCompressAction extends AbstractAction {
      */
     public static boolean execute(final File source, final File destination, final boolean deleteSource)
         throws IOException {
+        return execute(source, destination, deleteSource, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Compress a file.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel the compression level, 0 (none) through 9 (best), or -1 for the default level.
+     * @return true if source file compressed.
+     * @throws IOException on IO exception.
+     * @since 2.2
+     */
+    public static boolean execute(final File source, final File destination, final boolean deleteSource,
+            final int compressionLevel) throws IOException {
         if (source.exists()) {
             final FileInputStream fis = new FileInputStream(source);
-            final FileOutputStream fos = new FileOutputStream(destination);
-            final GZIPOutputStream gzos = new GZIPOutputStream(fos);
-            final BufferedOutputStream os = new BufferedOutputStream(gzos);
-            final byte[] inbuf = new byte[BUF_SIZE];
-            int n;
-
-            while ((n = fis.read(inbuf)) != -1) {
-                os.write(inbuf, 0, n);
+            try {
+                // closes the file stream itself if the gzip stream cannot be created
+                OutputStream os = new FileOutputStream(destination);
+                try {
+                    os = createOutputStream(os, compressionLevel);
+                    final byte[] inbuf = new byte[BUF_SIZE];
+                    int n;
+                    while ((n = fis.read(inbuf)) != -1) {
+                        os.write(inbuf, 0, n);
+                    }
+                } finally {
+                    os.close();
+                }
+            } finally {
+                fis.close();
             }
 
-            os.close();
-            fis.close();
-
             if (deleteSource && !source.delete()) {
                 LOGGER.warn("Unable to delete " + source.toString() + '.');
             }
@@ -115,6 +162,22 @@ public final class GzCompressAction extends AbstractAction {
         return false;
     }
 
+    /**
+     * Wraps the given stream in a gzip stream that deflates at the given compression level.
+     *
+     * @param out the stream receiving the compressed bytes.
+     * @param compressionLevel the compression level, 0 (none) through 9 (best), or -1 for the default level.
+     * @return a gzip stream.
+     * @throws IOException if the gzip header cannot be written.
+     */
+    static GZIPOutputStream createOutputStream(final OutputStream out, final int compressionLevel)
+            throws IOException {
+        return new GZIPOutputStream(out, BUF_SIZE) {
+            {
+                def.setLevel(compressionLevel);
+            }
+        };
+    }
 
     /**
      * Capture exception.
@@ -129,6 +192,6 @@ public final class GzCompressAction extends AbstractAction {
     @Override
     public String toString() {
         return GzCompressAction.class.getSimpleName() + '[' + source + " to " + destination //
-                + ", deleteSource=" + deleteSource + ']';
+                + ", deleteSource=" + deleteSource + ", compressionLevel=" + compressionLevel + ']';
     }
 }
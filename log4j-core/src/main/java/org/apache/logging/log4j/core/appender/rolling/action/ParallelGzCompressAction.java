@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender.rolling.action;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.logging.log4j.core.async.DaemonThreadFactory;
+
+/**
+ * Compresses a file using GZ compression on several threads.
+ * <p>
+ * The source file is split into blocks which are deflated in parallel, each into a complete gzip member. The members
+ * are written to the destination in order. A file made of consecutive gzip members is a valid gzip file (RFC 1952,
+ * section 2.2) that gunzip and zcat decompress as a single stream. Blocks are compressed by a pool that all actions
+ * share, which has one thread per processor; an action has at most {@code threads} blocks in the pool at any time,
+ * so it uses at most that many of its threads.
+ * </p>
+ *
+ * @since 2.2
+ */
+public final class ParallelGzCompressAction extends AbstractAction {
+
+    /**
+     * Size of the uncompressed blocks. Large enough for the per-member header and the lost dictionary at block
+     * boundaries to cost a negligible amount of compression.
+     */
+    static final int BLOCK_SIZE = 1024 * 1024;
+
+    /**
+     * Compresses the blocks of all actions. Its daemon threads only run while an action, which waits for them, is in
+     * progress, and exit when idle.
+     */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private final File source;
+    private final File destination;
+    private final boolean deleteSource;
+    private final int compressionLevel;
+    private final int threads;
+
+    /**
+     * Create new instance of ParallelGzCompressAction.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel the compression level, 0 (none) through 9 (best), or -1 for the default level.
+     * @param threads      the number of threads compressing blocks.
+     */
+    public ParallelGzCompressAction(final File source, final File destination, final boolean deleteSource,
+            final int compressionLevel, final int threads) {
+        if (source == null) {
+            throw new NullPointerException("source");
+        }
+        if (destination == null) {
+            throw new NullPointerException("destination");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.source = source;
+        this.destination = destination;
+        this.deleteSource = deleteSource;
+        this.compressionLevel = compressionLevel;
+        this.threads = threads;
+    }
+
+    /**
+     * Compress.
+     *
+     * @return true if successfully compressed.
+     * @throws IOException on IO exception.
+     */
+    @Override
+    public boolean execute() throws IOException {
+        return execute(source, destination, deleteSource, compressionLevel, threads);
+    }
+
+    /**
+     * Compress a file.
+     *
+     * @param source       file to compress, may not be null.
+     * @param destination  compressed file, may not be null.
+     * @param deleteSource if true, attempt to delete file on completion.  Failure to delete
+     *                     does not cause an exception to be thrown or affect return value.
+     * @param compressionLevel the compression level, 0 (none) through 9 (best), or -1 for the default level.
+     * @param threads      the number of threads compressing blocks.
+     * @return true if source file compressed.
+     * @throws IOException on IO exception.
+     */
+    public static boolean execute(final File source, final File destination, final boolean deleteSource,
+            final int compressionLevel, final int threads) throws IOException {
+        if (threads <= 1 || source.length() <= BLOCK_SIZE) {
+            // Not worth starting threads for.
+            return GzCompressAction.execute(source, destination, deleteSource, compressionLevel);
+        }
+        if (!source.exists()) {
+            return false;
+        }
+        final InputStream in = new FileInputStream(source);
+        try {
+            final OutputStream out = new FileOutputStream(destination);
+            try {
+                compress(in, out, EXECUTOR, compressionLevel, threads);
+            } finally {
+                out.close();
+            }
+        } finally {
+            in.close();
+        }
+
+        if (deleteSource && !source.delete()) {
+            LOGGER.warn("Unable to delete " + source.toString() + '.');
+        }
+        return true;
+    }
+
+    private static ExecutorService createExecutor() {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new DaemonThreadFactory("ParallelGzCompress-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static void compress(final InputStream in, final OutputStream out, final ExecutorService executor,
+            final int compressionLevel, final int maxPending) throws IOException {
+        final LinkedList<Future<byte[]>> pending = new LinkedList<Future<byte[]>>();
+        try {
+            byte[] block;
+            while ((block = readBlock(in)) != null) {
+                if (pending.size() >= maxPending) {
+                    out.write(await(pending.removeFirst()));
+                }
+                pending.add(executor.submit(new BlockCompressor(block, compressionLevel)));
+            }
+            while (!pending.isEmpty()) {
+                out.write(await(pending.removeFirst()));
+            }
+        } finally {
+            // the pool is shared, so only the blocks of this action are cancelled after a failure
+            for (final Future<byte[]> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Reads up to one block from the stream.
+     *
+     * @return the bytes read, or null at the end of the stream.
+     */
+    private static byte[] readBlock(final InputStream in) throws IOException {
+        final byte[] buf = new byte[BLOCK_SIZE];
+        int len = 0;
+        int n;
+        while (len < BLOCK_SIZE && (n = in.read(buf, len, BLOCK_SIZE - len)) != -1) {
+            len += n;
+        }
+        if (len == 0) {
+            return null;
+        }
+        if (len < BLOCK_SIZE) {
+            final byte[] last = new byte[len];
+            System.arraycopy(buf, 0, last, 0, len);
+            return last;
+        }
+        return buf;
+    }
+
+    private static byte[] await(final Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing");
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Unable to compress block", cause);
+        }
+    }
+
+    /**
+     * Compresses one block into a complete gzip member.
+     */
+    private static class BlockCompressor implements Callable<byte[]> {
+
+        private final byte[] block;
+        private final int compressionLevel;
+
+        BlockCompressor(final byte[] block, final int compressionLevel) {
+            this.block = block;
+            this.compressionLevel = compressionLevel;
+        }
+
+        @Override
+        public byte[] call() throws IOException {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream(block.length / 4);
+            final GZIPOutputStream gzos = GzCompressAction.createOutputStream(baos, compressionLevel);
+            gzos.write(block);
+            gzos.close();
+            return baos.toByteArray();
+        }
+    }
+
+    /**
+     * Capture exception.
+     *
+     * @param ex exception.
+     */
+    @Override
+    protected void reportException(final Exception ex) {
+        LOGGER.warn("Exception during compression of '" + source.toString() + "'.", ex);
+    }
+
+    @Override
+    public String toString() {
+        return ParallelGzCompressAction.class.getSimpleName() + '[' + source + " to " + destination //
+                + ", deleteSource=" + deleteSource + ", compressionLevel=" + compressionLevel //
+                + ", threads=" + threads + ']';
+    }
+}
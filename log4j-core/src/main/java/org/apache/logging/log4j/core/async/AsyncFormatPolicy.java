@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.logging.log4j.message.FormattedMessage;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageFormatMessage;
+import org.apache.logging.log4j.message.ObjectMessage;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.message.StringFormattedMessage;
+
+/**
+ * Decides per message type whether a message can be formatted on the background thread without changing the
+ * result. This is the case if the message type formats only from its pattern and parameters, and all parameters are
+ * of a type whose string representation cannot change after the logging call returns.
+ * <p>
+ * Only the exact message classes listed here qualify: subclasses may format from additional, mutable state.
+ * </p>
+ */
+final class AsyncFormatPolicy {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>();
+
+    static {
+        IMMUTABLE_TYPES.add(String.class);
+        IMMUTABLE_TYPES.add(Boolean.class);
+        IMMUTABLE_TYPES.add(Character.class);
+        IMMUTABLE_TYPES.add(Byte.class);
+        IMMUTABLE_TYPES.add(Short.class);
+        IMMUTABLE_TYPES.add(Integer.class);
+        IMMUTABLE_TYPES.add(Long.class);
+        IMMUTABLE_TYPES.add(Float.class);
+        IMMUTABLE_TYPES.add(Double.class);
+        IMMUTABLE_TYPES.add(BigInteger.class);
+        IMMUTABLE_TYPES.add(BigDecimal.class);
+        IMMUTABLE_TYPES.add(Class.class);
+    }
+
+    private AsyncFormatPolicy() {
+    }
+
+    /**
+     * Returns {@code true} if the specified message can safely be formatted on another thread after the logging call
+     * returned, {@code false} if it must be formatted by the caller.
+     *
+     * @param message the message to check
+     * @return whether formatting can be deferred to the background thread
+     */
+    static boolean canFormatInBackground(final Message message) {
+        final Class<?> type = message.getClass();
+        if (type == SimpleMessage.class) {
+            return true;
+        }
+        if (type == ParameterizedMessage.class || type == FormattedMessage.class
+                || type == StringFormattedMessage.class || type == MessageFormatMessage.class
+                || type == ObjectMessage.class) {
+            return isImmutable(message.getParameters());
+        }
+        return false;
+    }
+
+    private static boolean isImmutable(final Object[] parameters) {
+        if (parameters == null) {
+            return true;
+        }
+        for (final Object parameter : parameters) {
+            if (parameter != null && !isImmutable(parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImmutable(final Object parameter) {
+        // a trailing Throwable is only rendered by the layout, which runs in the background anyway
+        return IMMUTABLE_TYPES.contains(parameter.getClass()) || parameter instanceof Enum
+                || parameter instanceof Throwable;
+    }
+}
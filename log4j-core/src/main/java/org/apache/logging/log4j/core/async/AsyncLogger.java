@@ -17,10 +17,9 @@
 package org.apache.logging.log4j.core.async;
 
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.Logger;
@@ -30,21 +29,13 @@ import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
 import org.apache.logging.log4j.core.util.Clock;
 import org.apache.logging.log4j.core.util.ClockFactory;
-import org.apache.logging.log4j.core.util.Integers;
-import org.apache.logging.log4j.core.util.Loader;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.ReusableMessage;
 import org.apache.logging.log4j.message.TimestampMessage;
 import org.apache.logging.log4j.status.StatusLogger;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
-import com.lmax.disruptor.ExceptionHandler;
-import com.lmax.disruptor.RingBuffer;
-import com.lmax.disruptor.SleepingWaitStrategy;
-import com.lmax.disruptor.WaitStrategy;
-import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
-import com.lmax.disruptor.dsl.ProducerType;
 
 /**
  * AsyncLogger is a logger designed for high throughput and low latency logging.
@@ -76,12 +67,9 @@ import com.lmax.disruptor.dsl.ProducerType;
  */
 public class AsyncLogger extends Logger {
     private static final long serialVersionUID = 1L;
-    private static final int SLEEP_MILLIS_BETWEEN_DRAIN_ATTEMPTS = 50;
-    private static final int MAX_DRAIN_ATTEMPTS_BEFORE_SHUTDOWN = 200;
-    private static final int RINGBUFFER_MIN_SIZE = 128;
-    private static final int RINGBUFFER_DEFAULT_SIZE = 256 * 1024;
     private static final StatusLogger LOGGER = StatusLogger.getLogger();
     private static final ThreadNameStrategy THREAD_NAME_STRATEGY = ThreadNameStrategy.create();
+    private static final FormatStrategy FORMAT_STRATEGY = FormatStrategy.create();
     private static final ThreadLocal<Info> threadlocalInfo = new ThreadLocal<Info>();
 
     static enum ThreadNameStrategy { // LOG4J2-467
@@ -109,95 +97,56 @@ public class AsyncLogger extends Logger {
             }
         }
     }
-    private static volatile Disruptor<RingBufferLogEvent> disruptor;
-    private static final Clock clock = ClockFactory.getClock();
-
-    private static final ExecutorService executor = Executors
-            .newSingleThreadExecutor(new DaemonThreadFactory("AsyncLogger-"));
-
-    static {
-        initInfoForExecutorThread();
-        LOGGER.debug("AsyncLogger.ThreadNameStrategy={}", THREAD_NAME_STRATEGY);
-        final int ringBufferSize = calculateRingBufferSize();
-
-        final WaitStrategy waitStrategy = createWaitStrategy();
-        disruptor = new Disruptor<RingBufferLogEvent>(RingBufferLogEvent.FACTORY, ringBufferSize, executor,
-                ProducerType.MULTI, waitStrategy);
-        disruptor.handleExceptionsWith(getExceptionHandler());
-        disruptor.handleEventsWith(new RingBufferLogEventHandler());
-
-        LOGGER.debug("Starting AsyncLogger disruptor with ringbuffer size {}...", disruptor.getRingBuffer()
-                .getBufferSize());
-        disruptor.start();
-    }
-
-    private static int calculateRingBufferSize() {
-        int ringBufferSize = RINGBUFFER_DEFAULT_SIZE;
-        final String userPreferredRBSize = System.getProperty("AsyncLogger.RingBufferSize",
-                String.valueOf(ringBufferSize));
-        try {
-            int size = Integer.parseInt(userPreferredRBSize);
-            if (size < RINGBUFFER_MIN_SIZE) {
-                size = RINGBUFFER_MIN_SIZE;
-                LOGGER.warn("Invalid RingBufferSize {}, using minimum size {}.", userPreferredRBSize,
-                        RINGBUFFER_MIN_SIZE);
-            }
-            ringBufferSize = size;
-        } catch (final Exception ex) {
-            LOGGER.warn("Invalid RingBufferSize {}, using default size {}.", userPreferredRBSize, ringBufferSize);
-        }
-        return Integers.ceilingNextPowerOfTwo(ringBufferSize);
-    }
 
     /**
-     * Initialize an {@code Info} object that is threadlocal to the consumer/appender thread.
-     * This Info object uniquely has attribute {@code isAppenderThread} set to {@code true}.
-     * All other Info objects will have this attribute set to {@code false}.
-     * This allows us to detect Logger.log() calls initiated from the appender thread,
-     * which may cause deadlock when the RingBuffer is full. (LOG4J2-471)
+     * Decides on which thread messages are formatted. CALLER (the default) formats every message on the application
+     * thread so that parameter values are frozen (LOG4J2-763). BACKGROUND only does so for messages that
+     * {@link AsyncFormatPolicy} cannot prove safe, and leaves formatting of all others to the background thread.
      */
-    private static void initInfoForExecutorThread() {
-        executor.submit(new Runnable(){
+    static enum FormatStrategy {
+        CALLER {
             @Override
-            public void run() {
-                final boolean isAppenderThread = true;
-                final Info info = new Info(new RingBufferLogEventTranslator(), //
-                        Thread.currentThread().getName(), isAppenderThread);
-                threadlocalInfo.set(info);
+            void prepare(final Message message) {
+                message.getFormattedMessage();
             }
-        });
-    }
+        },
+        BACKGROUND {
+            @Override
+            void prepare(final Message message) {
+                if (!AsyncFormatPolicy.canFormatInBackground(message)) {
+                    message.getFormattedMessage();
+                }
+            }
+        };
+
+        /**
+         * Called on the application thread before the message is handed to the background thread.
+         */
+        abstract void prepare(Message message);
 
-    private static WaitStrategy createWaitStrategy() {
-        final String strategy = System.getProperty("AsyncLogger.WaitStrategy");
-        LOGGER.debug("property AsyncLogger.WaitStrategy={}", strategy);
-        if ("Sleep".equals(strategy)) {
-            return new SleepingWaitStrategy();
-        } else if ("Yield".equals(strategy)) {
-            return new YieldingWaitStrategy();
-        } else if ("Block".equals(strategy)) {
-            return new BlockingWaitStrategy();
+        static FormatStrategy create() {
+            final String name = System.getProperty("AsyncLogger.FormatStrategy", CALLER.name());
+            try {
+                return FormatStrategy.valueOf(name);
+            } catch (final Exception ex) {
+                LOGGER.debug("Using AsyncLogger.FormatStrategy.CALLER: '{}' not valid: {}", name, ex.toString());
+                return CALLER;
+            }
         }
-        LOGGER.debug("disruptor event handler uses BlockingWaitStrategy");
-        return new BlockingWaitStrategy();
     }
 
-    private static ExceptionHandler getExceptionHandler() {
-        final String cls = System.getProperty("AsyncLogger.ExceptionHandler");
-        if (cls == null) {
-            LOGGER.debug("No AsyncLogger.ExceptionHandler specified");
-            return null;
-        }
-        try {
-            final ExceptionHandler result = Loader.newCheckedInstanceOf(cls, ExceptionHandler.class);
-            LOGGER.debug("AsyncLogger.ExceptionHandler={}", result);
-            return result;
-        } catch (final Exception ignored) {
-            LOGGER.debug("AsyncLogger.ExceptionHandler not set: error creating " + cls + ": ", ignored);
-            return null;
-        }
+    private static final Clock clock = ClockFactory.getClock();
+
+    static {
+        LOGGER.debug("AsyncLogger.ThreadNameStrategy={}", THREAD_NAME_STRATEGY);
+        LOGGER.debug("AsyncLogger.FormatStrategy={}", FORMAT_STRATEGY);
     }
 
+    /**
+     * Not serialized: a deserialized logger looks up the disruptor of its context again on first use.
+     */
+    private transient AsyncLoggerDisruptor loggerDisruptor;
+
     /**
      * Constructs an {@code AsyncLogger} with the specified context, name and
      * message factory.
@@ -205,9 +154,60 @@ public class AsyncLogger extends Logger {
      * @param context context of this logger
      * @param name name of this logger
      * @param messageFactory message factory of this logger
+     * @deprecated The ring buffer belongs to the {@code AsyncLoggerContext} now. A logger created with this
+     *             constructor looks up the ring buffer of its context when it first logs, or of the current context if
+     *             its own is not an {@code AsyncLoggerContext}.
      */
+    @Deprecated
     public AsyncLogger(final LoggerContext context, final String name, final MessageFactory messageFactory) {
+        this(context, name, messageFactory, null);
+    }
+
+    /**
+     * Constructs an {@code AsyncLogger} with the specified context, name and
+     * message factory.
+     *
+     * @param context context of this logger
+     * @param name name of this logger
+     * @param messageFactory message factory of this logger
+     * @param loggerDisruptor helper class that owns the Disruptor of the context
+     */
+    AsyncLogger(final LoggerContext context, final String name, final MessageFactory messageFactory,
+            final AsyncLoggerDisruptor loggerDisruptor) {
         super(context, name, messageFactory);
+        this.loggerDisruptor = loggerDisruptor;
+    }
+
+    /**
+     * Returns the disruptor helper of the given context if it is an {@code AsyncLoggerContext}, otherwise the one of
+     * the current context, or {@code null} if neither is an {@code AsyncLoggerContext}.
+     */
+    private static AsyncLoggerDisruptor findLoggerDisruptor(final LoggerContext context) {
+        if (context instanceof AsyncLoggerContext) {
+            final AsyncLoggerDisruptor result = ((AsyncLoggerContext) context).getLoggerDisruptor();
+            if (result != null) {
+                return result;
+            }
+        }
+        final org.apache.logging.log4j.spi.LoggerContext current = LogManager.getContext(false);
+        return current instanceof AsyncLoggerContext ? ((AsyncLoggerContext) current).getLoggerDisruptor() : null;
+    }
+
+    private AsyncLoggerDisruptor getLoggerDisruptor() {
+        AsyncLoggerDisruptor result = loggerDisruptor;
+        if (result == null) {
+            // deserialized, or created outside of an AsyncLoggerContext
+            result = findLoggerDisruptor(getContext());
+            loggerDisruptor = result;
+        }
+        return result;
+    }
+
+    /**
+     * Removes the {@code Info} object of the current thread. (LOG4J2-323)
+     */
+    static void removeThreadInfo() {
+        threadlocalInfo.remove();
     }
 
     /**
@@ -216,11 +216,9 @@ public class AsyncLogger extends Logger {
     static class Info {
         private final RingBufferLogEventTranslator translator;
         private final String cachedThreadName;
-        private final boolean isAppenderThread;
-        public Info(final RingBufferLogEventTranslator translator, final String threadName, final boolean appenderThread) {
+        public Info(final RingBufferLogEventTranslator translator, final String threadName) {
             this.translator = translator;
             this.cachedThreadName = threadName;
-            this.isAppenderThread = appenderThread;
         }
     }
 
@@ -229,26 +227,27 @@ public class AsyncLogger extends Logger {
         // TODO refactor to reduce size to <= 35 bytecodes to allow JVM to inline it
         Info info = threadlocalInfo.get();
         if (info == null) {
-            info = new Info(new RingBufferLogEventTranslator(), Thread.currentThread().getName(), false);
+            info = new Info(new RingBufferLogEventTranslator(), Thread.currentThread().getName());
             threadlocalInfo.set(info);
         }
-        
-        final Disruptor<RingBufferLogEvent> temp = disruptor;
+
+        final AsyncLoggerDisruptor loggerDisruptor = getLoggerDisruptor();
+        if (loggerDisruptor == null) {
+            // there is no ring buffer to publish to
+            super.logMessage(fqcn, level, marker, message, thrown);
+            return;
+        }
+        final Disruptor<RingBufferLogEvent> temp = loggerDisruptor.getDisruptor();
         if (temp == null) { // LOG4J2-639
             LOGGER.fatal("Ignoring log event after log4j was shut down");
             return;
         }
 
-        // LOG4J2-471: prevent deadlock when RingBuffer is full and object
-        // being logged calls Logger.log() from its toString() method
-        if (info.isAppenderThread && temp.getRingBuffer().remainingCapacity() == 0) {
-            // bypass RingBuffer and invoke Appender directly
-            config.loggerConfig.log(getName(), fqcn, marker, level, message, thrown);
-            return;
-        }
-        message.getFormattedMessage(); // LOG4J2-763: ask message to freeze parameters
+        // reusable messages are only valid during this call, so hand a copy to the background thread
+        final Message msg = message instanceof ReusableMessage ? ((ReusableMessage) message).memento() : message;
+        FORMAT_STRATEGY.prepare(msg); // LOG4J2-763: ask message to freeze parameters unless that is not needed
         final boolean includeLocation = config.loggerConfig.isIncludeLocation();
-        info.translator.setValues(this, getName(), marker, fqcn, level, message, //
+        info.translator.setValues(this, getName(), marker, fqcn, level, msg, //
                 // don't construct ThrowableProxy until required
                 thrown, //
 
@@ -274,7 +273,7 @@ public class AsyncLogger extends Logger {
                 // CoarseCachedClock: 20% faster than system clock, 16ms gaps
                 // CachedClock: 10% faster than system clock, smaller gaps
                 // LOG4J2-744 avoid calling clock altogether if message has the timestamp
-                message instanceof TimestampMessage ? ((TimestampMessage) message).getTimestamp() :
+                msg instanceof TimestampMessage ? ((TimestampMessage) msg).getTimestamp() :
                         clock.currentTimeMillis());
 
         // LOG4J2-639: catch NPE if disruptor field was set to null after our check above
@@ -282,7 +281,12 @@ public class AsyncLogger extends Logger {
             // Note: do NOT use the temp variable above!
             // That could result in adding a log event to the disruptor after it was shut down,
             // which could cause the publishEvent method to hang and never return.
-            disruptor.publishEvent(info.translator);
+            if (!loggerDisruptor.tryPublish(info.translator)
+                    && !loggerDisruptor.handleRingBufferFull(info.translator, level)) {
+                // LOG4J2-471: prevents deadlock when the RingBuffer is full and the object
+                // being logged calls Logger.log() from its toString() method
+                config.loggerConfig.log(getName(), fqcn, marker, level, message, thrown);
+            }
         } catch (final NullPointerException npe) {
             LOGGER.fatal("Ignoring log event after log4j was shut down.");
         }
@@ -304,45 +308,30 @@ public class AsyncLogger extends Logger {
         config.logEvent(event);
     }
 
-    public static void stop() {
-        final Disruptor<RingBufferLogEvent> temp = disruptor;
-
-        // Must guarantee that publishing to the RingBuffer has stopped
-        // before we call disruptor.shutdown()
-        disruptor = null; // client code fails with NPE if log after stop = OK
-        if (temp == null) {
-            return; // stop() has already been called
-        }
-
-        // Calling Disruptor.shutdown() will wait until all enqueued events are fully processed,
-        // but this waiting happens in a busy-spin. To avoid (postpone) wasting CPU,
-        // we sleep in short chunks, up to 10 seconds, waiting for the ringbuffer to drain.
-        for (int i = 0; hasBacklog(temp) && i < MAX_DRAIN_ATTEMPTS_BEFORE_SHUTDOWN; i++) {
-            try {
-                Thread.sleep(SLEEP_MILLIS_BETWEEN_DRAIN_ATTEMPTS); // give up the CPU for a while
-            } catch (final InterruptedException e) { // ignored
-            }
-        }
-        temp.shutdown(); // busy-spins until all events currently in the disruptor have been processed
-        executor.shutdown(); // finally, kill the processor thread
-        threadlocalInfo.remove(); // LOG4J2-323
-    }
-
     /**
-     * Returns {@code true} if the specified disruptor still has unprocessed events.
+     * Stops the ring buffer of the current {@code AsyncLoggerContext}, after processing the events it contains.
+     *
+     * @deprecated Each {@code AsyncLoggerContext} stops its own ring buffer when the context is stopped.
      */
-    private static boolean hasBacklog(final Disruptor<?> disruptor) {
-        final RingBuffer<?> ringBuffer = disruptor.getRingBuffer();
-        return !ringBuffer.hasAvailableCapacity(ringBuffer.getBufferSize());
+    @Deprecated
+    public static void stop() {
+        final AsyncLoggerDisruptor loggerDisruptor = findLoggerDisruptor(null);
+        if (loggerDisruptor != null) {
+            loggerDisruptor.stop();
+        }
     }
 
     /**
      * Creates and returns a new {@code RingBufferAdmin} that instruments the
-     * ringbuffer of the {@code AsyncLogger}.
+     * ringbuffer of the current {@code AsyncLoggerContext}.
      *
-     * @param contextName name of the global {@code AsyncLoggerContext}
+     * @param contextName name of the {@code AsyncLoggerContext}
+     * @return a new {@code RingBufferAdmin}, or {@code null} if the ringbuffer is not running
+     * @deprecated Use {@link AsyncLoggerContext#createRingBufferAdmin()}.
      */
+    @Deprecated
     public static RingBufferAdmin createRingBufferAdmin(final String contextName) {
-        return RingBufferAdmin.forAsyncLogger(disruptor.getRingBuffer(), contextName);
+        final AsyncLoggerDisruptor loggerDisruptor = findLoggerDisruptor(null);
+        return loggerDisruptor == null ? null : loggerDisruptor.createRingBufferAdmin(contextName);
     }
 }
@@ -19,6 +19,8 @@ package org.apache.logging.log4j.core.async;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.LogEvent;
@@ -62,6 +64,7 @@ class AsyncLoggerConfigHelper {
     private static final int SLEEP_MILLIS_BETWEEN_DRAIN_ATTEMPTS = 50;
     private static final int RINGBUFFER_MIN_SIZE = 128;
     private static final int RINGBUFFER_DEFAULT_SIZE = 256 * 1024;
+    private static final long RETRY_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
     private static final Logger LOGGER = StatusLogger.getLogger();
 
     private static ThreadFactory threadFactory = new DaemonThreadFactory("AsyncLoggerConfig-");
@@ -69,7 +72,8 @@ class AsyncLoggerConfigHelper {
     private static ExecutorService executor;
 
     private static volatile int count = 0;
-    private static ThreadLocal<Boolean> isAppenderThread = new ThreadLocal<Boolean>();
+    private static volatile long backgroundThreadId;
+    private static volatile AsyncQueueFullPolicy queueFullPolicy = new DefaultAsyncQueueFullPolicy();
 
     /**
      * Factory used to populate the RingBuffer with events. These event objects
@@ -97,6 +101,7 @@ class AsyncLoggerConfigHelper {
     };
 
     private final AsyncLoggerConfig asyncLoggerConfig;
+    private final AsyncQueueFullCounters queueFullCounters = new AsyncQueueFullCounters();
 
     public AsyncLoggerConfigHelper(final AsyncLoggerConfig asyncLoggerConfig) {
         this.asyncLoggerConfig = asyncLoggerConfig;
@@ -112,7 +117,8 @@ class AsyncLoggerConfigHelper {
         final int ringBufferSize = calculateRingBufferSize();
         final WaitStrategy waitStrategy = createWaitStrategy();
         executor = Executors.newSingleThreadExecutor(threadFactory);
-        initThreadLocalForExecutorThread();
+        recordBackgroundThreadId();
+        queueFullPolicy = AsyncQueueFullPolicyFactory.create();
         disruptor = new Disruptor<Log4jEventWrapper>(FACTORY, ringBufferSize,
                 executor, ProducerType.MULTI, waitStrategy);
         final EventHandler<Log4jEventWrapper>[] handlers = new Log4jEventWrapperHandler[] {//
@@ -122,8 +128,9 @@ class AsyncLoggerConfigHelper {
         disruptor.handleEventsWith(handlers);
 
         LOGGER.debug(
-                "Starting AsyncLoggerConfig disruptor with ringbuffer size={}, waitStrategy={}, exceptionHandler={}...",
-                disruptor.getRingBuffer().getBufferSize(), waitStrategy.getClass().getSimpleName(), errorHandler);
+                "Starting AsyncLoggerConfig disruptor with ringbuffer size={}, waitStrategy={}, exceptionHandler={}, "
+                        + "queueFullPolicy={}...", disruptor.getRingBuffer().getBufferSize(),
+                waitStrategy.getClass().getSimpleName(), errorHandler, queueFullPolicy);
         disruptor.start();
     }
 
@@ -289,31 +296,33 @@ class AsyncLoggerConfigHelper {
     }
 
     /**
-     * Initialize the threadlocal that allows us to detect Logger.log() calls 
-     * initiated from the appender thread, which may cause deadlock when the 
-     * RingBuffer is full. (LOG4J2-471)
+     * Records the ID of the appender thread, which allows the queue-full policy to detect Logger.log() calls
+     * initiated from the appender thread, which may cause deadlock when the RingBuffer is full. (LOG4J2-471)
      */
-    private static void initThreadLocalForExecutorThread() {
+    private static void recordBackgroundThreadId() {
         executor.submit(new Runnable() {
             @Override
             public void run() {
-                isAppenderThread.set(Boolean.TRUE);
+                backgroundThreadId = Thread.currentThread().getId();
             }
         });
     }
 
     /**
      * If possible, delegates the invocation to {@code callAppenders} to another
-     * thread and returns {@code true}. If this is not possible (if it detects
-     * that delegating to another thread would cause deadlock because the
-     * current call to Logger.log() originated from the appender thread and the
-     * ringbuffer is full) then this method does nothing and returns {@code false}.
+     * thread and returns {@code true}. If the ringbuffer is full, the
+     * {@code AsyncQueueFullPolicy} decides whether to wait for space, to discard
+     * the event (also returning {@code true}), or to let the calling thread
+     * process the event: then this method does nothing and returns {@code false}.
+     * The latter is always the case if the current call to Logger.log()
+     * originated from the appender thread with the default policy, because
+     * waiting would cause deadlock.
      * It is the responsibility of the caller to process the event when this
      * method returns {@code false}.
      * 
      * @param event the event to delegate to another thread
-     * @return {@code true} if delegation was successful, {@code false} if the
-     *          calling thread needs to process the event itself
+     * @return {@code true} if delegation was successful or the event was discarded,
+     *          {@code false} if the calling thread needs to process the event itself
      */
     public boolean callAppendersFromAnotherThread(final LogEvent event) {
         // TODO refactor to reduce size to <= 35 bytecodes to allow JVM to inline it
@@ -323,32 +332,63 @@ class AsyncLoggerConfigHelper {
             return true;
         }
 
-        // LOG4J2-471: prevent deadlock when RingBuffer is full and object
-        // being logged calls Logger.log() from its toString() method
-        if (isAppenderThread.get() == Boolean.TRUE //
-                && temp.getRingBuffer().remainingCapacity() == 0) {
-
-            // bypass RingBuffer and invoke Appender directly
-            return false;
-        }
         // LOG4J2-639: catch NPE if disruptor field was set to null after our check above
         try {
-            LogEvent logEvent = event;
-            if (event instanceof RingBufferLogEvent) {
-                logEvent = ((RingBufferLogEvent) event).createMemento();
-            }
+            final LogEvent logEvent = event.toImmutable();
             logEvent.getMessage().getFormattedMessage(); // LOG4J2-763: ask message to freeze parameters
 
             // Note: do NOT use the temp variable above!
             // That could result in adding a log event to the disruptor after it was shut down,
             // which could cause the publishEvent method to hang and never return.
-            disruptor.getRingBuffer().publishEvent(translator, logEvent, asyncLoggerConfig);
+            if (!disruptor.getRingBuffer().tryPublishEvent(translator, logEvent, asyncLoggerConfig)) {
+                return handleRingBufferFull(logEvent);
+            }
         } catch (final NullPointerException npe) {
             LOGGER.fatal("Ignoring log event after log4j was shut down.");
         }
         return true;
     }
 
+    /**
+     * Lets the queue-full policy decide what to do with an event that did not fit in the ring buffer.
+     *
+     * @return {@code false} if the calling thread needs to process the event itself
+     */
+    private boolean handleRingBufferFull(final LogEvent logEvent) {
+        final AsyncQueueFullPolicy policy = queueFullPolicy;
+        switch (policy.getRoute(backgroundThreadId, logEvent.getLevel())) {
+        case ENQUEUE:
+            if (!enqueue(logEvent, policy.getEnqueueTimeoutMillis())) {
+                queueFullCounters.incrementDiscarded();
+            }
+            return true;
+        case SYNCHRONOUS:
+            // LOG4J2-471: prevents deadlock when the RingBuffer is full and the object
+            // being logged calls Logger.log() from its toString() method
+            queueFullCounters.incrementSynchronous();
+            return false;
+        default:
+            queueFullCounters.incrementDiscarded();
+            return true;
+        }
+    }
+
+    private boolean enqueue(final LogEvent logEvent, final long timeoutMillis) {
+        final RingBuffer<Log4jEventWrapper> ringBuffer = disruptor.getRingBuffer();
+        if (timeoutMillis < 0) {
+            ringBuffer.publishEvent(translator, logEvent, asyncLoggerConfig);
+            return true;
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        do {
+            if (ringBuffer.tryPublishEvent(translator, logEvent, asyncLoggerConfig)) {
+                return true;
+            }
+            LockSupport.parkNanos(RETRY_PARK_NANOS);
+        } while (System.nanoTime() - deadline < 0);
+        return false;
+    }
+
     /**
      * Creates and returns a new {@code RingBufferAdmin} that instruments the
      * ringbuffer of this {@code AsyncLoggerConfig}.
@@ -357,7 +397,8 @@ class AsyncLoggerConfigHelper {
      * @param loggerConfigName name of the logger config
      */
     public RingBufferAdmin createRingBufferAdmin(final String contextName, final String loggerConfigName) {
-        return RingBufferAdmin.forAsyncLoggerConfig(disruptor.getRingBuffer(), contextName, loggerConfigName);
+        return RingBufferAdmin.forAsyncLoggerConfig(disruptor.getRingBuffer(), contextName, loggerConfigName,
+                queueFullCounters);
     }
 
 }
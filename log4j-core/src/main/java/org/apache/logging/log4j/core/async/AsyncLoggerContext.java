@@ -16,46 +16,91 @@
  */
 package org.apache.logging.log4j.core.async;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.net.URI;
 
 import org.apache.logging.log4j.core.Logger;
 import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
 import org.apache.logging.log4j.message.MessageFactory;
 
 /**
  * {@code LoggerContext} that creates {@code AsyncLogger} objects.
+ * <p>
+ * Each AsyncLoggerContext has its own ring buffer and background thread. These are started when the context
+ * receives its first configuration, and stopped when the context is stopped.
+ * </p>
  */
 public class AsyncLoggerContext extends LoggerContext {
 
     private static final long serialVersionUID = 1L;
 
+    private final transient AsyncLoggerDisruptor loggerDisruptor;
+
     public AsyncLoggerContext(final String name) {
         super(name);
+        loggerDisruptor = createDisruptor(name);
     }
 
     public AsyncLoggerContext(final String name, final Object externalContext) {
         super(name, externalContext);
+        loggerDisruptor = createDisruptor(name);
     }
 
     public AsyncLoggerContext(final String name, final Object externalContext,
             final URI configLocn) {
         super(name, externalContext, configLocn);
+        loggerDisruptor = createDisruptor(name);
     }
 
     public AsyncLoggerContext(final String name, final Object externalContext,
             final String configLocn) {
         super(name, externalContext, configLocn);
+        loggerDisruptor = createDisruptor(name);
+    }
+
+    private AsyncLoggerDisruptor createDisruptor(final String name) {
+        final AsyncLoggerDisruptor result = new AsyncLoggerDisruptor(name);
+        addPropertyChangeListener(new PropertyChangeListener() {
+            @Override
+            public void propertyChange(final PropertyChangeEvent evt) {
+                // the ring buffer settings may come from the configuration, so start once the first one is set
+                if (PROPERTY_CONFIG.equals(evt.getPropertyName()) && !isStopping() && !isStopped()) {
+                    result.start((Configuration) evt.getNewValue());
+                }
+            }
+        });
+        return result;
     }
 
     @Override
     protected Logger newInstance(final LoggerContext ctx, final String name,
             final MessageFactory messageFactory) {
-        return new AsyncLogger(ctx, name, messageFactory);
+        return new AsyncLogger(ctx, name, messageFactory, loggerDisruptor);
+    }
+
+    /**
+     * Returns the helper that owns the ring buffer of this context, which is {@code null} for a deserialized context.
+     */
+    AsyncLoggerDisruptor getLoggerDisruptor() {
+        return loggerDisruptor;
+    }
+
+    /**
+     * Creates and returns a new {@code RingBufferAdmin} that instruments the ringbuffer of the {@code AsyncLogger}
+     * objects in this {@code LoggerContext}.
+     *
+     * @return a new {@code RingBufferAdmin}, or {@code null} if the ringbuffer is not running
+     */
+    public RingBufferAdmin createRingBufferAdmin() {
+        return loggerDisruptor.createRingBufferAdmin(getName());
     }
 
     @Override
     public void stop() {
-        AsyncLogger.stop();
+        loggerDisruptor.stop();
         super.stop();
     }
 }
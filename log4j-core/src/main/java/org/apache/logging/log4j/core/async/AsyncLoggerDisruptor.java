@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
+import org.apache.logging.log4j.core.util.Integers;
+import org.apache.logging.log4j.core.util.Loader;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+/**
+ * Owns the Disruptor, its ring buffer and the background thread of one {@code AsyncLoggerContext}, so that
+ * separate contexts do not compete for the same ring buffer and consumer thread.
+ * <p>
+ * The ring buffer size, wait strategy and exception handler are read when the disruptor is started, from the
+ * properties of the context's configuration ({@code <Properties>} in the configuration file) or, if not specified
+ * there, from the system properties with the same name. Changing them requires restarting the context.
+ * </p>
+ */
+class AsyncLoggerDisruptor {
+    private static final int SLEEP_MILLIS_BETWEEN_DRAIN_ATTEMPTS = 50;
+    private static final int MAX_DRAIN_ATTEMPTS_BEFORE_SHUTDOWN = 200;
+    private static final int RINGBUFFER_MIN_SIZE = 128;
+    private static final int RINGBUFFER_DEFAULT_SIZE = 256 * 1024;
+    private static final long RETRY_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+
+    private final String contextName;
+    private volatile Disruptor<RingBufferLogEvent> disruptor;
+    private ExecutorService executor;
+    private volatile long backgroundThreadId;
+    private volatile AsyncQueueFullPolicy queueFullPolicy = new DefaultAsyncQueueFullPolicy();
+    private final AsyncQueueFullCounters queueFullCounters = new AsyncQueueFullCounters();
+
+    AsyncLoggerDisruptor(final String contextName) {
+        this.contextName = contextName;
+    }
+
+    /**
+     * Returns the running Disruptor, or {@code null} if it was not started yet or was stopped.
+     */
+    Disruptor<RingBufferLogEvent> getDisruptor() {
+        return disruptor;
+    }
+
+    /**
+     * Creates and starts the Disruptor and its background thread, unless it is already running.
+     *
+     * @param config the configuration whose properties may override the system properties
+     */
+    synchronized void start(final Configuration config) {
+        if (disruptor != null) {
+            LOGGER.trace("[{}] AsyncLoggerDisruptor already running, ignoring configuration {}", contextName,
+                    config);
+            return;
+        }
+        final int ringBufferSize = calculateRingBufferSize(config);
+        final WaitStrategy waitStrategy = createWaitStrategy(config);
+        executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncLogger[" + contextName + "]-"));
+        executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                // allows the queue-full policy to detect Logger.log() calls initiated from the appender thread,
+                // which would deadlock if they waited for the full RingBuffer (LOG4J2-471)
+                backgroundThreadId = Thread.currentThread().getId();
+            }
+        });
+        queueFullPolicy = AsyncQueueFullPolicyFactory.create();
+
+        final Disruptor<RingBufferLogEvent> temp = new Disruptor<RingBufferLogEvent>(RingBufferLogEvent.FACTORY,
+                ringBufferSize, executor, ProducerType.MULTI, waitStrategy);
+        temp.handleExceptionsWith(getExceptionHandler(config));
+        temp.handleEventsWith(new RingBufferLogEventHandler());
+
+        LOGGER.debug("[{}] Starting AsyncLogger disruptor with ringbuffer size {}, queue-full policy {}...",
+                contextName, temp.getRingBuffer().getBufferSize(), queueFullPolicy);
+        temp.start();
+        disruptor = temp;
+    }
+
+    /**
+     * Waits up to 10 seconds for the ring buffer to drain, then stops the Disruptor and its background thread.
+     */
+    synchronized void stop() {
+        final Disruptor<RingBufferLogEvent> temp = disruptor;
+
+        // Must guarantee that publishing to the RingBuffer has stopped
+        // before we call disruptor.shutdown()
+        disruptor = null; // client code fails with NPE if log after stop = OK
+        if (temp == null) {
+            return; // stop() has already been called
+        }
+        LOGGER.debug("[{}] Stopping AsyncLogger disruptor...", contextName);
+
+        // Calling Disruptor.shutdown() will wait until all enqueued events are fully processed,
+        // but this waiting happens in a busy-spin. To avoid (postpone) wasting CPU,
+        // we sleep in short chunks, up to 10 seconds, waiting for the ringbuffer to drain.
+        for (int i = 0; hasBacklog(temp) && i < MAX_DRAIN_ATTEMPTS_BEFORE_SHUTDOWN; i++) {
+            try {
+                Thread.sleep(SLEEP_MILLIS_BETWEEN_DRAIN_ATTEMPTS); // give up the CPU for a while
+            } catch (final InterruptedException e) { // ignored
+            }
+        }
+        temp.shutdown(); // busy-spins until all events currently in the disruptor have been processed
+        executor.shutdown(); // finally, kill the processor thread
+        executor = null;
+        AsyncLogger.removeThreadInfo(); // LOG4J2-323
+    }
+
+    /**
+     * Publishes the event in the specified translator if there is space in the ring buffer, without waiting.
+     *
+     * @param translator the translator holding the event values
+     * @return {@code true} if the event was published, {@code false} if the ring buffer is full
+     * @throws NullPointerException if the Disruptor is not running (LOG4J2-639)
+     */
+    boolean tryPublish(final RingBufferLogEventTranslator translator) {
+        return disruptor.getRingBuffer().tryPublishEvent(translator);
+    }
+
+    /**
+     * Lets the queue-full policy decide what to do with an event that could not be published because the ring buffer
+     * is full, and counts the events that are discarded or have to be logged synchronously. The translator is cleared
+     * if the event is not published.
+     *
+     * @param translator the translator holding the event values
+     * @param level the level of the event
+     * @return {@code true} if the event was published or discarded, {@code false} if the calling thread needs to log
+     *          the event itself
+     * @throws NullPointerException if the Disruptor is not running (LOG4J2-639)
+     */
+    boolean handleRingBufferFull(final RingBufferLogEventTranslator translator, final Level level) {
+        final AsyncQueueFullPolicy policy = queueFullPolicy;
+        switch (policy.getRoute(backgroundThreadId, level)) {
+        case ENQUEUE:
+            if (!enqueue(translator, policy.getEnqueueTimeoutMillis())) {
+                translator.clear(); // the event will not be published: release its references
+                queueFullCounters.incrementDiscarded();
+            }
+            return true;
+        case SYNCHRONOUS:
+            translator.clear();
+            queueFullCounters.incrementSynchronous();
+            return false;
+        default:
+            translator.clear();
+            queueFullCounters.incrementDiscarded();
+            return true;
+        }
+    }
+
+    private boolean enqueue(final RingBufferLogEventTranslator translator, final long timeoutMillis) {
+        final RingBuffer<RingBufferLogEvent> ringBuffer = disruptor.getRingBuffer();
+        if (timeoutMillis < 0) {
+            ringBuffer.publishEvent(translator);
+            return true;
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        do {
+            if (ringBuffer.tryPublishEvent(translator)) {
+                return true;
+            }
+            LockSupport.parkNanos(RETRY_PARK_NANOS);
+        } while (System.nanoTime() - deadline < 0);
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if the specified disruptor still has unprocessed events.
+     */
+    private static boolean hasBacklog(final Disruptor<?> disruptor) {
+        final RingBuffer<?> ringBuffer = disruptor.getRingBuffer();
+        return !ringBuffer.hasAvailableCapacity(ringBuffer.getBufferSize());
+    }
+
+    /**
+     * Creates and returns a new {@code RingBufferAdmin} that instruments the ringbuffer of this Disruptor, or
+     * {@code null} if the Disruptor is not running.
+     *
+     * @param jmxContextName name of the {@code AsyncLoggerContext}
+     */
+    RingBufferAdmin createRingBufferAdmin(final String jmxContextName) {
+        final Disruptor<RingBufferLogEvent> temp = disruptor;
+        return temp == null ? null : RingBufferAdmin.forAsyncLogger(temp.getRingBuffer(), jmxContextName,
+                queueFullCounters);
+    }
+
+    private static String getProperty(final Configuration config, final String name) {
+        final String value = config.getProperties().get(name);
+        return value != null ? value : System.getProperty(name);
+    }
+
+    private int calculateRingBufferSize(final Configuration config) {
+        int ringBufferSize = RINGBUFFER_DEFAULT_SIZE;
+        final String userPreferredRBSize = getProperty(config, "AsyncLogger.RingBufferSize");
+        if (userPreferredRBSize != null) {
+            try {
+                int size = Integer.parseInt(userPreferredRBSize);
+                if (size < RINGBUFFER_MIN_SIZE) {
+                    size = RINGBUFFER_MIN_SIZE;
+                    LOGGER.warn("Invalid RingBufferSize {}, using minimum size {}.", userPreferredRBSize,
+                            RINGBUFFER_MIN_SIZE);
+                }
+                ringBufferSize = size;
+            } catch (final Exception ex) {
+                LOGGER.warn("Invalid RingBufferSize {}, using default size {}.", userPreferredRBSize,
+                        ringBufferSize);
+            }
+        }
+        return Integers.ceilingNextPowerOfTwo(ringBufferSize);
+    }
+
+    private WaitStrategy createWaitStrategy(final Configuration config) {
+        final String strategy = getProperty(config, "AsyncLogger.WaitStrategy");
+        LOGGER.debug("[{}] property AsyncLogger.WaitStrategy={}", contextName, strategy);
+        if ("Sleep".equals(strategy)) {
+            return new SleepingWaitStrategy();
+        } else if ("Yield".equals(strategy)) {
+            return new YieldingWaitStrategy();
+        } else if ("Block".equals(strategy)) {
+            return new BlockingWaitStrategy();
+        }
+        LOGGER.debug("disruptor event handler uses BlockingWaitStrategy");
+        return new BlockingWaitStrategy();
+    }
+
+    private ExceptionHandler getExceptionHandler(final Configuration config) {
+        final String cls = getProperty(config, "AsyncLogger.ExceptionHandler");
+        if (cls == null) {
+            LOGGER.debug("[{}] No AsyncLogger.ExceptionHandler specified", contextName);
+            return null;
+        }
+        try {
+            final ExceptionHandler result = Loader.newCheckedInstanceOf(cls, ExceptionHandler.class);
+            LOGGER.debug("[{}] AsyncLogger.ExceptionHandler={}", contextName, result);
+            return result;
+        } catch (final Exception ignored) {
+            LOGGER.debug("AsyncLogger.ExceptionHandler not set: error creating " + cls + ": ", ignored);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the events that an asynchronous logger or appender did not pass through its queue because the queue was
+ * full.
+ *
+ * @see AsyncQueueFullPolicy
+ * @since 2.2
+ */
+public class AsyncQueueFullCounters {
+
+    private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong synchronous = new AtomicLong();
+
+    /**
+     * Records that an event was discarded.
+     */
+    public void incrementDiscarded() {
+        discarded.incrementAndGet();
+    }
+
+    /**
+     * Records that an event was logged synchronously in the caller thread.
+     */
+    public void incrementSynchronous() {
+        synchronous.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of events discarded because the queue was full.
+     *
+     * @return the number of discarded events
+     */
+    public long getDiscardedCount() {
+        return discarded.get();
+    }
+
+    /**
+     * Returns the number of events logged synchronously in the caller thread because the queue was full.
+     *
+     * @return the number of events that bypassed the queue
+     */
+    public long getSynchronousCount() {
+        return synchronous.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncQueueFullCounters[discarded=" + discarded + ", synchronous=" + synchronous + ']';
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * Policy for asynchronous loggers and appenders to decide what to do with an event when their queue is full.
+ * <p>
+ * Asynchronous loggers and appenders first try to enqueue an event without waiting. Only if the queue is full is
+ * the policy consulted. Select the policy with the {@value AsyncQueueFullPolicyFactory#PROPERTY_NAME_POLICY}
+ * system property.
+ * </p>
+ *
+ * @see AsyncQueueFullPolicyFactory
+ * @since 2.2
+ */
+public interface AsyncQueueFullPolicy {
+
+    /**
+     * Returns the destination for an event that could not be enqueued because the queue is full.
+     *
+     * @param backgroundThreadId the thread ID of the background thread that takes events from the queue, used to
+     *            detect calls made by appenders, which would deadlock if they waited for the queue
+     * @param level the level of the event
+     * @return the destination of the event, never {@code null}
+     */
+    EventRoute getRoute(long backgroundThreadId, Level level);
+
+    /**
+     * Returns how long an event routed to {@link EventRoute#ENQUEUE} may wait for space in the queue, in
+     * milliseconds. Events that still cannot be enqueued after this time are discarded. A negative value means
+     * waiting as long as it takes.
+     *
+     * @return the maximum time to wait for space in the queue, or a negative value to wait indefinitely
+     */
+    long getEnqueueTimeoutMillis();
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.util.Loader;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Creates the {@link AsyncQueueFullPolicy} used by asynchronous loggers and appenders when their queue is full.
+ * <p>
+ * The {@value #PROPERTY_NAME_POLICY} system property selects the policy:
+ * </p>
+ * <ul>
+ * <li>{@code Default} (or not set): the caller waits for space in the queue, see
+ * {@link DefaultAsyncQueueFullPolicy}.</li>
+ * <li>{@code Discard}: events at or below the level in {@value #PROPERTY_NAME_DISCARD_THRESHOLD} (default INFO)
+ * are discarded, see {@link DiscardingAsyncQueueFullPolicy}.</li>
+ * <li>{@code Synchronous}: events are logged in the caller thread, see {@link SynchronousAsyncQueueFullPolicy}.</li>
+ * <li>{@code Timeout}: the caller waits at most the number of milliseconds in
+ * {@value #PROPERTY_NAME_TIMEOUT_MILLIS} (default 10), then the event is discarded, see
+ * {@link TimeoutAsyncQueueFullPolicy}.</li>
+ * <li>the fully qualified name of a class implementing {@link AsyncQueueFullPolicy} with a public no-argument
+ * constructor.</li>
+ * </ul>
+ *
+ * @since 2.2
+ */
+public final class AsyncQueueFullPolicyFactory {
+
+    /**
+     * Name of the system property that selects the queue-full policy.
+     */
+    public static final String PROPERTY_NAME_POLICY = "AsyncQueueFullPolicy";
+
+    /**
+     * Name of the system property with the most specific level discarded by the {@code Discard} policy.
+     */
+    public static final String PROPERTY_NAME_DISCARD_THRESHOLD = "AsyncQueueFullPolicy.DiscardThreshold";
+
+    /**
+     * Name of the system property with the maximum time in milliseconds the {@code Timeout} policy waits.
+     */
+    public static final String PROPERTY_NAME_TIMEOUT_MILLIS = "AsyncQueueFullPolicy.TimeoutMillis";
+
+    static final String DEFAULT = "Default";
+    static final String DISCARD = "Discard";
+    static final String SYNCHRONOUS = "Synchronous";
+    static final String TIMEOUT = "Timeout";
+
+    private static final long DEFAULT_TIMEOUT_MILLIS = 10;
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+
+    private AsyncQueueFullPolicyFactory() {
+    }
+
+    /**
+     * Creates and returns the queue-full policy selected by the system properties.
+     *
+     * @return a new AsyncQueueFullPolicy, never {@code null}
+     */
+    public static AsyncQueueFullPolicy create() {
+        final PropertiesUtil props = PropertiesUtil.getProperties();
+        final String policy = props.getStringProperty(PROPERTY_NAME_POLICY);
+        if (policy == null || DEFAULT.equalsIgnoreCase(policy)) {
+            return new DefaultAsyncQueueFullPolicy();
+        }
+        if (DISCARD.equalsIgnoreCase(policy)) {
+            final String level = props.getStringProperty(PROPERTY_NAME_DISCARD_THRESHOLD, Level.INFO.name());
+            return new DiscardingAsyncQueueFullPolicy(Level.toLevel(level, Level.INFO));
+        }
+        if (SYNCHRONOUS.equalsIgnoreCase(policy)) {
+            return new SynchronousAsyncQueueFullPolicy();
+        }
+        if (TIMEOUT.equalsIgnoreCase(policy)) {
+            final long timeout = props.getLongProperty(PROPERTY_NAME_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS);
+            return new TimeoutAsyncQueueFullPolicy(Math.max(0, timeout));
+        }
+        try {
+            return Loader.newCheckedInstanceOf(policy, AsyncQueueFullPolicy.class);
+        } catch (final Exception ex) {
+            LOGGER.error("Could not create AsyncQueueFullPolicy {}, using default policy: {}", policy, ex.toString());
+            return new DefaultAsyncQueueFullPolicy();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Factory for the {@link BlockingQueue} that an {@link org.apache.logging.log4j.core.appender.AsyncAppender} uses to
+ * hand off events to its background thread. Implementations are plugins with element type
+ * {@value #ELEMENT_TYPE} so they can be configured as a child element of the {@code Async} appender.
+ *
+ * @since 2.2
+ */
+public interface BlockingQueueFactory {
+
+    /**
+     * The {@code elementType} of BlockingQueueFactory plugins.
+     */
+    String ELEMENT_TYPE = "BlockingQueueFactory";
+
+    /**
+     * Creates a new bounded BlockingQueue.
+     *
+     * @param capacity the maximum number of elements the queue can hold
+     * @param <E> the type of elements held in the queue
+     * @return a new, empty BlockingQueue
+     */
+    <E> BlockingQueue<E> create(int capacity);
+}
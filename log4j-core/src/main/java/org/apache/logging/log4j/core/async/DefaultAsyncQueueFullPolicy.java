@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * Default queue-full policy: the caller waits until there is space in the queue. Events logged by the background
+ * thread itself, for example by an appender or by the {@code toString} method of a logged object, are logged
+ * synchronously instead, since waiting for the background thread would deadlock (LOG4J2-471).
+ *
+ * @since 2.2
+ */
+public class DefaultAsyncQueueFullPolicy implements AsyncQueueFullPolicy {
+
+    @Override
+    public EventRoute getRoute(final long backgroundThreadId, final Level level) {
+        if (Thread.currentThread().getId() == backgroundThreadId) {
+            return EventRoute.SYNCHRONOUS;
+        }
+        return EventRoute.ENQUEUE;
+    }
+
+    @Override
+    public long getEnqueueTimeoutMillis() {
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.util.Assert;
+
+/**
+ * Queue-full policy that discards events whose level is equally or less specific than a threshold level, for
+ * example INFO, DEBUG and TRACE events if the threshold is INFO. More important events are handled as by the
+ * {@link DefaultAsyncQueueFullPolicy}.
+ *
+ * @since 2.2
+ */
+public class DiscardingAsyncQueueFullPolicy extends DefaultAsyncQueueFullPolicy {
+
+    private final Level thresholdLevel;
+
+    /**
+     * Constructs a policy that discards events at or below the specified level when the queue is full.
+     *
+     * @param thresholdLevel the most specific level of events to discard
+     */
+    public DiscardingAsyncQueueFullPolicy(final Level thresholdLevel) {
+        this.thresholdLevel = Assert.requireNonNull(thresholdLevel, "thresholdLevel");
+    }
+
+    @Override
+    public EventRoute getRoute(final long backgroundThreadId, final Level level) {
+        if (level.isLessSpecificThan(thresholdLevel)) {
+            return EventRoute.DISCARD;
+        }
+        return super.getRoute(backgroundThreadId, level);
+    }
+
+    /**
+     * Returns the most specific level of events this policy discards.
+     *
+     * @return the threshold level
+     */
+    public Level getThresholdLevel() {
+        return thresholdLevel;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[thresholdLevel=" + thresholdLevel + ']';
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+/**
+ * Enumeration over the different destinations where a log event can be sent when the queue of an asynchronous
+ * logger or appender is full.
+ *
+ * @see AsyncQueueFullPolicy
+ * @since 2.2
+ */
+public enum EventRoute {
+    /**
+     * Waits until there is space in the queue, then enqueues the event so it is logged by the background thread.
+     */
+    ENQUEUE,
+
+    /**
+     * Logs the event synchronously in the current thread, bypassing the queue.
+     */
+    SYNCHRONOUS,
+
+    /**
+     * Drops the event without logging it.
+     */
+    DISCARD
+}
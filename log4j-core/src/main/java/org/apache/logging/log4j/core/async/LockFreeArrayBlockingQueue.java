@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded multi-producer, multi-consumer queue backed by a pre-allocated array in which each slot carries a sequence
+ * number, similar to the ring buffer of the LMAX Disruptor. Producers and consumers claim a slot with a single CAS
+ * and never take a lock, so contended producers do not block each other on a monitor.
+ * <p>
+ * The blocking methods wait by spinning briefly, then yielding and finally parking for intervals that double up to
+ * 10 milliseconds, rather than by waiting on a condition, so an idle consumer wakes up rarely; they respond to
+ * interrupts. The iterator is a weakly consistent snapshot that does not
+ * support removal.
+ * </p>
+ *
+ * @param <E> the type of elements held in this queue
+ */
+final class LockFreeArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final int capacity;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    LockFreeArrayBlockingQueue(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive but was " + capacity);
+        }
+        this.capacity = capacity;
+        this.elements = new AtomicReferenceArray<E>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    private int slot(final long index) {
+        return (int) (index % capacity);
+    }
+
+    @Override
+    public boolean offer(final E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        long index = producerIndex.get();
+        for (;;) {
+            final int slot = slot(index);
+            final long diff = sequences.get(slot) - index;
+            if (diff == 0) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    elements.lazySet(slot, e);
+                    sequences.lazySet(slot, index + 1); // publish
+                    return true;
+                }
+                index = producerIndex.get();
+            } else if (diff < 0) {
+                return false; // slot not yet released by a consumer: the queue is full
+            } else {
+                index = producerIndex.get(); // another producer claimed this slot first
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        long index = consumerIndex.get();
+        for (;;) {
+            final int slot = slot(index);
+            final long diff = sequences.get(slot) - (index + 1);
+            if (diff == 0) {
+                if (consumerIndex.compareAndSet(index, index + 1)) {
+                    final E e = elements.get(slot);
+                    elements.lazySet(slot, null);
+                    sequences.lazySet(slot, index + capacity); // release the slot for the next lap
+                    return e;
+                }
+                index = consumerIndex.get();
+            } else if (diff < 0) {
+                return null; // slot not yet published: the queue is empty
+            } else {
+                index = consumerIndex.get(); // another consumer took this slot first
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        final long index = consumerIndex.get();
+        final int slot = slot(index);
+        return sequences.get(slot) == index + 1 ? elements.get(slot) : null;
+    }
+
+    @Override
+    public void put(final E e) throws InterruptedException {
+        int idleCount = 0;
+        while (!offer(e)) {
+            checkInterrupted();
+            idleCount = idle(idleCount);
+        }
+    }
+
+    @Override
+    public boolean offer(final E e, final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int idleCount = 0;
+        while (!offer(e)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            checkInterrupted();
+            idleCount = idle(idleCount);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int idleCount = 0;
+        E e;
+        while ((e = poll()) == null) {
+            checkInterrupted();
+            idleCount = idle(idleCount);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int idleCount = 0;
+        E e;
+        while ((e = poll()) == null) {
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            checkInterrupted();
+            idleCount = idle(idleCount);
+        }
+        return e;
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    /**
+     * Waits a little before the caller retries: spins first, then yields and finally parks, twice as long as the
+     * previous time up to {@link #MAX_PARK_NANOS}.
+     *
+     * @return the updated idle counter
+     */
+    private static int idle(final int idleCount) {
+        if (idleCount < SPIN_TRIES) {
+            return idleCount + 1;
+        }
+        if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+            return idleCount + 1;
+        }
+        final long parkNanos = MIN_PARK_NANOS << (idleCount - SPIN_TRIES - YIELD_TRIES);
+        if (parkNanos >= MAX_PARK_NANOS) {
+            LockSupport.parkNanos(MAX_PARK_NANOS);
+            return idleCount;
+        }
+        LockSupport.parkNanos(parkNanos);
+        return idleCount + 1;
+    }
+
+    @Override
+    public int size() {
+        final long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public int drainTo(final Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(final Collection<? super E> c, final int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int count = 0;
+        E e;
+        while (count < maxElements && (e = poll()) != null) {
+            c.add(e);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> snapshot = new ArrayList<E>(size());
+        final long end = producerIndex.get();
+        for (long index = Math.max(consumerIndex.get(), end - capacity); index < end; index++) {
+            final E e = elements.get(slot(index));
+            if (e != null) {
+                snapshot.add(e);
+            }
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+}
@@ -255,6 +255,11 @@ public class RingBufferLogEvent implements LogEvent {
         out.defaultWriteObject();
     }
 
+    @Override
+    public LogEvent toImmutable() {
+        return createMemento();
+    }
+
     /**
      * Creates and returns a new immutable copy of this {@code RingBufferLogEvent}.
      * 
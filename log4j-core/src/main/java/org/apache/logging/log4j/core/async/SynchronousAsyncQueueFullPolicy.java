@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * Queue-full policy that logs events synchronously in the caller thread instead of waiting for space in the queue.
+ * Events may then appear out of order in the log.
+ *
+ * @since 2.2
+ */
+public class SynchronousAsyncQueueFullPolicy implements AsyncQueueFullPolicy {
+
+    @Override
+    public EventRoute getRoute(final long backgroundThreadId, final Level level) {
+        return EventRoute.SYNCHRONOUS;
+    }
+
+    @Override
+    public long getEnqueueTimeoutMillis() {
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
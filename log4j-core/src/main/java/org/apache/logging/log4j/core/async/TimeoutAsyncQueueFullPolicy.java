@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+/**
+ * Queue-full policy that waits for space in the queue for a limited time and discards the event if none becomes
+ * available. Otherwise behaves like the {@link DefaultAsyncQueueFullPolicy}.
+ *
+ * @since 2.2
+ */
+public class TimeoutAsyncQueueFullPolicy extends DefaultAsyncQueueFullPolicy {
+
+    private final long timeoutMillis;
+
+    /**
+     * Constructs a policy that waits at most the specified time for space in the queue.
+     *
+     * @param timeoutMillis the maximum time to wait in milliseconds
+     */
+    public TimeoutAsyncQueueFullPolicy(final long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative: " + timeoutMillis);
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public long getEnqueueTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[timeoutMillis=" + timeoutMillis + ']';
+    }
+}
@@ -33,32 +33,28 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.logging.log4j.Level;
-import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LifeCycle;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AsyncAppender;
 import org.apache.logging.log4j.core.appender.ConsoleAppender;
 import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
-import org.apache.logging.log4j.core.async.AsyncLoggerContextSelector;
 import org.apache.logging.log4j.core.config.plugins.util.PluginBuilder;
 import org.apache.logging.log4j.core.config.plugins.util.PluginManager;
 import org.apache.logging.log4j.core.config.plugins.util.PluginType;
 import org.apache.logging.log4j.core.filter.AbstractFilterable;
-import org.apache.logging.log4j.core.impl.Log4jContextFactory;
 import org.apache.logging.log4j.core.layout.PatternLayout;
 import org.apache.logging.log4j.core.lookup.Interpolator;
 import org.apache.logging.log4j.core.lookup.MapLookup;
 import org.apache.logging.log4j.core.lookup.StrLookup;
 import org.apache.logging.log4j.core.lookup.StrSubstitutor;
 import org.apache.logging.log4j.core.net.Advertiser;
-import org.apache.logging.log4j.core.selector.ContextSelector;
 import org.apache.logging.log4j.core.util.Assert;
 import org.apache.logging.log4j.core.util.Constants;
 import org.apache.logging.log4j.core.util.Loader;
 import org.apache.logging.log4j.core.util.NameUtil;
-import org.apache.logging.log4j.spi.LoggerContextFactory;
 import org.apache.logging.log4j.util.PropertiesUtil;
 
 /**
@@ -170,6 +166,9 @@ public abstract class AbstractConfiguration extends AbstractFilterable implement
         if (!alreadyStarted.contains(root)) { // LOG4J2-392
             root.start(); // LOG4J2-336
         }
+        if (monitor instanceof LifeCycle) {
+            ((LifeCycle) monitor).start();
+        }
         super.start();
         LOGGER.debug("Started configuration {} OK.", this);
     }
@@ -181,22 +180,12 @@ public abstract class AbstractConfiguration extends AbstractFilterable implement
     public void stop() {
         this.setStopping();
         LOGGER.trace("Stopping {}...", this);
-
-        // LOG4J2-392 first stop AsyncLogger Disruptor thread
-        final LoggerContextFactory factory = LogManager.getFactory();
-        if (factory instanceof Log4jContextFactory) {
-            final ContextSelector selector = ((Log4jContextFactory) factory).getSelector();
-            if (selector instanceof AsyncLoggerContextSelector) { // all loggers are async
-                // TODO until LOG4J2-493 is fixed we can only stop AsyncLogger once!
-                // but LoggerContext.setConfiguration will call config.stop()
-                // every time the configuration changes...
-                //
-                // Uncomment the line below after LOG4J2-493 is fixed
-                //AsyncLogger.stop();
-                //LOGGER.trace("AbstractConfiguration stopped AsyncLogger disruptor.");
-            }
+        if (monitor instanceof LifeCycle) {
+            ((LifeCycle) monitor).stop();
         }
-        // similarly, first stop AsyncLoggerConfig Disruptor thread(s)
+
+        // LOG4J2-392 the AsyncLogger Disruptor thread is stopped by AsyncLoggerContext before its configuration,
+        // so first stop AsyncLoggerConfig Disruptor thread(s)
         final Set<LoggerConfig> alreadyStopped = new HashSet<LoggerConfig>();
         int asyncLoggerConfigCount = 0;
         for (final LoggerConfig logger : loggers.values()) {
@@ -664,6 +653,30 @@ public abstract class AbstractConfiguration extends AbstractFilterable implement
         return loggers.get(name);
     }
 
+    /**
+     * Adds a Filter to this configuration. Loggers keep the configuration's filter, so after addFilter is called
+     * LoggerContext.updateLoggers must be called. {@link org.apache.logging.log4j.core.LoggerContext#addFilter(Filter)}
+     * does both.
+     *
+     * @param filter The Filter to add.
+     */
+    @Override
+    public synchronized void addFilter(final Filter filter) {
+        super.addFilter(filter);
+    }
+
+    /**
+     * Removes a Filter from this configuration. Loggers keep the configuration's filter, so after removeFilter is
+     * called LoggerContext.updateLoggers must be called.
+     * {@link org.apache.logging.log4j.core.LoggerContext#removeFilter(Filter)} does both.
+     *
+     * @param filter The Filter to remove.
+     */
+    @Override
+    public synchronized void removeFilter(final Filter filter) {
+        super.removeFilter(filter);
+    }
+
     /**
      * Add a loggerConfig. The LoggerConfig must already be configured with Appenders, Filters, etc.
      * After addLogger is called LoggerContext.updateLoggers must be called.
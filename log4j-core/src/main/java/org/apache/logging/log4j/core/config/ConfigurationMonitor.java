@@ -18,6 +18,11 @@ package org.apache.logging.log4j.core.config;
 
 /**
  * Interface that must be implemented to provide notification of configuration changes.
+ * <p>
+ * Logging calls do not consult the monitor. A monitor that needs to poll for changes should also implement
+ * {@link org.apache.logging.log4j.core.LifeCycle LifeCycle}; the Configuration starts it when the Configuration
+ * starts and stops it when the Configuration stops.
+ * </p>
  */
 public interface ConfigurationMonitor {
 
@@ -17,39 +17,41 @@
 package org.apache.logging.log4j.core.config;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.AbstractLifeCycle;
+import org.apache.logging.log4j.core.async.DaemonThreadFactory;
 
 /**
- * Configuration monitor that periodically checks the timestamp of the configuration file and calls the
- * ConfigurationListeners when an update occurs.
+ * Configuration monitor that periodically checks the timestamps of the configuration file and of the files it
+ * includes, and calls the ConfigurationListeners when one of them is updated. Once started, the checks run on a
+ * background thread, so logging calls never have to consult the monitor.
  */
-public class FileConfigurationMonitor implements ConfigurationMonitor {
+public class FileConfigurationMonitor extends AbstractLifeCycle implements ConfigurationMonitor {
 
-    private static final int MASK = 0x0f;
+    private static final long serialVersionUID = 1L;
 
     private static final int MIN_INTERVAL = 5;
 
     private static final int MILLIS_PER_SECOND = 1000;
 
-    private final File file;
+    private final List<File> files;
 
-    private long lastModified;
+    private final long[] lastModified;
 
     private final List<ConfigurationListener> listeners;
 
     private final int interval;
 
-    private long nextCheck;
-
-    private final AtomicInteger counter = new AtomicInteger(0);
-
-    private static final Lock LOCK = new ReentrantLock();
-
     private final Reconfigurable reconfigurable;
 
+    private transient ScheduledExecutorService executor;
+
     /**
      * Constructor.
      * @param reconfigurable The Configuration that can be reconfigured.
@@ -60,51 +62,96 @@ public class FileConfigurationMonitor implements ConfigurationMonitor {
     public FileConfigurationMonitor(final Reconfigurable reconfigurable, final File file,
                                     final List<ConfigurationListener> listeners,
                                     final int interval) {
+        this(reconfigurable, Collections.singletonList(file), listeners, interval);
+    }
+
+    /**
+     * Constructor.
+     * @param reconfigurable The Configuration that can be reconfigured.
+     * @param files The configuration file followed by any files it includes.
+     * @param listeners The List of ConfigurationListeners to notify upon a change.
+     * @param interval The monitor interval in seconds. The minimum interval is 5 seconds.
+     * @since 2.2
+     */
+    public FileConfigurationMonitor(final Reconfigurable reconfigurable, final List<File> files,
+                                    final List<ConfigurationListener> listeners,
+                                    final int interval) {
         this.reconfigurable = reconfigurable;
-        this.file = file;
-        this.lastModified = file.lastModified();
+        this.files = new ArrayList<File>(files);
+        this.lastModified = new long[files.size()];
+        for (int i = 0; i < lastModified.length; i++) {
+            lastModified[i] = this.files.get(i).lastModified();
+        }
         this.listeners = listeners;
         this.interval = (interval < MIN_INTERVAL ? MIN_INTERVAL : interval) * MILLIS_PER_SECOND;
-        this.nextCheck = System.currentTimeMillis() + interval;
     }
 
     /**
-     * Called to determine if the configuration has changed.
+     * Starts checking the monitored files on a background thread.
      */
     @Override
-    public void checkConfiguration() {
-        final long current = System.currentTimeMillis();
-        if (((counter.incrementAndGet() & MASK) == 0) && (current >= nextCheck)) {
-            LOCK.lock();
-            try {
-                nextCheck = current + interval;
-                if (file.lastModified() > lastModified) {
-                    lastModified = file.lastModified();
-                    for (final ConfigurationListener listener : listeners) {
-                        final Thread thread = new Thread(new ReconfigurationWorker(listener, reconfigurable));
-                        thread.setDaemon(true);
-                        thread.start();
-                    }
-                }
-            } finally {
-                LOCK.unlock();
-            }
+    public synchronized void start() {
+        if (executor != null) {
+            return;
         }
+        setStarting();
+        executor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("FileConfigurationMonitor-"));
+        executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                checkConfiguration();
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        setStarted();
     }
 
-    private class ReconfigurationWorker implements Runnable {
-
-        private final ConfigurationListener listener;
-        private final Reconfigurable reconfigurable;
+    /**
+     * Stops the background thread. Does not wait for a reconfiguration that is in progress, because that
+     * reconfiguration may be what stops this monitor.
+     */
+    @Override
+    public synchronized void stop() {
+        setStopping();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        setStopped();
+    }
 
-        public ReconfigurationWorker(final ConfigurationListener listener, final Reconfigurable reconfigurable) {
-            this.listener = listener;
-            this.reconfigurable = reconfigurable;
+    /**
+     * Checks the monitored files now and notifies the listeners if any of them has been updated. Called from the
+     * background thread once this monitor is started.
+     */
+    @Override
+    public void checkConfiguration() {
+        if (isModified()) {
+            for (final ConfigurationListener listener : listeners) {
+                listener.onChange(reconfigurable);
+            }
         }
+    }
 
-        @Override
-        public void run() {
-            listener.onChange(reconfigurable);
+    private boolean isModified() {
+        synchronized (lastModified) {
+            boolean modified = false;
+            for (int i = 0; i < lastModified.length; i++) {
+                final long current = files.get(i).lastModified();
+                if (current > lastModified[i]) {
+                    lastModified[i] = current;
+                    modified = true;
+                }
+            }
+            return modified;
         }
     }
+
+    /**
+     * Returns the files this monitor checks: the configuration file followed by the files it includes.
+     * @return the monitored files.
+     * @since 2.2
+     */
+    public List<File> getFiles() {
+        return Collections.unmodifiableList(files);
+    }
 }
@@ -47,6 +47,7 @@ import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.filter.AbstractFilterable;
 import org.apache.logging.log4j.core.impl.DefaultLogEventFactory;
 import org.apache.logging.log4j.core.impl.LogEventFactory;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 import org.apache.logging.log4j.core.lookup.StrSubstitutor;
 import org.apache.logging.log4j.core.util.Booleans;
 import org.apache.logging.log4j.core.util.Constants;
@@ -67,14 +68,26 @@ public class LoggerConfig extends AbstractFilterable {
     private static LogEventFactory LOG_EVENT_FACTORY = null;
 
     private List<AppenderRef> appenderRefs = new ArrayList<AppenderRef>();
+    private static final AppenderControl[] NO_APPENDERS = new AppenderControl[0];
+
     private final Map<String, AppenderControl> appenders = new ConcurrentHashMap<String, AppenderControl>();
+    /**
+     * Snapshot of the appenders values that log events are dispatched to, replaced whenever the appenders change.
+     */
+    private volatile AppenderControl[] appenderArray = NO_APPENDERS;
+    private volatile LoggerConfigDispatch dispatch = LoggerConfigDispatch.NONE;
+    /**
+     * Counts the changes to the appenders, filters, additivity and parent of this LoggerConfig, so that the
+     * {@link LoggerConfigDispatch} of this LoggerConfig and of its children can tell whether it is still current.
+     */
+    private final AtomicInteger modCount = new AtomicInteger();
     private final String name;
     private LogEventFactory logEventFactory;
     private Level level;
     private boolean additive = true;
     private boolean includeLocation = true;
     private LoggerConfig parent;
-    private final AtomicInteger counter = new AtomicInteger();
+    private final StripedCounter counter = new StripedCounter();
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
     private final Map<Property, Boolean> properties;
     private final Configuration config;
@@ -171,6 +184,7 @@ public class LoggerConfig extends AbstractFilterable {
      */
     public void setParent(final LoggerConfig parent) {
         this.parent = parent;
+        modified();
     }
 
     /**
@@ -191,8 +205,20 @@ public class LoggerConfig extends AbstractFilterable {
      */
     public void addAppender(final Appender appender, final Level level,
             final Filter filter) {
-        appenders.put(appender.getName(), new AppenderControl(appender, level,
-                filter));
+        synchronized (appenders) {
+            appenders.put(appender.getName(), new AppenderControl(appender, level,
+                    filter));
+            updateAppenderArray();
+        }
+        modified();
+    }
+
+    /**
+     * Rebuilds the array of appenders events are dispatched to. Must be called while holding the appenders lock.
+     */
+    private void updateAppenderArray() {
+        appenderArray = appenders.isEmpty() ? NO_APPENDERS
+                : appenders.values().toArray(new AppenderControl[appenders.size()]);
     }
 
     /**
@@ -201,7 +227,12 @@ public class LoggerConfig extends AbstractFilterable {
      * @param name The name of the Appender.
      */
     public void removeAppender(final String name) {
-        final AppenderControl ctl = appenders.remove(name);
+        final AppenderControl ctl;
+        synchronized (appenders) {
+            ctl = appenders.remove(name);
+            updateAppenderArray();
+        }
+        modified();
         if (ctl != null) {
             cleanupFilter(ctl);
         }
@@ -226,12 +257,21 @@ public class LoggerConfig extends AbstractFilterable {
      * Removes all Appenders.
      */
     protected void clearAppenders() {
+        // makes events that have not been counted in flight yet take the regular path, which waitForCompletion covers
+        modified();
         waitForCompletion();
-        final Collection<AppenderControl> controls = appenders.values();
-        final Iterator<AppenderControl> iterator = controls.iterator();
-        while (iterator.hasNext()) {
-            final AppenderControl ctl = iterator.next();
-            iterator.remove();
+        final Collection<AppenderControl> removed = new ArrayList<AppenderControl>();
+        synchronized (appenders) {
+            final Collection<AppenderControl> controls = appenders.values();
+            final Iterator<AppenderControl> iterator = controls.iterator();
+            while (iterator.hasNext()) {
+                removed.add(iterator.next());
+                iterator.remove();
+            }
+            updateAppenderArray();
+        }
+        modified();
+        for (final AppenderControl ctl : removed) {
             cleanupFilter(ctl);
         }
     }
@@ -307,6 +347,47 @@ public class LoggerConfig extends AbstractFilterable {
      */
     public void setAdditive(final boolean additive) {
         this.additive = additive;
+        modified();
+    }
+
+    @Override
+    public synchronized void addFilter(final Filter filter) {
+        super.addFilter(filter);
+        modified();
+    }
+
+    @Override
+    public synchronized void removeFilter(final Filter filter) {
+        super.removeFilter(filter);
+        modified();
+    }
+
+    int getModCount() {
+        return modCount.get();
+    }
+
+    private void modified() {
+        modCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the appenders events are dispatched to.
+     */
+    AppenderControl[] getAppenderControls() {
+        return appenderArray;
+    }
+
+    /**
+     * Precomputes how events are dispatched to the appenders of this LoggerConfig and its additive parents, unless
+     * that is still current. {@link org.apache.logging.log4j.core.LoggerContext#updateLoggers()} calls this for the
+     * LoggerConfig of every Logger; otherwise it happens on the first event after a change.
+     *
+     * @since 2.2
+     */
+    public void updateDispatch() {
+        if (!dispatch.isCurrent()) {
+            dispatch = LoggerConfigDispatch.create(this);
+        }
     }
 
     /**
@@ -364,7 +445,11 @@ public class LoggerConfig extends AbstractFilterable {
             }
         }
         final LogEvent event = logEventFactory.createEvent(loggerName, marker, fqcn, level, data, props, t);
-        log(event);
+        try {
+            log(event);
+        } finally {
+            ReusableLogEventFactory.release(event);
+        }
     }
 
     /**
@@ -376,7 +461,7 @@ public class LoggerConfig extends AbstractFilterable {
         try {
             if (shutdown.compareAndSet(false, true)) {
                 int retries = 0;
-                while (counter.get() > 0) {
+                while (counter.sum() > 0) {
                     try {
                         noLogEvents.await(retries + 1, TimeUnit.SECONDS);
                     } catch (final InterruptedException ie) {
@@ -397,8 +482,15 @@ public class LoggerConfig extends AbstractFilterable {
      * @param event The log event.
      */
     public void log(final LogEvent event) {
+        final LoggerConfigDispatch current = dispatch;
+        if (current.isFlat() && current.log(event)) {
+            return;
+        }
+        if (!current.isCurrent()) {
+            updateDispatch();
+        }
 
-        counter.incrementAndGet();
+        beforeLogEvent();
         try {
             if (isFiltered(event)) {
                 return;
@@ -412,22 +504,38 @@ public class LoggerConfig extends AbstractFilterable {
                 parent.log(event);
             }
         } finally {
-            if (counter.decrementAndGet() == 0) {
-                shutdownLock.lock();
-                try {
-                    if (shutdown.get()) {
-                        noLogEvents.signalAll();
-                    }
-                } finally {
-                    shutdownLock.unlock();
-                }
+            afterLogEvent();
+        }
+    }
+
+    /**
+     * Counts an event in flight.
+     */
+    void beforeLogEvent() {
+        counter.increment();
+    }
+
+    /**
+     * Counts an event as completed.
+     */
+    void afterLogEvent() {
+        counter.decrement();
+        // the striped counter cannot tell whether this was the last event, so wake the waiting thread, which
+        // checks again, whenever an event completes during shutdown
+        if (shutdown.get()) {
+            shutdownLock.lock();
+            try {
+                noLogEvents.signalAll();
+            } finally {
+                shutdownLock.unlock();
             }
         }
     }
 
     protected void callAppenders(final LogEvent event) {
-        for (final AppenderControl control : appenders.values()) {
-            control.callAppender(event);
+        final AppenderControl[] controls = appenderArray;
+        for (int i = 0; i < controls.length; i++) {
+            controls[i].callAppender(event);
         }
     }
 
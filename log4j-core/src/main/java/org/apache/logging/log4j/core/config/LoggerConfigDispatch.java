@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.logging.log4j.core.LogEvent;
+
+/**
+ * How a {@link LoggerConfig} dispatches events, precomputed from the LoggerConfig and its additive parents.
+ * <p>
+ * When none of the LoggerConfigs on the path has a filter or a subclass that changes how events are dispatched, and
+ * all of them agree on including the location, their appenders are flattened into one array. Events are then counted
+ * in flight on every LoggerConfig of the path and passed straight to those appenders, without walking the parents.
+ * Otherwise the dispatch is not flat and events take the regular path through {@link LoggerConfig#log(LogEvent)}.
+ * </p>
+ * <p>
+ * A dispatch records the modification counts of the LoggerConfigs it was computed from; any change to the appenders,
+ * filters, additivity or parent of one of them makes it stale. Changes to other LoggerConfigs, for example those of
+ * another configuration, do not.
+ * </p>
+ */
+final class LoggerConfigDispatch {
+
+    /** Not flat and never current, so that it is replaced on first use. */
+    static final LoggerConfigDispatch NONE = new LoggerConfigDispatch(null, null, null, false);
+
+    // the LoggerConfigs the dispatch depends on and their modification counts; null for NONE
+    private final LoggerConfig[] path;
+    private final int[] modCounts;
+    private final AppenderControl[] appenders;
+    private final boolean includeLocation;
+
+    private LoggerConfigDispatch(final LoggerConfig[] path, final int[] modCounts, final AppenderControl[] appenders,
+            final boolean includeLocation) {
+        this.path = path;
+        this.modCounts = modCounts;
+        this.appenders = appenders;
+        this.includeLocation = includeLocation;
+    }
+
+    /**
+     * Computes the dispatch of a LoggerConfig.
+     *
+     * @param loggerConfig the LoggerConfig.
+     * @return the dispatch.
+     */
+    static LoggerConfigDispatch create(final LoggerConfig loggerConfig) {
+        final List<LoggerConfig> path = new ArrayList<LoggerConfig>();
+        final List<Integer> modCounts = new ArrayList<Integer>();
+        final List<AppenderControl> appenders = new ArrayList<AppenderControl>();
+        final boolean includeLocation = loggerConfig.isIncludeLocation();
+        boolean flat = true;
+        LoggerConfig current = loggerConfig;
+        while (current != null) {
+            // read before the state it covers, so that a concurrent change makes the dispatch stale
+            modCounts.add(current.getModCount());
+            path.add(current);
+            if (!isFlattenable(current) || current.isIncludeLocation() != includeLocation) {
+                // still depends on this LoggerConfig: it may become flattenable
+                flat = false;
+                break;
+            }
+            Collections.addAll(appenders, current.getAppenderControls());
+            current = current.isAdditive() ? current.getParent() : null;
+        }
+        final int[] counts = new int[modCounts.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = modCounts.get(i);
+        }
+        return new LoggerConfigDispatch(path.toArray(new LoggerConfig[path.size()]), counts,
+                flat ? appenders.toArray(new AppenderControl[appenders.size()]) : null, includeLocation);
+    }
+
+    private static boolean isFlattenable(final LoggerConfig loggerConfig) {
+        final Class<?> clazz = loggerConfig.getClass();
+        return (clazz == LoggerConfig.class || clazz == LoggerConfig.RootLogger.class) && !loggerConfig.hasFilter();
+    }
+
+    /**
+     * Tests whether none of the LoggerConfigs this dispatch was computed from has changed since.
+     *
+     * @return {@code true} if the dispatch is current.
+     */
+    boolean isCurrent() {
+        if (path == null) {
+            return false;
+        }
+        for (int i = 0; i < path.length; i++) {
+            if (path[i].getModCount() != modCounts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isFlat() {
+        return appenders != null;
+    }
+
+    /**
+     * Dispatches an event to the flattened appenders, unless the dispatch has become stale.
+     *
+     * @param event the event.
+     * @return {@code false} if the dispatch is stale and the event was not dispatched.
+     */
+    boolean log(final LogEvent event) {
+        for (int i = 0; i < path.length; i++) {
+            path[i].beforeLogEvent();
+        }
+        try {
+            // checked after counting the event, so that LoggerConfig.clearAppenders() either sees the event in
+            // flight or the event sees the new modification count
+            if (!isCurrent()) {
+                return false;
+            }
+            event.setIncludeLocation(includeLocation);
+            for (int i = 0; i < appenders.length; i++) {
+                appenders[i].callAppender(event);
+            }
+            return true;
+        } finally {
+            for (int i = 0; i < path.length; i++) {
+                path[i].afterLogEvent();
+            }
+        }
+    }
+}
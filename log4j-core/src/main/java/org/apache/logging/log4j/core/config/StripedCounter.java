@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the events in flight in a {@link LoggerConfig} without a single contended counter. Each thread increments
+ * and decrements the stripe chosen by its id, and the stripes are padded so that they live on separate cache lines.
+ * <p>
+ * Because a thread always decrements the stripe it incremented, every event that is in flight for the whole of a
+ * call to {@link #sum()} is included in the result, so a result of zero means no event was in flight throughout
+ * the call. That is the same guarantee a single counter gives.
+ * </p>
+ */
+final class StripedCounter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Longs per stripe: 64 bytes, the common cache line size. */
+    private static final int PADDING = 8;
+
+    private static final int MAX_STRIPES = 64;
+
+    private final AtomicLongArray counts;
+    private final int mask;
+
+    StripedCounter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    StripedCounter(final int parallelism) {
+        int stripes = 1;
+        while (stripes < parallelism && stripes < MAX_STRIPES) {
+            stripes <<= 1;
+        }
+        this.mask = stripes - 1;
+        // one extra stripe keeps the first one away from the array header
+        this.counts = new AtomicLongArray((stripes + 1) * PADDING);
+    }
+
+    private int index() {
+        return (((int) Thread.currentThread().getId() & mask) + 1) * PADDING;
+    }
+
+    void increment() {
+        counts.incrementAndGet(index());
+    }
+
+    void decrement() {
+        counts.decrementAndGet(index());
+    }
+
+    long sum() {
+        long sum = 0;
+        for (int i = PADDING; i < counts.length(); i += PADDING) {
+            sum += counts.get(i);
+        }
+        return sum;
+    }
+}
@@ -18,25 +18,66 @@
 package org.apache.logging.log4j.core.config.plugins.processor;
 
 import org.apache.logging.log4j.core.util.Closer;
+import org.apache.logging.log4j.core.util.FileUtils;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
- *
+ * Plugin entries by category and key, as stored in the plugin cache file and the plugin index file.
+ * <p>
+ * The plugin index is the compact, versioned successor of the cache file. It starts with {@link #INDEX_MAGIC} and the
+ * format version, followed by a table of the distinct strings and the entries, which refer to their category, name,
+ * key, class package and simple class name by index into that table. The key is left out when it is the lower case
+ * name. The entries are followed by the packages the index covers completely, that is, the packages of all classes
+ * compiled together with the plugins, so that those packages need not be scanned for plugins missing from the index.
+ * </p>
  */
 public class PluginCache {
+
+    /**
+     * The first four bytes of every plugin index file ("L4JI").
+     *
+     * @since 2.2
+     */
+    public static final int INDEX_MAGIC = 0x4C344A49;
+
+    /**
+     * The plugin index format version written by {@link #writeIndex(OutputStream)}. Index files with another version
+     * are rejected so that the caller can fall back to the plugin cache file.
+     *
+     * @since 2.2
+     */
+    public static final int INDEX_VERSION = 2;
+
+    private static final int FLAG_PRINTABLE = 1;
+    private static final int FLAG_DEFER = 2;
+    private static final int FLAG_KEY_IS_LOWER_CASE_NAME = 4;
+    private static final int MAX_INDEX_STRINGS = 0xFFFF;
+
     private final Map<String, Map<String, PluginEntry>> categories =
         new LinkedHashMap<String, Map<String, PluginEntry>>();
 
+    private final Set<String> indexedPackages = new LinkedHashSet<String>();
+
     /**
      * Returns all categories of plugins in this cache.
      *
@@ -47,6 +88,17 @@ public class PluginCache {
         return categories;
     }
 
+    /**
+     * Returns the packages whose classes were all compiled together with the plugins of this cache, so that every
+     * plugin in them is listed. Only the plugin index stores these packages.
+     *
+     * @return the completely indexed packages, which may be modified.
+     * @since 2.2
+     */
+    public Set<String> getIndexedPackages() {
+        return indexedPackages;
+    }
+
     /**
      * Gets or creates a category of plugins.
      *
@@ -101,31 +153,219 @@ public class PluginCache {
     public void loadCacheFiles(final Enumeration<URL> resources) throws IOException {
         categories.clear();
         while (resources.hasMoreElements()) {
-            final URL url = resources.nextElement();
-            final DataInputStream in = new DataInputStream(new BufferedInputStream(url.openStream()));
-            try {
-                final int count = in.readInt();
-                for (int i = 0; i < count; i++) {
-                    final String category = in.readUTF();
-                    final Map<String, PluginEntry> m = getCategory(category);
-                    final int entries = in.readInt();
-                    for (int j = 0; j < entries; j++) {
-                        final PluginEntry entry = new PluginEntry();
-                        entry.setKey(in.readUTF());
-                        entry.setClassName(in.readUTF());
-                        entry.setName(in.readUTF());
-                        entry.setPrintable(in.readBoolean());
-                        entry.setDefer(in.readBoolean());
-                        entry.setCategory(category);
-                        if (!m.containsKey(entry.getKey())) {
-                            m.put(entry.getKey(), entry);
-                        }
+            loadCacheFile(resources.nextElement());
+        }
+    }
+
+    /**
+     * Merges the entries of a Log4j plugin cache file into this cache. Entries already present take precedence.
+     *
+     * @param url URL of the plugin cache file to load.
+     * @throws IOException if the file cannot be read.
+     * @since 2.2
+     */
+    public void loadCacheFile(final URL url) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(url.openStream()));
+        try {
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final String category = in.readUTF();
+                final Map<String, PluginEntry> m = getCategory(category);
+                final int entries = in.readInt();
+                for (int j = 0; j < entries; j++) {
+                    final PluginEntry entry = new PluginEntry();
+                    entry.setKey(in.readUTF());
+                    entry.setClassName(in.readUTF());
+                    entry.setName(in.readUTF());
+                    entry.setPrintable(in.readBoolean());
+                    entry.setDefer(in.readBoolean());
+                    entry.setCategory(category);
+                    if (!m.containsKey(entry.getKey())) {
+                        m.put(entry.getKey(), entry);
+                    }
+                }
+            }
+        } finally {
+            Closer.closeSilently(in);
+        }
+    }
+
+    /**
+     * Stores this cache as a plugin index to a given OutputStream.
+     *
+     * @param os destination to save the index to.
+     * @throws IOException if the index cannot be written.
+     * @since 2.2
+     */
+    public void writeIndex(final OutputStream os) throws IOException {
+        final Map<String, Integer> strings = new LinkedHashMap<String, Integer>();
+        for (final Map.Entry<String, Map<String, PluginEntry>> category : categories.entrySet()) {
+            intern(strings, category.getKey());
+            for (final PluginEntry plugin : category.getValue().values()) {
+                intern(strings, plugin.getName());
+                if (!isKeyLowerCaseName(plugin)) {
+                    intern(strings, plugin.getKey());
+                }
+                intern(strings, getPackageName(plugin.getClassName()));
+                intern(strings, getSimpleClassName(plugin.getClassName()));
+            }
+        }
+        for (final String indexedPackage : indexedPackages) {
+            intern(strings, indexedPackage);
+        }
+        if (strings.size() > MAX_INDEX_STRINGS) {
+            throw new IOException("Too many distinct plugin names for a plugin index: " + strings.size());
+        }
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        try {
+            out.writeInt(INDEX_MAGIC);
+            out.writeShort(INDEX_VERSION);
+            out.writeShort(strings.size());
+            for (final String string : strings.keySet()) {
+                out.writeUTF(string);
+            }
+            out.writeShort(categories.size());
+            for (final Map.Entry<String, Map<String, PluginEntry>> category : categories.entrySet()) {
+                out.writeShort(strings.get(category.getKey()));
+                final Map<String, PluginEntry> m = category.getValue();
+                out.writeShort(m.size());
+                for (final PluginEntry plugin : m.values()) {
+                    final boolean keyIsName = isKeyLowerCaseName(plugin);
+                    out.writeByte((plugin.isPrintable() ? FLAG_PRINTABLE : 0) | (plugin.isDefer() ? FLAG_DEFER : 0)
+                            | (keyIsName ? FLAG_KEY_IS_LOWER_CASE_NAME : 0));
+                    out.writeShort(strings.get(plugin.getName()));
+                    if (!keyIsName) {
+                        out.writeShort(strings.get(plugin.getKey()));
+                    }
+                    out.writeShort(strings.get(getPackageName(plugin.getClassName())));
+                    out.writeShort(strings.get(getSimpleClassName(plugin.getClassName())));
+                }
+            }
+            out.writeShort(indexedPackages.size());
+            for (final String indexedPackage : indexedPackages) {
+                out.writeShort(strings.get(indexedPackage));
+            }
+        } finally {
+            Closer.closeSilently(out);
+        }
+    }
+
+    private static boolean isKeyLowerCaseName(final PluginEntry plugin) {
+        return plugin.getKey().equals(plugin.getName().toLowerCase());
+    }
+
+    private static String getPackageName(final String className) {
+        final int dot = className.lastIndexOf('.');
+        return dot < 0 ? "" : className.substring(0, dot + 1);
+    }
+
+    private static String getSimpleClassName(final String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static void intern(final Map<String, Integer> strings, final String string) {
+        if (!strings.containsKey(string)) {
+            strings.put(string, strings.size());
+        }
+    }
+
+    /**
+     * Merges the entries and indexed packages of a Log4j plugin index file into this cache. Entries already present
+     * take precedence.
+     *
+     * @param url URL of the plugin index file to load.
+     * @return the packages the index file covers completely.
+     * @throws IOException if the file cannot be read, is not a plugin index or has an unsupported version.
+     * @since 2.2
+     */
+    public Set<String> loadIndexFile(final URL url) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteBufferInputStream(read(url)));
+        try {
+            if (in.readInt() != INDEX_MAGIC) {
+                throw new IOException(url + " is not a plugin index");
+            }
+            final int version = in.readUnsignedShort();
+            if (version != INDEX_VERSION) {
+                throw new IOException("Unsupported version " + version + " of plugin index " + url);
+            }
+            final int stringCount = in.readUnsignedShort();
+            final String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                strings[i] = in.readUTF();
+            }
+            final int count = in.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                final String category = strings[in.readUnsignedShort()];
+                final Map<String, PluginEntry> m = getCategory(category);
+                final int entries = in.readUnsignedShort();
+                for (int j = 0; j < entries; j++) {
+                    final PluginEntry entry = new PluginEntry();
+                    final int flags = in.readUnsignedByte();
+                    entry.setName(strings[in.readUnsignedShort()]);
+                    entry.setKey((flags & FLAG_KEY_IS_LOWER_CASE_NAME) != 0 ? entry.getName().toLowerCase()
+                            : strings[in.readUnsignedShort()]);
+                    final String packageName = strings[in.readUnsignedShort()];
+                    entry.setClassName(packageName + strings[in.readUnsignedShort()]);
+                    entry.setPrintable((flags & FLAG_PRINTABLE) != 0);
+                    entry.setDefer((flags & FLAG_DEFER) != 0);
+                    entry.setCategory(category);
+                    if (!m.containsKey(entry.getKey())) {
+                        m.put(entry.getKey(), entry);
                     }
                 }
+            }
+            final int packageCount = in.readUnsignedShort();
+            final Set<String> packages = new LinkedHashSet<String>(packageCount);
+            for (int i = 0; i < packageCount; i++) {
+                packages.add(strings[in.readUnsignedShort()]);
+            }
+            indexedPackages.addAll(packages);
+            return Collections.unmodifiableSet(packages);
+        } catch (final ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt plugin index " + url);
+        } finally {
+            Closer.closeSilently(in);
+        }
+    }
+
+    /**
+     * Reads a plugin index into a heap buffer. Plain files are read through their channel in one go; the file is not
+     * memory-mapped, as a mapping is only released when garbage collected and keeps the file locked on Windows until
+     * then.
+     */
+    private static ByteBuffer read(final URL url) throws IOException {
+        File file = null;
+        try {
+            file = FileUtils.fileFromUri(url.toURI());
+        } catch (final URISyntaxException e) {
+            // not a file
+        }
+        if (file != null && file.isFile()) {
+            final FileInputStream in = new FileInputStream(file);
+            try {
+                final FileChannel channel = in.getChannel();
+                final ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+                while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                    // keep reading
+                }
+                buffer.flip();
+                return buffer;
             } finally {
                 Closer.closeSilently(in);
             }
         }
+        final InputStream in = url.openStream();
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                bytes.write(buffer, 0, n);
+            }
+            return ByteBuffer.wrap(bytes.toByteArray());
+        } finally {
+            Closer.closeSilently(in);
+        }
     }
 
     /**
@@ -136,4 +376,36 @@ public class PluginCache {
     public int size() {
         return categories.size();
     }
+
+    /**
+     * Reads a ByteBuffer as an InputStream.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
 }
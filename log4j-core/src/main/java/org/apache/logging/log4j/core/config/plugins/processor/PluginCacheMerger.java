@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins.processor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarFile;
+
+/**
+ * Merges the plugin index and cache files of several jars or class directories into one pair of files. Use it when
+ * repackaging jars into a single jar, where the files of the same name would otherwise overwrite each other.
+ * <p>
+ * Usage: {@code java org.apache.logging.log4j.core.config.plugins.processor.PluginCacheMerger <output directory>
+ * <jar or directory>...}
+ * </p>
+ * <p>
+ * For each input, the plugin index is read if present and the plugin cache file otherwise. Plugins of earlier inputs
+ * take precedence over plugins with the same category and key in later ones. Both the index and the cache file are
+ * written below the output directory, at the locations {@link PluginProcessor} uses.
+ * </p>
+ *
+ * @since 2.2
+ */
+public final class PluginCacheMerger {
+
+    private PluginCacheMerger() {
+    }
+
+    /**
+     * Runs the merger.
+     *
+     * @param args the output directory followed by the jars and directories to merge.
+     */
+    public static void main(final String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: java " + PluginCacheMerger.class.getName()
+                    + " <output directory> <jar or directory>...");
+            System.exit(-1);
+        }
+        final List<File> inputs = new ArrayList<File>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.add(new File(args[i]));
+        }
+        try {
+            final PluginCache cache = merge(inputs);
+            write(cache, new File(args[0]));
+            System.out.println("Merged " + cache.size() + " plugin categories from " + inputs.size() + " inputs");
+        } catch (final IOException e) {
+            System.err.println("Unable to merge plugin files: " + e);
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * Merges the plugin files of the given jars and directories. Inputs without plugin files are skipped.
+     *
+     * @param inputs the jars and directories, in order of precedence.
+     * @return the merged plugins.
+     * @throws IOException if a plugin file cannot be read.
+     */
+    public static PluginCache merge(final List<File> inputs) throws IOException {
+        final PluginCache cache = new PluginCache();
+        for (final File input : inputs) {
+            final URL index = find(input, PluginProcessor.PLUGIN_INDEX_FILE);
+            if (index != null) {
+                cache.loadIndexFile(index);
+                continue;
+            }
+            final URL cacheFile = find(input, PluginProcessor.PLUGIN_CACHE_FILE);
+            if (cacheFile != null) {
+                cache.loadCacheFile(cacheFile);
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Writes the plugin index and cache file of the given plugins below a directory.
+     *
+     * @param cache the plugins.
+     * @param outputDirectory the directory, usually the root of the class directory or jar contents.
+     * @throws IOException if a file cannot be written.
+     */
+    public static void write(final PluginCache cache, final File outputDirectory) throws IOException {
+        final File indexFile = new File(outputDirectory, PluginProcessor.PLUGIN_INDEX_FILE);
+        final File cacheFile = new File(outputDirectory, PluginProcessor.PLUGIN_CACHE_FILE);
+        final File dir = indexFile.getParentFile();
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Unable to create directory " + dir);
+        }
+        // both methods close the stream
+        final OutputStream indexOut = new FileOutputStream(indexFile);
+        cache.writeIndex(indexOut);
+        final OutputStream cacheOut = new FileOutputStream(cacheFile);
+        cache.writeCache(cacheOut);
+    }
+
+    private static URL find(final File input, final String resource) throws IOException {
+        if (input.isDirectory()) {
+            final File file = new File(input, resource);
+            return file.isFile() ? file.toURI().toURL() : null;
+        }
+        final JarFile jar = new JarFile(input);
+        try {
+            if (jar.getEntry(resource) == null) {
+                return null;
+            }
+        } finally {
+            jar.close();
+        }
+        return new URL("jar:" + input.toURI().toURL() + "!/" + resource);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.config.plugins.util.GeneratedPluginFactory;
+import org.apache.logging.log4j.core.util.Builder;
+
+/**
+ * Writes the source of a {@link GeneratedPluginFactory} for a plugin class, which calls the plugin's factory method
+ * and builder factory method directly. Plugins without a factory method, or with methods that the generated class,
+ * which lives in the plugin's package, cannot call, get no generated factory;
+ * {@link org.apache.logging.log4j.core.config.plugins.util.PluginBuilder PluginBuilder} then uses reflection.
+ * <p>
+ * Each generated factory records the factory methods it calls in the constant {@value #FACTORY_METHODS_FIELD}.
+ * Factories compiled by an earlier build are generated again. One that is passed back in as a source file, however,
+ * cannot be written again in the same compilation, so it is only accepted if it still calls the same methods;
+ * otherwise the generator reports an error asking for the stale file to be deleted.
+ * </p>
+ */
+final class PluginFactoryGenerator {
+
+    static final String FACTORY_METHODS_FIELD = "FACTORY_METHODS";
+
+    private final ProcessingEnvironment processingEnv;
+    private final Set<? extends Element> sourceElements;
+
+    /**
+     * Constructs a generator.
+     *
+     * @param processingEnv the processing environment
+     * @param sourceElements the types compiled from source in this round
+     */
+    PluginFactoryGenerator(final ProcessingEnvironment processingEnv, final Set<? extends Element> sourceElements) {
+        this.processingEnv = processingEnv;
+        this.sourceElements = sourceElements;
+    }
+
+    /**
+     * Generates the factory of the given plugin class if it has a factory method that can be called directly, along
+     * with its builder factory method, if any.
+     *
+     * @param pluginClass the plugin class
+     * @return {@code true} if a factory was generated
+     * @throws IOException if the source file cannot be written
+     */
+    boolean generate(final TypeElement pluginClass) throws IOException {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(pluginClass);
+        final String generatedName = getGeneratedName(pluginClass, pkg);
+        final ExecutableElement[] methods = findMethods(pluginClass, pkg);
+        final String factoryMethods = methods == null ? null : describe(methods);
+        final TypeElement existing = processingEnv.getElementUtils().getTypeElement(generatedName);
+        if (existing != null && sourceElements.contains(existing)) {
+            // generated by an earlier build and passed back in as a source file
+            if (factoryMethods == null || !factoryMethods.equals(getFactoryMethods(existing))) {
+                processingEnv.getMessager().printMessage(Kind.ERROR, "The plugin factory " + generatedName
+                        + " was generated by an earlier build for other factory methods. Delete it, for example with"
+                        + " a clean build, so that it is generated again.", existing);
+            }
+            return false;
+        }
+        if (methods == null) {
+            return false;
+        }
+        write(pluginClass, pkg, generatedName, methods, factoryMethods);
+        return true;
+    }
+
+    /**
+     * Describes the factory methods a generated factory calls, as recorded in {@value #FACTORY_METHODS_FIELD}.
+     */
+    private String describe(final ExecutableElement[] methods) {
+        final StringBuilder sb = new StringBuilder();
+        appendSignature(sb, methods[0]);
+        if (methods[1] != null) {
+            sb.append(';');
+            appendSignature(sb, methods[1]);
+        }
+        return sb.toString();
+    }
+
+    private void appendSignature(final StringBuilder sb, final ExecutableElement method) {
+        sb.append(method.getSimpleName()).append('(');
+        final List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            sb.append(i == 0 ? "" : ",").append(processingEnv.getTypeUtils().erasure(parameters.get(i).asType()));
+        }
+        sb.append(')');
+    }
+
+    private static String getFactoryMethods(final TypeElement generated) {
+        for (final VariableElement field : ElementFilter.fieldsIn(generated.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(FACTORY_METHODS_FIELD)) {
+                final Object value = field.getConstantValue();
+                return value == null ? null : value.toString();
+            }
+        }
+        return null;
+    }
+
+    private String getGeneratedName(final TypeElement pluginClass, final PackageElement pkg) {
+        final String packageName = pkg.getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(pluginClass).toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + GeneratedPluginFactory.CLASS_NAME_SUFFIX;
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    /**
+     * Returns the factory method and the builder factory method, which may be {@code null}, or {@code null} if the
+     * plugin has no factory method or one of the methods cannot be called directly.
+     */
+    private ExecutableElement[] findMethods(final TypeElement pluginClass, final PackageElement pkg) {
+        if (!isAccessible(pluginClass, pkg)) {
+            return null;
+        }
+        ExecutableElement factory = null;
+        ExecutableElement builderFactory = null;
+        for (final ExecutableElement method : ElementFilter.methodsIn(pluginClass.getEnclosedElements())) {
+            if (!method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (factory == null && method.getAnnotation(PluginFactory.class) != null) {
+                if (!isCallable(method) || !areAccessible(method.getParameters(), pkg)) {
+                    // all or nothing: the builder must not mix generated and reflective calls
+                    return null;
+                }
+                factory = method;
+            }
+            if (builderFactory == null && method.getAnnotation(PluginBuilderFactory.class) != null
+                    && returnsBuilder(method)) {
+                if (!isCallable(method) || !method.getParameters().isEmpty()) {
+                    return null;
+                }
+                builderFactory = method;
+            }
+        }
+        // a plugin with only a builder factory method gains little from a generated factory
+        return factory == null ? null : new ExecutableElement[] {factory, builderFactory};
+    }
+
+    private void write(final TypeElement pluginClass, final PackageElement pkg, final String generatedName,
+            final ExecutableElement[] methods, final String factoryMethods) throws IOException {
+        final ExecutableElement factory = methods[0];
+        final ExecutableElement builderFactory = methods[1];
+        final String packageName = pkg.getQualifiedName().toString();
+        final String simpleName = packageName.isEmpty() ? generatedName
+                : generatedName.substring(packageName.length() + 1);
+        final String className = pluginClass.getQualifiedName().toString();
+        final Writer writer = processingEnv.getFiler().createSourceFile(generatedName, pluginClass).openWriter();
+        final PrintWriter out = new PrintWriter(writer);
+        try {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ';');
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Creates {@link " + className + "} plugins without reflection.");
+            out.println(" * Generated by " + PluginProcessor.class.getName() + ".");
+            out.println(" */");
+            out.println("@SuppressWarnings(\"unchecked\")");
+            out.println("public final class " + simpleName + " implements "
+                    + GeneratedPluginFactory.class.getName() + " {");
+            out.println();
+            out.println("    static final String " + FACTORY_METHODS_FIELD + " = \"" + factoryMethods + "\";");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + Builder.class.getName() + "<?> newBuilder() {");
+            if (builderFactory == null) {
+                out.println("        return null;");
+            } else {
+                out.println("        return " + className + '.' + builderFactory.getSimpleName() + "();");
+            }
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Object createPlugin(final Object[] args) throws Exception {");
+            out.print("        return " + className + '.' + factory.getSimpleName() + '(');
+            final List<? extends VariableElement> parameters = factory.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                out.print(i == 0 ? "" : ", ");
+                out.print("(" + castType(parameters.get(i).asType()) + ") args[" + i + ']');
+            }
+            out.println(");");
+            out.println("    }");
+            out.println("}");
+        } finally {
+            out.close();
+        }
+    }
+
+    private static boolean isCallable(final ExecutableElement method) {
+        return !method.getModifiers().contains(Modifier.PRIVATE);
+    }
+
+    private String castType(final TypeMirror type) {
+        final Types types = processingEnv.getTypeUtils();
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        return types.erasure(type).toString();
+    }
+
+    private boolean returnsBuilder(final ExecutableElement method) {
+        final Types types = processingEnv.getTypeUtils();
+        final TypeElement builder = processingEnv.getElementUtils().getTypeElement(Builder.class.getName());
+        return builder != null
+                && types.isAssignable(types.erasure(method.getReturnType()), types.erasure(builder.asType()));
+    }
+
+    private boolean areAccessible(final List<? extends VariableElement> parameters, final PackageElement pkg) {
+        final Types types = processingEnv.getTypeUtils();
+        for (final VariableElement parameter : parameters) {
+            TypeMirror type = types.erasure(parameter.asType());
+            while (type.getKind() == TypeKind.ARRAY) {
+                type = ((ArrayType) type).getComponentType();
+            }
+            if (type.getKind() == TypeKind.DECLARED && !isAccessible(((DeclaredType) type).asElement(), pkg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the given type can be named from the given package.
+     */
+    private boolean isAccessible(final Element type, final PackageElement pkg) {
+        final boolean samePackage = pkg.equals(processingEnv.getElementUtils().getPackageOf(type));
+        for (Element e = type; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            if (!e.getKind().isClass() && !e.getKind().isInterface()) {
+                // local or anonymous class
+                return false;
+            }
+            final Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
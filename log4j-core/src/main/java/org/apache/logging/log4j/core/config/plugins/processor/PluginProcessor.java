@@ -42,7 +42,9 @@ import java.util.Map;
 import java.util.Set;
 
 /**
- * Annotation processor for pre-scanning Log4j 2 plugins.
+ * Annotation processor for pre-scanning Log4j 2 plugins. Besides the plugin cache and index files, it generates a
+ * {@link org.apache.logging.log4j.core.config.plugins.util.GeneratedPluginFactory GeneratedPluginFactory} for each
+ * plugin whose factory can be called directly.
  */
 @SupportedAnnotationTypes("org.apache.logging.log4j.core.config.plugins.*")
 public class PluginProcessor extends AbstractProcessor {
@@ -55,6 +57,14 @@ public class PluginProcessor extends AbstractProcessor {
      */
     public static final String PLUGIN_CACHE_FILE = "META-INF/org/apache/logging/log4j/core/config/plugins/Log4j2Plugins.dat";
 
+    /**
+     * The location of the plugin index file, the compact and versioned form of the plugin cache file. This processor
+     * writes both; {@link org.apache.logging.log4j.core.config.plugins.util.PluginRegistry} prefers the index.
+     *
+     * @since 2.2
+     */
+    public static final String PLUGIN_INDEX_FILE = "META-INF/org/apache/logging/log4j/core/config/plugins/Log4j2Plugins.idx";
+
     private final PluginCache pluginCache = new PluginCache();
 
     @Override
@@ -65,12 +75,14 @@ public class PluginProcessor extends AbstractProcessor {
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
         try {
+            collectPackages(roundEnv.getRootElements());
             final Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(Plugin.class);
             if (elements.isEmpty()) {
                 return false;
             }
             collectPlugins(elements);
             writeCacheFile(elements.toArray(new Element[elements.size()]));
+            generateFactories(elements, roundEnv.getRootElements());
             return true;
         } catch (final IOException e) {
             error(e.getMessage());
@@ -82,6 +94,36 @@ public class PluginProcessor extends AbstractProcessor {
         processingEnv.getMessager().printMessage(Kind.ERROR, message);
     }
 
+    private void generateFactories(final Iterable<? extends Element> elements,
+            final Set<? extends Element> sourceElements) {
+        final PluginFactoryGenerator generator = new PluginFactoryGenerator(processingEnv, sourceElements);
+        for (final Element element : elements) {
+            if (element instanceof TypeElement) {
+                try {
+                    generator.generate((TypeElement) element);
+                } catch (final IOException e) {
+                    // the plugin still works, through reflection
+                    processingEnv.getMessager().printMessage(Kind.WARNING,
+                            "Unable to generate plugin factory: " + e.getMessage(), element);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the packages of all compiled classes. Their plugins are all in the index, so that the packages need not
+     * be scanned at runtime.
+     */
+    private void collectPackages(final Iterable<? extends Element> rootElements) {
+        final Elements elementUtils = processingEnv.getElementUtils();
+        for (final Element element : rootElements) {
+            final String name = elementUtils.getPackageOf(element).getQualifiedName().toString();
+            if (!name.isEmpty()) {
+                pluginCache.getIndexedPackages().add(name);
+            }
+        }
+    }
+
     private void collectPlugins(final Iterable<? extends Element> elements) {
         final Elements elementUtils = processingEnv.getElementUtils();
         final ElementVisitor<PluginEntry, Plugin> pluginVisitor =
@@ -109,6 +151,14 @@ public class PluginProcessor extends AbstractProcessor {
         } finally {
             out.close();
         }
+        final FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT,
+            Strings.EMPTY, PLUGIN_INDEX_FILE, elements);
+        final OutputStream indexOut = index.openOutputStream();
+        try {
+            pluginCache.writeIndex(indexOut);
+        } finally {
+            indexOut.close();
+        }
     }
 
     /**
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins.util;
+
+import org.apache.logging.log4j.core.util.Builder;
+
+/**
+ * Creates instances of one plugin class without reflection. The
+ * {@link org.apache.logging.log4j.core.config.plugins.processor.PluginProcessor PluginProcessor} generates an
+ * implementation for each plugin whose factory method, and builder factory method if any, it can call directly, and
+ * {@link PluginBuilder} uses it instead of {@code Method.invoke}. Parameter values are still computed by the plugin
+ * visitors; only the call itself is generated.
+ * <p>
+ * The implementation for plugin class {@code com.example.MyAppender} is {@code com.example.MyAppender}
+ * {@value #CLASS_NAME_SUFFIX}.
+ * </p>
+ *
+ * @since 2.2
+ */
+public interface GeneratedPluginFactory {
+
+    /**
+     * The suffix appended to the binary name of a plugin class to name its generated factory.
+     */
+    String CLASS_NAME_SUFFIX = "$Log4jPluginFactory";
+
+    /**
+     * Calls the plugin's {@link org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory builder factory
+     * method}.
+     *
+     * @return a new builder, or {@code null} if the plugin has no builder factory method.
+     */
+    Builder<?> newBuilder();
+
+    /**
+     * Calls the plugin's {@link org.apache.logging.log4j.core.config.plugins.PluginFactory factory method}.
+     *
+     * @param args the arguments of the factory method, in declaration order; primitive parameters take their wrapper
+     *            types.
+     * @return the plugin object returned by the factory method.
+     * @throws Exception anything thrown by the factory method.
+     */
+    Object createPlugin(Object[] args) throws Exception;
+}
@@ -20,9 +20,7 @@ package org.apache.logging.log4j.core.config.plugins.util;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -33,24 +31,34 @@ import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.ConfigurationException;
 import org.apache.logging.log4j.core.config.Node;
 import org.apache.logging.log4j.core.config.plugins.PluginAliases;
-import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
-import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.config.plugins.validation.ConstraintValidator;
 import org.apache.logging.log4j.core.config.plugins.validation.ConstraintValidators;
 import org.apache.logging.log4j.core.config.plugins.visitors.PluginVisitor;
 import org.apache.logging.log4j.core.config.plugins.visitors.PluginVisitors;
 import org.apache.logging.log4j.core.util.Assert;
 import org.apache.logging.log4j.core.util.Builder;
-import org.apache.logging.log4j.core.util.ReflectionUtil;
-import org.apache.logging.log4j.core.util.TypeUtil;
 import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
 
 /**
  * Builder class to instantiate and configure a Plugin object using a PluginFactory method or PluginBuilderFactory
  * builder class.
+ * <p>
+ * The factory methods of a plugin class are looked up once per {@link PluginType}, and are called through the
+ * {@link GeneratedPluginFactory} of the plugin class when the plugin processor generated one. Setting the system
+ * property {@value #DISABLE_GENERATED_FACTORIES_PROPERTY} to {@code true} looks the methods up again for every plugin
+ * object and calls them through reflection, as earlier versions did.
+ * </p>
  */
 public class PluginBuilder implements Builder<Object> {
 
+    /**
+     * System property that disables the cached factory methods and the generated plugin factories.
+     *
+     * @since 2.2
+     */
+    public static final String DISABLE_GENERATED_FACTORIES_PROPERTY = "log4j2.disable.generatedPluginFactories";
+
     private static final Logger LOGGER = StatusLogger.getLogger();
 
     private final PluginType<?> pluginType;
@@ -111,12 +119,18 @@ public class PluginBuilder implements Builder<Object> {
     @Override
     public Object build() {
         verify();
+        final PluginFactoryMethods methods =
+                PropertiesUtil.getProperties().getBooleanProperty(DISABLE_GENERATED_FACTORIES_PROPERTY)
+                ? PluginFactoryMethods.of(this.clazz, false) : pluginType.getFactoryMethods();
         // first try to use a builder class if one is available
         try {
             LOGGER.debug("Building Plugin[name={}, class={}]. Searching for builder factory method...", pluginType.getElementName(),
                     pluginType.getPluginClass().getName());
-            final Builder<?> builder = createBuilder(this.clazz);
-            if (builder != null) {
+            final Builder<?> builder = methods.newBuilder();
+            if (builder == null) {
+                LOGGER.debug("No builder factory method found in class {}. Going to try finding a factory method "
+                        + "instead.", this.clazz.getName());
+            } else {
                 injectFields(builder);
                 final Object result = builder.build();
                 LOGGER.debug("Built Plugin[name={}] OK from builder factory method.", pluginType.getElementName());
@@ -130,9 +144,11 @@ public class PluginBuilder implements Builder<Object> {
         try {
             LOGGER.debug("Still building Plugin[name={}, class={}]. Searching for factory method...",
                     pluginType.getElementName(), pluginType.getPluginClass().getName());
-            final Method factory = findFactoryMethod(this.clazz);
-            final Object[] params = generateParameters(factory);
-            final Object plugin = factory.invoke(null, params);
+            if (methods.getFactory() == null) {
+                throw new IllegalStateException("No factory method found for class " + this.clazz.getName());
+            }
+            final Object[] params = generateParameters(methods);
+            final Object plugin = methods.createPlugin(params);
             LOGGER.debug("Built Plugin[name={}] OK from factory method.", pluginType.getElementName());
             return plugin;
         } catch (final Exception e) {
@@ -147,24 +163,6 @@ public class PluginBuilder implements Builder<Object> {
         Assert.requireNonNull(this.node, "No Node object was set.");
     }
 
-    private static Builder<?> createBuilder(final Class<?> clazz)
-        throws InvocationTargetException, IllegalAccessException {
-        for (final Method method : clazz.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(PluginBuilderFactory.class) &&
-                Modifier.isStatic(method.getModifiers()) &&
-                TypeUtil.isAssignable(Builder.class, method.getGenericReturnType())) {
-                ReflectionUtil.makeAccessible(method);
-                @SuppressWarnings("unchecked")
-                final Builder<?> builder = (Builder<?>) method.invoke(null);
-                LOGGER.debug("Found builder factory method [{}]: {}.", method.getName(), method);
-                return builder;
-            }
-        }
-        LOGGER.debug("No builder factory method found in class {}. Going to try finding a factory method instead.",
-            clazz.getName());
-        return null;
-    }
-
     private void injectFields(final Builder<?> builder) throws IllegalAccessException {
         final Field[] fields = builder.getClass().getDeclaredFields();
         AccessibleObject.setAccessible(fields, true);
@@ -214,22 +212,11 @@ public class PluginBuilder implements Builder<Object> {
         verifyNodeChildrenUsed();
     }
 
-    private static Method findFactoryMethod(final Class<?> clazz) {
-        for (final Method method : clazz.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(PluginFactory.class) &&
-                Modifier.isStatic(method.getModifiers())) {
-                LOGGER.debug("Found factory method [{}]: {}.", method.getName(), method);
-                ReflectionUtil.makeAccessible(method);
-                return method;
-            }
-        }
-        throw new IllegalStateException("No factory method found for class " + clazz.getName());
-    }
-
-    private Object[] generateParameters(final Method factory) {
+    private Object[] generateParameters(final PluginFactoryMethods methods) {
+        final Method factory = methods.getFactory();
         final StringBuilder log = new StringBuilder();
-        final Class<?>[] types = factory.getParameterTypes();
-        final Annotation[][] annotations = factory.getParameterAnnotations();
+        final Class<?>[] types = methods.getParameterTypes();
+        final Annotation[][] annotations = methods.getParameterAnnotations();
         final Object[] args = new Object[annotations.length];
         boolean invalid = false;
         for (int i = 0; i < annotations.length; i++) {
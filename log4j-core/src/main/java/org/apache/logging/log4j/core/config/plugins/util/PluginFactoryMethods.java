@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.util.Builder;
+import org.apache.logging.log4j.core.util.ReflectionUtil;
+import org.apache.logging.log4j.core.util.TypeUtil;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * The factory method, builder factory method and generated factory of a plugin class, looked up once per
+ * {@link PluginType} instead of once per configuration node.
+ */
+final class PluginFactoryMethods {
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private final Method builderFactory;
+    private final Method factory;
+    private final Class<?>[] parameterTypes;
+    private final Annotation[][] parameterAnnotations;
+    private final GeneratedPluginFactory generatedFactory;
+
+    private PluginFactoryMethods(final Method builderFactory, final Method factory,
+            final GeneratedPluginFactory generatedFactory) {
+        this.builderFactory = builderFactory;
+        this.factory = factory;
+        this.parameterTypes = factory == null ? null : factory.getParameterTypes();
+        this.parameterAnnotations = factory == null ? null : factory.getParameterAnnotations();
+        this.generatedFactory = generatedFactory;
+    }
+
+    /**
+     * Looks up the methods of the given plugin class.
+     *
+     * @param clazz the plugin class
+     * @param useGeneratedFactory whether to load the class generated by the plugin processor
+     * @return the methods, some of which may be {@code null}
+     */
+    static PluginFactoryMethods of(final Class<?> clazz, final boolean useGeneratedFactory) {
+        Method builderFactory = null;
+        Method factory = null;
+        for (final Method method : clazz.getDeclaredMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            if (builderFactory == null && method.isAnnotationPresent(PluginBuilderFactory.class)
+                    && TypeUtil.isAssignable(Builder.class, method.getGenericReturnType())) {
+                LOGGER.debug("Found builder factory method [{}]: {}.", method.getName(), method);
+                ReflectionUtil.makeAccessible(method);
+                builderFactory = method;
+            } else if (factory == null && method.isAnnotationPresent(PluginFactory.class)) {
+                LOGGER.debug("Found factory method [{}]: {}.", method.getName(), method);
+                ReflectionUtil.makeAccessible(method);
+                factory = method;
+            }
+        }
+        return new PluginFactoryMethods(builderFactory, factory,
+                useGeneratedFactory ? loadGeneratedFactory(clazz) : null);
+    }
+
+    private static GeneratedPluginFactory loadGeneratedFactory(final Class<?> clazz) {
+        final String name = clazz.getName() + GeneratedPluginFactory.CLASS_NAME_SUFFIX;
+        try {
+            final Class<?> generated = Class.forName(name, true, clazz.getClassLoader());
+            if (GeneratedPluginFactory.class.isAssignableFrom(generated)) {
+                LOGGER.debug("Found generated plugin factory {}.", name);
+                return (GeneratedPluginFactory) generated.newInstance();
+            }
+        } catch (final ClassNotFoundException e) {
+            // the plugin was not compiled with the plugin processor
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to instantiate generated plugin factory {}.", name, e);
+        } catch (final LinkageError e) {
+            LOGGER.debug("Unable to load generated plugin factory {}.", name, e);
+        }
+        return null;
+    }
+
+    Method getBuilderFactory() {
+        return builderFactory;
+    }
+
+    Method getFactory() {
+        return factory;
+    }
+
+    Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    Annotation[][] getParameterAnnotations() {
+        return parameterAnnotations;
+    }
+
+    /**
+     * Calls the builder factory method.
+     *
+     * @return a new builder, or {@code null} if the plugin has no builder factory method
+     */
+    Builder<?> newBuilder() throws Exception {
+        if (builderFactory == null) {
+            return null;
+        }
+        if (generatedFactory != null) {
+            return generatedFactory.newBuilder();
+        }
+        return (Builder<?>) builderFactory.invoke(null);
+    }
+
+    /**
+     * Calls the factory method.
+     *
+     * @param args the arguments
+     * @return the plugin
+     */
+    Object createPlugin(final Object[] args) throws Exception {
+        if (generatedFactory != null) {
+            return generatedFactory.createPlugin(args);
+        }
+        return factory.invoke(null, args);
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.logging.log4j.util.Strings;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,21 +94,27 @@ public class PluginManager {
     }
 
     /**
-     * Returns the type of a specified plugin.
+     * Returns the type of a specified plugin, loading its class if necessary.
      * 
      * @param name The name of the plugin.
-     * @return The plugin's type.
+     * @return The plugin's type, or {@code null} if there is no such plugin or its class cannot be loaded.
      */
     public PluginType<?> getPluginType(final String name) {
-        return plugins.get(name.toLowerCase());
+        final PluginType<?> type = plugins.get(name.toLowerCase());
+        return type == null || type.loadPluginClass() == null ? null : type;
     }
 
     /**
-     * Returns all the matching plugins.
+     * Returns all the matching plugins. Loads the classes of all of them and leaves out those that cannot be loaded.
      * 
      * @return A Map containing the name of the plugin and its type.
      */
     public Map<String, PluginType<?>> getPlugins() {
+        for (final Iterator<PluginType<?>> types = plugins.values().iterator(); types.hasNext();) {
+            if (types.next().loadPluginClass() == null) {
+                types.remove();
+            }
+        }
         return plugins;
     }
 
@@ -167,9 +174,9 @@ public class PluginManager {
             final PluginType<?> existing = newPlugins.get(key);
             if (existing == null) {
                 newPlugins.put(key, pluginType);
-            } else if (!existing.getPluginClass().equals(pluginType.getPluginClass())) {
+            } else if (!existing.getPluginClassName().equals(pluginType.getPluginClassName())) {
                 LOGGER.warn("Plugin [{}] is already mapped to {}, ignoring {}",
-                    key, existing.getPluginClass(), pluginType.getPluginClass());
+                    key, existing.getPluginClassName(), pluginType.getPluginClassName());
             }
         }
     }
@@ -27,6 +27,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -43,6 +44,12 @@ import org.apache.logging.log4j.util.Strings;
 
 /**
  * Registry singleton for PluginType maps partitioned by source type and then by category names.
+ * <p>
+ * Plugins are read from the Log4j2Plugins.idx index files of a class loader and, for class path roots without an
+ * index, from their Log4j2Plugins.dat cache files. Their classes are only loaded when the plugins are used. A package
+ * is scanned with {@link ResolverUtil} unless every class path root containing it has an index that covers the
+ * package completely.
+ * </p>
  */
 public class PluginRegistry {
 
@@ -69,6 +76,12 @@ public class PluginRegistry {
     private final ConcurrentMap<String, Map<String, List<PluginType<?>>>> pluginsByCategoryByPackage =
         new ConcurrentHashMap<String, Map<String, List<PluginType<?>>>>();
 
+    /**
+     * Contains the completely indexed packages of the Log4j2Plugins.idx index files in the main CLASSPATH, by the
+     * class path root the index was found in.
+     */
+    private volatile Map<String, Set<String>> indexedPackagesByRoot = Collections.emptyMap();
+
     private PluginRegistry() {
     }
 
@@ -96,6 +109,7 @@ public class PluginRegistry {
      */
     public void clear() {
         pluginsByCategoryRef.set(null);
+        indexedPackagesByRoot = Collections.emptyMap();
         pluginsByCategoryByPackage.clear();
         pluginsByCategoryByBundleId.clear();
     }
@@ -116,12 +130,15 @@ public class PluginRegistry {
             // already loaded
             return existing;
         }
-        final Map<String, List<PluginType<?>>> newPluginsByCategory = decodeCacheFiles(Loader.getClassLoader());
+        final Map<String, Set<String>> newIndexedPackagesByRoot = new HashMap<String, Set<String>>();
+        final Map<String, List<PluginType<?>>> newPluginsByCategory =
+            decodeCacheFiles(Loader.getClassLoader(), newIndexedPackagesByRoot);
 
         // Note multiple threads could be calling this method concurrently. Both will do the work,
         // but only one will be allowed to store the result in the AtomicReference.
         // Return the map produced by whichever thread won the race, so all callers will get the same result.
         if (pluginsByCategoryRef.compareAndSet(null, newPluginsByCategory)) {
+            indexedPackagesByRoot = newIndexedPackagesByRoot;
             return newPluginsByCategory;
         }
         return pluginsByCategoryRef.get();
@@ -143,7 +160,8 @@ public class PluginRegistry {
             // already loaded from this classloader
             return existing;
         }
-        final Map<String, List<PluginType<?>>> newPluginsByCategory = decodeCacheFiles(loader);
+        final Map<String, List<PluginType<?>>> newPluginsByCategory =
+            decodeCacheFiles(loader, new HashMap<String, Set<String>>());
 
         // Note multiple threads could be calling this method concurrently. Both will do the work,
         // but only one will be allowed to store the result in the outer map.
@@ -155,15 +173,32 @@ public class PluginRegistry {
         return newPluginsByCategory;
     }
 
-    private Map<String, List<PluginType<?>>> decodeCacheFiles(final ClassLoader loader) {
+    private Map<String, List<PluginType<?>>> decodeCacheFiles(final ClassLoader loader,
+                                                              final Map<String, Set<String>> indexedPackagesByRoot) {
         final long startTime = System.nanoTime();
         final PluginCache cache = new PluginCache();
         try {
+            final Enumeration<URL> indexes = loader.getResources(PluginProcessor.PLUGIN_INDEX_FILE);
+            while (indexes != null && indexes.hasMoreElements()) {
+                final URL url = indexes.nextElement();
+                try {
+                    indexedPackagesByRoot.put(getRoot(url.toString(), PluginProcessor.PLUGIN_INDEX_FILE),
+                        cache.loadIndexFile(url));
+                } catch (final IOException ioe) {
+                    LOGGER.warn("Unable to read plugin index {}, using the plugin cache file instead", url, ioe);
+                }
+            }
             final Enumeration<URL> resources = loader.getResources(PluginProcessor.PLUGIN_CACHE_FILE);
             if (resources == null) {
                 LOGGER.info("Plugin preloads not available from class loader {}", loader);
             } else {
-                cache.loadCacheFiles(resources);
+                while (resources.hasMoreElements()) {
+                    final URL url = resources.nextElement();
+                    if (!indexedPackagesByRoot.containsKey(getRoot(url.toString(),
+                            PluginProcessor.PLUGIN_CACHE_FILE))) {
+                        cache.loadCacheFile(url);
+                    }
+                }
             }
         } catch (final IOException ioe) {
             LOGGER.warn("Unable to preload plugins", ioe);
@@ -176,18 +211,11 @@ public class PluginRegistry {
             newPluginsByCategory.put(categoryLowerCase, types);
             for (final Map.Entry<String, PluginEntry> inner : outer.getValue().entrySet()) {
                 final PluginEntry entry = inner.getValue();
-                final String className = entry.getClassName();
-                try {
-                    final Class<?> clazz = loader.loadClass(className);
-                    @SuppressWarnings({"unchecked","rawtypes"})
-                    final PluginType<?> type = new PluginType(entry, clazz, entry.getName());
-                    types.add(type);
-                    ++pluginCount;
-                } catch (final ClassNotFoundException e) {
-                    LOGGER.info("Plugin [{}] could not be loaded due to missing classes.", className, e);
-                } catch (final VerifyError e) {
-                    LOGGER.info("Plugin [{}] could not be loaded due to verification error.", className, e);
-                }
+                // the class is loaded when the plugin is first used
+                @SuppressWarnings({"unchecked","rawtypes"})
+                final PluginType<?> type = new PluginType(entry, loader, entry.getName());
+                types.add(type);
+                ++pluginCount;
             }
         }
 
@@ -200,6 +228,81 @@ public class PluginRegistry {
     }
 
     /**
+     * Returns the class path root a plugin file or package directory was found in, so that the index, the cache file
+     * and the packages of the same jar or directory can be matched.
+     */
+    private static String getRoot(final String location, final String resource) {
+        final String path = location.endsWith("/") ? location.substring(0, location.length() - 1) : location;
+        return path.endsWith(resource) ? path.substring(0, path.length() - resource.length()) : path;
+    }
+
+    /**
+     * Tests whether the plugin index files of the main class loader list all plugins of a package: every class path
+     * root containing the package, which are the roots {@link ResolverUtil} would scan, must have an index covering
+     * the package or, if the package only has sub-packages there, one of its sub-packages.
+     */
+    private boolean isIndexedCompletely(final String pkg) {
+        loadFromMainClassLoader();
+        final Map<String, Set<String>> packagesByRoot = indexedPackagesByRoot;
+        if (packagesByRoot.isEmpty()) {
+            return false;
+        }
+        final String path = pkg.replace('.', '/');
+        final Enumeration<URL> urls;
+        try {
+            urls = Loader.getClassLoader().getResources(path);
+        } catch (final IOException ioe) {
+            return false;
+        }
+        boolean found = false;
+        while (urls != null && urls.hasMoreElements()) {
+            final Set<String> packages = packagesByRoot.get(getRoot(urls.nextElement().toString(), path));
+            if (packages == null || !containsPackage(packages, pkg)) {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+
+    private static boolean containsPackage(final Set<String> packages, final String pkg) {
+        if (packages.contains(pkg)) {
+            return true;
+        }
+        final String prefix = pkg + '.';
+        for (final String name : packages) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the plugins of the main class loader whose classes are in the given package or one of its
+     * sub-packages.
+     */
+    private Map<String, List<PluginType<?>>> findInMainClassLoader(final String pkg) {
+        final String prefix = pkg.endsWith(".") ? pkg : pkg + '.';
+        final Map<String, List<PluginType<?>>> found = new HashMap<String, List<PluginType<?>>>();
+        for (final Map.Entry<String, List<PluginType<?>>> category : loadFromMainClassLoader().entrySet()) {
+            for (final PluginType<?> type : category.getValue()) {
+                if (type.getPluginClassName().startsWith(prefix)) {
+                    List<PluginType<?>> list = found.get(category.getKey());
+                    if (list == null) {
+                        found.put(category.getKey(), list = new ArrayList<PluginType<?>>());
+                    }
+                    list.add(type);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the plugins of a package. If the plugin index files of the main class loader cover the package
+     * completely, the indexed plugins are used; otherwise the package is scanned with {@link ResolverUtil}.
+     *
      * @since 2.1
      */
     public Map<String, List<PluginType<?>>> loadFromPackage(final String pkg) {
@@ -213,6 +316,13 @@ public class PluginRegistry {
             return existing;
         }
 
+        if (isIndexedCompletely(pkg)) {
+            final Map<String, List<PluginType<?>>> indexed = findInMainClassLoader(pkg);
+            LOGGER.debug("Using the indexed plugins of package {} instead of scanning it", pkg);
+            existing = pluginsByCategoryByPackage.putIfAbsent(pkg, indexed);
+            return existing != null ? existing : indexed;
+        }
+
         final long startTime = System.nanoTime();
         final ResolverUtil resolver = new ResolverUtil();
         final ClassLoader classLoader = Loader.getClassLoader();
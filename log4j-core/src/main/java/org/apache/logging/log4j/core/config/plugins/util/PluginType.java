@@ -17,31 +17,118 @@
 package org.apache.logging.log4j.core.config.plugins.util;
 
 
+import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.config.plugins.processor.PluginEntry;
+import org.apache.logging.log4j.status.StatusLogger;
 
 /**
  * Plugin Descriptor. This is a memento object for Plugin annotations paired to their annotated classes.
+ * <p>
+ * Plugin types read from the plugin index or cache files load their class on first use, so that only the plugins a
+ * configuration references are loaded.
+ * </p>
  *
  * @param <T> The plug-in class, which can be any kind of class.
  * @see org.apache.logging.log4j.core.config.plugins.Plugin
  */
 public class PluginType<T> {
 
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
     private final PluginEntry pluginEntry;
-    private final Class<T> pluginClass;
+    private final ClassLoader classLoader;
     private final String elementName;
+    private volatile Class<T> pluginClass;
+    private volatile boolean unavailable;
+    private volatile PluginFactoryMethods factoryMethods;
 
     /**
      * @since 2.1
      */
     public PluginType(final PluginEntry pluginEntry, final Class<T> pluginClass, final String elementName) {
         this.pluginEntry = pluginEntry;
+        this.classLoader = null;
         this.pluginClass = pluginClass;
         this.elementName = elementName;
     }
 
+    /**
+     * Creates a PluginType whose class is loaded from the given ClassLoader on first use.
+     *
+     * @param pluginEntry the plugin entry naming the class.
+     * @param classLoader the ClassLoader to load the class from.
+     * @param elementName the element name.
+     * @since 2.2
+     */
+    public PluginType(final PluginEntry pluginEntry, final ClassLoader classLoader, final String elementName) {
+        this.pluginEntry = pluginEntry;
+        this.classLoader = classLoader;
+        this.elementName = elementName;
+    }
+
+    /**
+     * Returns the factory methods of the plugin class, looking them up on first use.
+     */
+    PluginFactoryMethods getFactoryMethods() {
+        PluginFactoryMethods result = factoryMethods;
+        if (result == null) {
+            // racy but idempotent
+            result = PluginFactoryMethods.of(getPluginClass(), true);
+            factoryMethods = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the plugin class, loading it if necessary.
+     *
+     * @return the plugin class.
+     * @throws IllegalStateException if the class cannot be loaded.
+     */
     public Class<T> getPluginClass() {
-        return this.pluginClass;
+        final Class<T> result = loadPluginClass();
+        if (result == null) {
+            throw new IllegalStateException("Plugin [" + getPluginClassName() + "] could not be loaded");
+        }
+        return result;
+    }
+
+    /**
+     * Returns the name of the plugin class without loading it.
+     *
+     * @return the plugin class name.
+     * @since 2.2
+     */
+    public String getPluginClassName() {
+        return this.pluginEntry.getClassName();
+    }
+
+    /**
+     * Loads the plugin class on first use. A class that cannot be loaded is logged once.
+     *
+     * @return the plugin class, or {@code null} if it cannot be loaded.
+     */
+    @SuppressWarnings("unchecked")
+    Class<T> loadPluginClass() {
+        Class<T> result = pluginClass;
+        if (result != null || unavailable) {
+            return result;
+        }
+        final String className = getPluginClassName();
+        try {
+            result = (Class<T>) classLoader.loadClass(className);
+            pluginClass = result;
+        } catch (final ClassNotFoundException e) {
+            LOGGER.info("Plugin [{}] could not be loaded due to missing classes.", className, e);
+            unavailable = true;
+        } catch (final NoClassDefFoundError e) {
+            LOGGER.info("Plugin [{}] could not be loaded due to missing classes.", className, e);
+            unavailable = true;
+        } catch (final VerifyError e) {
+            LOGGER.info("Plugin [{}] could not be loaded due to verification error.", className, e);
+            unavailable = true;
+        }
+        return result;
     }
 
     public String getElementName() {
@@ -72,7 +159,7 @@ public class PluginType<T> {
 
     @Override
     public String toString() {
-        return "PluginType [pluginClass=" + pluginClass +
+        return "PluginType [pluginClass=" + pluginEntry.getClassName() +
                 ", key=" + pluginEntry.getKey() +
                 ", elementName=" + pluginEntry.getName() +
                 ", isObjectPrintable=" + pluginEntry.isPrintable() +
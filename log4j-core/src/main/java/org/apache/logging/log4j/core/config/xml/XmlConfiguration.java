@@ -50,6 +50,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -164,7 +165,8 @@ public class XmlConfiguration extends AbstractConfiguration implements Reconfigu
                 } else if ("monitorInterval".equalsIgnoreCase(key)) {
                     final int interval = Integer.parseInt(value);
                     if (interval > 0 && configFile != null) {
-                        monitor = new FileConfigurationMonitor(this, configFile, listeners, interval);
+                        monitor = new FileConfigurationMonitor(this, getMonitoredFiles(configFile, rootElement),
+                                listeners, interval);
                     }
                 } else if ("advertiser".equalsIgnoreCase(key)) {
                     createAdvertiser(value, configSource, buffer, "text/xml");
@@ -212,6 +214,42 @@ public class XmlConfiguration extends AbstractConfiguration implements Reconfigu
         }
     }
 
+    /**
+     * Returns the configuration file followed by the local files it includes. The XInclude processor marks each
+     * included element with an {@code xml:base} attribute that is relative to the including document.
+     */
+    private static List<File> getMonitoredFiles(final File configFile, final Element root) {
+        final List<File> files = new ArrayList<File>();
+        files.add(configFile);
+        addIncludedFiles(root, configFile.toURI(), files);
+        return files;
+    }
+
+    private static void addIncludedFiles(final Element element, final URI baseUri, final List<File> files) {
+        URI uri = baseUri;
+        final String base = element.getAttributeNS(XMLConstants.XML_NS_URI, "base");
+        if (base.length() > 0) {
+            try {
+                uri = baseUri.resolve(base);
+                if ("file".equals(uri.getScheme())) {
+                    final File file = new File(uri);
+                    if (!files.contains(file)) {
+                        files.add(file);
+                    }
+                }
+            } catch (final IllegalArgumentException ex) {
+                LOGGER.warn("Unable to monitor included configuration {}: {}", base, ex.getMessage());
+            }
+        }
+        final NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            final org.w3c.dom.Node w3cNode = children.item(i);
+            if (w3cNode instanceof Element) {
+                addIncludedFiles((Element) w3cNode, uri, files);
+            }
+        }
+    }
+
     @Override
     public void setup() {
         if (rootElement == null) {
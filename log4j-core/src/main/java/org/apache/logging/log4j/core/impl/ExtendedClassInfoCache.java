@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.logging.log4j.core.impl.ThrowableProxy.CacheEntry;
+
+/**
+ * Caches the packaging data that {@link ThrowableProxy} resolves for the classes named in stack traces, so each class
+ * is loaded and its code source looked up once rather than for every frame of every exception.
+ * <p>
+ * Entries are grouped by the class loader they were resolved with. The loaders are weakly referenced, so the cache
+ * does not keep an undeployed application in memory, and each loader keeps only its most recently used classes.
+ * </p>
+ */
+final class ExtendedClassInfoCache {
+
+    /**
+     * The default number of classes kept for each class loader.
+     */
+    static final int DEFAULT_MAX_ENTRIES_PER_LOADER = 1024;
+
+    private final Map<ClassLoader, Map<String, CacheEntry>> loaders =
+            new WeakHashMap<ClassLoader, Map<String, CacheEntry>>();
+
+    private final int maxEntriesPerLoader;
+
+    ExtendedClassInfoCache(final int maxEntriesPerLoader) {
+        this.maxEntriesPerLoader = maxEntriesPerLoader;
+    }
+
+    /**
+     * Returns the entry for a class name resolved with a class loader.
+     *
+     * @param loader The class loader, may be null.
+     * @param className The class name.
+     * @return The entry or null if the class has not been resolved with this loader.
+     */
+    synchronized CacheEntry get(final ClassLoader loader, final String className) {
+        final Map<String, CacheEntry> entries = loaders.get(loader);
+        return entries == null ? null : entries.get(className);
+    }
+
+    /**
+     * Adds the entry for a class name resolved with a class loader, evicting the least recently used entry of that
+     * loader if it is full.
+     *
+     * @param loader The class loader, may be null.
+     * @param className The class name.
+     * @param entry The entry.
+     */
+    synchronized void put(final ClassLoader loader, final String className, final CacheEntry entry) {
+        Map<String, CacheEntry> entries = loaders.get(loader);
+        if (entries == null) {
+            entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, CacheEntry> eldest) {
+                    return size() > maxEntriesPerLoader;
+                }
+            };
+            loaders.put(loader, entries);
+        }
+        entries.put(className, entry);
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    synchronized int size() {
+        int size = 0;
+        for (final Map<String, CacheEntry> entries : loaders.values()) {
+            size += entries.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    synchronized void clear() {
+        loaders.clear();
+    }
+}
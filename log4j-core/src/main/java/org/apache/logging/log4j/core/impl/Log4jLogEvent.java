@@ -33,6 +33,7 @@ import org.apache.logging.log4j.core.util.Clock;
 import org.apache.logging.log4j.core.util.ClockFactory;
 import org.apache.logging.log4j.message.LoggerNameAwareMessage;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
 import org.apache.logging.log4j.message.TimestampMessage;
 import org.apache.logging.log4j.util.Strings;
 
@@ -238,7 +239,7 @@ public class Log4jLogEvent implements LogEvent {
         }
     }
 
-    private static Map<String, String> createMap(final List<Property> properties) {
+    static Map<String, String> createMap(final List<Property> properties) {
         final Map<String, String> contextMap = ThreadContext.getImmutableContext();
         if (contextMap == null && (properties == null || properties.isEmpty())) {
             return null;
@@ -256,6 +257,15 @@ public class Log4jLogEvent implements LogEvent {
         return Collections.unmodifiableMap(map);
     }
 
+    /**
+     * Returns this event, or a copy if the message is a {@link ReusableMessage}.
+     * @return an immutable version of this event.
+     */
+    @Override
+    public LogEvent toImmutable() {
+        return message instanceof ReusableMessage ? createMemento(this) : this;
+    }
+
     /**
      * Returns the logging Level.
      * @return the Level associated with this event.
@@ -430,6 +440,39 @@ public class Log4jLogEvent implements LogEvent {
         return new LogEventProxy(event, includeLocation);
     }
 
+    /**
+     * Creates a copy of the specified event that remains valid after the logging call returns, for example to hand it
+     * to another thread. A {@link ReusableMessage} is replaced by its memento.
+     * @param event The LogEvent to copy.
+     * @return a Log4jLogEvent with the same content as the specified event.
+     */
+    public static Log4jLogEvent createMemento(final LogEvent event) {
+        return createMemento(event, event.isIncludeLocation());
+    }
+
+    /**
+     * Creates a copy of the specified event like {@link #createMemento(LogEvent)}, taking the location from the
+     * current call stack only if {@code includeLocation} is {@code true}. Unlike {@link #serialize(Log4jLogEvent,
+     * boolean)}, the result can be used directly without a serialization proxy.
+     * @param event The LogEvent to copy.
+     * @param includeLocation whether the copy should include location information.
+     * @return a Log4jLogEvent with the same content as the specified event.
+     * @since 2.2
+     */
+    public static Log4jLogEvent createMemento(final LogEvent event, final boolean includeLocation) {
+        final Log4jLogEvent result = new Log4jLogEvent(event.getLoggerName(), event.getMarker(),
+                event.getLoggerFqcn(), event.getLevel(), memento(event.getMessage()), event.getThrown(),
+                event.getThrownProxy(), event.getContextMap(), event.getContextStack(), event.getThreadName(),
+                includeLocation ? event.getSource() : null, event.getTimeMillis());
+        result.setEndOfBatch(event.isEndOfBatch());
+        result.setIncludeLocation(includeLocation);
+        return result;
+    }
+
+    private static Message memento(final Message message) {
+        return message instanceof ReusableMessage ? ((ReusableMessage) message).memento() : message;
+    }
+
     public static boolean canDeserialize(final Serializable event) {
         return event instanceof LogEventProxy;
     }
@@ -567,7 +610,7 @@ public class Log4jLogEvent implements LogEvent {
             this.marker = event.marker;
             this.level = event.level;
             this.loggerName = event.loggerName;
-            this.message = event.message;
+            this.message = memento(event.message);
             this.timeMillis = event.timeMillis;
             this.thrown = event.thrown;
             this.thrownProxy = event.thrownProxy;
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.util.Clock;
+import org.apache.logging.log4j.core.util.ClockFactory;
+import org.apache.logging.log4j.message.LoggerNameAwareMessage;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.TimestampMessage;
+
+/**
+ * Mutable implementation of the {@code LogEvent} interface that {@link ReusableLogEventFactory} hands out again for
+ * every event logged by the same thread.
+ * <p>
+ * An instance is only valid until the logging call that created it returns. Components that keep a reference to the
+ * event after that, or pass it to another thread, must use {@link #toImmutable()}. When serialized, an immutable copy
+ * is written instead.
+ * </p>
+ *
+ * @since 2.2
+ */
+public class MutableLogEvent implements LogEvent {
+
+    private static final long serialVersionUID = 1L;
+    private static final Clock CLOCK = ClockFactory.getClock();
+
+    private transient String loggerFqcn;
+    private transient Marker marker;
+    private transient Level level;
+    private transient String loggerName;
+    private transient Message message;
+    private transient long timeMillis;
+    private transient Throwable thrown;
+    private transient ThrowableProxy thrownProxy;
+    private transient Map<String, String> contextMap;
+    private transient ThreadContext.ContextStack contextStack;
+    private transient String threadName;
+    private transient StackTraceElement source;
+    private transient boolean includeLocation;
+    private transient boolean endOfBatch;
+    private transient boolean reserved;
+
+    /**
+     * Populates this event with the values of a new event logged by the current thread.
+     *
+     * @param loggerName The name of the Logger.
+     * @param marker The Marker or null.
+     * @param fqcn The fully qualified class name of the caller.
+     * @param level The logging Level.
+     * @param data The Message.
+     * @param properties properties to add to the event.
+     * @param t A Throwable or null.
+     */
+    public void setValues(final String loggerName, final Marker marker, final String fqcn, final Level level,
+            final Message data, final List<Property> properties, final Throwable t) {
+        this.loggerName = loggerName;
+        this.marker = marker;
+        this.loggerFqcn = fqcn;
+        this.level = level == null ? Level.OFF : level; // LOG4J2-462, LOG4J2-465
+        this.message = data;
+        this.thrown = t;
+        this.thrownProxy = null;
+        final Map<String, String> map = Log4jLogEvent.createMap(properties);
+        this.contextMap = map == null ? ThreadContext.EMPTY_MAP : map;
+        this.contextStack = ThreadContext.getImmutableStack();
+        this.threadName = null;
+        this.source = null;
+        this.includeLocation = false;
+        this.endOfBatch = false;
+        // LOG4J2-628 use log4j.Clock for timestamps
+        // LOG4J2-744 unless TimestampMessage already has one
+        this.timeMillis = data instanceof TimestampMessage ? ((TimestampMessage) data).getTimestamp() :
+                CLOCK.currentTimeMillis();
+        if (data instanceof LoggerNameAwareMessage) {
+            ((LoggerNameAwareMessage) data).setLoggerName(loggerName);
+        }
+    }
+
+    /**
+     * Populates this event with the values of an event that was logged elsewhere, for example in another process.
+     *
+     * @param loggerName The name of the Logger.
+     * @param marker The Marker or null.
+     * @param fqcn The fully qualified class name of the caller.
+     * @param level The logging Level.
+     * @param data The Message.
+     * @param thrownProxy The ThrowableProxy of the Throwable that was logged, or null.
+     * @param contextMap The mapped diagnostic context, or null.
+     * @param contextStack The nested diagnostic context, or null.
+     * @param threadName The name of the thread that logged the event.
+     * @param source The location of the caller, or null.
+     * @param timeMillis The time the event was logged.
+     * @param endOfBatch Whether the event was the last of a batch.
+     */
+    public void setValues(final String loggerName, final Marker marker, final String fqcn, final Level level,
+            final Message data, final ThrowableProxy thrownProxy, final Map<String, String> contextMap,
+            final ThreadContext.ContextStack contextStack, final String threadName, final StackTraceElement source,
+            final long timeMillis, final boolean endOfBatch) {
+        this.loggerName = loggerName;
+        this.marker = marker;
+        this.loggerFqcn = fqcn;
+        this.level = level == null ? Level.OFF : level;
+        this.message = data;
+        this.thrown = null;
+        this.thrownProxy = thrownProxy;
+        this.contextMap = contextMap == null ? ThreadContext.EMPTY_MAP : contextMap;
+        this.contextStack = contextStack == null ? ThreadContext.EMPTY_STACK : contextStack;
+        this.threadName = threadName;
+        this.source = source;
+        // keep the received location when the event is copied
+        this.includeLocation = source != null;
+        this.endOfBatch = endOfBatch;
+        this.timeMillis = timeMillis;
+    }
+
+    /**
+     * Clears all references held by this event so that logged objects can be garbage collected while the event waits
+     * to be reused.
+     */
+    public void clear() {
+        loggerName = null;
+        marker = null;
+        loggerFqcn = null;
+        message = null;
+        thrown = null;
+        thrownProxy = null;
+        contextMap = null;
+        contextStack = null;
+        threadName = null;
+        source = null;
+    }
+
+    boolean isReserved() {
+        return reserved;
+    }
+
+    void setReserved(final boolean reserved) {
+        this.reserved = reserved;
+    }
+
+    @Override
+    public LogEvent toImmutable() {
+        return Log4jLogEvent.createMemento(this);
+    }
+
+    @Override
+    public Map<String, String> getContextMap() {
+        return contextMap;
+    }
+
+    @Override
+    public ThreadContext.ContextStack getContextStack() {
+        return contextStack;
+    }
+
+    @Override
+    public String getLoggerFqcn() {
+        return loggerFqcn;
+    }
+
+    @Override
+    public Level getLevel() {
+        return level;
+    }
+
+    @Override
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    @Override
+    public Marker getMarker() {
+        return marker;
+    }
+
+    @Override
+    public Message getMessage() {
+        return message;
+    }
+
+    @Override
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * Returns the StackTraceElement for the caller. Like the other values of this event, the location is only
+     * calculated on the thread that logged the event.
+     * @return the StackTraceElement for the caller, or null if location is not included.
+     */
+    @Override
+    public StackTraceElement getSource() {
+        if (source != null) {
+            return source;
+        }
+        if (loggerFqcn == null || !includeLocation) {
+            return null;
+        }
+        source = Log4jLogEvent.calcLocation(loggerFqcn);
+        return source;
+    }
+
+    @Override
+    public String getThreadName() {
+        if (threadName == null) {
+            threadName = Thread.currentThread().getName();
+        }
+        return threadName;
+    }
+
+    @Override
+    public Throwable getThrown() {
+        return thrown;
+    }
+
+    @Override
+    public ThrowableProxy getThrownProxy() {
+        if (thrownProxy == null && thrown != null) {
+            thrownProxy = new ThrowableProxy(thrown);
+        }
+        return thrownProxy;
+    }
+
+    @Override
+    public boolean isEndOfBatch() {
+        return endOfBatch;
+    }
+
+    @Override
+    public boolean isIncludeLocation() {
+        return includeLocation;
+    }
+
+    @Override
+    public void setEndOfBatch(final boolean endOfBatch) {
+        this.endOfBatch = endOfBatch;
+    }
+
+    @Override
+    public void setIncludeLocation(final boolean includeLocation) {
+        this.includeLocation = includeLocation;
+    }
+
+    /**
+     * Creates a LogEventProxy of an immutable copy of this event that can be serialized.
+     * @return a LogEventProxy.
+     */
+    protected Object writeReplace() {
+        return Log4jLogEvent.serialize(Log4jLogEvent.createMemento(this), includeLocation);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        final String n = loggerName == null || loggerName.isEmpty() ? "root" : loggerName;
+        sb.append("Logger=").append(n);
+        sb.append(" Level=").append(level);
+        sb.append(" Message=").append(message == null ? null : message.getFormattedMessage());
+        return sb.toString();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * Garbage-free LogEventFactory that hands each thread the same {@link MutableLogEvent} for every event it logs.
+ * <p>
+ * Select it by setting the system property {@code Log4jLogEventFactory} to the name of this class. Log4j copies the
+ * event with {@link LogEvent#toImmutable()} wherever it is kept beyond the logging call, for example by the
+ * AsyncAppender, asynchronous loggers, and buffering appenders. If an event is requested while the thread's event is
+ * still in use, for example because an appender logs, a new {@link Log4jLogEvent} is returned.
+ * </p>
+ *
+ * @since 2.2
+ */
+public class ReusableLogEventFactory implements LogEventFactory {
+
+    private static final ThreadLocal<MutableLogEvent> mutableLogEventThreadLocal = new ThreadLocal<MutableLogEvent>();
+
+    /**
+     * Creates a log event, reusing the current thread's MutableLogEvent if it is not in use.
+     *
+     * @param loggerName The name of the Logger.
+     * @param marker An optional Marker.
+     * @param fqcn The fully qualified class name of the caller.
+     * @param level The event Level.
+     * @param data The Message.
+     * @param properties Properties to be added to the log event.
+     * @param t An optional Throwable.
+     * @return The LogEvent.
+     */
+    @Override
+    public LogEvent createEvent(final String loggerName, final Marker marker, final String fqcn, final Level level,
+            final Message data, final List<Property> properties, final Throwable t) {
+        MutableLogEvent result = mutableLogEventThreadLocal.get();
+        if (result == null) {
+            result = new MutableLogEvent();
+            mutableLogEventThreadLocal.set(result);
+        } else if (result.isReserved()) {
+            return new Log4jLogEvent(loggerName, marker, fqcn, level, data, properties, t);
+        }
+        result.setValues(loggerName, marker, fqcn, level, data, properties, t);
+        result.setReserved(true);
+        return result;
+    }
+
+    /**
+     * Makes the specified event available for reuse by the current thread if it was created by this factory; does
+     * nothing otherwise.
+     *
+     * @param logEvent the event that is no longer used
+     */
+    public static void release(final LogEvent logEvent) {
+        if (logEvent instanceof MutableLogEvent) {
+            final MutableLogEvent mutable = (MutableLogEvent) logEvent;
+            mutable.clear();
+            mutable.setReserved(false);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Scanner;
 
 import org.apache.logging.log4j.core.util.Constants;
 import org.apache.logging.log4j.core.util.Patterns;
+import org.apache.logging.log4j.status.StatusLogger;
 
 /**
  * Contains options which control how a {@link Throwable} pattern is formatted.
@@ -30,6 +31,8 @@ public final class ThrowableFormatOptions {
 
     private static final int DEFAULT_LINES = Integer.MAX_VALUE;
 
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+
     /**
      * Default instance of {@code ThrowableFormatOptions}.
      */
@@ -65,6 +68,11 @@ public final class ThrowableFormatOptions {
      */
     private final List<String> packages;
 
+    /**
+     * The milliseconds within which a repeated stack trace is summarized, or 0 to always format it.
+     */
+    private final long dedupWindowMillis;
+
     public static final String CLASS_NAME = "short.className";
     public static final String METHOD_NAME = "short.methodName";
     public static final String LINE_NUMBER = "short.lineNumber";
@@ -79,9 +87,23 @@ public final class ThrowableFormatOptions {
      * @param packages The packages to filter.
      */
     protected ThrowableFormatOptions(final int lines, final String separator, final List<String> packages) {
+        this(lines, separator, packages, 0);
+    }
+
+    /**
+     * Construct the options for printing stack trace.
+     * @param lines The number of lines.
+     * @param separator The stack trace separator.
+     * @param packages The packages to filter.
+     * @param dedupWindowMillis The milliseconds within which a repeated stack trace is summarized, or 0.
+     * @since 2.2
+     */
+    protected ThrowableFormatOptions(final int lines, final String separator, final List<String> packages,
+            final long dedupWindowMillis) {
         this.lines = lines;
         this.separator = separator == null ? Constants.LINE_SEPARATOR : separator;
         this.packages = packages;
+        this.dedupWindowMillis = dedupWindowMillis;
     }
 
     /**
@@ -123,6 +145,24 @@ public final class ThrowableFormatOptions {
         return this.packages;
     }
 
+    /**
+     * Returns the milliseconds within which a stack trace that repeats one already formatted is summarized.
+     * @return The window in milliseconds, or 0 if every stack trace is formatted in full.
+     * @since 2.2
+     */
+    public long getDedupWindowMillis() {
+        return this.dedupWindowMillis;
+    }
+
+    /**
+     * Determines if repeated stack traces are summarized.
+     * @return true if repeated stack traces are summarized, false otherwise.
+     * @since 2.2
+     */
+    public boolean hasDedupWindow() {
+        return this.dedupWindowMillis > 0;
+    }
+
     /**
      * Determines if all lines should be printed.
      * @return true for all lines, false otherwise.
@@ -172,6 +212,9 @@ public final class ThrowableFormatOptions {
             s.deleteCharAt(s.length() - 1);
             s.append(")}");
         }
+        if (hasDedupWindow()) {
+            s.append("{dedup(").append(this.dedupWindowMillis).append(")}");
+        }
         return s.toString();
     }
 
@@ -202,6 +245,7 @@ public final class ThrowableFormatOptions {
         int lines = DEFAULT.lines;
         String separator = DEFAULT.separator;
         List<String> packages = DEFAULT.packages;
+        long dedupWindowMillis = DEFAULT.dedupWindowMillis;
         for (final String rawOption : options) {
             if (rawOption != null) {
                 final String option = rawOption.trim();
@@ -223,6 +267,9 @@ public final class ThrowableFormatOptions {
                             }
                         }
                     }
+                } else if (option.startsWith("dedup(") && option.endsWith(")")) {
+                    dedupWindowMillis = parseDedupWindow(option.substring("dedup(".length(), option.length() - 1)
+                            .trim(), dedupWindowMillis);
                 } else if (option.equalsIgnoreCase(NONE)) {
                     lines = 0;
                 } else if (option.equalsIgnoreCase(SHORT) || option.equalsIgnoreCase(CLASS_NAME) ||
@@ -235,6 +282,28 @@ public final class ThrowableFormatOptions {
                 }
             }
         }
-        return new ThrowableFormatOptions(lines, separator, packages);
+        return new ThrowableFormatOptions(lines, separator, packages, dedupWindowMillis);
+    }
+
+    /**
+     * Parses the window of the {@code dedup} option, which must be a positive number of milliseconds.
+     *
+     * @param window The text between the parentheses of the option.
+     * @param defaultMillis The window to keep if the text is not valid.
+     * @return The window in milliseconds.
+     */
+    private static long parseDedupWindow(final String window, final long defaultMillis) {
+        final long millis;
+        try {
+            millis = Long.parseLong(window);
+        } catch (final NumberFormatException e) {
+            LOGGER.error("Invalid dedup window '{}' for throwable pattern: expected a number of milliseconds", window);
+            return defaultMillis;
+        }
+        if (millis <= 0) {
+            LOGGER.error("Invalid dedup window {} for throwable pattern: it must be positive", millis);
+            return defaultMillis;
+        }
+        return millis;
     }
 }
@@ -16,7 +16,10 @@
  */
 package org.apache.logging.log4j.core.impl;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.security.CodeSource;
 import java.util.Arrays;
@@ -41,6 +44,12 @@ import org.apache.logging.log4j.util.Strings;
  * </p>
  * 
  * <p>
+ * The packaging information is resolved the first time it is asked for, for example by the {@code %xEx} converter, a
+ * JSON layout or serialization, and not when the proxy is constructed. The location and version of each class are
+ * cached across exceptions, grouped by the class loader that resolved them.
+ * </p>
+ * 
+ * <p>
  * TODO: Move this class to org.apache.logging.log4j.core because it is used from LogEvent.
  * </p>
  * <p>
@@ -57,14 +66,24 @@ public class ThrowableProxy implements Serializable {
      */
     static class CacheEntry {
         private final ExtendedClassInfo element;
-        private final ClassLoader loader;
+        private final WeakReference<ClassLoader> loader;
 
         public CacheEntry(final ExtendedClassInfo element, final ClassLoader loader) {
             this.element = element;
-            this.loader = loader;
+            this.loader = loader == null ? null : new WeakReference<ClassLoader>(loader);
+        }
+
+        ClassLoader getLoader() {
+            return loader == null ? null : loader.get();
         }
     }
 
+    private static final ExtendedClassInfoCache EXACT_CLASSES = new ExtendedClassInfoCache(
+            ExtendedClassInfoCache.DEFAULT_MAX_ENTRIES_PER_LOADER);
+
+    private static final ExtendedClassInfoCache RESOLVED_CLASSES = new ExtendedClassInfoCache(
+            ExtendedClassInfoCache.DEFAULT_MAX_ENTRIES_PER_LOADER);
+
     private static final ThrowableProxy[] EMPTY_THROWABLE_PROXY_ARRAY = new ThrowableProxy[0];
 
     private static final char EOL = '\n';
@@ -75,7 +94,7 @@ public class ThrowableProxy implements Serializable {
 
     private int commonElementCount;
 
-    private final ExtendedStackTraceElement[] extendedStackTrace;
+    private volatile ExtendedStackTraceElement[] extendedStackTrace;
 
     private final String localizedMessage;
 
@@ -87,12 +106,24 @@ public class ThrowableProxy implements Serializable {
 
     private final transient Throwable throwable;
 
+    /**
+     * The proxy that resolves the extended stack traces of itself and its causes, or null if there is nothing to
+     * resolve.
+     */
+    private final transient ThrowableProxy resolver;
+
+    /**
+     * The caller's Class stack, until the extended stack traces are resolved.
+     */
+    private transient Stack<Class<?>> stack;
+
     /**
      * For JSON and XML IO via Jackson.
      */
     @SuppressWarnings("unused")
     private ThrowableProxy() {
         this.throwable = null;
+        this.resolver = null;
         this.name = null;
         this.extendedStackTrace = null;
         this.causeProxy = null;
@@ -112,37 +143,65 @@ public class ThrowableProxy implements Serializable {
         this.name = throwable.getClass().getName();
         this.message = throwable.getMessage();
         this.localizedMessage = throwable.getLocalizedMessage();
-        final Map<String, CacheEntry> map = new HashMap<String, CacheEntry>();
-        final Stack<Class<?>> stack = ReflectionUtil.getCurrentStackTrace();
-        this.extendedStackTrace = this.toExtendedStackTrace(stack, map, null, throwable.getStackTrace());
+        this.resolver = this;
+        this.stack = ReflectionUtil.getCurrentStackTrace();
         final Throwable throwableCause = throwable.getCause();
-        this.causeProxy = throwableCause == null ? null : new ThrowableProxy(throwable, stack, map, throwableCause);
+        this.causeProxy = throwableCause == null ? null : new ThrowableProxy(this, throwableCause);
         this.suppressedProxies = this.toSuppressedProxies(throwable);
     }
 
     /**
      * Constructs the wrapper for a Throwable that is referenced as the cause by another Throwable.
      * 
-     * @param parent
-     *        The Throwable referencing this Throwable.
-     * @param stack
-     *        The Class stack.
-     * @param map
-     *        The cache containing the packaging data.
+     * @param resolver
+     *        The proxy of the outermost Throwable, which resolves the extended stack trace of this proxy.
      * @param cause
      *        The Throwable to wrap.
      */
-    private ThrowableProxy(final Throwable parent, final Stack<Class<?>> stack, final Map<String, CacheEntry> map,
-            final Throwable cause) {
+    private ThrowableProxy(final ThrowableProxy resolver, final Throwable cause) {
         this.throwable = cause;
+        this.resolver = resolver;
         this.name = cause.getClass().getName();
         this.message = this.throwable.getMessage();
         this.localizedMessage = this.throwable.getLocalizedMessage();
-        this.extendedStackTrace = this.toExtendedStackTrace(stack, map, parent.getStackTrace(), cause.getStackTrace());
-        this.causeProxy = cause.getCause() == null ? null : new ThrowableProxy(parent, stack, map, cause.getCause());
+        this.causeProxy = cause.getCause() == null ? null : new ThrowableProxy(resolver, cause.getCause());
         this.suppressedProxies = this.toSuppressedProxies(cause);
     }
 
+    /**
+     * Constructs a proxy from the parts of a proxy that was encoded by another process, such as the throwable of an
+     * event received by a socket server. Like a deserialized proxy, it has no Throwable.
+     * 
+     * @param name
+     *        The FQCN of the Throwable.
+     * @param message
+     *        The message of the Throwable, may be null.
+     * @param localizedMessage
+     *        The localized message of the Throwable, may be null.
+     * @param extendedStackTrace
+     *        The stack trace including packaging information.
+     * @param commonElementCount
+     *        The number of elements omitted because they are common with the enclosing Throwable's stack trace.
+     * @param causeProxy
+     *        The proxy of the cause, may be null.
+     * @param suppressedProxies
+     *        The proxies of the suppressed Throwables.
+     * @since 2.2
+     */
+    public ThrowableProxy(final String name, final String message, final String localizedMessage,
+            final ExtendedStackTraceElement[] extendedStackTrace, final int commonElementCount,
+            final ThrowableProxy causeProxy, final ThrowableProxy[] suppressedProxies) {
+        this.throwable = null;
+        this.resolver = null;
+        this.name = name;
+        this.message = message;
+        this.localizedMessage = localizedMessage;
+        this.extendedStackTrace = extendedStackTrace;
+        this.commonElementCount = commonElementCount;
+        this.causeProxy = causeProxy;
+        this.suppressedProxies = suppressedProxies == null ? EMPTY_THROWABLE_PROXY_ARRAY : suppressedProxies;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -162,7 +221,7 @@ public class ThrowableProxy implements Serializable {
         } else if (!this.causeProxy.equals(other.causeProxy)) {
             return false;
         }
-        if (this.commonElementCount != other.commonElementCount) {
+        if (this.getCommonElementCount() != other.getCommonElementCount()) {
             return false;
         }
         if (this.name == null) {
@@ -172,7 +231,7 @@ public class ThrowableProxy implements Serializable {
         } else if (!this.name.equals(other.name)) {
             return false;
         }
-        if (!Arrays.equals(this.extendedStackTrace, other.extendedStackTrace)) {
+        if (!Arrays.equals(this.getExtendedStackTrace(), other.getExtendedStackTrace())) {
             return false;
         }
         if (!Arrays.equals(this.suppressedProxies, other.suppressedProxies)) {
@@ -187,8 +246,8 @@ public class ThrowableProxy implements Serializable {
             return;
         }
         sb.append("Caused by: ").append(cause).append(EOL);
-        this.formatElements(sb, cause.commonElementCount, cause.getThrowable().getStackTrace(),
-                cause.extendedStackTrace, ignorePackages);
+        this.formatElements(sb, cause.getCommonElementCount(), cause.getStackTrace(),
+                cause.getExtendedStackTrace(), ignorePackages);
         this.formatCause(sb, cause.causeProxy, ignorePackages);
     }
 
@@ -201,7 +260,9 @@ public class ThrowableProxy implements Serializable {
         } else {
             int count = 0;
             for (int i = 0; i < extStackTrace.length; ++i) {
-                if (!this.ignoreElement(causedTrace[i], ignorePackages)) {
+                final StackTraceElement element = causedTrace != null ? causedTrace[i]
+                        : extStackTrace[i].getStackTraceElement();
+                if (!this.ignoreElement(element, ignorePackages)) {
                     if (count > 0) {
                         appendSuppressedCount(sb, count);
                         count = 0;
@@ -264,8 +325,8 @@ public class ThrowableProxy implements Serializable {
             sb.append("Wrapped by: ");
         }
         sb.append(cause).append(EOL);
-        this.formatElements(sb, cause.commonElementCount, cause.getThrowable().getStackTrace(),
-                cause.extendedStackTrace, packages);
+        this.formatElements(sb, cause.getCommonElementCount(), cause.getThrowable().getStackTrace(),
+                cause.getExtendedStackTrace(), packages);
     }
 
     public ThrowableProxy getCauseProxy() {
@@ -296,7 +357,7 @@ public class ThrowableProxy implements Serializable {
         }
         sb.append(this.toString());
         sb.append(EOL);
-        this.formatElements(sb, 0, this.throwable.getStackTrace(), this.extendedStackTrace, packages);
+        this.formatElements(sb, 0, this.throwable.getStackTrace(), this.getExtendedStackTrace(), packages);
         return sb.toString();
     }
 
@@ -307,6 +368,7 @@ public class ThrowableProxy implements Serializable {
      * @return The number of elements omitted from the stack trace.
      */
     public int getCommonElementCount() {
+        this.getExtendedStackTrace();
         return this.commonElementCount;
     }
 
@@ -316,6 +378,9 @@ public class ThrowableProxy implements Serializable {
      * @return The stack trace including packaging information.
      */
     public ExtendedStackTraceElement[] getExtendedStackTrace() {
+        if (this.extendedStackTrace == null && this.resolver != null) {
+            this.resolver.resolveExtendedStackTraces();
+        }
         return this.extendedStackTrace;
     }
 
@@ -343,7 +408,7 @@ public class ThrowableProxy implements Serializable {
         }
         sb.append(EOL);
         StackTraceElement[] causedTrace = this.throwable != null ? this.throwable.getStackTrace() : null;
-        this.formatElements(sb, 0, causedTrace, this.extendedStackTrace, ignorePackages);
+        this.formatElements(sb, 0, causedTrace, this.getExtendedStackTrace(), ignorePackages);
         this.formatCause(sb, this.causeProxy, ignorePackages);
         return sb.toString();
     }
@@ -409,13 +474,32 @@ public class ThrowableProxy implements Serializable {
         final int prime = 31;
         int result = 1;
         result = prime * result + (this.causeProxy == null ? 0 : this.causeProxy.hashCode());
-        result = prime * result + this.commonElementCount;
-        result = prime * result + (this.extendedStackTrace == null ? 0 : Arrays.hashCode(this.extendedStackTrace));
+        result = prime * result + this.getCommonElementCount();
+        final ExtendedStackTraceElement[] extStackTrace = this.getExtendedStackTrace();
+        result = prime * result + (extStackTrace == null ? 0 : Arrays.hashCode(extStackTrace));
         result = prime * result + (this.suppressedProxies == null ? 0 : Arrays.hashCode(this.suppressedProxies));
         result = prime * result + (this.name == null ? 0 : this.name.hashCode());
         return result;
     }
 
+    /**
+     * Resolves the extended stack traces of this proxy and of its causes, in the order the caller's Class stack is
+     * consumed.
+     */
+    private synchronized void resolveExtendedStackTraces() {
+        if (this.stack == null) {
+            return;
+        }
+        final Map<String, CacheEntry> map = new HashMap<String, CacheEntry>();
+        final StackTraceElement[] rootTrace = this.throwable.getStackTrace();
+        this.extendedStackTrace = this.toExtendedStackTrace(this.stack, map, null, rootTrace);
+        for (ThrowableProxy cause = this.causeProxy; cause != null; cause = cause.causeProxy) {
+            cause.extendedStackTrace = cause.toExtendedStackTrace(this.stack, map, rootTrace,
+                    cause.throwable.getStackTrace());
+        }
+        this.stack = null;
+    }
+
     private boolean ignoreElement(final StackTraceElement element, final List<String> ignorePackages) {
         final String className = element.getClassName();
         for (final String pkg : ignorePackages) {
@@ -556,26 +640,33 @@ public class ThrowableProxy implements Serializable {
             // present as those methods have returned.
             ExtendedClassInfo extClassInfo;
             if (clazz != null && className.equals(clazz.getName())) {
-                final CacheEntry entry = this.toCacheEntry(stackTraceElement, clazz, true);
+                final ClassLoader loader = clazz.getClassLoader();
+                CacheEntry entry = EXACT_CLASSES.get(loader, className);
+                if (entry == null) {
+                    entry = this.toCacheEntry(stackTraceElement, clazz, true);
+                    EXACT_CLASSES.put(loader, className, entry);
+                }
                 extClassInfo = entry.element;
-                lastLoader = entry.loader;
+                lastLoader = loader;
                 stack.pop();
                 clazz = stack.isEmpty() ? null : stack.peek();
             } else {
-                if (map.containsKey(className)) {
-                    final CacheEntry entry = map.get(className);
-                    extClassInfo = entry.element;
-                    if (entry.loader != null) {
-                        lastLoader = entry.loader;
-                    }
-                } else {
-                    final CacheEntry entry = this.toCacheEntry(stackTraceElement,
-                            this.loadClass(lastLoader, className), false);
-                    extClassInfo = entry.element;
-                    map.put(stackTraceElement.toString(), entry);
-                    if (entry.loader != null) {
-                        lastLoader = entry.loader;
+                CacheEntry entry = map.get(className);
+                if (entry == null) {
+                    // Without a loader, the class is loaded through the thread context class loader.
+                    final ClassLoader loader = lastLoader != null ? lastLoader : Thread.currentThread()
+                            .getContextClassLoader();
+                    entry = RESOLVED_CLASSES.get(loader, className);
+                    if (entry == null) {
+                        entry = this.toCacheEntry(stackTraceElement, this.loadClass(lastLoader, className), false);
+                        RESOLVED_CLASSES.put(loader, className, entry);
                     }
+                    map.put(className, entry);
+                }
+                extClassInfo = entry.element;
+                final ClassLoader entryLoader = entry.getLoader();
+                if (entryLoader != null) {
+                    lastLoader = entryLoader;
                 }
             }
             extStackTrace[i] = new ExtendedStackTraceElement(stackTraceElement, extClassInfo);
@@ -589,6 +680,11 @@ public class ThrowableProxy implements Serializable {
         return msg != null ? this.name + ": " + msg : this.name;
     }
 
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        this.getExtendedStackTrace();
+        out.defaultWriteObject();
+    }
+
     private ThrowableProxy[] toSuppressedProxies(final Throwable thrown) {
         try {
             final Throwable[] suppressed = Throwables.getSuppressed(thrown);
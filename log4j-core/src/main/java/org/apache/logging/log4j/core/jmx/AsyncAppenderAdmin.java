@@ -130,4 +130,14 @@ public class AsyncAppenderAdmin implements AsyncAppenderAdminMBean {
     public int getQueueRemainingCapacity() {
         return asyncAppender.getQueueRemainingCapacity();
     }
+
+    @Override
+    public long getDiscardedCount() {
+        return asyncAppender.getDiscardedCount();
+    }
+
+    @Override
+    public long getSynchronousCount() {
+        return asyncAppender.getSynchronousCount();
+    }
 }
@@ -128,4 +128,22 @@ public interface AsyncAppenderAdminMBean {
     int getQueueCapacity();
     
     int getQueueRemainingCapacity();
+
+    /**
+     * Returns the number of events that were discarded because the queue was full, as decided by the configured
+     * {@code AsyncQueueFullPolicy}.
+     * 
+     * @return the number of discarded events
+     * @since 2.2
+     */
+    long getDiscardedCount();
+
+    /**
+     * Returns the number of events that were passed to the appenders in the caller thread, bypassing the queue,
+     * because the queue was full.
+     * 
+     * @return the number of events that bypassed the queue
+     * @since 2.2
+     */
+    long getSynchronousCount();
 }
@@ -18,6 +18,7 @@ package org.apache.logging.log4j.core.jmx;
 
 import javax.management.ObjectName;
 
+import org.apache.logging.log4j.core.async.AsyncQueueFullCounters;
 import org.apache.logging.log4j.core.util.Assert;
 
 import com.lmax.disruptor.RingBuffer;
@@ -28,24 +29,50 @@ import com.lmax.disruptor.RingBuffer;
 public class RingBufferAdmin implements RingBufferAdminMBean {
 
     private final RingBuffer<?> ringBuffer;
+    private final AsyncQueueFullCounters queueFullCounters;
     private final ObjectName objectName;
 
     public static RingBufferAdmin forAsyncLogger(final RingBuffer<?> ringBuffer, final String contextName) {
+        return forAsyncLogger(ringBuffer, contextName, null);
+    }
+
+    /**
+     * @since 2.2
+     */
+    public static RingBufferAdmin forAsyncLogger(final RingBuffer<?> ringBuffer, final String contextName,
+            final AsyncQueueFullCounters queueFullCounters) {
         final String ctxName = Server.escape(contextName);
         final String name = String.format(PATTERN_ASYNC_LOGGER, ctxName);
-        return new RingBufferAdmin(ringBuffer, name);
+        return new RingBufferAdmin(ringBuffer, name, queueFullCounters);
     }
 
     public static RingBufferAdmin forAsyncLoggerConfig(final RingBuffer<?> ringBuffer, 
             final String contextName, final String configName) {
+        return forAsyncLoggerConfig(ringBuffer, contextName, configName, null);
+    }
+
+    /**
+     * @since 2.2
+     */
+    public static RingBufferAdmin forAsyncLoggerConfig(final RingBuffer<?> ringBuffer,
+            final String contextName, final String configName, final AsyncQueueFullCounters queueFullCounters) {
         final String ctxName = Server.escape(contextName);
         final String cfgName = Server.escape(configName);
         final String name = String.format(PATTERN_ASYNC_LOGGER_CONFIG, ctxName, cfgName);
-        return new RingBufferAdmin(ringBuffer, name);
+        return new RingBufferAdmin(ringBuffer, name, queueFullCounters);
     }
     
     protected RingBufferAdmin(final RingBuffer<?> ringBuffer, final String mbeanName) {
+        this(ringBuffer, mbeanName, null);
+    }
+
+    /**
+     * @since 2.2
+     */
+    protected RingBufferAdmin(final RingBuffer<?> ringBuffer, final String mbeanName,
+            final AsyncQueueFullCounters queueFullCounters) {
         this.ringBuffer = Assert.requireNonNull(ringBuffer, "ringbuffer");        
+        this.queueFullCounters = queueFullCounters == null ? new AsyncQueueFullCounters() : queueFullCounters;
         try {
             objectName = new ObjectName(mbeanName);
         } catch (final Exception e) {
@@ -63,6 +90,16 @@ public class RingBufferAdmin implements RingBufferAdminMBean {
         return ringBuffer.remainingCapacity();
     }
 
+    @Override
+    public long getDiscardedCount() {
+        return queueFullCounters.getDiscardedCount();
+    }
+
+    @Override
+    public long getSynchronousCount() {
+        return queueFullCounters.getSynchronousCount();
+    }
+
     /**
      * Returns the {@code ObjectName} of this mbean.
      *
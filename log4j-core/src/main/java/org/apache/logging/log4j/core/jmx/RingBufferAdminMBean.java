@@ -68,4 +68,22 @@ public interface RingBufferAdminMBean {
      * @return the number of available slots in the ring buffer
      */
     long getRemainingCapacity();
+
+    /**
+     * Returns the number of events that were discarded because the ring buffer was full, as decided by the
+     * configured {@code AsyncQueueFullPolicy}.
+     * 
+     * @return the number of discarded events
+     * @since 2.2
+     */
+    long getDiscardedCount();
+
+    /**
+     * Returns the number of events that were logged synchronously in the caller thread, bypassing the ring buffer,
+     * because the ring buffer was full.
+     * 
+     * @return the number of events that bypassed the ring buffer
+     * @since 2.2
+     */
+    long getSynchronousCount();
 }
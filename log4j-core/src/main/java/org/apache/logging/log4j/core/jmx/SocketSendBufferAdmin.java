@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.jmx;
+
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.core.net.NonBlockingTcpSocketManager;
+import org.apache.logging.log4j.core.util.Assert;
+
+/**
+ * Implementation of the {@code SocketSendBufferAdminMBean} interface.
+ *
+ * @since 2.2
+ */
+public class SocketSendBufferAdmin implements SocketSendBufferAdminMBean {
+
+    private final NonBlockingTcpSocketManager manager;
+    private final ObjectName objectName;
+
+    /**
+     * Constructs a new {@code SocketSendBufferAdmin} with the specified contextName and manager.
+     *
+     * @param contextName used in the {@code ObjectName} for this mbean
+     * @param appenderName used in the {@code ObjectName} for this mbean
+     * @param manager the instrumented object
+     */
+    public SocketSendBufferAdmin(final String contextName, final String appenderName,
+            final NonBlockingTcpSocketManager manager) {
+        this.manager = Assert.requireNonNull(manager, "manager");
+        try {
+            final String ctxName = Server.escape(Assert.requireNonNull(contextName, "contextName"));
+            final String name = String.format(PATTERN, ctxName, Server.escape(appenderName));
+            objectName = new ObjectName(name);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the {@code ObjectName} of this mbean.
+     *
+     * @return the {@code ObjectName}
+     * @see SocketSendBufferAdminMBean#PATTERN
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public String getHost() {
+        return manager.getHost();
+    }
+
+    @Override
+    public int getPort() {
+        return manager.getPort();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return manager.isConnected();
+    }
+
+    @Override
+    public String getDropPolicy() {
+        return manager.getDropPolicy().name();
+    }
+
+    @Override
+    public int getBufferSize() {
+        return manager.getBufferSize();
+    }
+
+    @Override
+    public long getQueuedBytes() {
+        return manager.getQueuedBytes();
+    }
+
+    @Override
+    public long getQueuedEvents() {
+        return manager.getQueuedEvents();
+    }
+
+    @Override
+    public long getDroppedBytes() {
+        return manager.getDroppedBytes();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return manager.getDroppedEvents();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.jmx;
+
+/**
+ * The MBean interface for monitoring the send buffer of a non-blocking {@code SocketAppender}.
+ *
+ * @since 2.2
+ */
+public interface SocketSendBufferAdminMBean {
+    /**
+     * ObjectName pattern ({@value}) for SocketSendBufferAdmin MBeans. This pattern contains two variables, where the
+     * first is the name of the context, the second is the name of the instrumented appender.
+     * <p>
+     * You can find all registered SocketSendBufferAdmin MBeans like this:
+     * </p>
+     *
+     * <pre>
+     * MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+     * String pattern = String.format(SocketSendBufferAdminMBean.PATTERN, &quot;*&quot;, &quot;*&quot;);
+     * Set&lt;ObjectName&gt; bufferNames = mbs.queryNames(new ObjectName(pattern), null);
+     * </pre>
+     *
+     * @see Server#escape(String)
+     */
+    String PATTERN = Server.DOMAIN + ":type=%s,component=Appenders,name=%s,subtype=SendBuffer";
+
+    /**
+     * Returns the name of the host that events are sent to.
+     *
+     * @return the host name
+     */
+    String getHost();
+
+    /**
+     * Returns the port that events are sent to.
+     *
+     * @return the port
+     */
+    int getPort();
+
+    /**
+     * Returns whether the appender is currently connected to the host.
+     *
+     * @return {@code true} if connected
+     */
+    boolean isConnected();
+
+    /**
+     * Returns the events that are dropped when the buffer is full: "NEWEST" or "OLDEST".
+     *
+     * @return the drop policy
+     */
+    String getDropPolicy();
+
+    /**
+     * Returns the size of the send buffer in bytes. This number does not change during the life of the appender.
+     *
+     * @return the buffer size
+     */
+    int getBufferSize();
+
+    /**
+     * Returns the number of bytes in the buffer that have not been sent yet.
+     *
+     * @return the queue depth in bytes
+     */
+    long getQueuedBytes();
+
+    /**
+     * Returns the number of events in the buffer that have not been sent completely yet.
+     *
+     * @return the queue depth in events
+     */
+    long getQueuedEvents();
+
+    /**
+     * Returns the number of bytes dropped because the buffer was full.
+     *
+     * @return the number of dropped bytes
+     */
+    long getDroppedBytes();
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedEvents();
+}
@@ -17,11 +17,13 @@
 package org.apache.logging.log4j.core.layout;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.status.StatusLogger;
 
 /**
@@ -87,4 +89,46 @@ public abstract class AbstractLayout<T extends Serializable> implements Layout<T
     public byte[] getHeader() {
         return header;
     }
+
+    /**
+     * Encodes the specified source LogEvent to some binary representation and writes the result to the specified
+     * destination.
+     * <p>
+     * The default implementation calls {@link #toByteArray(LogEvent)} and copies the result into the destination's
+     * buffer. Subclasses can override this method to avoid the intermediate byte array.
+     * </p>
+     *
+     * @param event the LogEvent to encode.
+     * @param destination holds the ByteBuffer to write into.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        final byte[] data = toByteArray(event);
+        writeTo(data, 0, data.length, destination);
+    }
+
+    /**
+     * Copies the specified bytes into the destination's buffer, draining the buffer whenever it is full.
+     *
+     * @param data the bytes to write
+     * @param offset the offset into the array
+     * @param length the number of bytes to write
+     * @param destination the destination to write to
+     */
+    protected static void writeTo(final byte[] data, final int offset, final int length,
+            final ByteBufferDestination destination) {
+        int currentOffset = offset;
+        int remaining = length;
+        synchronized (destination) {
+            ByteBuffer buffer = destination.getByteBuffer();
+            while (remaining > buffer.remaining()) {
+                final int chunk = buffer.remaining();
+                buffer.put(data, currentOffset, chunk);
+                currentOffset += chunk;
+                remaining -= chunk;
+                buffer = destination.drain(buffer);
+            }
+            buffer.put(data, currentOffset, remaining);
+        }
+    }
 }
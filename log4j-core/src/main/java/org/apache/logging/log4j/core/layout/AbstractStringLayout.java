@@ -20,6 +20,7 @@ import java.nio.charset.Charset;
 
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.util.Charsets;
+import org.apache.logging.log4j.util.PropertiesUtil;
 
 /**
  * Abstract base class for Layouts that result in a String.
@@ -28,12 +29,32 @@ public abstract class AbstractStringLayout extends AbstractLayout<String> {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Initial capacity of the per-thread StringBuilders.
+     */
+    protected static final int DEFAULT_STRING_BUILDER_SIZE = 1024;
+
+    /**
+     * Capacity above which a per-thread StringBuilder is trimmed back when it is released, so that a single very
+     * large event does not pin memory for the lifetime of the thread. Set system property
+     * "log4j.layoutStringBuilder.maxSize" to change the default of 2048 chars.
+     */
+    protected static final int MAX_STRING_BUILDER_SIZE = Math.max(DEFAULT_STRING_BUILDER_SIZE,
+            PropertiesUtil.getProperties().getIntegerProperty("log4j.layoutStringBuilder.maxSize", 2 * 1024));
+
+    private static final ThreadLocal<StringBuilder> threadLocal = new ThreadLocal<StringBuilder>();
+
     /**
      * The charset for the formatted message.
      */
     // TODO: Charset is not serializable. Implement read/writeObject() ?
     private final Charset charset;
 
+    /**
+     * Per-thread encoder that converts the formatted text into the destination's ByteBuffer.
+     */
+    private transient ThreadLocal<Encoder<StringBuilder>> textEncoder;
+
     protected AbstractStringLayout(final Charset charset) {
         this(charset, null, null);
     }
@@ -41,6 +62,63 @@ public abstract class AbstractStringLayout extends AbstractLayout<String> {
     protected AbstractStringLayout(final Charset charset, final byte[] header, final byte[] footer) {
         super(header, footer);
         this.charset = charset == null ? Charsets.UTF_8 : charset;
+        this.textEncoder = createTextEncoder(this.charset);
+    }
+
+    private static ThreadLocal<Encoder<StringBuilder>> createTextEncoder(final Charset charset) {
+        return new ThreadLocal<Encoder<StringBuilder>>() {
+            @Override
+            protected Encoder<StringBuilder> initialValue() {
+                return new StringBuilderEncoder(charset);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@code StringBuilder} that this Layout implementation can use to write the formatted log event to.
+     * <p>
+     * The returned instance is cached per thread and is empty. Callers must {@linkplain #releaseStringBuilder(StringBuilder)
+     * release} it when done. If the cached instance is still in use higher up the call stack (for example because
+     * formatting a message caused another event to be logged), a new instance is returned instead.
+     * </p>
+     *
+     * @return a {@code StringBuilder}
+     */
+    protected static StringBuilder getStringBuilder() {
+        StringBuilder result = threadLocal.get();
+        if (result == null) {
+            result = new StringBuilder(DEFAULT_STRING_BUILDER_SIZE);
+            threadLocal.set(result);
+        } else if (result.length() > 0) {
+            return new StringBuilder(DEFAULT_STRING_BUILDER_SIZE);
+        }
+        return result;
+    }
+
+    /**
+     * Clears the specified {@code StringBuilder} obtained from {@link #getStringBuilder()} so that it can be reused.
+     * If its capacity grew beyond {@link #MAX_STRING_BUILDER_SIZE}, it is trimmed back to that size.
+     *
+     * @param stringBuilder the {@code StringBuilder} to release
+     */
+    protected static void releaseStringBuilder(final StringBuilder stringBuilder) {
+        if (stringBuilder.capacity() > MAX_STRING_BUILDER_SIZE) {
+            stringBuilder.setLength(MAX_STRING_BUILDER_SIZE);
+            stringBuilder.trimToSize();
+        }
+        stringBuilder.setLength(0);
+    }
+
+    /**
+     * Returns the per-thread {@code Encoder} that converts text to bytes in this layout's charset.
+     *
+     * @return the text encoder for the current thread
+     */
+    protected Encoder<StringBuilder> getStringBuilderEncoder() {
+        if (textEncoder == null) { // deserialized instance
+            textEncoder = createTextEncoder(charset);
+        }
+        return textEncoder.get();
     }
 
     protected byte[] getBytes(String s) {
@@ -70,4 +148,23 @@ public abstract class AbstractStringLayout extends AbstractLayout<String> {
     public byte[] toByteArray(final LogEvent event) {
         return toSerializable(event).getBytes(charset);
     }
+
+    /**
+     * Formats the Log Event as text and encodes it straight into the destination's ByteBuffer, without creating an
+     * intermediate byte array. Subclasses that can format into a {@code StringBuilder} should override this method to
+     * avoid creating the intermediate String as well.
+     *
+     * @param event the LogEvent to encode.
+     * @param destination holds the ByteBuffer to write into.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        final StringBuilder text = getStringBuilder();
+        try {
+            text.append(toSerializable(event));
+            getStringBuilderEncoder().encode(text, destination);
+        } finally {
+            releaseStringBuilder(text);
+        }
+    }
 }
@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.impl.ExtendedClassInfo;
+import org.apache.logging.log4j.core.impl.ExtendedStackTraceElement;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.StringBuilderFormattable;
+
+/**
+ * Formats a {@link LogEvent} as a compact, length-prefixed binary frame, to be read by
+ * {@link org.apache.logging.log4j.core.net.server.BinaryLogEventBridge}.
+ * <p>
+ * All numbers are big-endian. A frame is a four byte length followed by that many bytes:
+ * </p>
+ * <pre>
+ * byte   version ({@value #VERSION})
+ * byte   flags (FLAG_END_OF_BATCH, FLAG_SOURCE, FLAG_THROWN, FLAG_MARKER)
+ * long   time in milliseconds
+ * int    level value, string level name
+ * string logger name, string logger FQCN, string thread name, string formatted message
+ * marker (if FLAG_MARKER): string name, byte parent count, parent markers
+ * int    context map size, string key and string value for each entry
+ * int    context stack depth, string for each element, bottom first
+ * source (if FLAG_SOURCE): string class name, string method name, string file name, int line number
+ * thrown (if FLAG_THROWN): string name, string message, string localized message, int common element count,
+ *        int frame count, frames, byte 1 and thrown cause or byte 0, int suppressed count, suppressed thrown
+ * frame: string class name, string method name, string file name, int line number,
+ *        byte 1 if exact, 0 if not, -1 if there is no packaging data, and if there is: string location, string version
+ * </pre>
+ * <p>
+ * A string is an int byte count, or -1 for {@code null}, followed by the UTF-8 encoded characters. Frames are built
+ * in a buffer that is reused by the logging thread, so encoding an event into a {@link ByteBufferDestination} does not
+ * allocate.
+ * </p>
+ * <p>
+ * The throwable is encoded field by field rather than with Java serialization, so that the receiver never
+ * deserializes objects from the network. Markers deeper than {@value #MAX_MARKER_DEPTH} levels, markers beyond the
+ * first {@value #MAX_MARKERS} of an event, and causes or suppressed throwables nested deeper than
+ * {@value #MAX_THROWN_DEPTH} levels are left out.
+ * </p>
+ *
+ * @since 2.2
+ */
+@Plugin(name = "BinaryLayout", category = Node.CATEGORY, elementType = Layout.ELEMENT_TYPE, printObject = true)
+public final class BinaryLayout extends AbstractLayout<LogEvent> {
+
+    /** The version of the frame format written by this layout. */
+    public static final byte VERSION = 1;
+
+    /** Flag set if the event is the last one of a batch. */
+    public static final int FLAG_END_OF_BATCH = 1;
+
+    /** Flag set if the frame contains the location of the caller. */
+    public static final int FLAG_SOURCE = 2;
+
+    /** Flag set if the frame contains a ThrowableProxy. */
+    public static final int FLAG_THROWN = 4;
+
+    /** Flag set if the frame contains a Marker. */
+    public static final int FLAG_MARKER = 8;
+
+    /** The number of bytes of the length that precedes each frame. */
+    public static final int LENGTH_PREFIX = 4;
+
+    /** The deepest marker, counting the marker of the event as 1, that is written and accepted. */
+    public static final int MAX_MARKER_DEPTH = 8;
+
+    /** The largest number of markers, including all parents, that is written and accepted for one event. */
+    public static final int MAX_MARKERS = 64;
+
+    /** The deepest cause or suppressed throwable, counting the thrown of the event as 1, written and accepted. */
+    public static final int MAX_THROWN_DEPTH = 32;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // buffers that grew beyond this for an unusually large event are not kept
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final ThreadLocal<FrameWriter> WRITERS = new ThreadLocal<FrameWriter>();
+
+    private final boolean locationInfo;
+    private final boolean properties;
+
+    private BinaryLayout(final boolean locationInfo, final boolean properties) {
+        super(null, null);
+        this.locationInfo = locationInfo;
+        this.properties = properties;
+    }
+
+    /**
+     * Formats a {@link LogEvent} as one binary frame, including the length prefix.
+     *
+     * @param event The LogEvent.
+     * @return the formatted LogEvent.
+     */
+    @Override
+    public byte[] toByteArray(final LogEvent event) {
+        final ByteBuffer frame = getFrameWriter().write(event);
+        final byte[] result = new byte[frame.remaining()];
+        frame.get(result);
+        return result;
+    }
+
+    /**
+     * Writes the frame from the reusable buffer of the current thread to the destination.
+     *
+     * @param event the LogEvent to encode.
+     * @param destination holds the ByteBuffer to write into.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        final ByteBuffer frame = getFrameWriter().write(event);
+        writeTo(frame.array(), frame.position(), frame.remaining(), destination);
+    }
+
+    private FrameWriter getFrameWriter() {
+        FrameWriter writer = WRITERS.get();
+        if (writer == null) {
+            writer = new FrameWriter();
+            WRITERS.set(writer);
+        }
+        writer.locationInfo = locationInfo;
+        writer.properties = properties;
+        return writer;
+    }
+
+    /**
+     * Returns the LogEvent.
+     *
+     * @param event The Logging Event.
+     * @return The LogEvent.
+     */
+    @Override
+    public LogEvent toSerializable(final LogEvent event) {
+        return event;
+    }
+
+    @Override
+    public Map<String, String> getContentFormat() {
+        final Map<String, String> result = new HashMap<String, String>();
+        result.put("version", Byte.toString(VERSION));
+        return result;
+    }
+
+    /**
+     * BinaryLayout returns a binary stream.
+     * @return The content type.
+     */
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    /**
+     * Creates a BinaryLayout.
+     *
+     * @param locationInfo If "true", includes the location information in the generated frames.
+     * @param properties If "true", includes the thread context map and stack in the generated frames.
+     * @return A BinaryLayout.
+     */
+    @PluginFactory
+    public static BinaryLayout createLayout(
+            // @formatter:off
+            @PluginAttribute(value = "locationInfo", defaultBoolean = false) final boolean locationInfo,
+            @PluginAttribute(value = "properties", defaultBoolean = true) final boolean properties
+            // @formatter:on
+    ) {
+        return new BinaryLayout(locationInfo, properties);
+    }
+
+    /**
+     * Builds frames in a heap buffer that grows as needed and is reused for every event of one thread.
+     */
+    private static final class FrameWriter {
+        private final StringBuilder text = new StringBuilder(INITIAL_CAPACITY);
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+        private boolean locationInfo;
+        private boolean properties;
+        private int markerCount;
+
+        ByteBuffer write(final LogEvent event) {
+            if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+                buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+            }
+            buffer.clear();
+            buffer.putInt(0); // patched below
+            final StackTraceElement source = locationInfo ? event.getSource() : null;
+            final ThrowableProxy thrownProxy = event.getThrownProxy();
+            final Marker marker = event.getMarker();
+            int flags = 0;
+            if (event.isEndOfBatch()) {
+                flags |= FLAG_END_OF_BATCH;
+            }
+            if (source != null) {
+                flags |= FLAG_SOURCE;
+            }
+            if (thrownProxy != null) {
+                flags |= FLAG_THROWN;
+            }
+            if (marker != null) {
+                flags |= FLAG_MARKER;
+            }
+            buffer.put(VERSION);
+            buffer.put((byte) flags);
+            buffer.putLong(event.getTimeMillis());
+            buffer.putInt(event.getLevel().intLevel());
+            putString(event.getLevel().name());
+            putString(event.getLoggerName());
+            putString(event.getLoggerFqcn());
+            putString(event.getThreadName());
+            putMessage(event.getMessage());
+            if (marker != null) {
+                markerCount = 0;
+                putMarker(marker, 1);
+            }
+            putContext(event);
+            if (source != null) {
+                putString(source.getClassName());
+                putString(source.getMethodName());
+                putString(source.getFileName());
+                ensureCapacity(4);
+                buffer.putInt(source.getLineNumber());
+            }
+            if (thrownProxy != null) {
+                putThrown(thrownProxy, 1);
+            }
+            buffer.putInt(0, buffer.position() - LENGTH_PREFIX);
+            buffer.flip();
+            return buffer;
+        }
+
+        private void putMessage(final Message message) {
+            if (message == null) {
+                putString(null);
+            } else if (message instanceof StringBuilderFormattable) {
+                text.setLength(0);
+                ((StringBuilderFormattable) message).formatTo(text);
+                putString(text);
+            } else {
+                putString(message.getFormattedMessage());
+            }
+        }
+
+        private void putMarker(final Marker marker, final int depth) {
+            ++markerCount;
+            putString(marker.getName());
+            final Marker[] parents = depth < MAX_MARKER_DEPTH ? marker.getParents() : null;
+            final int count = parents == null ? 0
+                    : Math.min(Math.min(parents.length, 255), MAX_MARKERS - markerCount);
+            ensureCapacity(1);
+            buffer.put((byte) count);
+            for (int i = 0; i < count; i++) {
+                putMarker(parents[i], depth + 1);
+            }
+        }
+
+        private void putContext(final LogEvent event) {
+            final Map<String, String> contextMap = properties ? event.getContextMap() : null;
+            ensureCapacity(4);
+            if (contextMap == null) {
+                buffer.putInt(0);
+            } else {
+                buffer.putInt(contextMap.size());
+                for (final Map.Entry<String, String> entry : contextMap.entrySet()) {
+                    putString(entry.getKey());
+                    putString(entry.getValue());
+                }
+            }
+            final ThreadContext.ContextStack contextStack = properties ? event.getContextStack() : null;
+            ensureCapacity(4);
+            if (contextStack == null || contextStack.getDepth() == 0) {
+                buffer.putInt(0);
+            } else {
+                buffer.putInt(contextStack.getDepth());
+                for (final String element : contextStack) {
+                    putString(element);
+                }
+            }
+        }
+
+        private void putThrown(final ThrowableProxy thrownProxy, final int depth) {
+            putString(thrownProxy.getName());
+            putString(thrownProxy.getMessage());
+            putString(thrownProxy.getLocalizedMessage());
+            final ExtendedStackTraceElement[] trace = thrownProxy.getExtendedStackTrace();
+            final int frames = trace == null ? 0 : trace.length;
+            ensureCapacity(8);
+            buffer.putInt(thrownProxy.getCommonElementCount());
+            buffer.putInt(frames);
+            for (int i = 0; i < frames; i++) {
+                putFrame(trace[i]);
+            }
+            final ThrowableProxy cause = depth < MAX_THROWN_DEPTH ? thrownProxy.getCauseProxy() : null;
+            ensureCapacity(1);
+            buffer.put((byte) (cause == null ? 0 : 1));
+            if (cause != null) {
+                putThrown(cause, depth + 1);
+            }
+            final ThrowableProxy[] suppressed = depth < MAX_THROWN_DEPTH ? thrownProxy.getSuppressedProxies() : null;
+            final int count = suppressed == null ? 0 : suppressed.length;
+            ensureCapacity(4);
+            buffer.putInt(count);
+            for (int i = 0; i < count; i++) {
+                putThrown(suppressed[i], depth + 1);
+            }
+        }
+
+        private void putFrame(final ExtendedStackTraceElement frame) {
+            putString(frame.getClassName());
+            putString(frame.getMethodName());
+            putString(frame.getFileName());
+            final ExtendedClassInfo info = frame.getExtraClassInfo();
+            ensureCapacity(5);
+            buffer.putInt(frame.getLineNumber());
+            if (info == null) {
+                buffer.put((byte) -1);
+            } else {
+                buffer.put((byte) (info.getExact() ? 1 : 0));
+                putString(info.getLocation());
+                putString(info.getVersion());
+            }
+        }
+
+        /**
+         * Writes the characters as UTF-8 without creating a temporary byte array.
+         */
+        private void putString(final CharSequence value) {
+            if (value == null) {
+                ensureCapacity(4);
+                buffer.putInt(-1);
+                return;
+            }
+            final int length = value.length();
+            ensureCapacity(4 + 3 * length);
+            final int start = buffer.position();
+            buffer.position(start + 4);
+            for (int i = 0; i < length; i++) {
+                final char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xC0 | (c >> 6)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                    buffer.put((byte) '?'); // unpaired surrogate
+                } else {
+                    buffer.put((byte) (0xE0 | (c >> 12)));
+                    buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+            buffer.putInt(start, buffer.position() - start - 4);
+        }
+
+        private void ensureCapacity(final int bytes) {
+            if (buffer.remaining() < bytes) {
+                final ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2,
+                        buffer.position() + bytes));
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+    }
+}
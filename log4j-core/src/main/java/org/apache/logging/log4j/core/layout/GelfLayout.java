@@ -16,14 +16,18 @@
  */
 package org.apache.logging.log4j.core.layout;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -38,7 +42,6 @@ import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.net.Severity;
 import org.apache.logging.log4j.core.util.Charsets;
 import org.apache.logging.log4j.core.util.KeyValuePair;
-import org.apache.logging.log4j.status.StatusLogger;
 
 import com.fasterxml.jackson.core.io.JsonStringEncoder;
 
@@ -46,7 +49,13 @@ import com.fasterxml.jackson.core.io.JsonStringEncoder;
  * Lays out events in the Graylog Extended Log Format (GELF) 1.1.
  * <p>
  * This layout compresses JSON to GZIP or ZLIB (the {@code compressionType}) if log event data is larger than 1024 bytes
- * (the {@code compressionThreshold}). This layout does not implement chunking.
+ * (the {@code compressionThreshold}). Compressors, each with its own {@link Deflater}, are taken from a small pool
+ * shared by all GelfLayouts and returned to it after each event; compressors that do not fit back in the pool release
+ * their native memory right away.
+ * </p>
+ * <p>
+ * When sent over UDP, events larger than 8192 bytes (the {@code chunkSize}) are split into GELF chunks of at most that
+ * size, each sent as one datagram. A message may have at most {@value #MAX_CHUNKS} chunks.
  * </p>
  * <p>
  * Configure as follows to send to a Graylog2 server:
@@ -94,25 +103,55 @@ public final class GelfLayout extends AbstractStringLayout {
 
     }
 
+    /**
+     * The default size in bytes of a datagram that carries a GELF chunk, including the chunk header.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /**
+     * The most chunks a GELF message may be split into.
+     */
+    public static final int MAX_CHUNKS = 128;
+
     private static final char C = ',';
     private static final int COMPRESSION_THRESHOLD = 1024;
+    // the GELF chunk header alone takes 12 bytes
+    private static final int MIN_CHUNK_SIZE = 12;
     private static final char Q = '\"';
     private static final String QC = "\",";
     private static final String QU = "\"_";
     private static final long serialVersionUID = 1L;
     private static final BigDecimal TIME_DIVISOR = new BigDecimal(1000);
+    private static final int MAX_POOLED_COMPRESSORS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final BlockingQueue<Compressor> COMPRESSORS =
+            new ArrayBlockingQueue<Compressor>(MAX_POOLED_COMPRESSORS);
+
+    public static GelfLayout createLayout(final String host, final KeyValuePair[] additionalFields,
+            final CompressionType compressionType, final int compressionThreshold) {
+        return createLayout(host, additionalFields, compressionType, compressionThreshold, DEFAULT_CHUNK_SIZE);
+    }
 
+    /**
+     * @since 2.2
+     */
     @PluginFactory
     public static GelfLayout createLayout(
             //@formatter:off
             @PluginAttribute("host") final String host,
             @PluginElement("AdditionalField") final KeyValuePair[] additionalFields,
-            @PluginAttribute(value = "compressionThreshold",
+            @PluginAttribute(value = "compressionType",
                 defaultString = "GZIP") final CompressionType compressionType,
             @PluginAttribute(value = "compressionThreshold",
-                defaultInt= COMPRESSION_THRESHOLD) final int compressionThreshold) {
+                defaultInt= COMPRESSION_THRESHOLD) final int compressionThreshold,
+            @PluginAttribute(value = "chunkSize",
+                defaultInt = DEFAULT_CHUNK_SIZE) final int chunkSize) {
             // @formatter:on
-        return new GelfLayout(host, additionalFields, compressionType, compressionThreshold);
+        if (chunkSize > 0 && chunkSize <= MIN_CHUNK_SIZE) {
+            LOGGER.error("GelfLayout chunkSize must be larger than {} or 0 to disable chunking, but was {}",
+                    MIN_CHUNK_SIZE, chunkSize);
+            return null;
+        }
+        return new GelfLayout(host, additionalFields, compressionType, compressionThreshold, chunkSize);
     }
 
     /**
@@ -143,32 +182,54 @@ public final class GelfLayout extends AbstractStringLayout {
 
     private final String host;
 
+    private final int chunkSize;
+
     public GelfLayout(final String host, final KeyValuePair[] additionalFields, final CompressionType compressionType,
             final int compressionThreshold) {
+        this(host, additionalFields, compressionType, compressionThreshold, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @since 2.2
+     */
+    public GelfLayout(final String host, final KeyValuePair[] additionalFields, final CompressionType compressionType,
+            final int compressionThreshold, final int chunkSize) {
         super(Charsets.UTF_8);
         this.host = host;
         this.additionalFields = additionalFields;
         this.compressionType = compressionType;
         this.compressionThreshold = compressionThreshold;
+        this.chunkSize = chunkSize;
     }
 
     private byte[] compress(final byte[] bytes) {
+        if (compressionType == null || compressionType == CompressionType.OFF) {
+            return bytes;
+        }
+        Compressor compressor = COMPRESSORS.poll();
+        if (compressor == null) {
+            compressor = new Compressor();
+        }
         try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream(compressionThreshold / 8);
-            final DeflaterOutputStream stream = compressionType.createDeflaterOutputStream(baos);
-            if (stream == null) {
-                return bytes;
+            return compressor.compress(bytes, compressionType);
+        } finally {
+            if (!COMPRESSORS.offer(compressor)) {
+                compressor.end();
             }
-            stream.write(bytes);
-            stream.finish();
-            stream.close();
-            return baos.toByteArray();
-        } catch (final IOException e) {
-            StatusLogger.getLogger().error(e);
-            return bytes;
         }
     }
 
+    /**
+     * Returns the largest datagram, in bytes, that a GELF message is sent in over UDP. Larger messages are chunked,
+     * unless the chunk size is 0.
+     *
+     * @return the chunk size
+     * @since 2.2
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
     @Override
     public Map<String, String> getContentFormat() {
         return Collections.emptyMap();
@@ -219,4 +280,88 @@ public final class GelfLayout extends AbstractStringLayout {
         builder.append('}');
         return builder.toString();
     }
+
+    /**
+     * Compresses with deflaters that are reused for many events, so that their native memory is not allocated for every
+     * event. Each deflater is created the first time its format is needed. Produces the same GZIP and ZLIB formats as
+     * {@link GZIPOutputStream} and {@link DeflaterOutputStream}. Not thread-safe: a compressor is used by one thread at
+     * a time.
+     */
+    private static final class Compressor {
+        private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+        private static final int GZIP_TRAILER_LENGTH = 8;
+        private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+        private Deflater zlibDeflater;
+        private Deflater rawDeflater;
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[COMPRESSION_THRESHOLD];
+
+        byte[] compress(final byte[] bytes, final CompressionType compressionType) {
+            final boolean gzip = compressionType == CompressionType.GZIP;
+            final Deflater deflater = gzip ? getRawDeflater() : getZlibDeflater();
+            int length = 0;
+            if (gzip) {
+                System.arraycopy(GZIP_HEADER, 0, buffer, 0, GZIP_HEADER.length);
+                length = GZIP_HEADER.length;
+            }
+            deflater.reset();
+            deflater.setInput(bytes);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            if (gzip) {
+                if (buffer.length - length < GZIP_TRAILER_LENGTH) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                crc.reset();
+                crc.update(bytes, 0, bytes.length);
+                length = putIntLittleEndian((int) crc.getValue(), length);
+                length = putIntLittleEndian(bytes.length, length);
+            }
+            final byte[] result = Arrays.copyOf(buffer, length);
+            if (buffer.length > MAX_RETAINED_CAPACITY) {
+                buffer = new byte[COMPRESSION_THRESHOLD];
+            }
+            return result;
+        }
+
+        private Deflater getRawDeflater() {
+            if (rawDeflater == null) {
+                rawDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            }
+            return rawDeflater;
+        }
+
+        private Deflater getZlibDeflater() {
+            if (zlibDeflater == null) {
+                zlibDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+            }
+            return zlibDeflater;
+        }
+
+        /**
+         * Releases the native memory of the deflaters. The compressor must not be used afterwards.
+         */
+        void end() {
+            if (rawDeflater != null) {
+                rawDeflater.end();
+            }
+            if (zlibDeflater != null) {
+                zlibDeflater.end();
+            }
+        }
+
+        private int putIntLittleEndian(final int value, int offset) {
+            buffer[offset++] = (byte) value;
+            buffer[offset++] = (byte) (value >>> 8);
+            buffer[offset++] = (byte) (value >>> 16);
+            buffer[offset++] = (byte) (value >>> 24);
+            return offset;
+        }
+    }
 }
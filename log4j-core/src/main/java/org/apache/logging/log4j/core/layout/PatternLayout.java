@@ -84,7 +84,7 @@ public final class PatternLayout extends AbstractStringLayout {
     /**
      * Initial converter for pattern.
      */
-    private final List<PatternFormatter> formatters;
+    private final PatternFormatter[] formatters;
 
     /**
      * Conversion pattern.
@@ -126,7 +126,9 @@ public final class PatternLayout extends AbstractStringLayout {
         this.alwaysWriteExceptions = alwaysWriteExceptions;
         this.noConsoleNoAnsi = noConsoleNoAnsi;
         final PatternParser parser = createPatternParser(config);
-        this.formatters = parser.parse(pattern == null ? DEFAULT_CONVERSION_PATTERN : pattern, this.alwaysWriteExceptions, this.noConsoleNoAnsi);
+        final List<PatternFormatter> list = parser.parse(pattern == null ? DEFAULT_CONVERSION_PATTERN : pattern,
+                this.alwaysWriteExceptions, this.noConsoleNoAnsi);
+        this.formatters = list.toArray(new PatternFormatter[list.size()]);
     }
 
     private static byte[] toBytes(final String str, final Charset charset) {
@@ -191,17 +193,50 @@ public final class PatternLayout extends AbstractStringLayout {
      */
     @Override
     public String toSerializable(final LogEvent event) {
-        final StringBuilder buf = new StringBuilder();
-        for (final PatternFormatter formatter : formatters) {
-            formatter.format(event, buf);
+        final StringBuilder buf = getStringBuilder();
+        String str;
+        try {
+            toText(event, buf);
+            str = buf.toString();
+        } finally {
+            releaseStringBuilder(buf);
         }
-        String str = buf.toString();
         if (replace != null) {
             str = replace.format(str);
         }
         return str;
     }
 
+    /**
+     * Formats the event into the layout's per-thread StringBuilder and encodes the result into the destination's
+     * buffer, so that no intermediate String or byte array is created. Falls back to the String based path when a
+     * regular expression replacement is configured.
+     *
+     * @param event the LogEvent to encode.
+     * @param destination holds the ByteBuffer to write into.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        if (replace != null) {
+            super.encode(event, destination);
+            return;
+        }
+        final StringBuilder text = getStringBuilder();
+        try {
+            toText(event, text);
+            getStringBuilderEncoder().encode(text, destination);
+        } finally {
+            releaseStringBuilder(text);
+        }
+    }
+
+    private void toText(final LogEvent event, final StringBuilder buf) {
+        final int len = formatters.length;
+        for (int i = 0; i < len; i++) {
+            formatters[i].format(event, buf);
+        }
+    }
+
     /**
      * Create a PatternParser.
      * @param config The Configuration.
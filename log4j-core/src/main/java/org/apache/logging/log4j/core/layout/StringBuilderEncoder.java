@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import org.apache.logging.log4j.core.util.Assert;
+import org.apache.logging.log4j.core.util.Constants;
+
+/**
+ * Encoder for StringBuilders that converts the characters to bytes with a reusable {@code CharsetEncoder} and writes
+ * them straight into the {@link ByteBufferDestination}'s buffer, without creating a temporary String or byte array.
+ * <p>
+ * Instances are not thread-safe: the encoder keeps a char buffer and a {@code CharsetEncoder} as state. Layouts hold
+ * one instance per thread.
+ * </p>
+ *
+ * @since 2.2
+ */
+public class StringBuilderEncoder implements Encoder<StringBuilder> {
+
+    private final Charset charset;
+    private final CharsetEncoder charsetEncoder;
+    private final CharBuffer charBuffer;
+
+    public StringBuilderEncoder(final Charset charset) {
+        this(charset, Constants.ENCODER_CHAR_BUFFER_SIZE);
+    }
+
+    public StringBuilderEncoder(final Charset charset, final int charBufferSize) {
+        this.charset = Assert.requireNonNull(charset, "charset");
+        this.charsetEncoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.charBuffer = CharBuffer.wrap(new char[charBufferSize]);
+    }
+
+    /**
+     * Returns the Charset this encoder converts characters to.
+     *
+     * @return the Charset
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    @Override
+    public void encode(final StringBuilder source, final ByteBufferDestination destination) {
+        synchronized (destination) {
+            ByteBuffer byteBuf = destination.getByteBuffer();
+            charsetEncoder.reset();
+            charBuffer.clear();
+            final int length = source.length();
+            int start = 0;
+            boolean endOfInput;
+            do {
+                final int count = Math.min(length - start, charBuffer.remaining());
+                source.getChars(start, start + count, charBuffer.array(),
+                        charBuffer.arrayOffset() + charBuffer.position());
+                charBuffer.position(charBuffer.position() + count);
+                start += count;
+                endOfInput = start == length;
+
+                charBuffer.flip();
+                byteBuf = encode(charBuffer, byteBuf, endOfInput, destination);
+                charBuffer.compact(); // keeps a trailing high surrogate for the next round
+            } while (!endOfInput);
+
+            while (charsetEncoder.flush(byteBuf).isOverflow()) {
+                byteBuf = destination.drain(byteBuf);
+            }
+        }
+    }
+
+    private ByteBuffer encode(final CharBuffer chars, final ByteBuffer buf, final boolean endOfInput,
+            final ByteBufferDestination destination) {
+        ByteBuffer byteBuf = buf;
+        CoderResult result = charsetEncoder.encode(chars, byteBuf, endOfInput);
+        while (result.isOverflow()) {
+            byteBuf = destination.drain(byteBuf);
+            result = charsetEncoder.encode(chars, byteBuf, endOfInput);
+        }
+        return byteBuf;
+    }
+}
@@ -18,11 +18,12 @@ package org.apache.logging.log4j.core.net;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetAddress;
-import java.net.SocketException;
+import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Random;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
@@ -30,6 +31,11 @@ import org.apache.logging.log4j.status.StatusLogger;
 
 /**
  * OutputStream for UDP connections.
+ * <p>
+ * The bytes written between two flushes are collected in a buffer that is reused, and sent as one datagram through a
+ * {@link DatagramChannel} when the stream is flushed. If a chunk size is set, data larger than the chunk size is
+ * split into GELF chunks that are sent back to back from a second reused buffer.
+ * </p>
  */
 public class DatagramOutputStream extends OutputStream {
 
@@ -42,11 +48,25 @@ public class DatagramOutputStream extends OutputStream {
     private static final int SHIFT_2 = 16;
     private static final int SHIFT_3 = 24;
 
-    private DatagramSocket ds;
-    private final InetAddress address;
-    private final int port;
+    private static final int INITIAL_CAPACITY = 1024;
 
-    private byte[] data;
+    // buffers that grew beyond this for an unusually large event are not kept
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final byte[] GELF_CHUNK_MAGIC = {0x1e, 0x0f};
+
+    // magic bytes, message id, sequence number and sequence count
+    private static final int GELF_CHUNK_HEADER_LENGTH = 12;
+
+    private static final int MAX_GELF_CHUNKS = 128;
+
+    private DatagramChannel channel;
+    private final InetSocketAddress address;
+    private final int chunkSize;
+
+    private ByteBuffer data = ByteBuffer.allocate(INITIAL_CAPACITY);
+    private ByteBuffer datagram;
+    private long nextMessageId = new Random().nextLong();
 
     private final byte[] header;
     private final byte[] footer;
@@ -57,11 +77,29 @@ public class DatagramOutputStream extends OutputStream {
      * @param port The port on the host.
      */
     public DatagramOutputStream(final String host, final int port, final byte[] header, final byte[] footer) {
-        this.port = port;
+        this(host, port, header, footer, 0);
+    }
+
+    /**
+     * Constructs a stream that splits data larger than the chunk size into GELF chunks.
+     *
+     * @param host The host to connect to.
+     * @param port The port on the host.
+     * @param header The header written before the data of each datagram, or null.
+     * @param footer The footer written after the data of each datagram, or null.
+     * @param chunkSize The largest datagram in bytes, or 0 to send data of any size as one datagram.
+     * @since 2.2
+     */
+    public DatagramOutputStream(final String host, final int port, final byte[] header, final byte[] footer,
+            final int chunkSize) {
         this.header = header;
         this.footer = footer;
+        if (chunkSize > 0 && chunkSize <= GELF_CHUNK_HEADER_LENGTH) {
+            throw new IllegalArgumentException("Invalid chunk size " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
         try {
-            address = InetAddress.getByName(host);
+            address = new InetSocketAddress(InetAddress.getByName(host), port);
         } catch (final UnknownHostException ex) {
             final String msg = "Could not find host " + host;
             LOGGER.error(msg, ex);
@@ -69,9 +107,9 @@ public class DatagramOutputStream extends OutputStream {
         }
 
         try {
-            ds = new DatagramSocket();
-        } catch (final SocketException ex) {
-            final String msg = "Could not instantiate DatagramSocket to " + host;
+            channel = DatagramChannel.open();
+        } catch (final IOException ex) {
+            final String msg = "Could not instantiate DatagramChannel to " + host;
             LOGGER.error(msg, ex);
             throw new AppenderLoggingException(msg, ex);
         }
@@ -84,7 +122,8 @@ public class DatagramOutputStream extends OutputStream {
 
     @Override
     public synchronized void write(final int i) throws IOException {
-        copy(new byte[] {(byte) (i >>> SHIFT_3), (byte) (i >>> SHIFT_2), (byte) (i >>> SHIFT_1), (byte) i}, 0, 4);
+        ensureCapacity(4);
+        data.put((byte) (i >>> SHIFT_3)).put((byte) (i >>> SHIFT_2)).put((byte) (i >>> SHIFT_1)).put((byte) i);
     }
 
     @Override
@@ -95,39 +134,78 @@ public class DatagramOutputStream extends OutputStream {
     @Override
     public synchronized void flush() throws IOException {
         try {
-            if (this.data != null && this.ds != null && this.address != null) {
+            if (data.position() > 0 && channel != null) {
                 if (footer != null) {
                     copy(footer, 0, footer.length);
                 }
-                final DatagramPacket packet = new DatagramPacket(data, data.length, address, port);
-                ds.send(packet);
+                data.flip();
+                if (chunkSize > 0 && data.remaining() > chunkSize) {
+                    sendChunks();
+                } else {
+                    channel.send(data, address);
+                }
             }
         } finally {
-            data = null;
+            if (data.capacity() > MAX_RETAINED_CAPACITY) {
+                data = ByteBuffer.allocate(INITIAL_CAPACITY);
+            }
+            data.clear();
             if (header != null) {
                 copy(header, 0, header.length);
             }
         }
     }
 
+    /**
+     * Sends the data as GELF chunks: each datagram holds the magic bytes, the message id, the sequence number and
+     * count, and the next part of the data.
+     */
+    private void sendChunks() throws IOException {
+        final int payloadSize = chunkSize - GELF_CHUNK_HEADER_LENGTH;
+        final int count = (data.remaining() + payloadSize - 1) / payloadSize;
+        if (count > MAX_GELF_CHUNKS) {
+            LOGGER.error("Dropping a message of {} bytes to {}, which needs more than {} chunks of {} bytes",
+                    data.remaining(), address, MAX_GELF_CHUNKS, chunkSize);
+            return;
+        }
+        if (datagram == null) {
+            datagram = ByteBuffer.allocateDirect(chunkSize);
+        }
+        final long messageId = nextMessageId++;
+        final int end = data.limit();
+        for (int sequence = 0; sequence < count; sequence++) {
+            datagram.clear();
+            datagram.put(GELF_CHUNK_MAGIC).putLong(messageId).put((byte) sequence).put((byte) count);
+            data.limit(Math.min(end, data.position() + payloadSize));
+            datagram.put(data);
+            data.limit(end);
+            datagram.flip();
+            channel.send(datagram, address);
+        }
+    }
+
     @Override
     public synchronized void close() throws IOException {
-        if (ds != null) {
-            if (data != null) {
+        if (channel != null) {
+            if (data.position() > 0) {
                 flush();
             }
-            ds.close();
-            ds = null;
+            channel.close();
+            channel = null;
         }
     }
 
     private void copy(final byte[] bytes, final int offset, final int length) {
-        final int index = data == null ? 0 : data.length;
-        final byte[] copy = new byte[length + index];
-        if (data != null) {
-            System.arraycopy(data, 0, copy, 0, data.length);
+        ensureCapacity(length);
+        data.put(bytes, offset, length);
+    }
+
+    private void ensureCapacity(final int length) {
+        if (data.remaining() < length) {
+            final ByteBuffer larger = ByteBuffer.allocate(Math.max(data.capacity() * 2, data.position() + length));
+            data.flip();
+            larger.put(data);
+            data = larger;
         }
-        System.arraycopy(bytes, offset, copy, index, length);
-        data = copy;
     }
 }
@@ -25,6 +25,7 @@ import java.util.Map;
 
 import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
+import org.apache.logging.log4j.core.layout.GelfLayout;
 import org.apache.logging.log4j.util.Strings;
 
 /**
@@ -112,8 +113,9 @@ public class DatagramSocketManager extends AbstractSocketManager {
                 LOGGER.error("Could not find address of " + data.host, ex);
                 return null;
             }
+            final int chunkSize = data.layout instanceof GelfLayout ? ((GelfLayout) data.layout).getChunkSize() : 0;
             final OutputStream os = new DatagramOutputStream(data.host, data.port, data.layout.getHeader(),
-                    data.layout.getFooter());
+                    data.layout.getFooter(), chunkSize);
             return new DatagramSocketManager(name, os, inetAddress, data.host, data.port, data.layout);
         }
     }
@@ -0,0 +1,774 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.appender.ManagerFactory;
+import org.apache.logging.log4j.core.async.DaemonThreadFactory;
+import org.apache.logging.log4j.util.Strings;
+
+/**
+ * Manager of a TCP connection that never makes the logging thread wait for the network.
+ * <p>
+ * Each write copies the encoded event into a bounded ring buffer allocated outside the heap. A dedicated thread sends
+ * the buffered bytes over a non-blocking {@link SocketChannel} with gathering writes, and reconnects with an
+ * exponential backoff when the connection is lost. An event that was partly sent when the connection broke is sent
+ * again in full on the next connection, together with the layout's header. When the buffer is full, the
+ * {@link DropPolicy} decides whether the new event or the oldest buffered events are dropped. Events are always
+ * dropped whole, so the receiver never sees a truncated event. An event that a layout encodes in several chunks is
+ * collected until the layout is done and then buffered as one.
+ * </p>
+ *
+ * @since 2.2
+ */
+public class NonBlockingTcpSocketManager extends AbstractSocketManager {
+
+    /**
+     * What to do with an event that does not fit into the buffer.
+     */
+    public enum DropPolicy {
+        /** Drops the event that does not fit. */
+        NEWEST,
+        /**
+         * Drops the oldest buffered events that have not been sent yet to make room, or the event that does not fit
+         * if the buffered events are being written to the socket at that moment.
+         */
+        OLDEST
+    }
+
+    /**
+     * The default buffer size in bytes (256 KiB).
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * The delay before the first attempt to reconnect. The delay doubles with every failed attempt.
+     */
+    public static final int MIN_RECONNECTION_DELAY_MILLIS = 100;
+
+    private static final int DEFAULT_PORT = 4560;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 3000;
+
+    private static final long WRITE_WAIT_MILLIS = 100;
+
+    // the smallest average event size for which the buffer can be filled before running out of record slots
+    private static final int MIN_AVERAGE_RECORD_SIZE = 32;
+
+    private static final NonBlockingTcpSocketManagerFactory FACTORY = new NonBlockingTcpSocketManagerFactory();
+
+    private final int connectTimeoutMillis;
+    private final int maxReconnectionDelayMillis;
+    private final DropPolicy dropPolicy;
+    private final int capacity;
+    private final ByteBuffer ring;
+    private final int[] recordLengths;
+
+    // the chunks of the event being encoded, guarded by this; only the first capacity bytes are kept
+    private byte[] pendingEvent = new byte[0];
+    private int pendingLength;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition closed = lock.newCondition();
+
+    // the positions below grow forever; the ring index is the position modulo the capacity. Guarded by lock.
+    // start of the oldest event that has not been sent completely: the space before it is free
+    private long head;
+    // next byte to send
+    private long sendPosition;
+    // end of the newest event
+    private long tail;
+    // sequence numbers of the oldest and of the next event in recordLengths
+    private long firstRecord;
+    private long nextRecord;
+    private boolean sending;
+    private boolean senderWaiting;
+    private long droppedBytes;
+    private long droppedEvents;
+
+    private volatile boolean connected;
+    private volatile boolean shutdown;
+    private final Thread senderThread;
+
+    /**
+     * Constructs a manager and starts the thread that connects to the host and sends the buffered events.
+     *
+     * @param name The unique name of this connection.
+     * @param inetAddress The Internet address of the host.
+     * @param host The name of the host.
+     * @param port The port number on the host.
+     * @param connectTimeoutMillis the connect timeout in milliseconds.
+     * @param maxReconnectionDelayMillis the longest time to wait between two attempts to connect.
+     * @param bufferSize the size of the buffer, in bytes.
+     * @param dropPolicy what to do when the buffer is full.
+     * @param layout The Layout.
+     */
+    public NonBlockingTcpSocketManager(final String name, final InetAddress inetAddress, final String host,
+            final int port, final int connectTimeoutMillis, final int maxReconnectionDelayMillis,
+            final int bufferSize, final DropPolicy dropPolicy, final Layout<? extends Serializable> layout) {
+        super(name, new DiscardingOutputStream(), inetAddress, host, port, layout);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size " + bufferSize);
+        }
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.maxReconnectionDelayMillis = Math.max(MIN_RECONNECTION_DELAY_MILLIS, maxReconnectionDelayMillis);
+        this.dropPolicy = dropPolicy == null ? DropPolicy.NEWEST : dropPolicy;
+        this.capacity = bufferSize;
+        this.ring = ByteBuffer.allocateDirect(bufferSize);
+        this.recordLengths = new int[Math.max(16, bufferSize / MIN_AVERAGE_RECORD_SIZE)];
+        this.senderThread = new DaemonThreadFactory("SocketSender-").newThread(new Sender());
+        this.senderThread.start();
+    }
+
+    /**
+     * Obtains a NonBlockingTcpSocketManager.
+     *
+     * @param host The host to connect to.
+     * @param port The port on the host.
+     * @param connectTimeoutMillis the connect timeout in milliseconds.
+     * @param delayMillis The longest time to wait between two attempts to connect.
+     * @param bufferSize the size of the buffer, in bytes.
+     * @param dropPolicy what to do when the buffer is full.
+     * @param layout The Layout.
+     * @return A NonBlockingTcpSocketManager.
+     */
+    public static NonBlockingTcpSocketManager getSocketManager(final String host, int port,
+            final int connectTimeoutMillis, int delayMillis, int bufferSize, final DropPolicy dropPolicy,
+            final Layout<? extends Serializable> layout) {
+        if (Strings.isEmpty(host)) {
+            throw new IllegalArgumentException("A host name is required");
+        }
+        if (port <= 0) {
+            port = DEFAULT_PORT;
+        }
+        if (delayMillis <= 0) {
+            delayMillis = TcpSocketManager.DEFAULT_RECONNECTION_DELAY_MILLIS;
+        }
+        if (bufferSize <= 0) {
+            bufferSize = DEFAULT_BUFFER_SIZE;
+        }
+        return (NonBlockingTcpSocketManager) getManager("NonBlockingTCP:" + host + ':' + port, new FactoryData(host,
+                port, connectTimeoutMillis, delayMillis, bufferSize, dropPolicy, layout), FACTORY);
+    }
+
+    /**
+     * Collects a chunk of the event being encoded. The event is buffered as a whole by {@link #drainEncodedEvent()}
+     * once the layout is done, so that the {@link DropPolicy} never applies to part of an event.
+     *
+     * @param buf the buffer to drain
+     * @return the same buffer, cleared
+     */
+    @Override
+    public synchronized ByteBuffer drain(final ByteBuffer buf) {
+        buf.flip();
+        try {
+            final int length = buf.remaining();
+            if (pendingLength + length <= capacity) {
+                if (pendingLength + length > pendingEvent.length) {
+                    final byte[] grown = new byte[Math.min(capacity, Math.max(pendingLength + length,
+                            pendingEvent.length * 2))];
+                    System.arraycopy(pendingEvent, 0, grown, 0, pendingLength);
+                    pendingEvent = grown;
+                }
+                buf.get(pendingEvent, pendingLength, length);
+            }
+            // an event larger than the buffer is dropped anyway, only its length matters
+            pendingLength += length;
+        } finally {
+            buf.clear();
+        }
+        return buf;
+    }
+
+    /**
+     * Buffers the event the layout has just encoded, together with the chunks collected by
+     * {@link #drain(ByteBuffer)}.
+     */
+    @Override
+    protected synchronized void drainEncodedEvent() {
+        if (pendingLength == 0) {
+            // the whole event fit into the encoding buffer
+            super.drainEncodedEvent();
+            return;
+        }
+        drain(getByteBuffer());
+        final int length = pendingLength;
+        pendingLength = 0;
+        if (length > capacity) {
+            lock.lock();
+            try {
+                drop(length, 1);
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        write(pendingEvent, 0, length);
+    }
+
+    /**
+     * Copies one encoded event into the buffer. Never waits for the network: if the event does not fit, the
+     * {@link DropPolicy} applies.
+     */
+    @Override
+    protected void write(final byte[] bytes, final int offset, final int length) {
+        if (length <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (shutdown || length > capacity) {
+                drop(length, 1);
+                return;
+            }
+            while (!hasRoom(length)) {
+                if (dropPolicy == DropPolicy.NEWEST || !dropOldest(length)) {
+                    drop(length, 1);
+                    return;
+                }
+            }
+            final int start = index(tail);
+            final int first = Math.min(length, capacity - start);
+            ring.clear();
+            ring.position(start);
+            ring.put(bytes, offset, first);
+            if (first < length) {
+                ring.position(0);
+                ring.put(bytes, offset + first, length - first);
+            }
+            tail += length;
+            recordLengths[recordIndex(nextRecord++)] = length;
+            if (senderWaiting) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasRoom(final int length) {
+        return capacity - (tail - head) >= length && nextRecord - firstRecord < recordLengths.length;
+    }
+
+    private void drop(final int bytes, final int events) {
+        droppedBytes += bytes;
+        droppedEvents += events;
+    }
+
+    /**
+     * Drops the oldest events that have not been sent yet until there is room for the specified number of bytes or
+     * nothing is left to drop. An event that has already been partly sent stays, since the receiver would not be
+     * able to read the rest of the stream without it; its bytes are moved forward to join the free space.
+     * <p>
+     * Nothing is dropped while the sender thread is writing buffered bytes to the socket, since those bytes must not
+     * move; the logging thread does not wait for the write to finish, so the caller drops the new event instead.
+     * </p>
+     *
+     * @return true if events were dropped
+     */
+    private boolean dropOldest(final int length) {
+        if (sending) {
+            return false;
+        }
+        final boolean partlySent = sendPosition > head;
+        final int keepLength = partlySent ? recordLengths[recordIndex(firstRecord)] : 0;
+        final long keepEnd = head + keepLength;
+        final long firstDropped = partlySent ? firstRecord + 1 : firstRecord;
+        long last = firstDropped;
+        long dropEnd = keepEnd;
+        while (last < nextRecord && (capacity - (tail - (dropEnd - keepLength)) < length
+                || nextRecord - firstRecord - (last - firstDropped) >= recordLengths.length)) {
+            dropEnd += recordLengths[recordIndex(last++)];
+        }
+        if (last == firstDropped) {
+            return false;
+        }
+        drop((int) (dropEnd - keepEnd), (int) (last - firstDropped));
+        final long newHead = dropEnd - keepLength;
+        // copy backwards, the areas may overlap
+        for (int i = keepLength - 1; i >= 0; i--) {
+            ring.put(index(newHead + i), ring.get(index(head + i)));
+        }
+        sendPosition = newHead + (sendPosition - head);
+        head = newHead;
+        if (partlySent) {
+            // the kept event takes the slot of the last dropped one
+            firstRecord = last - 1;
+            recordLengths[recordIndex(firstRecord)] = keepLength;
+        } else {
+            firstRecord = last;
+        }
+        return true;
+    }
+
+    private int index(final long position) {
+        return (int) (position % capacity);
+    }
+
+    private int recordIndex(final long sequence) {
+        return (int) (sequence % recordLengths.length);
+    }
+
+    /**
+     * Does nothing: the buffered events are sent by the sender thread as soon as the connection allows.
+     */
+    @Override
+    public void flush() {
+        // nothing to do
+    }
+
+    /**
+     * Stops the sender thread, giving it a few seconds to send what is still buffered.
+     */
+    @Override
+    protected void close() {
+        super.close();
+        lock.lock();
+        try {
+            shutdown = true;
+            notEmpty.signal();
+            closed.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            senderThread.join(SHUTDOWN_TIMEOUT_MILLIS + connectTimeoutMillis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (senderThread.isAlive()) {
+            LOGGER.warn("Sender thread of {} did not stop within {} ms.", getName(), SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    /**
+     * Returns the size of the buffer in bytes.
+     *
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of bytes in the buffer that have not been sent yet.
+     *
+     * @return the number of bytes waiting to be sent
+     */
+    public long getQueuedBytes() {
+        lock.lock();
+        try {
+            return tail - sendPosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events in the buffer that have not been sent completely yet.
+     *
+     * @return the number of events waiting to be sent
+     */
+    public long getQueuedEvents() {
+        lock.lock();
+        try {
+            return nextRecord - firstRecord;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of bytes dropped because the buffer was full.
+     *
+     * @return the number of dropped bytes
+     */
+    public long getDroppedBytes() {
+        lock.lock();
+        try {
+            return droppedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEvents() {
+        lock.lock();
+        try {
+            return droppedEvents;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether the sender thread is currently connected to the host.
+     *
+     * @return true if connected
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Gets this NonBlockingTcpSocketManager's content format. Specified by:
+     * <ul>
+     * <li>Key: "protocol" Value: "tcp"</li>
+     * <li>Key: "direction" Value: "out"</li>
+     * </ul>
+     *
+     * @return Map of content format keys supporting NonBlockingTcpSocketManager
+     */
+    @Override
+    public Map<String, String> getContentFormat() {
+        final Map<String, String> result = new HashMap<String, String>(super.getContentFormat());
+        result.put("protocol", "tcp");
+        result.put("direction", "out");
+        return result;
+    }
+
+    /**
+     * Opens a channel to the host, in blocking mode.
+     *
+     * @return the connected channel
+     * @throws IOException if the connection cannot be established
+     */
+    protected SocketChannel createChannel() throws IOException {
+        final SocketChannel channel = SocketChannel.open();
+        try {
+            channel.socket().connect(new InetSocketAddress(inetAddress, port), connectTimeoutMillis);
+            return channel;
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Connects, sends the buffered bytes and reconnects when the connection is lost.
+     */
+    private final class Sender implements Runnable {
+
+        private final ByteBuffer[] slices = {ring.duplicate(), ring.duplicate()};
+        private Selector selector;
+        private SocketChannel channel;
+        private SelectionKey key;
+
+        @Override
+        public void run() {
+            long delayMillis = 0;
+            try {
+                selector = Selector.open();
+                while (!shutdown) {
+                    if (channel == null) {
+                        if (delayMillis > 0 && pause(delayMillis)) {
+                            continue;
+                        }
+                        try {
+                            connect();
+                            delayMillis = 0;
+                        } catch (final IOException e) {
+                            delayMillis = Math.min(maxReconnectionDelayMillis,
+                                    Math.max(MIN_RECONNECTION_DELAY_MILLIS, delayMillis * 2));
+                            LOGGER.debug("Unable to connect to {}:{}, retrying in {} ms: {}", host, port, delayMillis,
+                                    e.toString());
+                        }
+                        continue;
+                    }
+                    try {
+                        if (awaitData()) {
+                            send();
+                        }
+                    } catch (final IOException e) {
+                        LOGGER.debug("Connection to {}:{} lost: {}", host, port, e.toString());
+                        disconnect();
+                        delayMillis = MIN_RECONNECTION_DELAY_MILLIS;
+                    } catch (final RuntimeException e) {
+                        // for example a CancelledKeyException: start over rather than losing the sender thread
+                        LOGGER.warn("Unexpected error sending to {}:{}, reconnecting", host, port, e);
+                        disconnect();
+                        delayMillis = MIN_RECONNECTION_DELAY_MILLIS;
+                    }
+                }
+                sendRemaining();
+            } catch (final IOException e) {
+                LOGGER.error("Unable to open a selector for {}", getName(), e);
+            } catch (final RuntimeException e) {
+                LOGGER.error("Sender thread of {} failed, buffered events are no longer sent", getName(), e);
+            } finally {
+                disconnect();
+                if (selector != null) {
+                    try {
+                        selector.close();
+                    } catch (final IOException e) {
+                        // Ignore the exception
+                    }
+                }
+            }
+        }
+
+        /**
+         * Waits before the next attempt to connect.
+         *
+         * @return true if the manager was closed meanwhile
+         */
+        private boolean pause(final long millis) {
+            lock.lock();
+            try {
+                if (!shutdown) {
+                    closed.await(millis, TimeUnit.MILLISECONDS);
+                }
+            } catch (final InterruptedException e) {
+                // check shutdown
+            } finally {
+                lock.unlock();
+            }
+            return shutdown;
+        }
+
+        private void connect() throws IOException {
+            final SocketChannel newChannel = createChannel();
+            try {
+                final byte[] header = layout == null ? null : layout.getHeader();
+                if (header != null) {
+                    final ByteBuffer buffer = ByteBuffer.wrap(header);
+                    while (buffer.hasRemaining()) {
+                        newChannel.write(buffer);
+                    }
+                }
+                newChannel.configureBlocking(false);
+                key = newChannel.register(selector, 0);
+            } catch (final IOException e) {
+                newChannel.close();
+                throw e;
+            } catch (final RuntimeException e) {
+                // for example thrown by the layout's header: retry like any other failed connection
+                newChannel.close();
+                throw new IOException("Unable to set up the connection: " + e, e);
+            }
+            channel = newChannel;
+            connected = true;
+            LOGGER.debug("Connected to {}:{}", host, port);
+        }
+
+        private void disconnect() {
+            lock.lock();
+            try {
+                // resend the event that was cut off
+                sendPosition = head;
+            } finally {
+                lock.unlock();
+            }
+            connected = false;
+            if (channel != null) {
+                if (key != null) {
+                    key.cancel();
+                    key = null;
+                }
+                try {
+                    channel.close();
+                } catch (final IOException e) {
+                    // Ignore the exception
+                }
+                channel = null;
+            }
+        }
+
+        /**
+         * Waits until there are bytes to send or the manager is closed.
+         *
+         * @return true if there are bytes to send
+         */
+        private boolean awaitData() {
+            lock.lock();
+            try {
+                while (sendPosition == tail && !shutdown) {
+                    senderWaiting = true;
+                    try {
+                        notEmpty.await();
+                    } catch (final InterruptedException e) {
+                        // check again
+                    } finally {
+                        senderWaiting = false;
+                    }
+                }
+                return sendPosition != tail;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Writes as many buffered bytes as the socket accepts without blocking, or waits a moment for the socket to
+         * become writable.
+         */
+        private void send() throws IOException {
+            final long from;
+            final long to;
+            lock.lock();
+            try {
+                from = sendPosition;
+                to = tail;
+                sending = true;
+            } finally {
+                lock.unlock();
+            }
+            long written = 0;
+            try {
+                // the bytes between from and to are not touched by writers while sending is set
+                final int start = index(from);
+                final int length = (int) (to - from);
+                final int first = Math.min(length, capacity - start);
+                slices[0].clear();
+                slices[0].limit(start + first).position(start);
+                slices[1].clear();
+                slices[1].limit(length - first);
+                written = channel.write(slices);
+            } finally {
+                lock.lock();
+                try {
+                    sending = false;
+                    sendPosition = from + written;
+                    while (firstRecord < nextRecord
+                            && head + recordLengths[recordIndex(firstRecord)] <= sendPosition) {
+                        head += recordLengths[recordIndex(firstRecord++)];
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            if (written == 0) {
+                key.interestOps(SelectionKey.OP_WRITE);
+                selector.select(WRITE_WAIT_MILLIS);
+                selector.selectedKeys().clear();
+                key.interestOps(0);
+            }
+        }
+
+        private void sendRemaining() {
+            if (channel == null) {
+                return;
+            }
+            final long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+            try {
+                while (awaitData() && System.currentTimeMillis() < deadline) {
+                    send();
+                }
+            } catch (final IOException e) {
+                LOGGER.debug("Unable to send remaining bytes to {}:{}: {}", host, port, e.toString());
+            } catch (final RuntimeException e) {
+                LOGGER.debug("Unable to send remaining bytes to {}:{}: {}", host, port, e.toString());
+            }
+        }
+    }
+
+    /**
+     * The stream of the superclass, which is not used: headers are sent by the sender thread on each connection.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+        @Override
+        public void write(final int b) {
+            // discard
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            // discard
+        }
+    }
+
+    /**
+     * Data for the factory.
+     */
+    private static class FactoryData {
+        private final String host;
+        private final int port;
+        private final int connectTimeoutMillis;
+        private final int delayMillis;
+        private final int bufferSize;
+        private final DropPolicy dropPolicy;
+        private final Layout<? extends Serializable> layout;
+
+        public FactoryData(final String host, final int port, final int connectTimeoutMillis, final int delayMillis,
+                final int bufferSize, final DropPolicy dropPolicy, final Layout<? extends Serializable> layout) {
+            this.host = host;
+            this.port = port;
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.delayMillis = delayMillis;
+            this.bufferSize = bufferSize;
+            this.dropPolicy = dropPolicy;
+            this.layout = layout;
+        }
+    }
+
+    /**
+     * Factory to create a NonBlockingTcpSocketManager.
+     */
+    protected static class NonBlockingTcpSocketManagerFactory implements
+            ManagerFactory<NonBlockingTcpSocketManager, FactoryData> {
+        @Override
+        public NonBlockingTcpSocketManager createManager(final String name, final FactoryData data) {
+            InetAddress inetAddress;
+            try {
+                inetAddress = InetAddress.getByName(data.host);
+            } catch (final UnknownHostException ex) {
+                LOGGER.error("Could not find address of " + data.host, ex);
+                return null;
+            }
+            return new NonBlockingTcpSocketManager(name, inetAddress, data.host, data.port,
+                    data.connectTimeoutMillis, data.delayMillis, data.bufferSize, data.dropPolicy, data.layout);
+        }
+    }
+}
@@ -71,7 +71,7 @@ public class SmtpManager extends AbstractManager {
     }
 
     public void add(final LogEvent event) {
-        buffer.add(event);
+        buffer.add(event.toImmutable());
     }
 
     public static SmtpManager getSMTPManager(final String to, final String cc, final String bcc,
@@ -0,0 +1,494 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LogEventListener;
+import org.apache.logging.log4j.core.impl.ExtendedClassInfo;
+import org.apache.logging.log4j.core.impl.ExtendedStackTraceElement;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.spi.MutableThreadContextStack;
+
+/**
+ * Reads and logs the length-prefixed frames written by {@link BinaryLayout}.
+ * <p>
+ * Frames are decoded in place from the buffer they were read into, into a {@link MutableLogEvent} that is reused for
+ * every event decoded by the same thread. Like other reused events, the event is only valid while it is being logged;
+ * appenders that keep it use {@link LogEvent#toImmutable()}. Short strings such as logger names, thread names and
+ * context keys are looked up in a small cache and not decoded again when they repeat.
+ * </p>
+ * <p>
+ * Nothing received is registered or changed globally: a level that does not exist locally is replaced by the nearest
+ * existing level that is at least as severe. A marker that exists in the {@link MarkerManager} is used as it is, with
+ * its local parents, and any other marker is created with the received parents without being registered.
+ * </p>
+ *
+ * @since 2.2
+ */
+public class BinaryLogEventBridge extends AbstractLogEventBridge<DataInputStream> {
+
+    /**
+     * The default largest frame, in bytes, that is accepted.
+     */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    private static final ThreadLocal<Decoder> DECODERS = new ThreadLocal<Decoder>();
+
+    private final int maxFrameLength;
+
+    /**
+     * Creates a bridge that accepts frames of up to {@link #DEFAULT_MAX_FRAME_LENGTH} bytes.
+     */
+    public BinaryLogEventBridge() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * Creates a bridge.
+     *
+     * @param maxFrameLength the largest frame, in bytes, that is accepted
+     */
+    public BinaryLogEventBridge(final int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    public int getMaxFrameLength() {
+        return maxFrameLength;
+    }
+
+    @Override
+    public void logEvents(final DataInputStream inputStream, final LogEventListener logEventListener)
+            throws IOException {
+        final int length = inputStream.readInt();
+        checkFrameLength(length);
+        final Decoder decoder = getDecoder();
+        final ByteBuffer frame = decoder.frameBuffer(length);
+        inputStream.readFully(frame.array(), 0, length);
+        logEventListener.log(decoder.decode(frame));
+    }
+
+    @Override
+    public DataInputStream wrapStream(final InputStream inputStream) throws IOException {
+        return new DataInputStream(new BufferedInputStream(inputStream));
+    }
+
+    void checkFrameLength(final int length) throws IOException {
+        if (length <= 0 || length > maxFrameLength) {
+            throw new IOException("Invalid frame length " + length + ", the maximum is " + maxFrameLength);
+        }
+    }
+
+    /**
+     * Returns the decoder of the current thread.
+     */
+    static Decoder getDecoder() {
+        Decoder decoder = DECODERS.get();
+        if (decoder == null) {
+            decoder = new Decoder();
+            DECODERS.set(decoder);
+        }
+        return decoder;
+    }
+
+    /**
+     * Decodes frames into one reusable event. Not thread-safe.
+     */
+    static final class Decoder {
+
+        private static final int CACHE_SIZE = 256;
+        private static final int MAX_CACHED_LENGTH = 64;
+        private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+        private final MutableLogEvent event = new MutableLogEvent();
+        private final DecodedMessage message = new DecodedMessage();
+        private final String[] cache = new String[CACHE_SIZE];
+        private char[] chars = new char[128];
+        private int markerCount;
+        private ByteBuffer frame = ByteBuffer.allocate(1024);
+
+        /**
+         * Returns a heap buffer with room for a frame of the specified length, positioned at 0 and limited to it.
+         */
+        ByteBuffer frameBuffer(final int length) {
+            if (frame.capacity() < length || frame.capacity() > MAX_RETAINED_CAPACITY) {
+                frame = ByteBuffer.allocate(Math.max(length, 1024));
+            }
+            frame.clear();
+            frame.limit(length);
+            return frame;
+        }
+
+        /**
+         * Decodes the frame between the position and the limit of the buffer, without the length prefix. Afterwards
+         * the position is at the limit.
+         *
+         * @param buffer holds the frame
+         * @return the decoded event, valid until the next call
+         * @throws IOException if the frame is malformed
+         */
+        LogEvent decode(final ByteBuffer buffer) throws IOException {
+            try {
+                final byte version = buffer.get();
+                if (version != BinaryLayout.VERSION) {
+                    throw new IOException("Unsupported frame version " + version);
+                }
+                final int flags = buffer.get();
+                final long timeMillis = buffer.getLong();
+                final int intLevel = buffer.getInt();
+                final String levelName = getCachedString(buffer);
+                final Level level = levelName == null ? null : toExistingLevel(levelName, intLevel);
+                final String loggerName = getCachedString(buffer);
+                final String fqcn = getCachedString(buffer);
+                final String threadName = getCachedString(buffer);
+                final Message data = getMessage(buffer);
+                markerCount = 0;
+                final Marker marker = (flags & BinaryLayout.FLAG_MARKER) != 0 ? getMarker(buffer, 1) : null;
+                final Map<String, String> contextMap = getContextMap(buffer);
+                final ThreadContext.ContextStack contextStack = getContextStack(buffer);
+                StackTraceElement source = null;
+                if ((flags & BinaryLayout.FLAG_SOURCE) != 0) {
+                    source = new StackTraceElement(getCachedString(buffer), getCachedString(buffer),
+                            getCachedString(buffer), buffer.getInt());
+                }
+                final ThrowableProxy thrownProxy = (flags & BinaryLayout.FLAG_THROWN) != 0 ? getThrown(buffer, 1)
+                        : null;
+                if (buffer.hasRemaining()) {
+                    throw new IOException("Malformed frame: " + buffer.remaining() + " bytes left over");
+                }
+                event.setValues(loggerName, marker, fqcn, level, data, thrownProxy, contextMap, contextStack,
+                        threadName, source, timeMillis, (flags & BinaryLayout.FLAG_END_OF_BATCH) != 0);
+                return event;
+            } catch (final BufferUnderflowException e) {
+                throw new IOException("Malformed frame: truncated", e);
+            } catch (final IllegalArgumentException e) {
+                throw new IOException("Malformed frame", e);
+            }
+        }
+
+        private Message getMessage(final ByteBuffer buffer) throws IOException {
+            final int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+            message.reset();
+            decodeTo(buffer, length, message.text);
+            return message;
+        }
+
+        /**
+         * Returns the level of the specified name if it exists, otherwise the nearest existing level that is at least
+         * as severe as the specified value, so that a client cannot register levels.
+         */
+        private static Level toExistingLevel(final String name, final int intLevel) {
+            final Level level = Level.getLevel(name);
+            if (level != null) {
+                return level;
+            }
+            Level nearest = Level.FATAL;
+            for (final Level candidate : Level.values()) {
+                if (candidate != Level.OFF && candidate.intLevel() <= intLevel
+                        && candidate.intLevel() > nearest.intLevel()) {
+                    nearest = candidate;
+                }
+            }
+            return nearest;
+        }
+
+        /**
+         * Returns the marker of the same name from the MarkerManager if it exists, without changing its parents,
+         * otherwise a new marker with the received parents that is not registered with the MarkerManager.
+         */
+        private Marker getMarker(final ByteBuffer buffer, final int depth) throws IOException {
+            if (depth > BinaryLayout.MAX_MARKER_DEPTH || ++markerCount > BinaryLayout.MAX_MARKERS) {
+                throw new IOException("Malformed frame: too many markers");
+            }
+            final String name = getCachedString(buffer);
+            if (name == null) {
+                throw new IOException("Malformed frame: marker without name");
+            }
+            final int count = buffer.get() & 0xFF;
+            final Marker[] parents = new Marker[count];
+            for (int i = 0; i < count; i++) {
+                parents[i] = getMarker(buffer, depth + 1);
+            }
+            if (MarkerManager.exists(name)) {
+                return MarkerManager.getMarker(name);
+            }
+            final Marker marker = new MarkerManager.Log4jMarker(name);
+            return count > 0 ? marker.setParents(parents) : marker;
+        }
+
+        private Map<String, String> getContextMap(final ByteBuffer buffer) throws IOException {
+            final int size = buffer.getInt();
+            if (size == 0) {
+                return ThreadContext.EMPTY_MAP;
+            }
+            checkCount(size, buffer);
+            final Map<String, String> map = new HashMap<String, String>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                final String key = getCachedString(buffer);
+                map.put(key, getCachedString(buffer));
+            }
+            return Collections.unmodifiableMap(map);
+        }
+
+        private ThreadContext.ContextStack getContextStack(final ByteBuffer buffer) throws IOException {
+            final int depth = buffer.getInt();
+            if (depth == 0) {
+                return ThreadContext.EMPTY_STACK;
+            }
+            checkCount(depth, buffer);
+            final MutableThreadContextStack stack = new MutableThreadContextStack();
+            for (int i = 0; i < depth; i++) {
+                stack.push(getCachedString(buffer));
+            }
+            stack.freeze();
+            return stack;
+        }
+
+        private ThrowableProxy getThrown(final ByteBuffer buffer, final int depth) throws IOException {
+            if (depth > BinaryLayout.MAX_THROWN_DEPTH) {
+                throw new IOException("Malformed frame: throwable nested too deeply");
+            }
+            final String name = getCachedString(buffer);
+            final String message = getCachedString(buffer);
+            final String localizedMessage = getCachedString(buffer);
+            final int commonElementCount = buffer.getInt();
+            final int frames = buffer.getInt();
+            checkCount(frames, buffer);
+            final ExtendedStackTraceElement[] trace = new ExtendedStackTraceElement[frames];
+            for (int i = 0; i < frames; i++) {
+                trace[i] = getFrame(buffer);
+            }
+            final ThrowableProxy cause = buffer.get() != 0 ? getThrown(buffer, depth + 1) : null;
+            final int count = buffer.getInt();
+            checkCount(count, buffer);
+            final ThrowableProxy[] suppressed = new ThrowableProxy[count];
+            for (int i = 0; i < count; i++) {
+                suppressed[i] = getThrown(buffer, depth + 1);
+            }
+            if (name == null) {
+                throw new IOException("Malformed frame: throwable without name");
+            }
+            return new ThrowableProxy(name, message, localizedMessage, trace, commonElementCount, cause, suppressed);
+        }
+
+        private ExtendedStackTraceElement getFrame(final ByteBuffer buffer) throws IOException {
+            final String className = getCachedString(buffer);
+            final String methodName = getCachedString(buffer);
+            final String fileName = getCachedString(buffer);
+            final int lineNumber = buffer.getInt();
+            final byte exact = buffer.get();
+            final ExtendedClassInfo info = exact < 0 ? null
+                    : new ExtendedClassInfo(exact != 0, getCachedString(buffer), getCachedString(buffer));
+            if (className == null || methodName == null) {
+                throw new IOException("Malformed frame: stack trace element without class or method");
+            }
+            return new ExtendedStackTraceElement(new StackTraceElement(className, methodName, fileName, lineNumber),
+                    info);
+        }
+
+        // each entry takes at least four bytes
+        private static void checkCount(final int count, final ByteBuffer buffer) throws IOException {
+            if (count < 0 || count > buffer.remaining() / 4) {
+                throw new IOException("Malformed frame: invalid count " + count);
+            }
+        }
+
+        /**
+         * Returns a string, reusing the cached instance if the same short ASCII string was decoded before.
+         */
+        private String getCachedString(final ByteBuffer buffer) throws IOException {
+            final int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+            if (length > buffer.remaining()) {
+                throw new IOException("Malformed frame: invalid length " + length);
+            }
+            final int start = buffer.position();
+            if (length > MAX_CACHED_LENGTH) {
+                return decodeString(buffer, length);
+            }
+            int hash = 0;
+            boolean ascii = true;
+            for (int i = start; i < start + length; i++) {
+                final byte b = buffer.get(i);
+                ascii &= b >= 0;
+                hash = 31 * hash + b;
+            }
+            if (!ascii) {
+                return decodeString(buffer, length);
+            }
+            final int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+            final String cached = cache[slot];
+            if (cached != null && matches(cached, buffer, start, length)) {
+                buffer.position(start + length);
+                return cached;
+            }
+            final String result = decodeString(buffer, length);
+            cache[slot] = result;
+            return result;
+        }
+
+        private static boolean matches(final String cached, final ByteBuffer buffer, final int start,
+                final int length) {
+            if (cached.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (cached.charAt(i) != buffer.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String decodeString(final ByteBuffer buffer, final int length) throws IOException {
+            if (chars.length < length) {
+                chars = new char[length];
+            }
+            final int count = decode(buffer, length, chars);
+            return new String(chars, 0, count);
+        }
+
+        private void decodeTo(final ByteBuffer buffer, final int length, final StringBuilder text)
+                throws IOException {
+            if (length > buffer.remaining()) {
+                throw new IOException("Malformed frame: invalid length " + length);
+            }
+            if (chars.length < length) {
+                chars = new char[length];
+            }
+            final int count = decode(buffer, length, chars);
+            text.append(chars, 0, count);
+            if (chars.length > MAX_RETAINED_CAPACITY) {
+                chars = new char[128];
+            }
+        }
+
+        /**
+         * Decodes UTF-8 bytes into the specified array, which must have room for {@code length} characters.
+         *
+         * @return the number of characters decoded
+         */
+        private static int decode(final ByteBuffer buffer, final int length, final char[] dest) throws IOException {
+            final int end = buffer.position() + length;
+            int count = 0;
+            int i = buffer.position();
+            while (i < end) {
+                final int b = buffer.get(i++);
+                if (b >= 0) {
+                    dest[count++] = (char) b;
+                } else if ((b & 0xE0) == 0xC0 && i < end) {
+                    dest[count++] = (char) (((b & 0x1F) << 6) | (buffer.get(i++) & 0x3F));
+                } else if ((b & 0xF0) == 0xE0 && i + 1 < end) {
+                    dest[count++] = (char) (((b & 0x0F) << 12) | ((buffer.get(i++) & 0x3F) << 6)
+                            | (buffer.get(i++) & 0x3F));
+                } else if ((b & 0xF8) == 0xF0 && i + 2 < end) {
+                    final int codePoint = ((b & 0x07) << 18) | ((buffer.get(i++) & 0x3F) << 12)
+                            | ((buffer.get(i++) & 0x3F) << 6) | (buffer.get(i++) & 0x3F);
+                    count += Character.toChars(codePoint, dest, count);
+                } else {
+                    throw new IOException("Malformed frame: invalid UTF-8");
+                }
+            }
+            buffer.position(end);
+            return count;
+        }
+    }
+
+    /**
+     * The message of the reusable event: the formatted text decoded into a StringBuilder that is reused.
+     */
+    static final class DecodedMessage implements ReusableMessage {
+
+        private static final long serialVersionUID = 1L;
+
+        private final StringBuilder text = new StringBuilder(256);
+        private transient String formatted;
+
+        void reset() {
+            text.setLength(0);
+            if (text.capacity() > Decoder.MAX_RETAINED_CAPACITY) {
+                text.trimToSize();
+            }
+            formatted = null;
+        }
+
+        @Override
+        public String getFormattedMessage() {
+            if (formatted == null) {
+                formatted = text.toString();
+            }
+            return formatted;
+        }
+
+        @Override
+        public void formatTo(final StringBuilder buffer) {
+            buffer.append(text);
+        }
+
+        @Override
+        public String getFormat() {
+            return getFormattedMessage();
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return null;
+        }
+
+        @Override
+        public Throwable getThrowable() {
+            return null;
+        }
+
+        @Override
+        public Message memento() {
+            return new SimpleMessage(getFormattedMessage());
+        }
+
+        protected Object writeReplace() {
+            return memento();
+        }
+
+        @Override
+        public String toString() {
+            return getFormattedMessage();
+        }
+    }
+}
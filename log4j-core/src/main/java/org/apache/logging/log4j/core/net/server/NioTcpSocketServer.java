@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+
+/**
+ * Listens for events in the format of {@link BinaryLayout} over many socket connections, using a small, fixed number
+ * of threads.
+ * <p>
+ * Unlike {@link TcpSocketServer}, which starts a thread for each connection, this server accepts connections on the
+ * thread that runs it and hands each connection to one of its event loops. An event loop waits on a {@link Selector}
+ * for data on any of its connections and decodes every complete frame directly from the connection's read buffer.
+ * </p>
+ *
+ * @since 2.2
+ */
+public class NioTcpSocketServer extends AbstractSocketServer<DataInputStream> {
+
+    /**
+     * The default number of event loop threads: the number of processors, but no more than four.
+     */
+    public static final int DEFAULT_EVENT_LOOPS = Math.max(1, Math.min(4,
+            Runtime.getRuntime().availableProcessors()));
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * A connection and the buffer that holds what has been read from it but not yet decoded.
+     */
+    private static final class Connection {
+        private final SocketChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+        Connection(final SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * Thread that reads and decodes the events of the connections registered with it.
+     */
+    private class EventLoop extends Thread {
+
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<SocketChannel>();
+        private volatile boolean shutdown = false;
+
+        EventLoop(final String name) throws IOException {
+            super(name);
+            setDaemon(true);
+            this.selector = Selector.open();
+        }
+
+        void register(final SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            final BinaryLogEventBridge.Decoder decoder = BinaryLogEventBridge.getDecoder();
+            try {
+                while (!shutdown) {
+                    selector.select();
+                    registerPending();
+                    final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        final SelectionKey key = keys.next();
+                        keys.remove();
+                        if (key.isValid() && key.isReadable()) {
+                            read(key, decoder);
+                        }
+                    }
+                }
+            } catch (final IOException e) {
+                logger.error("IOException encountered in event loop " + getName(), e);
+            } catch (final ClosedSelectorException e) {
+                // shutting down
+            } catch (final RuntimeException e) {
+                logger.error("Exception encountered in event loop " + getName(), e);
+            } finally {
+                try {
+                    for (final SelectionKey key : selector.keys()) {
+                        close(key);
+                    }
+                    selector.close();
+                } catch (final IOException e) {
+                    // Ignore the exception
+                } catch (final ClosedSelectorException e) {
+                    // Ignore the exception
+                }
+                SocketChannel channel;
+                while ((channel = pending.poll()) != null) {
+                    closeQuietly(channel);
+                }
+            }
+        }
+
+        private void registerPending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                try {
+                    channel.configureBlocking(false);
+                    channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+                    connections.incrementAndGet();
+                } catch (final IOException e) {
+                    logger.error("Unable to register connection", e);
+                    closeQuietly(channel);
+                }
+            }
+        }
+
+        private void read(final SelectionKey key, final BinaryLogEventBridge.Decoder decoder) {
+            final Connection connection = (Connection) key.attachment();
+            try {
+                ByteBuffer buffer = connection.buffer;
+                final int count = connection.channel.read(buffer);
+                buffer.flip();
+                int required = 0;
+                while (buffer.remaining() >= BinaryLayout.LENGTH_PREFIX) {
+                    final int start = buffer.position();
+                    final int length = buffer.getInt(start);
+                    bridge.checkFrameLength(length);
+                    if (buffer.remaining() < BinaryLayout.LENGTH_PREFIX + length) {
+                        required = BinaryLayout.LENGTH_PREFIX + length;
+                        break;
+                    }
+                    final int limit = buffer.limit();
+                    buffer.position(start + BinaryLayout.LENGTH_PREFIX);
+                    buffer.limit(start + BinaryLayout.LENGTH_PREFIX + length);
+                    final LogEvent event = decoder.decode(buffer);
+                    buffer.limit(limit);
+                    try {
+                        log(event);
+                    } catch (final RuntimeException e) {
+                        logger.error("Exception encountered while logging a received event", e);
+                    }
+                }
+                buffer.compact();
+                if (required > buffer.capacity()) {
+                    buffer = grow(buffer, required);
+                } else if (buffer.position() == 0 && buffer.capacity() > READ_BUFFER_SIZE) {
+                    buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+                }
+                connection.buffer = buffer;
+                if (count < 0) {
+                    close(key);
+                }
+            } catch (final IOException e) {
+                logger.error("IOException encountered while reading from socket", e);
+                close(key);
+            } catch (final Throwable t) {
+                // only this connection is affected, the loop keeps serving the others
+                logger.error("Exception encountered while reading from socket, closing the connection", t);
+                close(key);
+            }
+        }
+
+        private ByteBuffer grow(final ByteBuffer buffer, final int capacity) {
+            final ByteBuffer larger = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            larger.put(buffer);
+            return larger;
+        }
+
+        private void close(final SelectionKey key) {
+            if (!key.isValid()) {
+                return; // already closed
+            }
+            key.cancel();
+            if (key.attachment() instanceof Connection) {
+                closeQuietly(((Connection) key.attachment()).channel);
+                connections.decrementAndGet();
+            }
+        }
+
+        void shutdown() {
+            shutdown = true;
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Creates a socket server that reads binary log events with {@link #DEFAULT_EVENT_LOOPS} event loops.
+     *
+     * @param port
+     *        the port to listen
+     * @return a new a socket server
+     * @throws IOException
+     *         if an I/O error occurs when opening the socket.
+     */
+    public static NioTcpSocketServer createBinarySocketServer(final int port) throws IOException {
+        return new NioTcpSocketServer(port, new BinaryLogEventBridge(), DEFAULT_EVENT_LOOPS);
+    }
+
+    /**
+     * Main startup for the server.
+     *
+     * @param args
+     *        The command line arguments.
+     * @throws Exception
+     *         if an error occurs.
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Incorrect number of arguments");
+            printUsage();
+            return;
+        }
+        final int port = Integer.parseInt(args[0]);
+        if (port <= 0 || port >= MAX_PORT) {
+            System.err.println("Invalid port number");
+            printUsage();
+            return;
+        }
+        if (args.length >= 2 && args[1].length() > 0) {
+            ConfigurationFactory.setConfigurationFactory(new ServerConfigurationFactory(args[1]));
+        }
+        final int eventLoops = args.length == 3 ? Integer.parseInt(args[2]) : DEFAULT_EVENT_LOOPS;
+        final NioTcpSocketServer socketServer = new NioTcpSocketServer(port, new BinaryLogEventBridge(),
+                eventLoops);
+        final Thread serverThread = socketServer.startNewThread();
+        final Charset enc = Charset.defaultCharset();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, enc));
+        while (true) {
+            final String line = reader.readLine();
+            if (line == null || line.equalsIgnoreCase("Quit") || line.equalsIgnoreCase("Stop")
+                    || line.equalsIgnoreCase("Exit")) {
+                socketServer.shutdown();
+                serverThread.join();
+                break;
+            }
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: NioTcpSocketServer port [configFilePath [eventLoops]]");
+    }
+
+    private static void closeQuietly(final SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            // Ignore the exception
+        }
+    }
+
+    private final BinaryLogEventBridge bridge;
+
+    private final ServerSocketChannel serverChannel;
+
+    private final Selector acceptSelector;
+
+    private final EventLoop[] eventLoops;
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param port
+     *        to listen.
+     * @param bridge
+     *        decodes the frames read
+     * @param eventLoopCount
+     *        the number of threads that read from the connections
+     * @throws IOException
+     *         if an I/O error occurs when opening the socket.
+     */
+    public NioTcpSocketServer(final int port, final BinaryLogEventBridge bridge, final int eventLoopCount)
+            throws IOException {
+        super(port, bridge);
+        if (eventLoopCount < 1) {
+            throw new IllegalArgumentException("Invalid number of event loops: " + eventLoopCount);
+        }
+        this.bridge = bridge;
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.socket().setReuseAddress(true);
+        this.serverChannel.socket().bind(new InetSocketAddress(port));
+        this.serverChannel.configureBlocking(false);
+        this.acceptSelector = Selector.open();
+        this.serverChannel.register(acceptSelector, SelectionKey.OP_ACCEPT);
+        this.eventLoops = new EventLoop[eventLoopCount];
+        for (int i = 0; i < eventLoopCount; i++) {
+            eventLoops[i] = new EventLoop("NioTcpSocketServer-" + port + "-" + (i + 1));
+        }
+    }
+
+    /**
+     * Returns the number of connections currently open.
+     *
+     * @return the number of open connections
+     */
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Accepts incoming connections and distributes them over the event loops.
+     */
+    @Override
+    public void run() {
+        for (final EventLoop eventLoop : eventLoops) {
+            eventLoop.start();
+        }
+        int next = 0;
+        try {
+            while (isActive() && serverChannel.isOpen()) {
+                acceptSelector.select();
+                acceptSelector.selectedKeys().clear();
+                SocketChannel channel;
+                while ((channel = serverChannel.accept()) != null) {
+                    channel.socket().setSoLinger(true, 0);
+                    final EventLoop eventLoop = nextLiveEventLoop(next);
+                    if (eventLoop == null) {
+                        logger.error("No event loop is running, rejecting connection");
+                        closeQuietly(channel);
+                        continue;
+                    }
+                    eventLoop.register(channel);
+                    next = (next + 1) % eventLoops.length;
+                }
+            }
+        } catch (final IOException e) {
+            if (serverChannel.isOpen()) {
+                logger.error("Exception encountered on accept", e);
+            }
+        } catch (final ClosedSelectorException e) {
+            // shutting down
+        } finally {
+            try {
+                acceptSelector.close();
+            } catch (final IOException e) {
+                // Ignore the exception
+            }
+            for (final EventLoop eventLoop : eventLoops) {
+                eventLoop.shutdown();
+                try {
+                    eventLoop.join();
+                } catch (final InterruptedException ie) {
+                    // Ignore the exception
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the first event loop, starting at the specified index, whose thread is still running, or null if all of
+     * them stopped.
+     */
+    private EventLoop nextLiveEventLoop(final int start) {
+        for (int i = 0; i < eventLoops.length; i++) {
+            final EventLoop eventLoop = eventLoops[(start + i) % eventLoops.length];
+            if (eventLoop.isAlive()) {
+                return eventLoop;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Shutdown the server.
+     *
+     * @throws IOException
+     */
+    public void shutdown() throws IOException {
+        setActive(false);
+        serverChannel.close();
+        acceptSelector.wakeup();
+    }
+}
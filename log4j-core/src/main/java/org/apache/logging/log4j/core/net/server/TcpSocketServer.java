@@ -17,6 +17,7 @@
 package org.apache.logging.log4j.core.net.server;
 
 import java.io.BufferedReader;
+import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -86,6 +87,22 @@ public class TcpSocketServer<T extends InputStream> extends AbstractSocketServer
         }
     }
 
+    /**
+     * Creates a socket server that reads log events in the format of
+     * {@link org.apache.logging.log4j.core.layout.BinaryLayout}.
+     * 
+     * @param port
+     *        the port to listen
+     * @return a new a socket server
+     * @throws IOException
+     *         if an I/O error occurs when opening the socket.
+     * @see NioTcpSocketServer
+     * @since 2.2
+     */
+    public static TcpSocketServer<DataInputStream> createBinarySocketServer(final int port) throws IOException {
+        return new TcpSocketServer<DataInputStream>(port, new BinaryLogEventBridge());
+    }
+
     /**
      * Creates a socket server that reads JSON log events.
      * 
@@ -30,9 +30,36 @@ import org.apache.logging.log4j.core.config.plugins.Plugin;
 @ConverterKeys({ "d", "date" })
 public final class DatePatternConverter extends LogEventPatternConverter implements ArrayPatternConverter {
 
+    /**
+     * The last formatted time. Immutable so it can be published through a volatile field.
+     */
+    private static final class CachedTime {
+        final long timestamp;
+        final String formatted;
+
+        CachedTime(final long timestamp, final String formatted) {
+            this.timestamp = timestamp;
+            this.formatted = formatted;
+        }
+    }
+
     private abstract static class Formatter {
+        private volatile CachedTime cachedTime;
+
         abstract String format(long time);
 
+        /**
+         * Appends the formatted time, reusing the previous result if the time has not changed.
+         */
+        void formatToBuffer(final long time, final StringBuilder destination) {
+            CachedTime cached = cachedTime;
+            if (cached == null || cached.timestamp != time) {
+                cached = new CachedTime(time, format(time));
+                cachedTime = cached;
+            }
+            destination.append(cached.formatted);
+        }
+
         public String toPattern() {
             return null;
         }
@@ -47,7 +74,9 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
 
         @Override
         String format(final long time) {
-            return simpleDateFormat.format(Long.valueOf(time));
+            synchronized (simpleDateFormat) {
+                return simpleDateFormat.format(Long.valueOf(time));
+            }
         }
 
         @Override
@@ -56,6 +85,29 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
         }
     }
 
+    private static class FixedFormatter extends Formatter {
+        private final FixedDateFormat fixedDateFormat;
+
+        FixedFormatter(final FixedDateFormat fixedDateFormat) {
+            this.fixedDateFormat = fixedDateFormat;
+        }
+
+        @Override
+        String format(final long time) {
+            return fixedDateFormat.format(time);
+        }
+
+        @Override
+        void formatToBuffer(final long time, final StringBuilder destination) {
+            fixedDateFormat.format(time, destination);
+        }
+
+        @Override
+        public String toPattern() {
+            return fixedDateFormat.getPattern();
+        }
+    }
+
     private static class UnixFormatter extends Formatter {
 
         @Override
@@ -158,15 +210,8 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
         return new DatePatternConverter(options);
     }
 
-    /**
-     * Date format.
-     */
-    private String cachedDateString;
-
     private final Formatter formatter;
 
-    private long lastTimestamp;
-
     /**
      * Private constructor.
      *
@@ -219,7 +264,13 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
                 final TimeZone tz = TimeZone.getTimeZone(options[1]);
                 tempFormat.setTimeZone(tz);
             }
-            tempFormatter = new PatternFormatter(tempFormat);
+            final FixedDateFormat fixedDateFormat = FixedDateFormat.createIfSupported(tempFormat.toPattern(),
+                    tempFormat.getTimeZone());
+            if (fixedDateFormat != null) {
+                tempFormatter = new FixedFormatter(fixedDateFormat);
+            } else {
+                tempFormatter = new PatternFormatter(tempFormat);
+            }
         }
         formatter = tempFormatter;
     }
@@ -233,9 +284,7 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
      *            buffer to which formatted date is appended.
      */
     public void format(final Date date, final StringBuilder toAppendTo) {
-        synchronized (this) {
-            toAppendTo.append(formatter.format(date.getTime()));
-        }
+        toAppendTo.append(formatter.format(date.getTime()));
     }
 
     /**
@@ -243,15 +292,7 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
      */
     @Override
     public void format(final LogEvent event, final StringBuilder output) {
-        final long timestamp = event.getTimeMillis();
-
-        synchronized (this) {
-            if (timestamp != lastTimestamp) {
-                lastTimestamp = timestamp;
-                cachedDateString = formatter.format(timestamp);
-            }
-        }
-        output.append(cachedDateString);
+        formatter.formatToBuffer(event.getTimeMillis(), output);
     }
 
     /**
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Thread-safe formatter for date patterns that end in seconds and milliseconds, like the ISO8601, ABSOLUTE and
+ * DEFAULT patterns of the {@link DatePatternConverter}. The part of the pattern before the seconds is formatted with
+ * a SimpleDateFormat once per minute and cached; the seconds and milliseconds are then written digit by digit into
+ * the destination buffer, without taking a lock and without creating objects.
+ */
+final class FixedDateFormat {
+
+    private static final int MILLIS_PER_SECOND = 1000;
+    private static final int MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final char NO_SEPARATOR = 0;
+
+    /**
+     * The formatted start of a minute. Immutable so it can be published through a volatile field.
+     */
+    private static final class Minute {
+        final long start;
+        /** {@code null} if the time zone offset is not a whole number of minutes at this time. */
+        final char[] prefix;
+
+        Minute(final long start, final char[] prefix) {
+            this.start = start;
+            this.prefix = prefix;
+        }
+    }
+
+    private final String pattern;
+    private final char millisSeparator;
+    private final SimpleDateFormat minuteFormat;
+    private final SimpleDateFormat fullFormat;
+    private final TimeZone timeZone;
+    private volatile Minute minute = new Minute(Long.MIN_VALUE, null);
+
+    private FixedDateFormat(final String pattern, final int secondsIndex, final char millisSeparator,
+            final TimeZone timeZone) {
+        this.pattern = pattern;
+        this.millisSeparator = millisSeparator;
+        this.timeZone = timeZone;
+        this.minuteFormat = new SimpleDateFormat(pattern.substring(0, secondsIndex));
+        this.minuteFormat.setTimeZone(timeZone);
+        this.fullFormat = new SimpleDateFormat(pattern);
+        this.fullFormat.setTimeZone(timeZone);
+    }
+
+    /**
+     * Returns a FixedDateFormat for the specified pattern, or {@code null} if the pattern does not end in
+     * {@code ss}, an optional separator and {@code SSS}, or uses seconds or milliseconds anywhere else.
+     *
+     * @param pattern a SimpleDateFormat pattern
+     * @param timeZone the time zone to format in
+     * @return a FixedDateFormat or {@code null}
+     */
+    static FixedDateFormat createIfSupported(final String pattern, final TimeZone timeZone) {
+        if (pattern == null || !pattern.endsWith("SSS")) {
+            return null;
+        }
+        int secondsEnd = pattern.length() - 3;
+        char millisSeparator = NO_SEPARATOR;
+        if (secondsEnd > 0 && !Character.isLetter(pattern.charAt(secondsEnd - 1))
+                && pattern.charAt(secondsEnd - 1) != '\'') {
+            millisSeparator = pattern.charAt(secondsEnd - 1);
+            secondsEnd--;
+        }
+        final int secondsIndex = secondsEnd - 2;
+        if (secondsIndex < 0 || !pattern.startsWith("ss", secondsIndex)) {
+            return null;
+        }
+        boolean quoted = false;
+        for (int i = 0; i < secondsIndex; i++) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (c == 's' || c == 'S')) {
+                return null;
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        return new FixedDateFormat(pattern, secondsIndex, millisSeparator, timeZone);
+    }
+
+    /**
+     * Returns the SimpleDateFormat pattern this formatter is equivalent to.
+     *
+     * @return the pattern
+     */
+    String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Formats the specified time.
+     *
+     * @param time the time in milliseconds since the epoch
+     * @return the formatted time
+     */
+    String format(final long time) {
+        final StringBuilder sb = new StringBuilder(pattern.length() + 8);
+        format(time, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the specified time to the destination.
+     *
+     * @param time the time in milliseconds since the epoch
+     * @param destination the buffer to append to
+     */
+    void format(final long time, final StringBuilder destination) {
+        Minute current = minute;
+        if (time < current.start || time - current.start >= MILLIS_PER_MINUTE) {
+            current = updateMinute(time);
+        }
+        if (current.prefix == null) {
+            synchronized (fullFormat) {
+                destination.append(fullFormat.format(new Date(time)));
+            }
+            return;
+        }
+        destination.append(current.prefix);
+
+        final int millisOfMinute = (int) (time - current.start);
+        final int seconds = millisOfMinute / MILLIS_PER_SECOND;
+        final int millis = millisOfMinute - seconds * MILLIS_PER_SECOND;
+        destination.append((char) ('0' + seconds / 10));
+        destination.append((char) ('0' + seconds % 10));
+        if (millisSeparator != NO_SEPARATOR) {
+            destination.append(millisSeparator);
+        }
+        destination.append((char) ('0' + millis / 100));
+        destination.append((char) ('0' + millis / 10 % 10));
+        destination.append((char) ('0' + millis % 10));
+    }
+
+    private Minute updateMinute(final long time) {
+        long millisOfMinute = time % MILLIS_PER_MINUTE;
+        if (millisOfMinute < 0) {
+            millisOfMinute += MILLIS_PER_MINUTE;
+        }
+        final long start = time - millisOfMinute;
+        char[] prefix = null;
+        // local minutes start together with UTC minutes only if the offset is a whole number of minutes
+        if (timeZone.getOffset(start) % MILLIS_PER_MINUTE == 0) {
+            synchronized (minuteFormat) {
+                prefix = minuteFormat.format(new Date(start)).toCharArray();
+            }
+        }
+        final Minute result = new Minute(start, prefix);
+        minute = result;
+        return result;
+    }
+}
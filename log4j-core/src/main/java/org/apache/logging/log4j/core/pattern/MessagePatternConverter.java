@@ -21,6 +21,7 @@ import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MultiformatMessage;
+import org.apache.logging.log4j.message.StringBuilderFormattable;
 
 /**
  * Returns the event's rendered message in a StringBuilder.
@@ -60,7 +61,15 @@ public final class MessagePatternConverter extends LogEventPatternConverter {
     @Override
     public void format(final LogEvent event, final StringBuilder toAppendTo) {
         final Message msg = event.getMessage();
-        if (msg != null) {
+        if (msg instanceof StringBuilderFormattable && (formats == null || !(msg instanceof MultiformatMessage))) {
+            final int offset = toAppendTo.length();
+            ((StringBuilderFormattable) msg).formatTo(toAppendTo);
+            if (config != null && toAppendTo.indexOf("${", offset) >= 0) {
+                final String value = toAppendTo.substring(offset);
+                toAppendTo.setLength(offset);
+                toAppendTo.append(config.getStrSubstitutor().replace(event, value));
+            }
+        } else if (msg != null) {
             String result;
             if (msg instanceof MultiformatMessage) {
                 result = ((MultiformatMessage) msg).getFormattedMessage(formats);
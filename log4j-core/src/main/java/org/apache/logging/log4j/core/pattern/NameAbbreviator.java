@@ -132,6 +132,17 @@ public abstract class NameAbbreviator {
      */
     public abstract String abbreviate(final String buf);
 
+    /**
+     * Abbreviates a name and appends the result to the specified buffer. The default implementation appends the
+     * result of {@link #abbreviate(String)}; subclasses override it to avoid the intermediate String.
+     *
+     * @param original the name to abbreviate, may not be null.
+     * @param destination buffer that the abbreviated name is appended to.
+     */
+    public void abbreviate(final String original, final StringBuilder destination) {
+        destination.append(abbreviate(original));
+    }
+
     /**
      * Abbreviator that simply appends full name to buffer.
      */
@@ -149,6 +160,11 @@ public abstract class NameAbbreviator {
         public String abbreviate(final String buf) {
             return buf;
         }
+
+        @Override
+        public void abbreviate(final String original, final StringBuilder destination) {
+            destination.append(original);
+        }
     }
 
     /**
@@ -192,6 +208,20 @@ public abstract class NameAbbreviator {
 
             return buf.substring(end + 1);
         }
+
+        @Override
+        public void abbreviate(final String original, final StringBuilder destination) {
+            // same algorithm as above, but appends the retained elements instead of creating a substring
+            int end = original.length() - 1;
+            for (int i = count; i > 0; i--) {
+                end = original.lastIndexOf('.', end - 1);
+                if (end == -1) {
+                    destination.append(original);
+                    return;
+                }
+            }
+            destination.append(original, end + 1, original.length());
+        }
     }
 
     /**
@@ -230,7 +260,7 @@ public abstract class NameAbbreviator {
          * @return starting index of next element.
          */
         public int abbreviate(final StringBuilder buf, final int startPos) {
-            int nextDot = buf.toString().indexOf('.', startPos);
+            int nextDot = buf.indexOf(".", startPos);
 
             if (nextDot != -1) {
                 if (nextDot - startPos > charCount) {
@@ -281,15 +311,31 @@ public abstract class NameAbbreviator {
          */
         @Override
         public String abbreviate(final String buf) {
+            final StringBuilder sb = new StringBuilder(buf.length());
+            abbreviate(buf, sb);
+            return sb.toString();
+        }
+
+        /**
+         * Abbreviates name in place at the end of the destination buffer.
+         *
+         * @param original  the name to abbreviate.
+         * @param destination buffer that abbreviated name is appended to.
+         */
+        @Override
+        public void abbreviate(final String original, final StringBuilder destination) {
+            final int start = destination.length();
+            destination.append(original);
             //
             //  all non-terminal patterns are executed once
+            //  (fragments delete characters, so the end of the name is the current end of the buffer,
+            //  and a position of -1 means there are no more dots: never search the text before the name)
             //
-            int pos = 0;
-            final StringBuilder sb = new StringBuilder(buf);
+            int pos = start;
 
-            for (int i = 0; i < fragments.length - 1 && pos < buf.length();
+            for (int i = 0; i < fragments.length - 1 && pos >= start && pos < destination.length();
                  i++) {
-                pos = fragments[i].abbreviate(sb, pos);
+                pos = fragments[i].abbreviate(destination, pos);
             }
 
             //
@@ -297,10 +343,9 @@ public abstract class NameAbbreviator {
             //
             final PatternAbbreviatorFragment terminalFragment = fragments[fragments.length - 1];
 
-            while (pos < buf.length() && pos >= 0) {
-                pos = terminalFragment.abbreviate(sb, pos);
+            while (pos >= start && pos < destination.length()) {
+                pos = terminalFragment.abbreviate(destination, pos);
             }
-            return sb.toString();
         }
     }
 }
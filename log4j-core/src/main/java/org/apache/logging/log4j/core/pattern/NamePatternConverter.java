@@ -52,4 +52,14 @@ public abstract class NamePatternConverter extends LogEventPatternConverter {
     protected final String abbreviate(final String buf) {
         return abbreviator.abbreviate(buf);
     }
+
+    /**
+     * Abbreviate name and append the result to the specified buffer, without creating an intermediate String.
+     *
+     * @param original the name to abbreviate.
+     * @param destination string buffer to which the abbreviated name is appended.
+     */
+    protected final void abbreviate(final String original, final StringBuilder destination) {
+        abbreviator.abbreviate(original, destination);
+    }
 }
@@ -69,6 +69,9 @@ public final class RootThrowablePatternConverter extends ThrowablePatternConvert
                 super.format(event, toAppendTo);
                 return;
             }
+            if (formatRepeat(event, throwable, toAppendTo)) {
+                return;
+            }
             final String trace = proxy.getCauseStackTraceAsString(options.getPackages());
             final int len = toAppendTo.length();
             if (len > 0 && !Character.isWhitespace(toAppendTo.charAt(len - 1))) {
@@ -60,6 +60,6 @@ public final class SequenceNumberPatternConverter extends LogEventPatternConvert
      */
     @Override
     public void format(final LogEvent event, final StringBuilder toAppendTo) {
-        toAppendTo.append(Long.toString(SEQUENCE.incrementAndGet()));
+        toAppendTo.append(SEQUENCE.incrementAndGet());
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts how often each stack trace fingerprint occurs within a time window, so that a converter can format a stack
+ * trace once and summarize its repeats.
+ * <p>
+ * Only the most recently seen fingerprints are tracked, so memory use does not grow with the number of distinct
+ * stack traces. A fingerprint that has been evicted counts as new when it occurs again.
+ * </p>
+ */
+final class ThrowableDeduplicator {
+
+    /**
+     * The default number of fingerprints tracked.
+     */
+    static final int DEFAULT_MAX_FINGERPRINTS = 1024;
+
+    private static final class Occurrences {
+        private final long firstMillis;
+        private int count = 1;
+
+        Occurrences(final long firstMillis) {
+            this.firstMillis = firstMillis;
+        }
+    }
+
+    private final long windowMillis;
+
+    private final Map<Long, Occurrences> fingerprints;
+
+    ThrowableDeduplicator(final long windowMillis, final int maxFingerprints) {
+        this.windowMillis = windowMillis;
+        this.fingerprints = new LinkedHashMap<Long, Occurrences>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Occurrences> eldest) {
+                return size() > maxFingerprints;
+            }
+        };
+    }
+
+    /**
+     * Records an occurrence of a stack trace.
+     *
+     * @param fingerprint The fingerprint of the stack trace.
+     * @param timeMillis The time of the occurrence.
+     * @return The number of occurrences within the window, including this one: 1 if the stack trace should be
+     *         formatted in full.
+     */
+    synchronized int record(final long fingerprint, final long timeMillis) {
+        final Occurrences occurrences = fingerprints.get(fingerprint);
+        if (occurrences == null || timeMillis - occurrences.firstMillis >= windowMillis) {
+            fingerprints.put(fingerprint, new Occurrences(timeMillis));
+            return 1;
+        }
+        return ++occurrences.count;
+    }
+
+    /**
+     * Returns the number of fingerprints tracked.
+     *
+     * @return The number of fingerprints.
+     */
+    synchronized int size() {
+        return fingerprints.size();
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.impl.ThrowableFormatOptions;
 import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.core.util.Throwables;
 import org.apache.logging.log4j.util.Strings;
 
 
@@ -30,6 +31,9 @@ import org.apache.logging.log4j.util.Strings;
  * Outputs the Throwable portion of the LoggingEvent as a full stacktrace
  * unless this converter's option is 'short', where it just outputs the first line of the trace, or if
  * the number of lines to print is explicitly specified.
+ * <p>
+ * With the 'dedup(millis)' option, a stack trace is formatted in full the first time it occurs within the window,
+ * preceded by its fingerprint. Repeats within the window are summarized on one line that refers to that fingerprint.
  */
 @Plugin(name = "ThrowablePatternConverter", category = PatternConverter.CATEGORY)
 @ConverterKeys({ "ex", "throwable", "exception" })
@@ -42,6 +46,8 @@ public class ThrowablePatternConverter extends LogEventPatternConverter {
      */
     protected final ThrowableFormatOptions options;
 
+    private final ThrowableDeduplicator deduplicator;
+
     /**
      * Constructor.
      * @param name Name of converter.
@@ -54,6 +60,8 @@ public class ThrowablePatternConverter extends LogEventPatternConverter {
         if (options != null && options.length > 0) {
             rawOption = options[0];
         }
+        this.deduplicator = this.options.hasDedupWindow() ? new ThrowableDeduplicator(
+                this.options.getDedupWindowMillis(), ThrowableDeduplicator.DEFAULT_MAX_FINGERPRINTS) : null;
     }
 
     /**
@@ -77,11 +85,42 @@ public class ThrowablePatternConverter extends LogEventPatternConverter {
         if (isSubShortOption()) {
             formatSubShortOption(t, buffer);
         }
-        else if (t != null && options.anyLines()) {
+        else if (t != null && options.anyLines() && !formatRepeat(event, t, buffer)) {
             formatOption(t, buffer);
         }
     }
 
+    /**
+     * Summarizes the throwable if the 'dedup' option is set and its stack trace was formatted within the window.
+     * Otherwise, if the option is set, appends the fingerprint that summaries of later repeats refer to.
+     *
+     * @param event The event being formatted.
+     * @param throwable The throwable of the event.
+     * @param buffer The buffer to append to.
+     * @return true if the throwable was summarized, false if its stack trace should be formatted.
+     */
+    protected boolean formatRepeat(final LogEvent event, final Throwable throwable, final StringBuilder buffer) {
+        if (deduplicator == null) {
+            return false;
+        }
+        final long fingerprint = Throwables.fingerprint(throwable);
+        final int count = deduplicator.record(fingerprint, event.getTimeMillis());
+        final int len = buffer.length();
+        if (len > 0 && !Character.isWhitespace(buffer.charAt(len - 1))) {
+            buffer.append(' ');
+        }
+        if (count == 1) {
+            buffer.append("[#").append(Long.toHexString(fingerprint)).append(']');
+            return false;
+        }
+        buffer.append(throwable).append(" [same as #").append(Long.toHexString(fingerprint)).append(", ")
+                .append(count).append(" times]");
+        if (options.allLines() && Constants.LINE_SEPARATOR.equals(options.getSeparator())) {
+            buffer.append(Constants.LINE_SEPARATOR);
+        }
+        return true;
+    }
+
     private boolean isSubShortOption() {
         return ThrowableFormatOptions.MESSAGE.equalsIgnoreCase(rawOption) ||
                 ThrowableFormatOptions.LOCALIZED_MESSAGE.equalsIgnoreCase(rawOption) ||
@@ -50,6 +50,38 @@ public final class Constants {
      */
     public static final int MILLIS_IN_SECONDS = 1000;
 
+    /**
+     * Kill switch for garbage-free Layout behaviour that encodes LogEvents directly into
+     * {@link org.apache.logging.log4j.core.layout.ByteBufferDestination}s without creating intermediate temporary
+     * Objects.
+     * <p>
+     * {@code True} by default, set system property "log4j2.enable.direct.encoders" to "false" to disable.
+     * </p>
+     * @since 2.2
+     */
+    public static final boolean ENABLE_DIRECT_ENCODERS = PropertiesUtil.getProperties().getBooleanProperty(
+            "log4j2.enable.direct.encoders", true);
+
+    /**
+     * Size of CharBuffers used by text encoders, in chars.
+     * <p>
+     * The default is 2048, set system property "log4j.encoder.charBufferSize" to change.
+     * </p>
+     * @since 2.2
+     */
+    public static final int ENCODER_CHAR_BUFFER_SIZE = PropertiesUtil.getProperties().getIntegerProperty(
+            "log4j.encoder.charBufferSize", 2048);
+
+    /**
+     * Default size of the ByteBuffer that OutputStreamManagers use as encoding destination, in bytes.
+     * <p>
+     * The default is 8192, set system property "log4j.encoder.byteBufferSize" to change.
+     * </p>
+     * @since 2.2
+     */
+    public static final int ENCODER_BYTE_BUFFER_SIZE = PropertiesUtil.getProperties().getIntegerProperty(
+            "log4j.encoder.byteBufferSize", 8 * 1024);
+
     /**
      * Prevent class instantiation.
      */
@@ -35,6 +35,13 @@ import org.apache.logging.log4j.status.StatusLogger;
  */
 public final class Throwables {
 
+    // 64-bit FNV-1a
+    private static final long FINGERPRINT_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FINGERPRINT_PRIME = 0x100000001b3L;
+
+    // guards against cause chains that loop
+    private static final int MAX_FINGERPRINT_CAUSES = 64;
+
     private static final Method ADD_SUPPRESSED;
 
     private static final Method GET_SUPPRESSED;
@@ -104,6 +111,40 @@ public final class Throwables {
         return null;
     }
 
+    /**
+     * Computes a fingerprint of the stack trace of a Throwable: a hash of the class name and stack frames of the
+     * Throwable and each of its causes. Messages are not included, so the same failure at the same place always has
+     * the same fingerprint.
+     *
+     * @param throwable the Throwable
+     * @return the fingerprint
+     * @since 2.2
+     */
+    public static long fingerprint(final Throwable throwable) {
+        long hash = FINGERPRINT_OFFSET_BASIS;
+        int causes = 0;
+        for (Throwable t = throwable; t != null && causes < MAX_FINGERPRINT_CAUSES; t = t.getCause(), causes++) {
+            hash = fingerprint(hash, t.getClass().getName());
+            for (final StackTraceElement element : t.getStackTrace()) {
+                hash = fingerprint(hash, element.getClassName());
+                hash = fingerprint(hash, element.getMethodName());
+                hash = fingerprint(hash, element.getFileName());
+                hash = (hash ^ element.getLineNumber()) * FINGERPRINT_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    private static long fingerprint(long hash, final String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FINGERPRINT_PRIME;
+            }
+        }
+        // separates consecutive values
+        return hash * FINGERPRINT_PRIME;
+    }
+
     /**
      * Returns true if the getSuppressed method is available.
      * 
@@ -197,16 +197,12 @@ public class LoggerTest {
     @Test
     public void testReconfiguration() throws Exception {
         final Configuration oldConfig = context.getConfiguration();
-        final int MONITOR_INTERVAL_SECONDS = 1;
         final File file = new File("target/test-classes/" + CONFIG);
         final long orig = file.lastModified();
         final long newTime = orig + 10000;
         file.setLastModified(newTime);
-        Thread.sleep((MONITOR_INTERVAL_SECONDS + 1) * 1000);
-        for (int i = 0; i < 17; ++i) {
-            logger.debug("Reconfigure");
-        }
-        Thread.sleep(100);
+        // run the check the background monitor thread would run, which reconfigures synchronously
+        oldConfig.getConfigurationMonitor().checkConfiguration();
         final Configuration newConfig = context.getConfiguration();
         assertNotNull("No configuration", newConfig);
         assertNotSame("Reconfiguration failed", newConfig, oldConfig);
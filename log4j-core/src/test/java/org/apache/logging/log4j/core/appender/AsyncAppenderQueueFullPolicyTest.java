@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicyFactory;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a blocking AsyncAppender consults the configured queue-full policy.
+ */
+public class AsyncAppenderQueueFullPolicyTest {
+
+    private final CountDownLatch blockingLatch = new CountDownLatch(1);
+    private AsyncAppender asyncAppender;
+
+    private class BlockingAppender extends AbstractAppender {
+        private static final long serialVersionUID = 1L;
+
+        BlockingAppender(final String name) {
+            super(name, null, null);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            try {
+                blockingLatch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Before
+    public void before() {
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY, "Discard");
+        final DefaultConfiguration config = new DefaultConfiguration();
+        final BlockingAppender blockingAppender = new BlockingAppender("Blocking");
+        blockingAppender.start();
+        config.addAppender(blockingAppender);
+        final AppenderRef[] refs = {AppenderRef.createAppenderRef("Blocking", null, null)};
+        asyncAppender = AsyncAppender.createAppender(refs, null, true, 1, "Async", false, null, config, true);
+        asyncAppender.start();
+    }
+
+    @After
+    public void after() {
+        blockingLatch.countDown();
+        asyncAppender.stop();
+        System.clearProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY);
+    }
+
+    @Test
+    public void testInfoEventsAreDiscardedWhenQueueIsFull() {
+        for (int i = 0; i < 3; i++) {
+            asyncAppender.append(createEvent(Level.INFO, "msg" + i));
+        }
+        assertTrue("discarded", asyncAppender.getDiscardedCount() >= 1);
+        assertEquals(0, asyncAppender.getSynchronousCount());
+    }
+
+    private static LogEvent createEvent(final Level level, final String msg) {
+        return new Log4jLogEvent("test", null, AsyncAppenderQueueFullPolicyTest.class.getName(), level,
+                new SimpleMessage(msg), null);
+    }
+}
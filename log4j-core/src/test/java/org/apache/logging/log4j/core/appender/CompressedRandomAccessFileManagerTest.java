@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the CompressedRandomAccessFileManager class.
+ */
+public class CompressedRandomAccessFileManagerTest {
+
+    @Test
+    public void testEachFlushWritesGzipMember() throws IOException {
+        final File file = File.createTempFile("log4j2", "test.gz");
+        file.deleteOnExit();
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        final OutputStream os = new RandomAccessFileManager.DummyOutputStream();
+        final CompressedRandomAccessFileManager manager = new CompressedRandomAccessFileManager(raf, file.getName(),
+                os, false, 1024, null, null, Deflater.BEST_SPEED);
+
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            final String line = "This is test message number " + i + '\n';
+            expected.append(line);
+            manager.write(line.getBytes("UTF-8"));
+        }
+        manager.flush();
+        manager.flush(); // an empty buffer adds no member
+        final long length = raf.length();
+        assertTrue("Not compressed: " + length, length < expected.length());
+        manager.close();
+
+        assertEquals(expected.toString(), gunzip(file));
+    }
+
+    @Test
+    public void testFactoryCreatesCompressedManagerWhenCompressing() throws IOException {
+        final File file = File.createTempFile("log4j2", "test.log");
+        file.deleteOnExit();
+        final RandomAccessFileManager manager = RandomAccessFileManager.getFileManager(file.getPath(), false, true,
+                RandomAccessFileManager.DEFAULT_BUFFER_SIZE, true, null, null);
+        try {
+            assertTrue(manager instanceof CompressedRandomAccessFileManager);
+            manager.write("Hello, world\n".getBytes("UTF-8"));
+            assertEquals("immediateFlush is ignored", 0, file.length());
+        } finally {
+            manager.release();
+        }
+        assertEquals("Hello, world\n", gunzip(file));
+    }
+
+    @Test
+    public void testGzFileNameDoesNotCompress() throws IOException {
+        final File file = File.createTempFile("log4j2", "plain.gz");
+        file.deleteOnExit();
+        final RandomAccessFileManager manager = RandomAccessFileManager.getFileManager(file.getPath(), false, false,
+                RandomAccessFileManager.DEFAULT_BUFFER_SIZE, null, null);
+        try {
+            assertFalse(manager instanceof CompressedRandomAccessFileManager);
+        } finally {
+            manager.release();
+        }
+    }
+
+    private static String gunzip(final File file) throws IOException {
+        final InputStream in = new GZIPInputStream(new FileInputStream(file));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[8192];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+        in.close();
+        return out.toString("UTF-8");
+    }
+}
@@ -35,6 +35,13 @@ public class AbstractDatabaseManagerTest {
                 .createStrictMock();
     }
 
+    private static LogEvent createEvent() {
+        final LogEvent event = createNiceMock(LogEvent.class);
+        expect(event.toImmutable()).andReturn(event).anyTimes();
+        replay(event);
+        return event;
+    }
+
     @After
     public void tearDown() {
         verify(this.manager);
@@ -118,9 +125,9 @@ public class AbstractDatabaseManagerTest {
     public void testBuffering01() throws Exception {
         this.setUp("name", 0);
 
-        final LogEvent event1 = createStrictMock(LogEvent.class);
-        final LogEvent event2 = createStrictMock(LogEvent.class);
-        final LogEvent event3 = createStrictMock(LogEvent.class);
+        final LogEvent event1 = createEvent();
+        final LogEvent event2 = createEvent();
+        final LogEvent event3 = createEvent();
 
         this.manager.startupInternal();
         expectLastCall();
@@ -169,10 +176,10 @@ public class AbstractDatabaseManagerTest {
     public void testBuffering02() throws Exception {
         this.setUp("name", 4);
 
-        final LogEvent event1 = createStrictMock(LogEvent.class);
-        final LogEvent event2 = createStrictMock(LogEvent.class);
-        final LogEvent event3 = createStrictMock(LogEvent.class);
-        final LogEvent event4 = createStrictMock(LogEvent.class);
+        final LogEvent event1 = createEvent();
+        final LogEvent event2 = createEvent();
+        final LogEvent event3 = createEvent();
+        final LogEvent event4 = createEvent();
 
         this.manager.startupInternal();
         expectLastCall();
@@ -207,9 +214,9 @@ public class AbstractDatabaseManagerTest {
     public void testBuffering03() throws Exception {
         this.setUp("name", 10);
 
-        final LogEvent event1 = createStrictMock(LogEvent.class);
-        final LogEvent event2 = createStrictMock(LogEvent.class);
-        final LogEvent event3 = createStrictMock(LogEvent.class);
+        final LogEvent event1 = createEvent();
+        final LogEvent event2 = createEvent();
+        final LogEvent event3 = createEvent();
 
         this.manager.startupInternal();
         expectLastCall();
@@ -242,9 +249,9 @@ public class AbstractDatabaseManagerTest {
     public void testBuffering04() throws Exception {
         this.setUp("name", 10);
 
-        final LogEvent event1 = createStrictMock(LogEvent.class);
-        final LogEvent event2 = createStrictMock(LogEvent.class);
-        final LogEvent event3 = createStrictMock(LogEvent.class);
+        final LogEvent event1 = createEvent();
+        final LogEvent event2 = createEvent();
+        final LogEvent event3 = createEvent();
 
         this.manager.startupInternal();
         expectLastCall();
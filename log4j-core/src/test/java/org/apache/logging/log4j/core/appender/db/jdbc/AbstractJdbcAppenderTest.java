@@ -32,6 +32,7 @@ import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.ConfigurationFactory;
 import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.status.StatusLogger;
 import org.apache.logging.log4j.util.Strings;
 import org.easymock.IAnswer;
@@ -217,4 +218,46 @@ public abstract class AbstractJdbcAppenderTest {
 
         assertFalse("There should not be three rows.", resultSet.next());
     }
+
+    @Test
+    public void testAsyncBatchedConfig() throws Exception {
+        this.setUp("asyncLogEntry", "log4j2-" + this.databaseType + "-async.xml");
+
+        final LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        final JdbcAppender appender = (JdbcAppender) context.getConfiguration().getAppender("databaseAppender");
+        assertTrue("The manager should be asynchronous.", appender.getManager().isAsynchronous());
+
+        // two full batches of 10, then 5 events written by the flush interval
+        final Logger logger = LogManager.getLogger(this.getClass().getName() + ".testAsyncBatchedConfig");
+        for (int i = 0; i < 25; i++) {
+            logger.info("Async message " + i);
+        }
+
+        final Statement statement = this.connection.createStatement();
+        int count = 0;
+        for (int i = 0; i < 100 && count < 25; i++) {
+            final ResultSet countSet = statement.executeQuery("SELECT COUNT(*) FROM asyncLogEntry");
+            countSet.next();
+            count = countSet.getInt(1);
+            countSet.close();
+            if (count < 25) {
+                Thread.sleep(50);
+            }
+        }
+        assertEquals("All events should have been written.", 25, count);
+
+        // an event that arrives after the final drain is counted instead of being left in the queue
+        appender.getManager().shutdown();
+        assertEquals(0, appender.getManager().getQueueFullCounters().getDiscardedCount());
+        appender.getManager().write(new Log4jLogEvent());
+        assertEquals(1, appender.getManager().getQueueFullCounters().getDiscardedCount());
+
+        final ResultSet resultSet = statement.executeQuery("SELECT * FROM asyncLogEntry ORDER BY id");
+        for (int i = 0; i < 25; i++) {
+            assertTrue(resultSet.next());
+            assertEquals("The events should be written in order.", "Async message " + i,
+                    resultSet.getString("message"));
+        }
+        statement.close();
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender.rolling;
+
+import java.util.zip.Deflater;
+
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the attributes of {@link DefaultRolloverStrategy}.
+ */
+public class DefaultRolloverStrategyTest {
+
+    @Test
+    public void testCompressionLevel() throws Exception {
+        final DefaultRolloverStrategy strategy = DefaultRolloverStrategy.createStrategy(null, null, null, "9",
+                new DefaultConfiguration());
+        assertEquals(Deflater.BEST_COMPRESSION, strategy.getCompressionLevel());
+        assertEquals(1, strategy.getCompressionThreads());
+    }
+
+    @Test
+    public void testOutOfRangeCompressionLevelUsesDefault() throws Exception {
+        assertEquals(Deflater.DEFAULT_COMPRESSION, DefaultRolloverStrategy.createStrategy(null, null, null, "10",
+                new DefaultConfiguration()).getCompressionLevel());
+        assertEquals(Deflater.DEFAULT_COMPRESSION, DefaultRolloverStrategy.createStrategy(null, null, null, "-2",
+                new DefaultConfiguration()).getCompressionLevel());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender.rolling;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.junit.InitialLoggerContext;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests a RollingRandomAccessFileAppender writing a compressed active file, which is rolled over by renaming it.
+ */
+public class RollingRandomAccessFileAppenderCompressedTest {
+
+    private static final String DIR = "target/rolling-gz-active";
+
+    @Rule
+    public InitialLoggerContext init = new InitialLoggerContext("log4j-rolling-random-access-gz.xml");
+
+    @After
+    public void tearDown() throws Exception {
+        final File dir = new File(DIR);
+        if (dir.exists()) {
+            for (final File file : dir.listFiles()) {
+                file.delete();
+            }
+            dir.delete();
+        }
+    }
+
+    @Test
+    public void testRolledFilesAreGzipped() throws Exception {
+        final Logger logger = init.getLogger(RollingRandomAccessFileAppenderCompressedTest.class.getName());
+        for (int i = 0; i < 100; ++i) {
+            logger.debug("This is test message number " + i);
+        }
+        final File[] files = new File(DIR).listFiles();
+        assertNotNull(files);
+        int rolled = 0;
+        for (final File file : files) {
+            assertTrue("Uncompressed file " + file, file.getName().endsWith(".gz"));
+            if (file.getName().startsWith("test1-")) {
+                rolled++;
+                final String content = gunzip(file);
+                assertTrue(file + " contains: " + content, content.contains("This is test message number"));
+            }
+        }
+        assertTrue("No rolled over files", rolled > 0);
+    }
+
+    private static String gunzip(final File file) throws Exception {
+        final Reader reader = new InputStreamReader(new GZIPInputStream(new FileInputStream(file)), "UTF-8");
+        final StringBuilder sb = new StringBuilder();
+        final char[] buf = new char[1024];
+        int n;
+        while ((n = reader.read(buf)) != -1) {
+            sb.append(buf, 0, n);
+        }
+        reader.close();
+        return sb.toString();
+    }
+}
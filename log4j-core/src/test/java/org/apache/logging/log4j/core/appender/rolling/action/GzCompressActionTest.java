@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender.rolling.action;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests {@link GzCompressAction} and {@link ParallelGzCompressAction}.
+ */
+public class GzCompressActionTest {
+
+    private static final String DIR = "target/gzCompress";
+
+    private final File source = new File(DIR, "source.log");
+    private final File destination = new File(DIR, "source.log.gz");
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        new File(DIR).mkdirs();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        new File(DIR).delete();
+    }
+
+    @After
+    public void after() {
+        source.delete();
+        destination.delete();
+    }
+
+    @Test
+    public void testCompressWithLevel() throws Exception {
+        final byte[] data = writeSource(100 * 1024);
+        assertTrue(new GzCompressAction(source, destination, true, 9).execute());
+        assertFalse("Source not deleted", source.exists());
+        assertArrayEquals(data, gunzip(destination));
+    }
+
+    @Test
+    public void testParallelCompressMultipleBlocks() throws Exception {
+        final byte[] data = writeSource(5 * ParallelGzCompressAction.BLOCK_SIZE + 12345);
+        assertTrue(new ParallelGzCompressAction(source, destination, false, 1, 3).execute());
+        assertTrue("Source deleted", source.exists());
+        assertArrayEquals(data, gunzip(destination));
+    }
+
+    @Test
+    public void testParallelCompressSmallFile() throws Exception {
+        final byte[] data = writeSource(1000);
+        assertTrue(new ParallelGzCompressAction(source, destination, true, -1, 4).execute());
+        assertFalse("Source not deleted", source.exists());
+        assertArrayEquals(data, gunzip(destination));
+    }
+
+    @Test
+    public void testMissingSource() throws Exception {
+        assertFalse(new GzCompressAction(source, destination, true).execute());
+        assertFalse(new ParallelGzCompressAction(source, destination, true, -1, 4).execute());
+        assertFalse(destination.exists());
+    }
+
+    private byte[] writeSource(final int length) throws IOException {
+        // Compressible but not trivially so: log-like lines with random numbers.
+        final Random random = new Random(42);
+        final StringBuilder sb = new StringBuilder(length + 100);
+        while (sb.length() < length) {
+            sb.append("Line ").append(random.nextInt()).append(" of the log file\n");
+        }
+        final byte[] data = Arrays.copyOf(sb.toString().getBytes("UTF-8"), length);
+        final FileOutputStream fos = new FileOutputStream(source);
+        fos.write(data);
+        fos.close();
+        return data;
+    }
+
+    private static byte[] gunzip(final File file) throws IOException {
+        final InputStream in = new GZIPInputStream(new FileInputStream(file));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[8192];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.message.MapMessage;
+import org.apache.logging.log4j.message.MessageFormatMessage;
+import org.apache.logging.log4j.message.ObjectMessage;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.message.StringFormattedMessage;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsyncFormatPolicyTest {
+
+    @Test
+    public void testSimpleMessageCanBeFormattedInBackground() throws Exception {
+        assertTrue(AsyncFormatPolicy.canFormatInBackground(new SimpleMessage("msg")));
+    }
+
+    @Test
+    public void testImmutableParametersCanBeFormattedInBackground() throws Exception {
+        assertTrue(AsyncFormatPolicy.canFormatInBackground(new ParameterizedMessage("{} {} {} {}",
+                new Object[] {"a", 1, 2L, TimeUnit.SECONDS})));
+        assertTrue(AsyncFormatPolicy.canFormatInBackground(new ParameterizedMessage("{}", "a",
+                new IllegalStateException())));
+        assertTrue(AsyncFormatPolicy.canFormatInBackground(new StringFormattedMessage("%s", 1.5d)));
+        assertTrue(AsyncFormatPolicy.canFormatInBackground(new MessageFormatMessage("{0}", (Object) null)));
+        assertTrue(AsyncFormatPolicy.canFormatInBackground(new ObjectMessage("obj")));
+    }
+
+    @Test
+    public void testMutableParametersMustBeFormattedByCaller() throws Exception {
+        assertFalse(AsyncFormatPolicy.canFormatInBackground(new ParameterizedMessage("{}", new Date())));
+        assertFalse(AsyncFormatPolicy.canFormatInBackground(new ParameterizedMessage("{} {}", "a",
+                new ArrayList<Object>())));
+        assertFalse(AsyncFormatPolicy.canFormatInBackground(new ObjectMessage(new StringBuilder("sb"))));
+    }
+
+    @Test
+    public void testOtherMessageTypesMustBeFormattedByCaller() throws Exception {
+        assertFalse(AsyncFormatPolicy.canFormatInBackground(new MapMessage(new HashMap<String, String>())));
+        assertFalse(AsyncFormatPolicy.canFormatInBackground(new SimpleMessage("subclass") {
+            private static final long serialVersionUID = 1L;
+        }));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsyncLoggerContextDisruptorTest {
+
+    @Test
+    public void testDisruptorIsStartedAndStoppedWithContext() {
+        final AsyncLoggerContext context = new AsyncLoggerContext("DisruptorLifecycle");
+        assertNull("not started", context.createRingBufferAdmin());
+        context.start(new DefaultConfiguration());
+        try {
+            assertNotNull("started", context.createRingBufferAdmin());
+        } finally {
+            context.stop();
+        }
+        assertNull("stopped", context.createRingBufferAdmin());
+    }
+
+    @Test
+    public void testContextsHaveSeparateRingBuffersConfiguredPerContext() {
+        final AsyncLoggerContext context1 = new AsyncLoggerContext("RingBuffer1");
+        final AsyncLoggerContext context2 = new AsyncLoggerContext("RingBuffer2");
+        final Configuration config1 = new DefaultConfiguration();
+        config1.getProperties().put("AsyncLogger.RingBufferSize", "1024");
+        final Configuration config2 = new DefaultConfiguration();
+        config2.getProperties().put("AsyncLogger.RingBufferSize", "128");
+        context1.start(config1);
+        context2.start(config2);
+        try {
+            final RingBufferAdmin admin1 = context1.createRingBufferAdmin();
+            final RingBufferAdmin admin2 = context2.createRingBufferAdmin();
+            assertEquals(1024, admin1.getBufferSize());
+            assertEquals(128, admin2.getBufferSize());
+            assertNotEquals(admin1.getObjectName(), admin2.getObjectName());
+
+            context1.getLogger("a").info("only in context 1");
+            assertEquals(admin2.getBufferSize(), admin2.getRemainingCapacity());
+        } finally {
+            context1.stop();
+            context2.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedConstructorUsesRingBufferOfContext() {
+        final AsyncLoggerContext context = new AsyncLoggerContext("DeprecatedConstructor");
+        context.start(new DefaultConfiguration());
+        try {
+            final RingBufferAdmin admin = context.createRingBufferAdmin();
+            final AsyncLogger logger = new AsyncLogger(context, "deprecated", null);
+            logger.error("published to the ring buffer of the context");
+            assertNotNull(admin);
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testLoggerOutsideAsyncLoggerContextLogsWithoutRingBuffer() {
+        // like a deserialized logger, this one has no ring buffer until it looks one up
+        final LoggerContext context = new LoggerContext("NotAsync");
+        context.start(new DefaultConfiguration());
+        try {
+            new AsyncLogger(context, "notAsync", null).error("logged without a ring buffer");
+        } finally {
+            context.stop();
+        }
+    }
+}
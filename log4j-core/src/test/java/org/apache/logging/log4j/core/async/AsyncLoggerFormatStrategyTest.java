@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsyncLoggerFormatStrategyTest {
+
+    @After
+    public void after() {
+        System.clearProperty("AsyncLogger.FormatStrategy");
+    }
+
+    @Test
+    public void testDefaultFormatStrategyIsCaller() throws Exception {
+        assertSame(AsyncLogger.FormatStrategy.CALLER, AsyncLogger.FormatStrategy.create());
+    }
+
+    @Test
+    public void testUseCallerIfInvalidConfig() throws Exception {
+        System.setProperty("AsyncLogger.FormatStrategy", "\\%%InValid ");
+        assertSame(AsyncLogger.FormatStrategy.CALLER, AsyncLogger.FormatStrategy.create());
+    }
+
+    @Test
+    public void testUseBackgroundIfConfigured() throws Exception {
+        System.setProperty("AsyncLogger.FormatStrategy", "BACKGROUND");
+        assertSame(AsyncLogger.FormatStrategy.BACKGROUND, AsyncLogger.FormatStrategy.create());
+    }
+
+    @Test
+    public void testBackgroundStrategyDefersFormattingOfImmutableParameters() throws Exception {
+        final CountingParameter counter = new CountingParameter();
+        AsyncLogger.FormatStrategy.BACKGROUND.prepare(new ParameterizedMessage("{} {}", "a", counter));
+        assertEquals("mutable parameter is formatted by caller", 1, counter.count);
+
+        final ParameterizedMessage immutable = new ParameterizedMessage("{} {}", "a", 1);
+        AsyncLogger.FormatStrategy.BACKGROUND.prepare(immutable);
+        assertEquals("a 1", immutable.getFormattedMessage());
+    }
+
+    @Test
+    public void testCallerStrategyFormatsImmediately() throws Exception {
+        final CountingParameter counter = new CountingParameter();
+        final ParameterizedMessage msg = new ParameterizedMessage("{}", counter);
+        AsyncLogger.FormatStrategy.CALLER.prepare(msg);
+        assertEquals(1, counter.count);
+        msg.getFormattedMessage();
+        assertEquals("formatted result is cached", 1, counter.count);
+    }
+
+    private static class CountingParameter {
+        int count;
+
+        @Override
+        public String toString() {
+            return "count=" + ++count;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.Level;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsyncQueueFullPolicyFactoryTest {
+
+    @After
+    public void after() {
+        System.clearProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY);
+        System.clearProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_DISCARD_THRESHOLD);
+        System.clearProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_TIMEOUT_MILLIS);
+    }
+
+    @Test
+    public void testDefaultPolicyIfNotConfigured() throws Exception {
+        assertEquals(DefaultAsyncQueueFullPolicy.class, AsyncQueueFullPolicyFactory.create().getClass());
+    }
+
+    @Test
+    public void testDefaultPolicyIfInvalidClassName() throws Exception {
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY, "com.example.NoSuchPolicy");
+        assertEquals(DefaultAsyncQueueFullPolicy.class, AsyncQueueFullPolicyFactory.create().getClass());
+    }
+
+    @Test
+    public void testDiscardPolicyWithDefaultThreshold() throws Exception {
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY, "Discard");
+        final AsyncQueueFullPolicy policy = AsyncQueueFullPolicyFactory.create();
+        assertEquals(Level.INFO, ((DiscardingAsyncQueueFullPolicy) policy).getThresholdLevel());
+    }
+
+    @Test
+    public void testDiscardPolicyWithConfiguredThreshold() throws Exception {
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY, "Discard");
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_DISCARD_THRESHOLD, "warn");
+        final AsyncQueueFullPolicy policy = AsyncQueueFullPolicyFactory.create();
+        assertEquals(Level.WARN, ((DiscardingAsyncQueueFullPolicy) policy).getThresholdLevel());
+    }
+
+    @Test
+    public void testSynchronousPolicy() throws Exception {
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY, "Synchronous");
+        assertEquals(SynchronousAsyncQueueFullPolicy.class, AsyncQueueFullPolicyFactory.create().getClass());
+    }
+
+    @Test
+    public void testTimeoutPolicy() throws Exception {
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY, "Timeout");
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_TIMEOUT_MILLIS, "25");
+        assertEquals(25, AsyncQueueFullPolicyFactory.create().getEnqueueTimeoutMillis());
+    }
+
+    @Test
+    public void testCustomPolicyClass() throws Exception {
+        System.setProperty(AsyncQueueFullPolicyFactory.PROPERTY_NAME_POLICY,
+                SynchronousAsyncQueueFullPolicy.class.getName());
+        assertEquals(SynchronousAsyncQueueFullPolicy.class, AsyncQueueFullPolicyFactory.create().getClass());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.Level;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsyncQueueFullPolicyTest {
+
+    private static final long OTHER_THREAD_ID = -1;
+
+    @Test
+    public void testDefaultPolicyEnqueuesUnlessCalledFromBackgroundThread() throws Exception {
+        final AsyncQueueFullPolicy policy = new DefaultAsyncQueueFullPolicy();
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(OTHER_THREAD_ID, Level.DEBUG));
+        assertEquals(EventRoute.SYNCHRONOUS, policy.getRoute(Thread.currentThread().getId(), Level.DEBUG));
+        assertTrue(policy.getEnqueueTimeoutMillis() < 0);
+    }
+
+    @Test
+    public void testDiscardingPolicyDiscardsAtOrBelowThreshold() throws Exception {
+        final AsyncQueueFullPolicy policy = new DiscardingAsyncQueueFullPolicy(Level.INFO);
+        assertEquals(EventRoute.DISCARD, policy.getRoute(OTHER_THREAD_ID, Level.TRACE));
+        assertEquals(EventRoute.DISCARD, policy.getRoute(OTHER_THREAD_ID, Level.INFO));
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(OTHER_THREAD_ID, Level.WARN));
+        assertEquals(EventRoute.SYNCHRONOUS, policy.getRoute(Thread.currentThread().getId(), Level.ERROR));
+    }
+
+    @Test
+    public void testSynchronousPolicy() throws Exception {
+        final AsyncQueueFullPolicy policy = new SynchronousAsyncQueueFullPolicy();
+        assertEquals(EventRoute.SYNCHRONOUS, policy.getRoute(OTHER_THREAD_ID, Level.FATAL));
+    }
+
+    @Test
+    public void testTimeoutPolicy() throws Exception {
+        final AsyncQueueFullPolicy policy = new TimeoutAsyncQueueFullPolicy(5);
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(OTHER_THREAD_ID, Level.INFO));
+        assertEquals(5, policy.getEnqueueTimeoutMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTimeoutPolicyRejectsNegativeTimeout() throws Exception {
+        new TimeoutAsyncQueueFullPolicy(-1);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LockFreeArrayBlockingQueueTest {
+
+    @Test
+    public void testFifoOrderAcrossWrapAround() throws Exception {
+        final BlockingQueue<Integer> queue = new LockFreeArrayBlockingQueue<Integer>(3);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(i));
+            assertEquals(Integer.valueOf(i), queue.peek());
+            assertEquals(Integer.valueOf(i), queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testOfferFailsWhenFull() throws Exception {
+        final BlockingQueue<String> queue = new LockFreeArrayBlockingQueue<String>(2);
+        assertTrue(queue.offer("a"));
+        assertTrue(queue.offer("b"));
+        assertFalse(queue.offer("c"));
+        assertFalse(queue.offer("c", 1, TimeUnit.MILLISECONDS));
+        assertEquals(2, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("[a, b]", queue.toString());
+        assertEquals("a", queue.take());
+        assertEquals(1, queue.remainingCapacity());
+    }
+
+    @Test
+    public void testPollTimesOutWhenEmpty() throws Exception {
+        final BlockingQueue<String> queue = new LockFreeArrayBlockingQueue<String>(1);
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(timeout = 5000)
+    public void testIdleTakeStillReceivesElements() throws Exception {
+        final BlockingQueue<String> queue = new LockFreeArrayBlockingQueue<String>(1);
+        final List<String> taken = new ArrayList<String>();
+        final Thread consumer = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    taken.add(queue.take());
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        consumer.start();
+        Thread.sleep(200); // long enough for the consumer to back off to the longest park interval
+        queue.put("a");
+        consumer.join();
+        assertEquals("[a]", taken.toString());
+    }
+
+    @Test
+    public void testDrainTo() throws Exception {
+        final BlockingQueue<Integer> queue = new LockFreeArrayBlockingQueue<Integer>(4);
+        for (int i = 0; i < 4; i++) {
+            queue.put(i);
+        }
+        final List<Integer> drained = new ArrayList<Integer>();
+        assertEquals(3, queue.drainTo(drained, 3));
+        assertEquals(1, queue.drainTo(drained));
+        assertEquals(4, drained.size());
+        assertEquals(Integer.valueOf(3), drained.get(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroCapacity() throws Exception {
+        new LockFreeArrayBlockingQueue<String>(0);
+    }
+
+    @Test(timeout = 30000)
+    public void testMultipleProducers() throws Exception {
+        final int producers = 4;
+        final int perProducer = 10000;
+        final BlockingQueue<Integer> queue = new LockFreeArrayBlockingQueue<Integer>(16);
+        final CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            final Thread producer = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = 0; i < perProducer; i++) {
+                            queue.put(i);
+                        }
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+            producer.setDaemon(true);
+            producer.start();
+        }
+        start.countDown();
+        long sum = 0;
+        for (int i = 0; i < producers * perProducer; i++) {
+            sum += queue.take();
+        }
+        assertEquals((long) producers * perProducer * (perProducer - 1) / 2, sum);
+        assertNull(queue.poll());
+    }
+}
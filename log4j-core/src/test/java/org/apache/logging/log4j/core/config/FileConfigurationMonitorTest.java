@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.core.config.xml.XmlConfiguration;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FileConfigurationMonitorTest {
+
+    private static final String CONFIG = "target/test-classes/log4j-xinclude-monitor.xml";
+
+    @Test
+    public void testMonitorsIncludedFiles() throws Exception {
+        final File configFile = new File(CONFIG);
+        final XmlConfiguration config = new XmlConfiguration(
+                new ConfigurationSource(new FileInputStream(configFile), configFile));
+        final FileConfigurationMonitor monitor = (FileConfigurationMonitor) config.getConfigurationMonitor();
+        final List<String> names = new ArrayList<String>();
+        for (final File file : monitor.getFiles()) {
+            names.add(file.getName());
+        }
+        assertEquals(configFile, monitor.getFiles().get(0));
+        assertTrue(names.toString(), names.contains("log4j-xinclude-appenders.xml"));
+        assertTrue(names.toString(), names.contains("log4j-xinclude-loggers.xml"));
+    }
+
+    @Test
+    public void testMonitorFollowsConfigurationLifeCycle() throws Exception {
+        final File configFile = new File(CONFIG);
+        final XmlConfiguration config = new XmlConfiguration(
+                new ConfigurationSource(new FileInputStream(configFile), configFile));
+        final FileConfigurationMonitor monitor = (FileConfigurationMonitor) config.getConfigurationMonitor();
+        config.start();
+        try {
+            assertTrue(monitor.isStarted());
+        } finally {
+            config.stop();
+        }
+        assertTrue(monitor.isStopped());
+    }
+
+    @Test
+    public void testListenersAreNotifiedOnceWhenAFileChanges() throws Exception {
+        final File file = File.createTempFile("FileConfigurationMonitorTest", ".xml");
+        file.deleteOnExit();
+        final AtomicInteger changes = new AtomicInteger();
+        final List<ConfigurationListener> listeners = new ArrayList<ConfigurationListener>();
+        listeners.add(new ConfigurationListener() {
+            @Override
+            public void onChange(final Reconfigurable reconfigurable) {
+                changes.incrementAndGet();
+            }
+        });
+        final FileConfigurationMonitor monitor = new FileConfigurationMonitor(null, file, listeners, 5);
+        monitor.checkConfiguration();
+        assertEquals(0, changes.get());
+        assertTrue(file.setLastModified(file.lastModified() + 10000));
+        monitor.checkConfiguration();
+        assertEquals(1, changes.get());
+        monitor.checkConfiguration();
+        assertEquals(1, changes.get());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.test.appender.ListAppender;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LoggerConfigTest {
+
+    private static LogEvent createEvent() {
+        return new Log4jLogEvent("test", null, LoggerConfigTest.class.getName(), Level.INFO,
+                new SimpleMessage("message"), null);
+    }
+
+    @Test
+    public void testDispatchFollowsAppenderChanges() {
+        final LoggerConfig loggerConfig = new LoggerConfig("test", Level.INFO, false);
+        final ListAppender first = new ListAppender("First");
+        final ListAppender second = new ListAppender("Second");
+        first.start();
+        second.start();
+        loggerConfig.addAppender(first, null, null);
+        loggerConfig.addAppender(second, null, null);
+        loggerConfig.log(createEvent());
+        loggerConfig.removeAppender("First");
+        loggerConfig.log(createEvent());
+        assertEquals(1, first.getEvents().size());
+        assertEquals(2, second.getEvents().size());
+        loggerConfig.clearAppenders();
+        loggerConfig.log(createEvent());
+        assertEquals(2, second.getEvents().size());
+        assertTrue(loggerConfig.getAppenders().isEmpty());
+    }
+
+    @Test
+    public void testFlatDispatchFollowsHierarchyChanges() {
+        final LoggerConfig parent = new LoggerConfig("a", Level.INFO, false);
+        final LoggerConfig child = new LoggerConfig("a.b", Level.INFO, true);
+        child.setParent(parent);
+        final ListAppender parentList = new ListAppender("Parent");
+        final ListAppender childList = new ListAppender("Child");
+        parentList.start();
+        childList.start();
+        parent.addAppender(parentList, null, null);
+        child.addAppender(childList, null, null);
+        child.updateDispatch();
+        child.log(createEvent());
+        assertEquals(1, parentList.getEvents().size());
+        assertEquals(1, childList.getEvents().size());
+
+        child.setAdditive(false);
+        child.log(createEvent());
+        assertEquals(1, parentList.getEvents().size());
+        assertEquals(2, childList.getEvents().size());
+
+        child.setAdditive(true);
+        child.addFilter(ThresholdFilter.createFilter(Level.ERROR, Filter.Result.ACCEPT, Filter.Result.DENY));
+        child.updateDispatch();
+        child.log(createEvent());
+        assertEquals(1, parentList.getEvents().size());
+        assertEquals(2, childList.getEvents().size());
+    }
+
+    @Test
+    public void testDispatchOnlyDependsOnItsPath() {
+        final LoggerConfig parent = new LoggerConfig("a", Level.INFO, false);
+        final LoggerConfig child = new LoggerConfig("a.b", Level.INFO, true);
+        child.setParent(parent);
+        final LoggerConfig unrelated = new LoggerConfig("c", Level.INFO, true);
+        final LoggerConfigDispatch dispatch = LoggerConfigDispatch.create(child);
+        assertTrue(dispatch.isCurrent());
+
+        // for example a LoggerConfig of another configuration
+        unrelated.setAdditive(false);
+        assertTrue(dispatch.isCurrent());
+
+        parent.setAdditive(true);
+        assertFalse(dispatch.isCurrent());
+    }
+
+    @Test
+    public void testClearAppendersWaitsForEventsInFlight() throws Exception {
+        final CountDownLatch appending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AbstractAppender blocking = new AbstractAppender("Blocking", null, null) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void append(final LogEvent event) {
+                appending.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blocking.start();
+        final LoggerConfig loggerConfig = new LoggerConfig("test", Level.INFO, false);
+        loggerConfig.addAppender(blocking, null, null);
+        final Thread logging = new Thread() {
+            @Override
+            public void run() {
+                loggerConfig.log(createEvent());
+            }
+        };
+        logging.start();
+        assertTrue(appending.await(5, TimeUnit.SECONDS));
+
+        final CountDownLatch cleared = new CountDownLatch(1);
+        final Thread clearing = new Thread() {
+            @Override
+            public void run() {
+                loggerConfig.clearAppenders();
+                cleared.countDown();
+            }
+        };
+        clearing.start();
+        assertFalse("Appenders cleared while an event was in flight", cleared.await(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(cleared.await(5, TimeUnit.SECONDS));
+        logging.join();
+        clearing.join();
+    }
+
+    @Test
+    public void testStripedCounterSumsAllThreads() throws Exception {
+        final StripedCounter counter = new StripedCounter(4);
+        final int threadCount = 8;
+        final CountDownLatch started = new CountDownLatch(threadCount);
+        final CountDownLatch done = new CountDownLatch(1);
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        counter.increment();
+                        counter.decrement();
+                    }
+                    counter.increment();
+                    started.countDown();
+                    try {
+                        done.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    counter.decrement();
+                }
+            };
+            threads[i].start();
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(threadCount, counter.sum());
+        done.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, counter.sum());
+    }
+}
@@ -239,7 +239,8 @@ public class TestConfigurator {
         for (int i = 0; i < 17; ++i) {
             logger.debug("Test message " + i);
         }
-        Thread.sleep(100);
+        // run the check the background monitor thread would run, which reconfigures synchronously
+        config.getConfigurationMonitor().checkConfiguration();
         final Configuration newConfig = ctx.getConfiguration();
         assertThat("Configuration not reset", newConfig, is(not(theInstance(config))));
         Configurator.shutdown(ctx);
@@ -19,6 +19,8 @@ package org.apache.logging.log4j.core.config.plugins.processor;
 
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAliases;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 
 /**
  * Test plugin class for unit tests.
@@ -27,6 +29,20 @@ import org.apache.logging.log4j.core.config.plugins.PluginAliases;
 @PluginAliases({"AnotherFake", "StillFake"})
 public class FakePlugin {
 
+    final String value;
+    final int count;
+
+    private FakePlugin(final String value, final int count) {
+        this.value = value;
+        this.count = count;
+    }
+
+    @PluginFactory
+    static FakePlugin createFakePlugin(@PluginAttribute("value") final String value,
+            @PluginAttribute(value = "count", defaultInt = 1) final int count) {
+        return new FakePlugin(value, count);
+    }
+
     @Plugin(name = "Nested", category = "Test")
     public static class Nested {
     }
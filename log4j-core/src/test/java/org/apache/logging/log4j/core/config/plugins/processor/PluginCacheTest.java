@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins.processor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+
+public class PluginCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static PluginEntry createEntry(final String category, final String key, final String className,
+            final String name, final boolean printable, final boolean defer) {
+        final PluginEntry entry = new PluginEntry();
+        entry.setCategory(category);
+        entry.setKey(key);
+        entry.setClassName(className);
+        entry.setName(name);
+        entry.setPrintable(printable);
+        entry.setDefer(defer);
+        return entry;
+    }
+
+    private static void add(final PluginCache cache, final PluginEntry entry) {
+        cache.getCategory(entry.getCategory()).put(entry.getKey(), entry);
+    }
+
+    private File writeIndex(final PluginCache cache) throws IOException {
+        final File file = folder.newFile("Log4j2Plugins.idx");
+        cache.writeIndex(new FileOutputStream(file));
+        return file;
+    }
+
+    @Test
+    public void testIndexRoundTrip() throws Exception {
+        final PluginCache cache = new PluginCache();
+        add(cache, createEntry("Core", "console", "org.example.appender.ConsoleAppender", "Console", true, false));
+        add(cache, createEntry("Core", "stdout", "org.example.appender.ConsoleAppender", "appender", true, false));
+        add(cache, createEntry("Core", "routes", "org.example.Routes", "Routes", false, true));
+        add(cache, createEntry("Lookup", "env", "EnvironmentLookup", "env", false, false));
+        cache.getIndexedPackages().add("org.example");
+        cache.getIndexedPackages().add("org.example.appender");
+
+        final PluginCache loaded = new PluginCache();
+        final Set<String> packages = loaded.loadIndexFile(writeIndex(cache).toURI().toURL());
+
+        assertEquals(cache.getIndexedPackages(), packages);
+        assertEquals(cache.getIndexedPackages(), loaded.getIndexedPackages());
+        assertEquals(2, loaded.size());
+        for (final Map.Entry<String, Map<String, PluginEntry>> category : cache.getAllCategories().entrySet()) {
+            final Map<String, PluginEntry> loadedCategory = loaded.getAllCategories().get(category.getKey());
+            assertNotNull(category.getKey(), loadedCategory);
+            assertEquals(category.getValue().keySet(), loadedCategory.keySet());
+            for (final PluginEntry expected : category.getValue().values()) {
+                final PluginEntry actual = loadedCategory.get(expected.getKey());
+                assertEquals(expected.getKey(), actual.getKey());
+                assertEquals(expected.getClassName(), actual.getClassName());
+                assertEquals(expected.getName(), actual.getName());
+                assertEquals(expected.isPrintable(), actual.isPrintable());
+                assertEquals(expected.isDefer(), actual.isDefer());
+                // like the cache file, the index stores the lower case category
+                assertEquals(expected.getCategory().toLowerCase(), actual.getCategory());
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testIndexWithOtherVersionIsRejected() throws Exception {
+        final PluginCache cache = new PluginCache();
+        add(cache, createEntry("Core", "console", "org.example.ConsoleAppender", "Console", true, false));
+        final File file = writeIndex(cache);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(4);
+            raf.writeShort(PluginCache.INDEX_VERSION + 1);
+        } finally {
+            raf.close();
+        }
+        new PluginCache().loadIndexFile(file.toURI().toURL());
+    }
+
+    @Test
+    public void testMergeKeepsEarlierPlugins() throws Exception {
+        final PluginCache first = new PluginCache();
+        add(first, createEntry("Core", "console", "org.example.first.ConsoleAppender", "Console", true, false));
+        final File firstDir = folder.newFolder("first");
+        PluginCacheMerger.write(first, firstDir);
+
+        final PluginCache second = new PluginCache();
+        add(second, createEntry("Core", "console", "org.example.second.ConsoleAppender", "Console", true, false));
+        add(second, createEntry("Core", "file", "org.example.second.FileAppender", "File", true, false));
+        final File secondDir = folder.newFolder("second");
+        // only the cache file, as written by older versions
+        second.writeCache(new FileOutputStream(new File(mkdirs(secondDir),
+                "Log4j2Plugins.dat")));
+
+        final File outputDir = folder.newFolder("merged");
+        PluginCacheMerger.write(PluginCacheMerger.merge(Arrays.asList(firstDir, secondDir)), outputDir);
+
+        final PluginCache merged = new PluginCache();
+        merged.loadIndexFile(new File(outputDir, PluginProcessor.PLUGIN_INDEX_FILE).toURI().toURL());
+        final Map<String, PluginEntry> core = merged.getCategory("core");
+        assertEquals(2, core.size());
+        assertEquals("org.example.first.ConsoleAppender", core.get("console").getClassName());
+        assertEquals("org.example.second.FileAppender", core.get("file").getClassName());
+        assertTrue(new File(outputDir, PluginProcessor.PLUGIN_CACHE_FILE).isFile());
+    }
+
+    private static File mkdirs(final File root) {
+        final File dir = new File(root, PluginProcessor.PLUGIN_CACHE_FILE).getParentFile();
+        assertTrue(dir.mkdirs());
+        return dir;
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.logging.log4j.core.config.plugins.processor;
 
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAliases;
+import org.apache.logging.log4j.core.config.plugins.util.GeneratedPluginFactory;
+import org.apache.logging.log4j.core.filter.BurstFilter;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -90,4 +92,40 @@ public class PluginProcessorTest {
         assertEquals(p.printObject(), nested.isPrintable());
         assertEquals(p.deferChildren(), nested.isDefer());
     }
+
+    @Test
+    public void testIndexContainsFakePlugin() throws Exception {
+        final PluginCache index = new PluginCache();
+        final Enumeration<URL> resources =
+            PluginProcessor.class.getClassLoader().getResources(PluginProcessor.PLUGIN_INDEX_FILE);
+        while (resources.hasMoreElements()) {
+            index.loadIndexFile(resources.nextElement());
+        }
+        assertTrue(index.getIndexedPackages().contains(FakePlugin.class.getPackage().getName()));
+        verifyFakePluginEntry(p.name(), index.getCategory(p.category()).get(p.name().toLowerCase()));
+        final PluginAliases aliases = FakePlugin.class.getAnnotation(PluginAliases.class);
+        for (final String alias : aliases.value()) {
+            verifyFakePluginEntry(alias, index.getCategory(p.category()).get(alias.toLowerCase()));
+        }
+    }
+
+    @Test
+    public void testGeneratedFactoryCallsFactoryMethod() throws Exception {
+        final Class<?> generated = Class.forName(FakePlugin.class.getName() + GeneratedPluginFactory.CLASS_NAME_SUFFIX);
+        final GeneratedPluginFactory factory = (GeneratedPluginFactory) generated.newInstance();
+        assertNull("FakePlugin has no builder factory.", factory.newBuilder());
+        final FakePlugin plugin = (FakePlugin) factory.createPlugin(new Object[] {"fake", 3});
+        assertEquals("fake", plugin.value);
+        assertEquals(3, plugin.count);
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void testNoGeneratedFactoryWithoutFactoryMethod() throws Exception {
+        Class.forName(FakePlugin.Nested.class.getName() + GeneratedPluginFactory.CLASS_NAME_SUFFIX);
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void testNoGeneratedFactoryWithOnlyBuilderFactoryMethod() throws Exception {
+        Class.forName(BurstFilter.class.getName() + GeneratedPluginFactory.CLASS_NAME_SUFFIX);
+    }
 }
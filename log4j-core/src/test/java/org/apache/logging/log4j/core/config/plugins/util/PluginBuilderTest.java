@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins.util;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PluginBuilderTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(PluginBuilder.DISABLE_GENERATED_FACTORIES_PROPERTY);
+    }
+
+    @Test
+    public void testBuildWithGeneratedFactory() throws Exception {
+        final PluginType<?> type = thresholdFilterType();
+        assertNotNull("The plugin processor should have generated a factory for ThresholdFilter.",
+                type.getFactoryMethods().createPlugin(new Object[3]));
+        assertThresholdFilterBuilt(type);
+        // the factory methods are looked up once per plugin type
+        assertSame(type.getFactoryMethods(), type.getFactoryMethods());
+    }
+
+    @Test
+    public void testBuildWithReflection() throws Exception {
+        System.setProperty(PluginBuilder.DISABLE_GENERATED_FACTORIES_PROPERTY, "true");
+        assertThresholdFilterBuilt(thresholdFilterType());
+    }
+
+    private static PluginType<?> thresholdFilterType() {
+        final PluginManager manager = new PluginManager("Core");
+        manager.collectPlugins();
+        return manager.getPluginType("ThresholdFilter");
+    }
+
+    private static void assertThresholdFilterBuilt(final PluginType<?> type) {
+        final Node node = new Node(null, "ThresholdFilter", type);
+        node.getAttributes().put("level", "warn");
+        node.getAttributes().put("onMatch", "ACCEPT");
+        final Object plugin = new PluginBuilder(type).withConfiguration(new DefaultConfiguration())
+                .withConfigurationNode(node).build();
+        assertTrue(plugin instanceof ThresholdFilter);
+        final ThresholdFilter filter = (ThresholdFilter) plugin;
+        assertEquals(Filter.Result.ACCEPT, filter.getOnMatch());
+        assertEquals(Filter.Result.DENY, filter.filter(null, Level.INFO, null, (Object) null, null));
+        assertEquals(Filter.Result.ACCEPT, filter.filter(null, Level.ERROR, null, (Object) null, null));
+    }
+}
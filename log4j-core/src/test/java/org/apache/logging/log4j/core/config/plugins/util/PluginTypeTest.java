@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins.util;
+
+import org.apache.logging.log4j.core.config.plugins.processor.PluginEntry;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PluginTypeTest {
+
+    private static boolean initialized;
+
+    static class LazyPlugin {
+        static {
+            initialized = true;
+        }
+    }
+
+    private static PluginEntry createEntry(final String className) {
+        final PluginEntry entry = new PluginEntry();
+        entry.setKey("lazy");
+        entry.setName("Lazy");
+        entry.setCategory("Test");
+        entry.setClassName(className);
+        return entry;
+    }
+
+    @Test
+    public void testClassIsLoadedOnFirstUse() throws Exception {
+        final String className = PluginTypeTest.class.getName() + "$LazyPlugin";
+        final PluginType<?> type = new PluginType<Object>(createEntry(className), getClass().getClassLoader(), "Lazy");
+        assertEquals(className, type.getPluginClassName());
+        assertEquals("lazy", type.getKey());
+        assertFalse("Plugin class initialized before use", initialized);
+        assertEquals(LazyPlugin.class, type.getPluginClass());
+    }
+
+    @Test
+    public void testMissingClass() throws Exception {
+        final PluginType<?> type = new PluginType<Object>(createEntry("org.example.MissingPlugin"),
+                getClass().getClassLoader(), "Lazy");
+        assertNull(type.loadPluginClass());
+        try {
+            type.getPluginClass();
+            fail("Expected IllegalStateException");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+}
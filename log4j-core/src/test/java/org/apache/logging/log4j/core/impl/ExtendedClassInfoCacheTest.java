@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.apache.logging.log4j.core.impl.ThrowableProxy.CacheEntry;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ExtendedClassInfoCacheTest {
+
+    private static CacheEntry entry(final String location) {
+        return new CacheEntry(new ExtendedClassInfo(false, location, "?"), null);
+    }
+
+    @Test
+    public void testEntriesAreKeptPerClassLoader() {
+        final ExtendedClassInfoCache cache = new ExtendedClassInfoCache(10);
+        final ClassLoader loader = new URLClassLoader(new URL[0]);
+        final CacheEntry entry = entry("a.jar");
+        cache.put(loader, "a.A", entry);
+        cache.put(null, "a.A", entry("b.jar"));
+
+        assertSame(entry, cache.get(loader, "a.A"));
+        assertNotSame(entry, cache.get(null, "a.A"));
+        assertNull(cache.get(getClass().getClassLoader(), "a.A"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedEntry() {
+        final ExtendedClassInfoCache cache = new ExtendedClassInfoCache(2);
+        final ClassLoader loader = getClass().getClassLoader();
+        cache.put(loader, "a.A", entry("a.jar"));
+        cache.put(loader, "b.B", entry("b.jar"));
+        cache.get(loader, "a.A");
+        cache.put(loader, "c.C", entry("c.jar"));
+
+        assertNotNull(cache.get(loader, "a.A"));
+        assertNull(cache.get(loader, "b.B"));
+        assertNotNull(cache.get(loader, "c.C"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testDoesNotKeepClassLoaderReachable() throws Exception {
+        final ExtendedClassInfoCache cache = new ExtendedClassInfoCache(10);
+        ClassLoader loader = new URLClassLoader(new URL[0]);
+        cache.put(loader, "a.A", new CacheEntry(new ExtendedClassInfo(true, "a.jar", "?"), loader));
+        loader = null;
+        for (int i = 0; i < 50 && cache.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertEquals(0, cache.size());
+    }
+}
@@ -21,6 +21,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.Serializable;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -30,6 +31,8 @@ import org.apache.logging.log4j.core.util.Clock;
 import org.apache.logging.log4j.core.util.ClockFactory;
 import org.apache.logging.log4j.core.util.ClockFactoryTest;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
 import org.apache.logging.log4j.message.SimpleMessage;
 import org.apache.logging.log4j.util.Strings;
 import org.junit.AfterClass;
@@ -192,4 +195,31 @@ public class Log4jLogEventTest {
         assertEquals(FixedTimeClock.FIXED_TIME, evt.getTimeMillis());
 
     }
+
+    @Test
+    public void testSerializeCopiesReusableMessage() {
+        final StringBuilder param = new StringBuilder("abc");
+        final Message msg = ReusableMessageFactory.INSTANCE.newMessage("value={}", param);
+        final Log4jLogEvent evt = new Log4jLogEvent("some.test", null, Strings.EMPTY, Level.INFO, msg, null);
+        final Serializable proxy = Log4jLogEvent.serialize(evt, false);
+        param.setLength(0);
+        ReusableMessageFactory.release(msg);
+
+        final Log4jLogEvent copy = Log4jLogEvent.deserialize(proxy);
+        assertTrue(copy.getMessage() instanceof ParameterizedMessage);
+        assertEquals("value=abc", copy.getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void testCreateMementoCopiesReusableMessage() {
+        final Message msg = ReusableMessageFactory.INSTANCE.newMessage("{} and {}", "a", "b");
+        final Log4jLogEvent evt = new Log4jLogEvent("some.test", null, Strings.EMPTY, Level.INFO, msg, null);
+        final Log4jLogEvent copy = Log4jLogEvent.createMemento(evt);
+        ReusableMessageFactory.release(msg);
+
+        assertNotSame(msg, copy.getMessage());
+        assertEquals("a and b", copy.getMessage().getFormattedMessage());
+        assertEquals(evt.getTimeMillis(), copy.getTimeMillis());
+        assertEquals(evt.getLoggerName(), copy.getLoggerName());
+    }
 }
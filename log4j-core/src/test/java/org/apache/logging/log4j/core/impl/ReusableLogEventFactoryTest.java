@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import static org.junit.Assert.*;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+
+/**
+ * Tests the ReusableLogEventFactory class.
+ */
+public class ReusableLogEventFactoryTest {
+
+    private final ReusableLogEventFactory factory = new ReusableLogEventFactory();
+
+    private LogEvent createEvent(final String message) {
+        return factory.createEvent("a.b.c", null, "fqcn", Level.INFO, new SimpleMessage(message), null, null);
+    }
+
+    @Test
+    public void testEventIsReusedAfterRelease() {
+        final LogEvent first = createEvent("first");
+        assertTrue(first instanceof MutableLogEvent);
+        ReusableLogEventFactory.release(first);
+        final LogEvent second = createEvent("second");
+        try {
+            assertSame(first, second);
+            assertEquals("second", second.getMessage().getFormattedMessage());
+        } finally {
+            ReusableLogEventFactory.release(second);
+        }
+    }
+
+    @Test
+    public void testNestedEventIsNotShared() {
+        final LogEvent outer = createEvent("outer");
+        try {
+            final LogEvent inner = createEvent("inner");
+            assertTrue(inner instanceof Log4jLogEvent);
+            assertEquals("outer", outer.getMessage().getFormattedMessage());
+            assertEquals("inner", inner.getMessage().getFormattedMessage());
+        } finally {
+            ReusableLogEventFactory.release(outer);
+        }
+    }
+
+    @Test
+    public void testReleaseClearsEvent() {
+        final LogEvent event = createEvent("msg");
+        ReusableLogEventFactory.release(event);
+        assertNull(event.getMessage());
+        assertNull(event.getLoggerName());
+    }
+
+    @Test
+    public void testToImmutableSurvivesReuse() {
+        final LogEvent event = createEvent("original");
+        final long timeMillis = event.getTimeMillis();
+        final LogEvent copy = event.toImmutable();
+        ReusableLogEventFactory.release(event);
+        final LogEvent reused = createEvent("reused");
+        try {
+            assertNotSame(reused, copy);
+            assertTrue(copy instanceof Log4jLogEvent);
+            final Message message = copy.getMessage();
+            assertEquals("original", message.getFormattedMessage());
+            assertEquals("a.b.c", copy.getLoggerName());
+            assertEquals(Level.INFO, copy.getLevel());
+            assertEquals(timeMillis, copy.getTimeMillis());
+        } finally {
+            ReusableLogEventFactory.release(reused);
+        }
+    }
+}
@@ -329,4 +329,40 @@ public final class ThrowableFormatOptionsTest {
     public void testSingleOptionDepthAndMultipleFilters() {
         test(new String[]{"10,filters(package1,package2)"}, 10, Constants.LINE_SEPARATOR, Arrays.asList("package1","package2"));
     }
+
+    /**
+     * Test {@code %throwable{full,dedup(60000)} }
+     */
+    @Test
+    public void testSingleOptionFullAndDedup() {
+        final ThrowableFormatOptions options = ThrowableFormatOptions.newInstance(new String[]{"full,dedup(60000)"});
+        assertEquals(Integer.MAX_VALUE, options.getLines());
+        assertEquals(60000, options.getDedupWindowMillis());
+        assertTrue(options.hasDedupWindow());
+        assertTrue(options.toString().contains("{dedup(60000)}"));
+    }
+
+    /**
+     * Test {@code %throwable{full,dedup(abc)} } and {@code %throwable{full,dedup(-1)} }, which are ignored
+     */
+    @Test
+    public void testInvalidDedupIsIgnored() {
+        for (final String window : new String[] {"abc", "", "-1", "0"}) {
+            final ThrowableFormatOptions options = ThrowableFormatOptions.newInstance(
+                    new String[]{"full,dedup(" + window + ")"});
+            assertEquals(Integer.MAX_VALUE, options.getLines());
+            assertEquals(0, options.getDedupWindowMillis());
+            assertFalse(options.hasDedupWindow());
+        }
+    }
+
+    /**
+     * Test {@code %throwable}, which formats every stack trace
+     */
+    @Test
+    public void testNoDedup() {
+        final ThrowableFormatOptions options = ThrowableFormatOptions.newInstance(null);
+        assertEquals(0, options.getDedupWindowMillis());
+        assertFalse(options.hasDedupWindow());
+    }
 }
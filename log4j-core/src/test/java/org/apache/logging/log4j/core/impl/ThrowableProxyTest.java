@@ -168,6 +168,21 @@ public class ThrowableProxyTest {
         assertEquals(msg, proxy2.getMessage());
     }
 
+    @Test
+    public void testCauseExtendedStackTraceResolvedFirst() {
+        final Throwable cause = new IllegalStateException("cause");
+        final Throwable throwable = new IllegalArgumentException("wrapper", cause);
+        final ThrowableProxy proxy = new ThrowableProxy(throwable);
+        final ThrowableProxy causeProxy = proxy.getCauseProxy();
+
+        final ExtendedStackTraceElement[] causeTrace = causeProxy.getExtendedStackTrace();
+        assertNotNull(causeTrace);
+        assertEquals(cause.getStackTrace().length - causeProxy.getCommonElementCount(), causeTrace.length);
+        assertEquals(throwable.getStackTrace().length, proxy.getExtendedStackTrace().length);
+        assertEquals(0, proxy.getCommonElementCount());
+        assertEquals(proxy, new ThrowableProxy(throwable));
+    }
+
     @Test
     public void testStack() {
         final Map<String, ThrowableProxy.CacheEntry> map = new HashMap<String, ThrowableProxy.CacheEntry>();
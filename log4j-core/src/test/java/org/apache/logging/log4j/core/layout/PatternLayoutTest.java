@@ -114,6 +114,31 @@ public class PatternLayoutTest {
         assertEquals("org/apache/logging/log4j/core/layout/PatternLayoutTest Hello, world!", new String(result));
     }
 
+    @Test
+    public void testEncode() throws Exception {
+        final PatternLayout layout = PatternLayout.newBuilder().withPattern("%p %c - %m")
+                .withConfiguration(ctx.getConfiguration()).build();
+        final LogEvent event = new Log4jLogEvent(this.getClass().getName(), null,
+                "org.apache.logging.log4j.core.Logger", Level.INFO, new SimpleMessage("Hello, world!"), null);
+        final StringBuilderEncoderTest.SpyByteBufferDestination destination =
+                new StringBuilderEncoderTest.SpyByteBufferDestination(8);
+        layout.encode(event, destination);
+        assertEquals(new String(layout.toByteArray(event)), new String(destination.content()));
+    }
+
+    @Test
+    public void testEncodeRegex() throws Exception {
+        final PatternLayout layout = PatternLayout.newBuilder().withPattern(regexPattern)
+                .withConfiguration(ctx.getConfiguration()).build();
+        final LogEvent event = new Log4jLogEvent(this.getClass().getName(), null,
+                "org.apache.logging.log4j.core.Logger", Level.INFO, new SimpleMessage("Hello, world!"), null);
+        final StringBuilderEncoderTest.SpyByteBufferDestination destination =
+                new StringBuilderEncoderTest.SpyByteBufferDestination(128);
+        layout.encode(event, destination);
+        assertEquals("org/apache/logging/log4j/core/layout/PatternLayoutTest Hello, world!",
+                new String(destination.content()));
+    }
+
     private void testUnixTime(final String pattern) throws Exception {
         final PatternLayout layout = PatternLayout.newBuilder().withPattern(pattern + " %m")
                 .withConfiguration(ctx.getConfiguration()).build();
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.apache.logging.log4j.core.util.Charsets;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the StringBuilderEncoder class.
+ */
+public class StringBuilderEncoderTest {
+
+    /**
+     * Destination with a tiny buffer that collects everything that is drained.
+     */
+    static class SpyByteBufferDestination implements ByteBufferDestination {
+        final ByteBuffer buffer;
+        final ByteArrayOutputStream drained = new ByteArrayOutputStream();
+        int drainCount;
+
+        SpyByteBufferDestination(final int bufferSize) {
+            buffer = ByteBuffer.allocate(bufferSize);
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buf) {
+            drainCount++;
+            buf.flip();
+            drained.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+            buf.clear();
+            return buf;
+        }
+
+        byte[] content() {
+            drain(buffer);
+            return drained.toByteArray();
+        }
+    }
+
+    @Test
+    public void testEncodeFitsInBuffer() throws Exception {
+        final StringBuilderEncoder encoder = new StringBuilderEncoder(Charsets.UTF_8);
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(64);
+        encoder.encode(new StringBuilder("Hello world"), destination);
+        assertEquals("no drain needed", 0, destination.drainCount);
+        assertEquals("Hello world", new String(destination.content(), Charsets.UTF_8));
+    }
+
+    @Test
+    public void testEncodeDrainsWhenBufferIsFull() throws Exception {
+        final StringBuilderEncoder encoder = new StringBuilderEncoder(Charsets.UTF_8, 7);
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(5);
+        final String text = "The quick brown fox jumps over the lazy dog";
+        encoder.encode(new StringBuilder(text), destination);
+        assertTrue("drained", destination.drainCount > 0);
+        assertEquals(text, new String(destination.content(), Charsets.UTF_8));
+    }
+
+    @Test
+    public void testEncodeSurrogatePairAcrossCharBufferBoundary() throws Exception {
+        final Charset charset = Charsets.UTF_8;
+        final StringBuilderEncoder encoder = new StringBuilderEncoder(charset, 3);
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(4);
+        final String text = "ab\uD83D\uDE00def\u00E9\u4E2D";
+        encoder.encode(new StringBuilder(text), destination);
+        assertEquals(text, new String(destination.content(), charset));
+    }
+
+    @Test
+    public void testEncoderIsReusable() throws Exception {
+        final StringBuilderEncoder encoder = new StringBuilderEncoder(Charsets.ISO_8859_1);
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(16);
+        encoder.encode(new StringBuilder("first;"), destination);
+        encoder.encode(new StringBuilder("second"), destination);
+        assertEquals("first;second", new String(destination.content(), Charsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net;
+
+import java.io.ByteArrayOutputStream;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DatagramOutputStreamTest {
+
+    private static DatagramPacket receive(final DatagramSocket socket) throws Exception {
+        final DatagramPacket packet = new DatagramPacket(new byte[65536], 65536);
+        socket.receive(packet);
+        return packet;
+    }
+
+    private static byte[] data(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    @Test
+    public void testSendsSmallDataAsOneDatagram() throws Exception {
+        final DatagramSocket socket = new DatagramSocket();
+        socket.setSoTimeout(5000);
+        final DatagramOutputStream os = new DatagramOutputStream("localhost", socket.getLocalPort(), null, null, 100);
+        try {
+            os.write(data(60));
+            os.write(data(40));
+            os.flush();
+            final DatagramPacket packet = receive(socket);
+            assertEquals(100, packet.getLength());
+            assertEquals(0, packet.getData()[60]);
+        } finally {
+            os.close();
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testSplitsLargeDataIntoGelfChunks() throws Exception {
+        final DatagramSocket socket = new DatagramSocket();
+        socket.setSoTimeout(5000);
+        final DatagramOutputStream os = new DatagramOutputStream("localhost", socket.getLocalPort(), null, null, 100);
+        try {
+            final byte[] expected = data(250);
+            for (int round = 0; round < 2; round++) {
+                os.write(expected);
+                os.flush();
+                final ByteArrayOutputStream received = new ByteArrayOutputStream();
+                long messageId = 0;
+                for (int sequence = 0; sequence < 3; sequence++) {
+                    final DatagramPacket packet = receive(socket);
+                    final ByteBuffer chunk = ByteBuffer.wrap(packet.getData(), 0, packet.getLength());
+                    assertEquals(0x1e, chunk.get());
+                    assertEquals(0x0f, chunk.get());
+                    if (sequence == 0) {
+                        messageId = chunk.getLong();
+                    } else {
+                        assertEquals(messageId, chunk.getLong());
+                    }
+                    assertEquals(sequence, chunk.get());
+                    assertEquals(3, chunk.get());
+                    received.write(packet.getData(), 12, packet.getLength() - 12);
+                }
+                assertTrue(Arrays.equals(expected, received.toByteArray()));
+            }
+        } finally {
+            os.close();
+            socket.close();
+        }
+    }
+
+    @Test
+    public void testDropsDataThatNeedsTooManyChunks() throws Exception {
+        final DatagramSocket socket = new DatagramSocket();
+        socket.setSoTimeout(5000);
+        final DatagramOutputStream os = new DatagramOutputStream("localhost", socket.getLocalPort(), null, null, 100);
+        try {
+            os.write(data(88 * 129));
+            os.flush();
+            os.write(data(10));
+            os.flush();
+            assertEquals(10, receive(socket).getLength());
+        } finally {
+            os.close();
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+
+import org.apache.logging.log4j.core.net.NonBlockingTcpSocketManager.DropPolicy;
+import org.apache.logging.log4j.test.AvailablePortFinder;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NonBlockingTcpSocketManagerTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static NonBlockingTcpSocketManager createManager(final int port, final int bufferSize,
+            final DropPolicy dropPolicy) throws IOException {
+        return new NonBlockingTcpSocketManager("NonBlockingTcpSocketManagerTest:" + port,
+                InetAddress.getByName("localhost"), "localhost", port, 1000, 200, bufferSize, dropPolicy, null);
+    }
+
+    /** Writes events of ten bytes: "event 0001" and so on. */
+    private static void writeEvents(final NonBlockingTcpSocketManager manager, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final byte[] event = String.format("event %04d", i).getBytes(UTF_8);
+            manager.write(event, 0, event.length);
+        }
+    }
+
+    private static String read(final Socket socket, final int length) throws IOException {
+        socket.setSoTimeout(5000);
+        final byte[] data = new byte[length];
+        new DataInputStream(socket.getInputStream()).readFully(data);
+        return new String(data, UTF_8);
+    }
+
+    @Test
+    public void testSendsBufferedEvents() throws Exception {
+        final ServerSocket server = new ServerSocket(AvailablePortFinder.getNextAvailable());
+        final NonBlockingTcpSocketManager manager = createManager(server.getLocalPort(), 8192, DropPolicy.NEWEST);
+        try {
+            final Socket socket = server.accept();
+            writeEvents(manager, 0, 200);
+            final String received = read(socket, 2000);
+            assertTrue(received.startsWith("event 0000event 0001"));
+            assertTrue(received.endsWith("event 0199"));
+            socket.close();
+        } finally {
+            manager.release();
+            server.close();
+        }
+    }
+
+    @Test
+    public void testDropsNewestWhileDisconnected() throws Exception {
+        final int port = AvailablePortFinder.getNextAvailable();
+        final NonBlockingTcpSocketManager manager = createManager(port, 100, DropPolicy.NEWEST);
+        try {
+            writeEvents(manager, 0, 15);
+            assertEquals(10, manager.getQueuedEvents());
+            assertEquals(100, manager.getQueuedBytes());
+            assertEquals(5, manager.getDroppedEvents());
+            assertEquals(50, manager.getDroppedBytes());
+
+            final ServerSocket server = new ServerSocket(port);
+            try {
+                final Socket socket = server.accept();
+                assertEquals("event 0000", read(socket, 10));
+                assertEquals("event 0009", read(socket, 90).substring(80));
+                socket.close();
+            } finally {
+                server.close();
+            }
+        } finally {
+            manager.release();
+        }
+    }
+
+    @Test
+    public void testDropsOldestWhileDisconnected() throws Exception {
+        final int port = AvailablePortFinder.getNextAvailable();
+        final NonBlockingTcpSocketManager manager = createManager(port, 100, DropPolicy.OLDEST);
+        try {
+            writeEvents(manager, 0, 15);
+            assertEquals(10, manager.getQueuedEvents());
+            assertEquals(5, manager.getDroppedEvents());
+            assertEquals(50, manager.getDroppedBytes());
+
+            final ServerSocket server = new ServerSocket(port);
+            try {
+                final Socket socket = server.accept();
+                final String received = read(socket, 100);
+                assertTrue(received, received.startsWith("event 0005"));
+                assertTrue(received, received.endsWith("event 0014"));
+                socket.close();
+            } finally {
+                server.close();
+            }
+        } finally {
+            manager.release();
+        }
+    }
+
+    @Test
+    public void testEventEncodedInChunksIsBufferedOrDroppedWhole() throws Exception {
+        final int port = AvailablePortFinder.getNextAvailable();
+        final NonBlockingTcpSocketManager manager = createManager(port, 100, DropPolicy.NEWEST);
+        try {
+            writeEvents(manager, 0, 8);
+            // a layout that fills the encoding buffer drains it in chunks before the event is complete
+            encodeInChunks(manager, "chunk ", "0008");
+            assertEquals(9, manager.getQueuedEvents());
+            assertEquals(90, manager.getQueuedBytes());
+
+            encodeInChunks(manager, "event 00", "09", " too long");
+            assertEquals(9, manager.getQueuedEvents());
+            assertEquals(1, manager.getDroppedEvents());
+            assertEquals(19, manager.getDroppedBytes());
+
+            final ServerSocket server = new ServerSocket(port);
+            try {
+                final Socket socket = server.accept();
+                assertTrue(read(socket, 90).endsWith("event 0007chunk 0008"));
+                socket.close();
+            } finally {
+                server.close();
+            }
+        } finally {
+            manager.release();
+        }
+    }
+
+    private static void encodeInChunks(final NonBlockingTcpSocketManager manager, final String... chunks) {
+        for (int i = 0; i < chunks.length; i++) {
+            manager.getByteBuffer().put(chunks[i].getBytes(UTF_8));
+            if (i < chunks.length - 1) {
+                manager.drain(manager.getByteBuffer());
+            }
+        }
+        manager.drainEncodedEvent();
+    }
+
+    @Test
+    public void testResendsEventsAfterReconnect() throws Exception {
+        final ServerSocket server = new ServerSocket(AvailablePortFinder.getNextAvailable());
+        final NonBlockingTcpSocketManager manager = createManager(server.getLocalPort(), 1024, DropPolicy.NEWEST);
+        try {
+            Socket socket = server.accept();
+            writeEvents(manager, 0, 1);
+            assertEquals("event 0000", read(socket, 10));
+            socket.close();
+            // the first writes after the peer closed may still succeed; keep writing until the loss is noticed
+            for (int i = 1; i < 20; i++) {
+                writeEvents(manager, i, i + 1);
+                Thread.sleep(20);
+            }
+            server.setSoTimeout(5000);
+            socket = server.accept();
+            final String received = read(socket, 10);
+            assertTrue(received, received.startsWith("event "));
+            socket.close();
+        } finally {
+            manager.release();
+            server.close();
+        }
+    }
+}
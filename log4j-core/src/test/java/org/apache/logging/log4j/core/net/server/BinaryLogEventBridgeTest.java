@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LogEventListener;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.spi.MutableThreadContextStack;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BinaryLogEventBridgeTest {
+
+    private static class CollectingListener extends LogEventListener {
+        private final List<LogEvent> events = new ArrayList<LogEvent>();
+
+        @Override
+        public void log(final LogEvent event) {
+            events.add(event.toImmutable());
+        }
+    }
+
+    private static Log4jLogEvent createEvent(final String message) {
+        // markers that are not registered here, as if created by another process
+        final Marker marker = new MarkerManager.Log4jMarker("BinaryChild");
+        marker.setParents(new MarkerManager.Log4jMarker("BinaryParent"));
+        final Map<String, String> contextMap = new HashMap<String, String>();
+        contextMap.put("user", "Jürgen");
+        contextMap.put("requestId", "4711");
+        final MutableThreadContextStack contextStack = new MutableThreadContextStack();
+        contextStack.push("outer");
+        contextStack.push("inner");
+        final StackTraceElement source = new StackTraceElement("a.B", "method", "B.java", 42);
+        final Exception thrown = new IllegalStateException("test");
+        final Log4jLogEvent event = Log4jLogEvent.createEvent("a.B", marker, "f.q.c.n", Level.WARN,
+                new SimpleMessage(message), thrown, null, contextMap, contextStack, "main", source, 1234L);
+        event.setIncludeLocation(true);
+        event.setEndOfBatch(true);
+        return event;
+    }
+
+    private static List<LogEvent> roundTrip(final BinaryLayout layout, final LogEvent... events) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (final LogEvent event : events) {
+            baos.write(layout.toByteArray(event));
+        }
+        final BinaryLogEventBridge bridge = new BinaryLogEventBridge();
+        final DataInputStream input = bridge.wrapStream(new ByteArrayInputStream(baos.toByteArray()));
+        final CollectingListener listener = new CollectingListener();
+        try {
+            while (true) {
+                bridge.logEvents(input, listener);
+            }
+        } catch (final EOFException e) {
+            // done
+        }
+        return listener.events;
+    }
+
+    @Test
+    public void testRoundTripAllFields() throws Exception {
+        final Marker parent = MarkerManager.getMarker("BinaryParent");
+        final Log4jLogEvent expected = createEvent("Grüße 世界 😀");
+        final List<LogEvent> events = roundTrip(BinaryLayout.createLayout(true, true), expected);
+        assertEquals(1, events.size());
+        final LogEvent actual = events.get(0);
+        assertEquals(expected.getLoggerName(), actual.getLoggerName());
+        assertEquals(expected.getLoggerFqcn(), actual.getLoggerFqcn());
+        assertSame(Level.WARN, actual.getLevel());
+        assertEquals(expected.getTimeMillis(), actual.getTimeMillis());
+        assertEquals(expected.getThreadName(), actual.getThreadName());
+        assertEquals(expected.getMessage().getFormattedMessage(), actual.getMessage().getFormattedMessage());
+        assertEquals("BinaryChild", actual.getMarker().getName());
+        assertFalse(MarkerManager.exists("BinaryChild"));
+        assertTrue(actual.getMarker().isInstanceOf("BinaryParent"));
+        assertTrue(actual.getMarker().isInstanceOf(parent));
+        assertFalse(parent.hasParents());
+        assertEquals(expected.getContextMap(), actual.getContextMap());
+        assertEquals(expected.getContextStack().asList(), actual.getContextStack().asList());
+        assertEquals(expected.getSource(), actual.getSource());
+        assertTrue(actual.isEndOfBatch());
+        final ThrowableProxy proxy = actual.getThrownProxy();
+        assertNotNull(proxy);
+        assertEquals(IllegalStateException.class.getName(), proxy.getName());
+        assertEquals("test", proxy.getMessage());
+    }
+
+    @Test
+    public void testThrownEncodedStructurally() throws Exception {
+        final Exception cause = new IllegalArgumentException("cause");
+        final Exception thrown = new IllegalStateException("outer", cause);
+        thrown.addSuppressed(new UnsupportedOperationException("suppressed"));
+        final LogEvent event = new Log4jLogEvent("logger", null, "fqcn", Level.ERROR, new SimpleMessage("Hello"),
+                thrown);
+        final ThrowableProxy expected = event.getThrownProxy();
+        final ThrowableProxy actual = roundTrip(BinaryLayout.createLayout(false, false), event).get(0)
+                .getThrownProxy();
+        assertNull(actual.getThrowable());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertArrayEquals(expected.getExtendedStackTrace(), actual.getExtendedStackTrace());
+        assertEquals(expected.getCauseProxy().getName(), actual.getCauseProxy().getName());
+        assertEquals(expected.getCauseProxy().getCommonElementCount(),
+                actual.getCauseProxy().getCommonElementCount());
+        assertArrayEquals(expected.getCauseProxy().getExtendedStackTrace(),
+                actual.getCauseProxy().getExtendedStackTrace());
+        assertEquals(1, actual.getSuppressedProxies().length);
+        assertEquals("suppressed", actual.getSuppressedProxies()[0].getMessage());
+        assertEquals(expected.getExtendedStackTraceAsString(), actual.getExtendedStackTraceAsString());
+    }
+
+    @Test
+    public void testThrownDepthLimited() throws Exception {
+        Exception thrown = new Exception("0");
+        for (int i = 1; i <= BinaryLayout.MAX_THROWN_DEPTH + 10; i++) {
+            thrown = new Exception(Integer.toString(i), thrown);
+        }
+        final LogEvent event = new Log4jLogEvent("logger", null, "fqcn", Level.ERROR, new SimpleMessage("Hello"),
+                thrown);
+        ThrowableProxy proxy = roundTrip(BinaryLayout.createLayout(false, false), event).get(0).getThrownProxy();
+        int depth = 1;
+        while (proxy.getCauseProxy() != null) {
+            proxy = proxy.getCauseProxy();
+            depth++;
+        }
+        assertEquals(BinaryLayout.MAX_THROWN_DEPTH, depth);
+    }
+
+    @Test
+    public void testUnknownLevelNotRegistered() throws Exception {
+        final byte[] frame = BinaryLayout.createLayout(false, false).toByteArray(
+                new Log4jLogEvent("logger", null, "fqcn", Level.WARN, new SimpleMessage("Hello"), null));
+        // as if sent by a process that has a custom level just below WARN:
+        // after the length, version, flags and time come the level value and the level name
+        final ByteBuffer buffer = ByteBuffer.wrap(frame);
+        final int levelOffset = BinaryLayout.LENGTH_PREFIX + 2 + 8;
+        buffer.putInt(levelOffset, Level.WARN.intLevel() + 1);
+        buffer.put(levelOffset + 4 + 4 + 3, (byte) 'X');
+        final LogEvent event = new BinaryLogEventBridge.Decoder().decode(
+                ByteBuffer.wrap(frame, BinaryLayout.LENGTH_PREFIX, frame.length - BinaryLayout.LENGTH_PREFIX));
+        assertSame(Level.WARN, event.getLevel());
+        assertNull(Level.getLevel("WARX"));
+    }
+
+    @Test
+    public void testMarkersDetachedAndLimited() throws Exception {
+        final BinaryLayout layout = BinaryLayout.createLayout(false, false);
+        Marker marker = new MarkerManager.Log4jMarker("BinaryDeep0");
+        for (int i = 1; i < BinaryLayout.MAX_MARKER_DEPTH + 5; i++) {
+            marker = new MarkerManager.Log4jMarker("BinaryDeep" + i).setParents(marker);
+        }
+        final LogEvent event = Log4jLogEvent.createEvent("logger", marker, "fqcn", Level.INFO,
+                new SimpleMessage("Hello"), null, null, null, null, "main", null, 1L);
+        final Marker received = roundTrip(layout, event).get(0).getMarker();
+        assertEquals(marker, received);
+        assertNotSame(marker, received);
+        int depth = 1;
+        for (Marker m = received; m.hasParents(); m = m.getParents()[0]) {
+            depth++;
+        }
+        assertEquals(BinaryLayout.MAX_MARKER_DEPTH, depth);
+    }
+
+    @Test
+    public void testOptionalFieldsOmitted() throws Exception {
+        final LogEvent event = new Log4jLogEvent("logger", null, "fqcn", Level.INFO, new SimpleMessage("Hello"), null);
+        final List<LogEvent> events = roundTrip(BinaryLayout.createLayout(false, false), createEvent("first"),
+                event);
+        assertEquals(2, events.size());
+        final LogEvent first = events.get(0);
+        assertNull("Location should not be included", first.getSource());
+        assertTrue(first.getContextMap().isEmpty());
+        assertEquals(0, first.getContextStack().getDepth());
+        assertEquals("first", first.getMessage().getFormattedMessage());
+        final LogEvent second = events.get(1);
+        assertEquals("Hello", second.getMessage().getFormattedMessage());
+        assertNull(second.getMarker());
+        assertNull(second.getThrownProxy());
+        assertFalse(second.isEndOfBatch());
+    }
+
+    @Test
+    public void testDecoderReusesEventAndRepeatedStrings() throws Exception {
+        final BinaryLayout layout = BinaryLayout.createLayout(false, true);
+        final BinaryLogEventBridge.Decoder decoder = new BinaryLogEventBridge.Decoder();
+        final ByteBuffer first = ByteBuffer.wrap(layout.toByteArray(createEvent("one")));
+        final ByteBuffer second = ByteBuffer.wrap(layout.toByteArray(createEvent("two")));
+        first.position(BinaryLayout.LENGTH_PREFIX);
+        second.position(BinaryLayout.LENGTH_PREFIX);
+        final LogEvent event1 = decoder.decode(first);
+        final String loggerName = event1.getLoggerName();
+        final LogEvent event2 = decoder.decode(second);
+        assertSame(event1, event2);
+        assertSame(loggerName, event2.getLoggerName());
+        assertEquals("two", event2.getMessage().getFormattedMessage());
+        assertFalse(first.hasRemaining());
+    }
+
+    @Test
+    public void testMalformedFramesRejected() throws Exception {
+        final byte[] frame = BinaryLayout.createLayout(false, true).toByteArray(createEvent("message"));
+        final BinaryLogEventBridge.Decoder decoder = new BinaryLogEventBridge.Decoder();
+        try {
+            decoder.decode(ByteBuffer.wrap(frame, BinaryLayout.LENGTH_PREFIX, frame.length / 2));
+            fail("Truncated frame was decoded");
+        } catch (final IOException e) {
+            // expected
+        }
+        frame[BinaryLayout.LENGTH_PREFIX] = 99;
+        try {
+            decoder.decode(ByteBuffer.wrap(frame, BinaryLayout.LENGTH_PREFIX, frame.length - 4));
+            fail("Unknown version was decoded");
+        } catch (final IOException e) {
+            // expected
+        }
+        try {
+            new BinaryLogEventBridge(16).checkFrameLength(frame.length);
+            fail("Frame above the maximum length was accepted");
+        } catch (final IOException e) {
+            // expected
+        }
+    }
+}
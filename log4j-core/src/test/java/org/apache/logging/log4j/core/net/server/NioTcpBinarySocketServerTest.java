@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.test.AvailablePortFinder;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NioTcpBinarySocketServerTest extends AbstractSocketServerTest {
+
+    private static NioTcpSocketServer server;
+
+    @BeforeClass
+    public static void setupClass() throws Exception {
+        ((LoggerContext) LogManager.getContext(false)).reconfigure();
+        server = NioTcpSocketServer.createBinarySocketServer(PORT_NUM);
+        thread = server.startNewThread();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        try {
+            server.shutdown();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            // ignore
+        }
+    }
+
+    public NioTcpBinarySocketServerTest() {
+        super("tcp", PORT, false);
+    }
+
+    @Override
+    protected Layout<? extends Serializable> createLayout() {
+        return BinaryLayout.createLayout(false, true);
+    }
+
+    @Test
+    public void testManyConnectionsWithSplitFrames() throws Exception {
+        final int connectionCount = 20;
+        final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+        final int port = AvailablePortFinder.getNextAvailable();
+        final NioTcpSocketServer countingServer = new NioTcpSocketServer(port, new BinaryLogEventBridge(), 2) {
+            @Override
+            public void log(final LogEvent event) {
+                messages.add(event.getMessage().getFormattedMessage());
+            }
+        };
+        final Thread serverThread = countingServer.startNewThread();
+        final Socket[] sockets = new Socket[connectionCount];
+        try {
+            final BinaryLayout layout = BinaryLayout.createLayout(false, true);
+            for (int i = 0; i < connectionCount; i++) {
+                sockets[i] = new Socket("localhost", port);
+            }
+            for (int i = 0; i < connectionCount; i++) {
+                final byte[] frame = layout.toByteArray(new Log4jLogEvent("test", null, "fqcn", Level.INFO,
+                        new SimpleMessage("Message " + i), null));
+                final OutputStream out = sockets[i].getOutputStream();
+                // the length prefix and part of the frame first, so the server sees an incomplete frame
+                out.write(frame, 0, 6);
+                out.flush();
+                Thread.sleep(5);
+                out.write(frame, 6, frame.length - 6);
+                out.flush();
+            }
+            for (int i = 0; i < 200 && messages.size() < connectionCount; i++) {
+                Thread.sleep(50);
+            }
+            assertEquals(connectionCount, messages.size());
+            assertEquals(connectionCount, countingServer.getConnectionCount());
+            assertTrue(messages.contains("Message " + (connectionCount - 1)));
+        } finally {
+            for (final Socket socket : sockets) {
+                if (socket != null) {
+                    socket.close();
+                }
+            }
+            countingServer.shutdown();
+            serverThread.join();
+        }
+    }
+
+}
@@ -16,8 +16,10 @@
  */
 package org.apache.logging.log4j.core.pattern;
 
+import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.TimeZone;
 
 import org.apache.logging.log4j.core.AbstractLogEvent;
 import org.apache.logging.log4j.core.LogEvent;
@@ -125,6 +127,21 @@ public class DatePatternConverterTest {
         return cal.getTime();
     }
 
+    @Test
+    public void testFormatLogEventStringBuilderCustomPatternAndTimeZone() {
+        final LogEvent event = new MyLogEvent();
+        final String[] options = {"HH:mm:ss.SSS zzz", "UTC"};
+        final DatePatternConverter converter = DatePatternConverter.newInstance(options);
+        final StringBuilder sb = new StringBuilder();
+        converter.format(event, sb);
+        converter.format(event, sb);
+
+        final SimpleDateFormat expected = new SimpleDateFormat(options[0]);
+        expected.setTimeZone(TimeZone.getTimeZone("UTC"));
+        final String once = expected.format(new Date(event.getTimeMillis()));
+        assertEquals(once + once, sb.toString());
+    }
+
     @Test
     public void testGetPatternReturnsCorrectDefault() {
         assertEquals(DatePatternConverter.DEFAULT_PATTERN, DatePatternConverter.newInstance(null).getPattern());
@@ -22,6 +22,7 @@ import java.io.StringWriter;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.util.Constants;
 import org.apache.logging.log4j.message.SimpleMessage;
 import org.apache.logging.log4j.util.Strings;
 import org.junit.Test;
@@ -65,4 +66,31 @@ public class ExtendedThrowablePatternConverterTest {
         final String result = sb.toString();
         assertTrue("No suppressed lines", result.contains(" suppressed "));
     }
+
+    @Test
+    public void testDedup() {
+        final String[] options = {"dedup(1000)"};
+        final ExtendedThrowablePatternConverter converter = ExtendedThrowablePatternConverter.newInstance(options);
+        final String[] results = new String[4];
+        final long[] times = {1000, 1500, 1900, 2000};
+        for (int i = 0; i < results.length; i++) {
+            final Throwable parent = new IllegalArgumentException("IllegalArgument " + i,
+                    new NullPointerException("null pointer"));
+            final LogEvent event = new Log4jLogEvent("testLogger", null, this.getClass().getName(), Level.DEBUG,
+                    new SimpleMessage("test exception"), parent, null, null, null, null, times[i]);
+            final StringBuilder sb = new StringBuilder("test exception");
+            converter.format(event, sb);
+            results[i] = sb.toString();
+        }
+        final String fingerprint = results[0].substring(results[0].indexOf("[#") + 2, results[0].indexOf(']'));
+        assertTrue(results[0], results[0].startsWith("test exception [#" + fingerprint + "] "
+                + "java.lang.IllegalArgumentException: IllegalArgument 0"));
+        assertTrue(results[0], results[0].contains("Caused by: java.lang.NullPointerException"));
+        assertEquals("test exception java.lang.IllegalArgumentException: IllegalArgument 1 [same as #" + fingerprint
+                + ", 2 times]" + Constants.LINE_SEPARATOR, results[1]);
+        assertEquals("test exception java.lang.IllegalArgumentException: IllegalArgument 2 [same as #" + fingerprint
+                + ", 3 times]" + Constants.LINE_SEPARATOR, results[2]);
+        assertTrue(results[3], results[3].startsWith("test exception [#" + fingerprint + "] "));
+        assertTrue(results[3], results[3].contains("Caused by: java.lang.NullPointerException"));
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FixedDateFormatTest {
+
+    private static final String[] FIXED_PATTERNS = {
+        "HH:mm:ss,SSS", "yyyyMMddHHmmssSSS", "dd MMM yyyy HH:mm:ss,SSS", "yyyy-MM-dd HH:mm:ss,SSS",
+        "yyyyMMdd'T'HHmmss,SSS", "yyyy-MM-dd'T'HH:mm:ss,SSS", "HH:mm:ss.SSS"
+    };
+
+    @Test
+    public void testUnsupportedPatterns() {
+        final TimeZone tz = TimeZone.getDefault();
+        assertNull(FixedDateFormat.createIfSupported("HH:mm:ss", tz));
+        assertNull(FixedDateFormat.createIfSupported("HH:mm:ss,SS", tz));
+        assertNull(FixedDateFormat.createIfSupported("ss HH:mm:ss,SSS", tz));
+        assertNull(FixedDateFormat.createIfSupported("HH:mm:SSSS", tz));
+        assertNull(FixedDateFormat.createIfSupported("HH:mm:ss,SSS zzz", tz));
+        assertNull(FixedDateFormat.createIfSupported(null, tz));
+    }
+
+    @Test
+    public void testSupportedPatterns() {
+        final TimeZone tz = TimeZone.getDefault();
+        for (final String pattern : FIXED_PATTERNS) {
+            assertNotNull(pattern, FixedDateFormat.createIfSupported(pattern, tz));
+        }
+        assertNotNull(FixedDateFormat.createIfSupported("'s' HH:mm:ss,SSS", tz));
+        assertNotNull(FixedDateFormat.createIfSupported("ssSSS", tz));
+    }
+
+    @Test
+    public void testFormatMatchesSimpleDateFormatAroundDaylightSavingChanges() {
+        final String[] zones = {"America/New_York", "Europe/London", "Australia/Adelaide", "Asia/Kolkata", "UTC"};
+        for (final String zone : zones) {
+            final TimeZone tz = TimeZone.getTimeZone(zone);
+            final Calendar cal = Calendar.getInstance(tz);
+            cal.clear();
+            cal.set(2015, Calendar.JANUARY, 1);
+            final long start = cal.getTimeInMillis();
+            for (final String pattern : new String[] {"HH:mm:ss,SSS", "yyyy-MM-dd'T'HH:mm:ss,SSS"}) {
+                final FixedDateFormat fixed = FixedDateFormat.createIfSupported(pattern, tz);
+                // step through the whole year in irregular steps of about 20 minutes
+                for (long time = start; time < start + 366L * 24 * 3600 * 1000; time += 1234567) {
+                    assertFormat(pattern, tz, fixed, time);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFormatAllFixedPatterns() {
+        final TimeZone tz = TimeZone.getDefault();
+        final long now = System.currentTimeMillis();
+        for (final String pattern : FIXED_PATTERNS) {
+            final FixedDateFormat fixed = FixedDateFormat.createIfSupported(pattern, tz);
+            for (long time = now; time < now + 3 * 60 * 1000; time += 997) {
+                assertFormat(pattern, tz, fixed, time);
+            }
+        }
+    }
+
+    @Test
+    public void testFormatTimesBeforeEpochAndLocalMeanTime() {
+        // Amsterdam used an offset of 19 minutes and 32 seconds before 1937
+        final TimeZone tz = TimeZone.getTimeZone("Europe/Amsterdam");
+        final String pattern = "yyyy-MM-dd HH:mm:ss,SSS";
+        final FixedDateFormat fixed = FixedDateFormat.createIfSupported(pattern, tz);
+        assertFormat(pattern, tz, fixed, -1);
+        assertFormat(pattern, tz, fixed, -1000L * 3600 * 24 * 365 * 50 + 123);
+        assertFormat(pattern, tz, fixed, -1000L * 3600 * 24 * 365 * 50 + 60123);
+        assertFormat(pattern, tz, fixed, 0);
+    }
+
+    @Test
+    public void testConcurrentFormatting() throws Exception {
+        final TimeZone tz = TimeZone.getDefault();
+        final String pattern = "yyyy-MM-dd HH:mm:ss,SSS";
+        final FixedDateFormat fixed = FixedDateFormat.createIfSupported(pattern, tz);
+        final long base = System.currentTimeMillis();
+        final AtomicReference<String> failure = new AtomicReference<String>();
+        final int threadCount = 4;
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            final long offset = t * 61000L;
+            new Thread() {
+                @Override
+                public void run() {
+                    final SimpleDateFormat expected = new SimpleDateFormat(pattern);
+                    expected.setTimeZone(tz);
+                    final StringBuilder sb = new StringBuilder();
+                    for (int i = 0; i < 20000; i++) {
+                        final long time = base + offset + i * 7L;
+                        sb.setLength(0);
+                        fixed.format(time, sb);
+                        if (!expected.format(new Date(time)).equals(sb.toString())) {
+                            failure.set(sb.toString());
+                        }
+                    }
+                    done.countDown();
+                }
+            }.start();
+        }
+        done.await();
+        assertNull(failure.get());
+    }
+
+    private static void assertFormat(final String pattern, final TimeZone tz, final FixedDateFormat fixed,
+            final long time) {
+        final SimpleDateFormat expected = new SimpleDateFormat(pattern);
+        expected.setTimeZone(tz);
+        assertEquals(pattern + " at " + time, expected.format(new Date(time)), fixed.format(time));
+    }
+}
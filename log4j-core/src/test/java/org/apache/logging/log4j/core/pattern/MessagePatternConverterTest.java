@@ -22,6 +22,7 @@ import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.DefaultConfiguration;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.logging.log4j.message.SimpleMessage;
 import org.junit.Test;
 
@@ -71,4 +72,15 @@ public class MessagePatternConverterTest {
         converter.format(event, sb);
         assertEquals("Incorrect length: " + sb.length(), 4, sb.length());
     }
+
+    @Test
+    public void testLookupInFormattableMessageAppendedAfterExistingText() throws Exception {
+        final Configuration config = new DefaultConfiguration();
+        final MessagePatternConverter converter = MessagePatternConverter.newInstance(config, null);
+        final Message msg = new ParameterizedMessage("Hello {} from ${sys:user.name}", "world");
+        final LogEvent event = new Log4jLogEvent("MyLogger", null, null, Level.DEBUG, msg, null);
+        final StringBuilder sb = new StringBuilder("prefix ${notReplaced} ");
+        converter.format(event, sb);
+        assertEquals("prefix ${notReplaced} Hello world from " + System.getProperty("user.name"), sb.toString());
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that abbreviating into a StringBuilder leaves the text already in the builder alone.
+ */
+public class NameAbbreviatorAppendTest {
+
+    private static final String PREFIX = "12:00:00.123 ";
+
+    private static void assertAppended(final String pattern, final String name, final String expected) {
+        final NameAbbreviator abbreviator = NameAbbreviator.getAbbreviator(pattern);
+        final StringBuilder destination = new StringBuilder(PREFIX);
+        abbreviator.abbreviate(name, destination);
+        assertEquals(PREFIX + expected, destination.toString());
+        assertEquals(expected, abbreviator.abbreviate(name));
+    }
+
+    @Test
+    public void testNameWithoutDotsAfterDottedPrefix() throws Exception {
+        assertAppended("1.1.~", "a", "a");
+        assertAppended("1.", "Foo", "Foo");
+    }
+
+    @Test
+    public void testNameShorterThanPatternAfterDottedPrefix() throws Exception {
+        assertAppended("1.2.3.~", "ab.c", "a.c");
+        assertAppended("1.1.1.1.", "x.y", "x.y");
+    }
+
+    @Test
+    public void testNameLongerThanPatternAfterDottedPrefix() throws Exception {
+        assertAppended("1.~", "org.apache.Foo", "o.~.Foo");
+        assertAppended(".", "org.apache.Foo", "..Foo");
+    }
+}
@@ -62,4 +62,13 @@ public class NameAbbreviatorTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testAbbreviatorPatternsAppendToStringBuilder() throws Exception {
+        final NameAbbreviator abbreviator = NameAbbreviator.getAbbreviator(this.pattern);
+        final String prefix = "some.prefix:";
+        final StringBuilder destination = new StringBuilder(prefix);
+        abbreviator.abbreviate(this.getClass().getName(), destination);
+        assertEquals(prefix + expected, destination.toString());
+    }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ThrowableDeduplicatorTest {
+
+    @Test
+    public void testCountsOccurrencesWithinWindow() {
+        final ThrowableDeduplicator deduplicator = new ThrowableDeduplicator(100, 10);
+        assertEquals(1, deduplicator.record(42, 1000));
+        assertEquals(2, deduplicator.record(42, 1050));
+        assertEquals(1, deduplicator.record(43, 1050));
+        assertEquals(3, deduplicator.record(42, 1099));
+        assertEquals(1, deduplicator.record(42, 1100));
+        assertEquals(2, deduplicator.record(42, 1101));
+    }
+
+    @Test
+    public void testTracksMostRecentlySeenFingerprints() {
+        final ThrowableDeduplicator deduplicator = new ThrowableDeduplicator(1000, 2);
+        deduplicator.record(1, 0);
+        deduplicator.record(2, 0);
+        deduplicator.record(1, 1);
+        deduplicator.record(3, 1);
+        assertEquals(2, deduplicator.size());
+        assertEquals(3, deduplicator.record(1, 2));
+        assertEquals(1, deduplicator.record(2, 2));
+    }
+}
@@ -20,8 +20,36 @@ import java.lang.reflect.UndeclaredThrowableException;
 
 import org.junit.Test;
 
+import static org.junit.Assert.*;
+
 public class ThrowablesTest {
 
+    private static Throwable create(final String message) {
+        return new IllegalStateException(message, new NullPointerException());
+    }
+
+    @Test
+    public void testFingerprintIgnoresMessage() {
+        final Throwable[] throwables = new Throwable[2];
+        for (int i = 0; i < throwables.length; i++) {
+            throwables[i] = create("message " + i);
+        }
+        assertEquals(Throwables.fingerprint(throwables[0]), Throwables.fingerprint(throwables[1]));
+    }
+
+    @Test
+    public void testFingerprintDependsOnClassAndFrames() {
+        final Throwable throwable = create("message");
+        final Throwable elsewhere = create("message");
+        final Throwable otherClass = new IllegalArgumentException("message", new NullPointerException());
+        otherClass.setStackTrace(throwable.getStackTrace());
+        otherClass.getCause().setStackTrace(throwable.getCause().getStackTrace());
+
+        assertNotEquals(Throwables.fingerprint(throwable), Throwables.fingerprint(elsewhere));
+        assertNotEquals(Throwables.fingerprint(throwable), Throwables.fingerprint(otherClass));
+        assertNotEquals(Throwables.fingerprint(throwable), Throwables.fingerprint(throwable.getCause()));
+    }
+
     @Test(expected = NullPointerException.class)
     public void testRethrowRuntimeException() throws Exception {
         Throwables.rethrow(new NullPointerException());
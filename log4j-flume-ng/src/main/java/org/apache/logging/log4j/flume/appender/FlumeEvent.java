@@ -30,6 +30,7 @@ import org.apache.logging.log4j.LoggingException;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.impl.ThrowableProxy;
 import org.apache.logging.log4j.core.util.Patterns;
 import org.apache.logging.log4j.core.util.UuidUtil;
@@ -78,7 +79,7 @@ public class FlumeEvent extends SimpleEvent implements LogEvent {
      */
     public FlumeEvent(final LogEvent event, final String includes, final String excludes, final String required,
                       String mdcPrefix, String eventPrefix, final boolean compress) {
-        this.event = event;
+        this.event = event.toImmutable();
         this.compress = compress;
         final Map<String, String> headers = getHeaders();
         headers.put(TIMESTAMP, Long.toString(event.getTimeMillis()));
@@ -322,4 +323,9 @@ public class FlumeEvent extends SimpleEvent implements LogEvent {
     public void setEndOfBatch(final boolean endOfBatch) {
         event.setEndOfBatch(endOfBatch);
     }
+
+    @Override
+    public LogEvent toImmutable() {
+        return Log4jLogEvent.createMemento(this);
+    }
 }
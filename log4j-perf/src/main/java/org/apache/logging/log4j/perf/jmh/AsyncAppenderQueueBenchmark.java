@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.appender.AsyncAppender;
+import org.apache.logging.log4j.core.async.ArrayBlockingQueueFactory;
+import org.apache.logging.log4j.core.async.BlockingQueueFactory;
+import org.apache.logging.log4j.core.async.LockFreeBlockingQueueFactory;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the queues and hand-off modes of the AsyncAppender with 1, 4 and 16 producer threads. The AsyncAppender
+ * forwards to an appender that does nothing, so the benchmark measures the hand-off between the producers and the
+ * background thread rather than I/O.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/benchmarks.jar ".*AsyncAppenderQueueBenchmark.*" -f 1 -wi 5 -i 5
+//
+// Usage help:
+// java -jar log4j-perf/target/benchmarks.jar -help
+//
+@State(Scope.Benchmark)
+public class AsyncAppenderQueueBenchmark {
+
+    @Param({"ArrayBlockingQueue", "LockFreeBlockingQueue"})
+    public String queue;
+
+    @Param({"true", "false"})
+    public boolean serializeEvents;
+
+    private AsyncAppender asyncAppender;
+    private LogEvent event;
+
+    private static class NoOpAppender extends AbstractAppender {
+        private static final long serialVersionUID = 1L;
+
+        NoOpAppender() {
+            super("NoOp", null, null);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            // discard
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void up() {
+        final DefaultConfiguration config = new DefaultConfiguration();
+        final NoOpAppender noOp = new NoOpAppender();
+        noOp.start();
+        config.addAppender(noOp);
+        final BlockingQueueFactory queueFactory = "LockFreeBlockingQueue".equals(queue)
+                ? LockFreeBlockingQueueFactory.createFactory() : ArrayBlockingQueueFactory.createFactory();
+        final AppenderRef[] refs = {AppenderRef.createAppenderRef("NoOp", null, null)};
+        asyncAppender = AsyncAppender.createAppender(refs, null, true, 1024, "Async", false, null, config, true,
+                serializeEvents, queueFactory);
+        asyncAppender.start();
+        event = new Log4jLogEvent("benchmark", null, AsyncAppenderQueueBenchmark.class.getName(),
+                org.apache.logging.log4j.Level.INFO, new SimpleMessage("Test message"), null);
+    }
+
+    @TearDown(Level.Trial)
+    public void down() {
+        asyncAppender.stop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void throughput1Thread() {
+        asyncAppender.append(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void throughput4Threads() {
+        asyncAppender.append(event);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void throughput16Threads() {
+        asyncAppender.append(event);
+    }
+}
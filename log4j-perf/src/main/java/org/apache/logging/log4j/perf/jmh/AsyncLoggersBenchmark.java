@@ -29,6 +29,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -45,6 +46,9 @@ import org.openjdk.jmh.annotations.TearDown;
 // multiple threads (for example, 4 threads):
 // java -jar log4j-perf/target/benchmarks.jar ".*Async.*Benchmark.*" -f 1 -wi 5 -i 5 -t 4 -si true
 //
+// caller-side latency with message formatting on the application thread (default) or in the background:
+// java -jar log4j-perf/target/benchmarks.jar ".*AsyncLoggersBenchmark.latency.*" -f 1 -wi 5 -i 5 -p formatStrategy=CALLER,BACKGROUND
+//
 // Usage help:
 // java -jar log4j-perf/target/benchmarks.jar -help
 //
@@ -56,11 +60,20 @@ public class AsyncLoggersBenchmark {
     }
     final static String TEST = new String(CHARS);
 
+    /**
+     * Value of the AsyncLogger.FormatStrategy system property. AsyncLogger reads it once when the class is
+     * initialized, so each value needs its own fork.
+     */
+    @Param({"CALLER", "BACKGROUND"})
+    String formatStrategy;
+
     Logger logger;
+    long id;
 
     @Setup(Level.Trial)
     public void up() {
         new File("perftest.log").delete();
+        System.setProperty("AsyncLogger.FormatStrategy", formatStrategy);
         System.setProperty("log4j.configurationFile", "perf3PlainNoLoc.xml");
         System.setProperty("Log4jContextSelector", "org.apache.logging.log4j.core.async.AsyncLoggerContextSelector");
         logger = LogManager.getLogger(getClass());
@@ -99,4 +112,18 @@ public class AsyncLoggersBenchmark {
     public void latency() {
         logger.info(TEST);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void throughputParams() {
+        logger.info("Processed request {} for {} in {} ms", id++, "user", 42);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void latencyParams() {
+        logger.info("Processed request {} for {} in {} ms", id++, "user", 42);
+    }
 }
@@ -24,17 +24,26 @@ import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.ConfigurationSource;
 import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.plugins.util.PluginBuilder;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 /**
  * This benchmark demonstrates how long it takes for a simple XML configuration file to be parsed and initialize a new
  * {@link org.apache.logging.log4j.core.LoggerContext} using that configuration.
+ * <p>
+ * The 50 appender benchmarks compare building the plugins through the factories generated by the plugin annotation
+ * processor with the reflective lookup used when
+ * {@value org.apache.logging.log4j.core.config.plugins.util.PluginBuilder#DISABLE_GENERATED_FACTORIES_PROPERTY} is
+ * set.
+ * </p>
  */
 // TO RUN THIS TEST:
 // java -jar target/benchmarks.jar '.*ConfiguratorInitializeBenchmark.*'
@@ -53,11 +62,51 @@ public class ConfiguratorInitializeBenchmark {
             + "</Root>"
             + "</Loggers>" + "</Configuration>";
 
+    private static final int APPENDER_COUNT = 50;
+
+    private static final String inlineConfigurationXML50Appenders = createConfigurationXML(APPENDER_COUNT);
+
     private ConfigurationSource configurationSource;
+    private ConfigurationSource configurationSource50Appenders;
+    private LoggerContext context;
+
+    private static String createConfigurationXML(final int appenderCount) {
+        final StringBuilder sb = new StringBuilder("<Configuration name='ConfiguratorInitializeTest' status='off'>");
+        sb.append("<Appenders>");
+        for (int i = 0; i < appenderCount; i++) {
+            sb.append("<Console name='STDOUT").append(i).append("'>");
+            sb.append("<PatternLayout pattern='%d %p %c{1.} [%t] %m%n'/>");
+            sb.append("<ThresholdFilter level='warn' onMatch='ACCEPT' onMismatch='DENY'/>");
+            sb.append("</Console>");
+        }
+        sb.append("</Appenders>");
+        sb.append("<Loggers>");
+        for (int i = 0; i < appenderCount; i++) {
+            sb.append("<Logger name='org.example.Logger").append(i).append("' level='error' additivity='false'>");
+            sb.append("<AppenderRef ref='STDOUT").append(i).append("'/>");
+            sb.append("</Logger>");
+        }
+        sb.append("<Root level='error'>");
+        sb.append("<AppenderRef ref='STDOUT0'/>");
+        sb.append("</Root>");
+        sb.append("</Loggers>").append("</Configuration>");
+        return sb.toString();
+    }
 
-    @Setup
+    @Setup(Level.Iteration)
     public void setUp() throws IOException {
         configurationSource = new ConfigurationSource(new ByteArrayInputStream(inlineConfigurationXML.getBytes()));
+        configurationSource50Appenders = new ConfigurationSource(new ByteArrayInputStream(
+                inlineConfigurationXML50Appenders.getBytes()));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        System.clearProperty(PluginBuilder.DISABLE_GENERATED_FACTORIES_PROPERTY);
+        if (context != null) {
+            Configurator.shutdown(context);
+            context = null;
+        }
     }
 
     @Benchmark
@@ -67,4 +116,21 @@ public class ConfiguratorInitializeBenchmark {
         return Configurator.initialize(null, configurationSource);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public LoggerContext initializeLoggerContext50Appenders() {
+        context = Configurator.initialize(null, configurationSource50Appenders);
+        return context;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public LoggerContext initializeLoggerContext50AppendersReflective() {
+        System.setProperty(PluginBuilder.DISABLE_GENERATED_FACTORIES_PROPERTY, "true");
+        context = Configurator.initialize(null, configurationSource50Appenders);
+        return context;
+    }
+
 }
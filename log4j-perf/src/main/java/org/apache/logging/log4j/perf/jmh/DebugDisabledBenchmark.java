@@ -31,15 +31,23 @@ import org.slf4j.LoggerFactory;
  * performance concerns of logging frameworks is adding minimal overhead when logging is disabled. Some users disable
  * all logging in production, while others disable finer logging levels in production. This benchmark demonstrates the
  * overhead in calling {@code logger.isDebugEnabled()} and {@code logger.debug()}.
+ * <p>
+ * The "Deep" Log4j 2 benchmarks use a logger nine levels deep below four configured ancestors, which should cost the
+ * same as a logger directly below the root.
+ * </p>
  */
 // HOW TO RUN THIS TEST
 // java -jar target/benchmarks.jar ".*DebugDisabledBenchmark.*" -f 1 -i 5 -wi 5 -bm sample -tu ns
+// Add "-prof gc" to verify that the disabled parameterized calls do not allocate.
 @State(Scope.Thread)
 public class DebugDisabledBenchmark {
     Logger log4jLogger;
+    Logger log4jDeepLogger;
     org.slf4j.Logger slf4jLogger;
     org.apache.log4j.Logger log4jClassicLogger;
     Integer j;
+    long elapsed;
+    String id;
 
     @Setup
     public void setUp() {
@@ -48,9 +56,12 @@ public class DebugDisabledBenchmark {
         System.setProperty("logback.configurationFile", "logback-perf2.xml");
 
         log4jLogger = LogManager.getLogger(DebugDisabledBenchmark.class);
+        log4jDeepLogger = LogManager.getLogger("deep.a.b.c.d.e.f.g.h.DebugDisabledBenchmark");
         slf4jLogger = LoggerFactory.getLogger(DebugDisabledBenchmark.class);
         log4jClassicLogger = org.apache.log4j.Logger.getLogger(DebugDisabledBenchmark.class);
         j = new Integer(2);
+        elapsed = 1234L;
+        id = "abc";
     }
 
     @TearDown
@@ -70,6 +81,11 @@ public class DebugDisabledBenchmark {
         return log4jLogger.isDebugEnabled();
     }
 
+    @Benchmark
+    public boolean log4jDeepIsDebugEnabled() {
+        return log4jDeepLogger.isDebugEnabled();
+    }
+
     @Benchmark
     public boolean slf4jIsDebugEnabled() {
         return slf4jLogger.isDebugEnabled();
@@ -100,8 +116,33 @@ public class DebugDisabledBenchmark {
         log4jLogger.debug("This is a debug [{}] message", j);
     }
 
+    @Benchmark
+    public void log4jDeepDebugParameterizedString() {
+        log4jDeepLogger.debug("This is a debug [{}] message", j);
+    }
+
     @Benchmark
     public void slf4jDebugParameterizedString() {
         slf4jLogger.debug("This is a debug [{}] message", j);
     }
+
+    @Benchmark
+    public void log4jDebugParameterizedTwoParams() {
+        log4jLogger.debug("Request {} took {}ms", id, elapsed);
+    }
+
+    @Benchmark
+    public void slf4jDebugParameterizedTwoParams() {
+        slf4jLogger.debug("Request {} took {}ms", id, elapsed);
+    }
+
+    @Benchmark
+    public void log4jDebugParameterizedFourParams() {
+        log4jLogger.debug("Request {} for {} took {}ms ({})", id, j, elapsed, id);
+    }
+
+    @Benchmark
+    public void log4jDebugParameterizedVarargs() {
+        log4jLogger.debug("Request {} for {} took {}ms ({})", new Object[] {id, j, elapsed, id});
+    }
 }
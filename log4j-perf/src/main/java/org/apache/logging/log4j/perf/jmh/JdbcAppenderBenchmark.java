@@ -19,6 +19,7 @@ package org.apache.logging.log4j.perf.jmh;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +35,7 @@ import org.apache.logging.log4j.status.StatusLogger;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -43,6 +45,11 @@ import org.openjdk.jmh.infra.Blackhole;
 
 /**
  * Tests the overhead of a number of JDBC Appenders.
+ * <p>
+ * The {@code testRowsPerSecond*} benchmarks count rows that are in the H2 table when the invocation ends, comparing
+ * one transaction per event, synchronous batches of 100 events and batches of 100 events written by the asynchronous
+ * manager's writer thread.
+ * </p>
  */
 // ============================== HOW TO RUN THIS TEST: ====================================
 //
@@ -53,7 +60,12 @@ import org.openjdk.jmh.infra.Blackhole;
 //
 @State(Scope.Thread)
 public class JdbcAppenderBenchmark {
+    private static final int ROWS = 1000;
+
     private Logger loggerH2;
+    private Logger loggerH2Batched;
+    private Logger loggerH2Async;
+    private long asyncRowsExpected;
     private Logger loggerHSQLDB;
     private Connection connectionHSQLDB;
     private Connection connectionH2;
@@ -65,6 +77,8 @@ public class JdbcAppenderBenchmark {
         connectionH2 = getConnectionH2();
         createTable(connectionHSQLDB, toCreateTableSqlStringHQLDB("fmLogEntry"));
         createTable(connectionH2, toCreateTableSqlStringH2("fmLogEntry"));
+        createTable(connectionH2, toCreateTableSqlStringH2("batchLogEntry"));
+        createTable(connectionH2, toCreateTableSqlStringH2("asyncLogEntry"));
 
         System.setProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY, "log4j2-jdbc-appender.xml");
         final LoggerContext context = (LoggerContext) LogManager.getContext(false);
@@ -74,6 +88,8 @@ public class JdbcAppenderBenchmark {
         StatusLogger.getLogger().reset();
         loggerH2 = LogManager.getLogger("H2Logger");
         loggerHSQLDB = LogManager.getLogger("HSQLDBLogger");
+        loggerH2Batched = LogManager.getLogger("H2BatchedLogger");
+        loggerH2Async = LogManager.getLogger("H2AsyncLogger");
     }
 
     @BenchmarkMode(Mode.Throughput)
@@ -104,6 +120,41 @@ public class JdbcAppenderBenchmark {
         loggerH2.warn("Test message", exception);
     }
 
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(ROWS)
+    @Benchmark
+    public void testRowsPerSecondH2(final Blackhole bh) {
+        for (int i = 0; i < ROWS; i++) {
+            loggerH2.info("Test message");
+        }
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(ROWS)
+    @Benchmark
+    public void testRowsPerSecondH2Batched(final Blackhole bh) {
+        // ROWS is a multiple of the buffer size: the last event flushes the buffer
+        for (int i = 0; i < ROWS; i++) {
+            loggerH2Batched.info("Test message");
+        }
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(ROWS)
+    @Benchmark
+    public void testRowsPerSecondH2Async(final Blackhole bh) throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            loggerH2Async.info("Test message");
+        }
+        asyncRowsExpected += ROWS;
+        while (countRows(connectionH2, "asyncLogEntry") < asyncRowsExpected) {
+            Thread.yield();
+        }
+    }
+
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.SECONDS)
     @Benchmark
@@ -138,6 +189,8 @@ public class JdbcAppenderBenchmark {
         try {
             ((JdbcAppender) context.getConfiguration().getAppender("H2Appender")).getManager().release();
             ((JdbcAppender) context.getConfiguration().getAppender("HSQLDBAppender")).getManager().release();
+            ((JdbcAppender) context.getConfiguration().getAppender("H2BatchedAppender")).getManager().release();
+            ((JdbcAppender) context.getConfiguration().getAppender("H2AsyncAppender")).getManager().release();
         } finally {
             System.clearProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY);
             // context.reconfigure();
@@ -174,6 +227,17 @@ public class JdbcAppenderBenchmark {
         }
     }
 
+    private static long countRows(final Connection connection, final String tableName) throws SQLException {
+        final Statement statement = connection.createStatement();
+        try {
+            final ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + tableName);
+            resultSet.next();
+            return resultSet.getLong(1);
+        } finally {
+            statement.close();
+        }
+    }
+
     private String toCreateTableSqlStringH2(final String tableName) {
         return "CREATE TABLE " + tableName + " ( "
                 + "id INTEGER IDENTITY, eventDate DATETIME, literalColumn VARCHAR(255), level NVARCHAR(10), "
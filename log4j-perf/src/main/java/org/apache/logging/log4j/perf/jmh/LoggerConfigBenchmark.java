@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures how {@link LoggerConfig#log(LogEvent)} scales with 1 to 64 threads logging through the same LoggerConfig.
+ * The LoggerConfig forwards to two appenders that do nothing, so the benchmark measures the accounting of events in
+ * flight and the dispatch to the appenders rather than I/O.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/benchmarks.jar ".*LoggerConfigBenchmark.*" -f 1 -wi 5 -i 5
+//
+// Usage help:
+// java -jar log4j-perf/target/benchmarks.jar -help
+//
+@State(Scope.Benchmark)
+public class LoggerConfigBenchmark {
+
+    private LoggerConfig loggerConfig;
+    private LogEvent event;
+
+    private static class NoOpAppender extends AbstractAppender {
+        private static final long serialVersionUID = 1L;
+
+        NoOpAppender(final String name) {
+            super(name, null, null);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            // discard
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void up() {
+        loggerConfig = new LoggerConfig("benchmark", org.apache.logging.log4j.Level.INFO, false);
+        for (final String name : new String[] {"NoOp1", "NoOp2"}) {
+            final NoOpAppender appender = new NoOpAppender(name);
+            appender.start();
+            loggerConfig.addAppender(appender, null, null);
+        }
+        event = new Log4jLogEvent("benchmark", null, LoggerConfigBenchmark.class.getName(),
+                org.apache.logging.log4j.Level.INFO, new SimpleMessage("Test message"), null);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void log1Thread() {
+        loggerConfig.log(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void log4Threads() {
+        loggerConfig.log(event);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void log16Threads() {
+        loggerConfig.log(event);
+    }
+
+    @Benchmark
+    @Threads(64)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void log64Threads() {
+        loggerConfig.log(event);
+    }
+}
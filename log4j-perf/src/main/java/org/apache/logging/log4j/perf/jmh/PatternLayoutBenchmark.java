@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.nio.ByteBuffer;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.core.util.Charsets;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the String and byte[] based PatternLayout path with the path that formats into a reused StringBuilder
+ * and encodes straight into a ByteBuffer, for some common patterns.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// allocation rate per operation (compare gc.alloc.rate.norm):
+// java -jar log4j-perf/target/benchmarks.jar ".*PatternLayoutBenchmark.*" -f 1 -wi 5 -i 5 -prof gc
+//
+// multiple threads (for example, 4 threads):
+// java -jar log4j-perf/target/benchmarks.jar ".*PatternLayoutBenchmark.*" -f 1 -wi 5 -i 5 -t 4 -si true -prof gc
+//
+// Usage help:
+// java -jar log4j-perf/target/benchmarks.jar -help
+//
+@State(Scope.Thread)
+public class PatternLayoutBenchmark {
+
+    @Param({ "%m%n", "%p %c - %m%n", "%-5level [%t] %c{1.} - %m%n", "%r %sn %level %logger{2} %m%n" })
+    public String pattern;
+
+    private PatternLayout layout;
+    private LogEvent event;
+    private final Destination destination = new Destination();
+
+    /** Destination that discards the encoded bytes. */
+    static class Destination implements ByteBufferDestination {
+        private final ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buf) {
+            buf.clear();
+            return buf;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        layout = PatternLayout.newBuilder().withPattern(pattern).withCharset(Charsets.UTF_8).build();
+        event = new Log4jLogEvent("org.apache.logging.log4j.perf.jmh.PatternLayoutBenchmark", null, "a.b.c",
+                Level.INFO, new SimpleMessage("This is a test message of typical length"), null);
+    }
+
+    @Benchmark
+    public void testBaseline() {
+    }
+
+    @Benchmark
+    public String toSerializable() {
+        return layout.toSerializable(event);
+    }
+
+    @Benchmark
+    public byte[] toByteArray() {
+        return layout.toByteArray(event);
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        final ByteBuffer buffer = destination.getByteBuffer();
+        buffer.clear();
+        layout.encode(event, destination);
+        return buffer;
+    }
+}
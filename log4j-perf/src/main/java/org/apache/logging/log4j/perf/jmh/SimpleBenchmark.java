@@ -22,9 +22,12 @@ import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -35,7 +38,8 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 /**
- * Tests the overhead of disabled logging.
+ * Tests the overhead of disabled logging, and of logging through a deep hierarchy of additive loggers that each have
+ * an appender that does nothing.
  */
 // ============================== HOW TO RUN THIS TEST: ====================================
 //
@@ -47,16 +51,48 @@ import org.openjdk.jmh.infra.Blackhole;
 @State(Scope.Thread)
 public class SimpleBenchmark {
     private static final String msg = "This is a test";
+    private static final int DEPTH = 8;
     private Logger logger;
+    private Logger deepLogger;
+
+    private static class NoOpAppender extends AbstractAppender {
+        private static final long serialVersionUID = 1L;
+
+        NoOpAppender() {
+            super("NoOp", null, null);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            // discard
+        }
+    }
 
     @Setup
     public void setup() {
-        final Configuration config = ((LoggerContext) LogManager.getContext()).getConfiguration();
+        final LoggerContext context = (LoggerContext) LogManager.getContext();
+        Configuration config = context.getConfiguration();
         if (!DefaultConfiguration.DEFAULT_NAME.equals(config.getName())) {
             System.out.println("Configuration was " + config.getName());
-            ((LoggerContext) LogManager.getContext()).start(new DefaultConfiguration());
+            context.start(new DefaultConfiguration());
+            config = context.getConfiguration();
         }
         logger = LogManager.getLogger(SimpleBenchmark.class.getName());
+
+        final NoOpAppender noOp = new NoOpAppender();
+        noOp.start();
+        String name = "deep";
+        for (int i = 0; i < DEPTH; i++) {
+            if (i > 0) {
+                name += ".level" + i;
+            }
+            // the top of the hierarchy is not additive, so that nothing reaches the root logger's console
+            final LoggerConfig loggerConfig = new LoggerConfig(name, Level.INFO, i > 0);
+            loggerConfig.addAppender(noOp, null, null);
+            config.addLogger(name, loggerConfig);
+        }
+        context.updateLoggers();
+        deepLogger = LogManager.getLogger(name + ".SimpleBenchmark");
     }
 
     @BenchmarkMode(Mode.Throughput)
@@ -86,6 +122,20 @@ public class SimpleBenchmark {
         logger.debug(msg);
     }
 
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Benchmark
+    public void testDeepDebugDisabledThroughput(final Blackhole bh) {
+        deepLogger.debug(msg);
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Benchmark
+    public void testDeepInfoThroughput(final Blackhole bh) {
+        deepLogger.info(msg);
+    }
+
     @BenchmarkMode(Mode.SampleTime)
     @OutputTimeUnit(TimeUnit.NANOSECONDS)
     @Benchmark
@@ -112,4 +162,11 @@ public class SimpleBenchmark {
     public void testDebugDisabledResponseTime(final Blackhole bh) {
         logger.debug(msg);
     }
+
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Benchmark
+    public void testDeepInfoResponseTime(final Blackhole bh) {
+        deepLogger.info(msg);
+    }
 }
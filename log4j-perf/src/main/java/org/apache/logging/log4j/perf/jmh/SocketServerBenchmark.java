@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+import org.apache.logging.log4j.core.net.server.BinaryLogEventBridge;
+import org.apache.logging.log4j.core.net.server.NioTcpSocketServer;
+import org.apache.logging.log4j.core.net.server.TcpSocketServer;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures how many events per second a socket server receives and decodes from 10 to 1000 connections, comparing
+ * the thread-per-connection {@link TcpSocketServer} with the event loops of {@link NioTcpSocketServer}. Both read the
+ * frames of {@link BinaryLayout}; received events are counted instead of logged.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/benchmarks.jar ".*SocketServerBenchmark.*" -f 1 -wi 5 -i 5
+//
+// Usage help:
+// java -jar log4j-perf/target/benchmarks.jar -help
+//
+@State(Scope.Benchmark)
+public class SocketServerBenchmark {
+
+    private static final int EVENTS = 10000;
+
+    @Param({"10", "100", "1000"})
+    public int connections;
+
+    @Param({"ThreadPerConnection", "EventLoops"})
+    public String server;
+
+    private final AtomicLong received = new AtomicLong();
+    private long expected;
+    private Thread serverThread;
+    private TcpSocketServer<DataInputStream> tcpServer;
+    private NioTcpSocketServer nioServer;
+    private Socket[] sockets;
+    private OutputStream[] outputs;
+    private byte[] batch;
+
+    @Setup(Level.Trial)
+    public void up() throws Exception {
+        final int port = findFreePort();
+        if ("EventLoops".equals(server)) {
+            nioServer = new NioTcpSocketServer(port, new BinaryLogEventBridge(),
+                    NioTcpSocketServer.DEFAULT_EVENT_LOOPS) {
+                @Override
+                public void log(final LogEvent event) {
+                    received.incrementAndGet();
+                }
+            };
+            serverThread = nioServer.startNewThread();
+        } else {
+            tcpServer = new TcpSocketServer<DataInputStream>(port, new BinaryLogEventBridge()) {
+                @Override
+                public void log(final LogEvent event) {
+                    received.incrementAndGet();
+                }
+            };
+            serverThread = tcpServer.startNewThread();
+        }
+        sockets = new Socket[connections];
+        outputs = new OutputStream[connections];
+        for (int i = 0; i < connections; i++) {
+            sockets[i] = new Socket("localhost", port);
+            sockets[i].setTcpNoDelay(true);
+            outputs[i] = sockets[i].getOutputStream();
+        }
+        final LogEvent event = new Log4jLogEvent("org.apache.logging.log4j.perf.SocketServerBenchmark", null,
+                SocketServerBenchmark.class.getName(), org.apache.logging.log4j.Level.INFO,
+                new SimpleMessage("This is a test message sent to the collector"), null);
+        final byte[] frame = BinaryLayout.createLayout(false, true).toByteArray(event);
+        final int framesPerConnection = EVENTS / connections;
+        batch = new byte[frame.length * framesPerConnection];
+        for (int i = 0; i < framesPerConnection; i++) {
+            System.arraycopy(frame, 0, batch, i * frame.length, frame.length);
+        }
+    }
+
+    private static int findFreePort() throws IOException {
+        final ServerSocket socket = new ServerSocket(0);
+        try {
+            return socket.getLocalPort();
+        } finally {
+            socket.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void down() throws Exception {
+        for (final Socket socket : sockets) {
+            socket.close();
+        }
+        if (nioServer != null) {
+            nioServer.shutdown();
+        } else {
+            tcpServer.shutdown();
+            Thread.interrupted(); // TcpSocketServer.shutdown() interrupts the calling thread
+        }
+        serverThread.join(10000);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(EVENTS)
+    public long receiveEvents() throws IOException {
+        for (final OutputStream output : outputs) {
+            output.write(batch);
+        }
+        expected += EVENTS;
+        while (received.get() < expected) {
+            Thread.yield();
+        }
+        return expected;
+    }
+}
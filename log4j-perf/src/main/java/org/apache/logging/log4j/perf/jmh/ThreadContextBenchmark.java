@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.spi.DefaultThreadContextMap;
+import org.apache.logging.log4j.spi.SortedArrayThreadContextMap;
+import org.apache.logging.log4j.spi.ThreadContextMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the ThreadContextMap implementations: a request filter that puts and removes six keys, and the cost of
+ * taking the immutable snapshot that a log event holds on to, with and without changes to the map in between.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/benchmarks.jar ".*ThreadContextBenchmark.*" -f 1 -wi 5 -i 5
+//
+// Usage help:
+// java -jar log4j-perf/target/benchmarks.jar -help
+//
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ThreadContextBenchmark {
+
+    private static final String[] KEYS = {"requestId", "sessionId", "user", "remoteAddress", "uri", "method"};
+    private static final String[] VALUES = {"4711", "ABCDEF0123456789", "alice", "127.0.0.1", "/index.html", "GET"};
+
+    @Param({"Default", "SortedArray"})
+    public String map;
+
+    private ThreadContextMap contextMap;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void up() {
+        contextMap = "SortedArray".equals(map) ? new SortedArrayThreadContextMap(true)
+                : new DefaultThreadContextMap(true);
+        for (int i = 0; i < KEYS.length; i++) {
+            contextMap.put(KEYS[i], VALUES[i]);
+        }
+    }
+
+    @Benchmark
+    public String putAndRemoveSixKeys() {
+        for (int i = 0; i < KEYS.length; i++) {
+            contextMap.put(KEYS[i], VALUES[i]);
+        }
+        final String result = contextMap.get("user");
+        for (int i = 0; i < KEYS.length; i++) {
+            contextMap.remove(KEYS[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> snapshotUnchanged() {
+        return contextMap.getImmutableMapOrNull();
+    }
+
+    @Benchmark
+    public Map<String, String> snapshotAfterPut() {
+        contextMap.put("requestId", (++counter & 1) == 0 ? "4711" : "4712");
+        return contextMap.getImmutableMapOrNull();
+    }
+}
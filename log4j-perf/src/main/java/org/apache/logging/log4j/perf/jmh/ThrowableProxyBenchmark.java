@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks wrapping a deep exception with a cause in a {@link ThrowableProxy}, as done for every logged exception,
+ * with and without rendering the extended stack trace that {@code %xEx} prints.
+ * <p>
+ * To run this:
+ * </p>
+ *
+ * <pre>
+ *     java -jar benchmarks.jar ".*ThrowableProxyBenchmark.*" -i 5 -f 1 -wi 5 -bm Throughput -tu ms
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThrowableProxyBenchmark {
+
+    private static final int DEPTH = 150;
+
+    private Throwable throwable;
+
+    @Setup
+    public void setup() {
+        throwable = createThrowable(DEPTH);
+    }
+
+    private static Throwable createThrowable(final int depth) {
+        if (depth > 0) {
+            return createThrowable(depth - 1);
+        }
+        return new IllegalStateException("Downstream call failed", new IOException("Connection refused"));
+    }
+
+    @Benchmark
+    public ThrowableProxy createProxy() {
+        return new ThrowableProxy(throwable);
+    }
+
+    @Benchmark
+    public String getExtendedStackTraceAsString() {
+        return new ThrowableProxy(throwable).getExtendedStackTraceAsString();
+    }
+
+    @Benchmark
+    public String printStackTrace() {
+        final StringWriter sw = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(sw));
+        return sw.toString();
+    }
+}
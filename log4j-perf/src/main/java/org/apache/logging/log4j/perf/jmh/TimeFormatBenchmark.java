@@ -23,6 +23,8 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.logging.log4j.core.AbstractLogEvent;
+import org.apache.logging.log4j.core.pattern.DatePatternConverter;
 import org.apache.logging.log4j.core.util.Charsets;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -30,6 +32,7 @@ import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 
 /**
  * Tests performance of various time format implementation.
@@ -42,6 +45,8 @@ import org.openjdk.jmh.annotations.State;
 // multiple threads (for example, 4 threads):
 // java -jar log4j-perf/target/benchmarks.jar ".*TimeFormat.*" -f 1 -wi 5 -i 5 -t 4 -si true
 //
+// The *Threads benchmarks share one formatter between 4 or 16 threads, like a PatternLayout does.
+//
 // Usage help:
 // java -jar log4j-perf/target/benchmarks.jar -help
 //
@@ -55,8 +60,33 @@ public class TimeFormatBenchmark {
     @State(Scope.Thread)
     public static class BufferState {
         ByteBuffer buffer = ByteBuffer.allocate(12);
+        StringBuilder stringBuilder = new StringBuilder(32);
+    }
+
+    /**
+     * Formatters shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedState {
+        final SimpleDateFormat synchronizedFormat = new SimpleDateFormat("HH:mm:ss,SSS");
+        final DatePatternConverter absolute = DatePatternConverter.newInstance(new String[] {"ABSOLUTE"});
+        final DatePatternConverter iso8601 = DatePatternConverter.newInstance(new String[] {"ISO8601"});
     }
 
+    /**
+     * A LogEvent whose timestamp is the current time.
+     */
+    static class CurrentTimeLogEvent extends AbstractLogEvent {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public long getTimeMillis() {
+            return System.currentTimeMillis();
+        }
+    }
+
+    private static final CurrentTimeLogEvent EVENT = new CurrentTimeLogEvent();
+
     private long millisSinceMidnight(final long now) {
         if (now >= midnightTomorrow) {
             midnightToday = calcMidnightMillis(0);
@@ -141,6 +171,65 @@ public class TimeFormatBenchmark {
         return state.buffer.position();
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int datePatternConverterAbsolute(final SharedState shared, final BufferState state) {
+        state.stringBuilder.setLength(0);
+        shared.absolute.format(EVENT, state.stringBuilder);
+        return state.stringBuilder.length();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int synchronizedSimpleDateFormat4Threads(final SharedState shared, final BufferState state) {
+        return synchronizedSimpleDateFormat(shared, state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int synchronizedSimpleDateFormat16Threads(final SharedState shared, final BufferState state) {
+        return synchronizedSimpleDateFormat(shared, state);
+    }
+
+    private static int synchronizedSimpleDateFormat(final SharedState shared, final BufferState state) {
+        state.stringBuilder.setLength(0);
+        synchronized (shared.synchronizedFormat) {
+            state.stringBuilder.append(shared.synchronizedFormat.format(new Date()));
+        }
+        return state.stringBuilder.length();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int datePatternConverterAbsolute4Threads(final SharedState shared, final BufferState state) {
+        return datePatternConverterAbsolute(shared, state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int datePatternConverterAbsolute16Threads(final SharedState shared, final BufferState state) {
+        return datePatternConverterAbsolute(shared, state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int datePatternConverterIso860116Threads(final SharedState shared, final BufferState state) {
+        state.stringBuilder.setLength(0);
+        shared.iso8601.format(EVENT, state.stringBuilder);
+        return state.stringBuilder.length();
+    }
+
     public ByteBuffer fastFormat(final long time, final ByteBuffer buffer) {
         // Calculate values by getting the ms values first and do then
         // shave off the hour minute and second values with multiplications